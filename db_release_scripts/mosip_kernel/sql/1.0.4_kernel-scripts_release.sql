@@ -11,3 +11,23 @@
 \c mosip_kernel sysadmin
 
 ----------------------------------------------------------------------------------------------------
+
+---------------- VID EXPIRY AND RENEWAL INDEX ------------------
+
+-- Partial index used by the expiry / renewal job, which reads ASSIGNED and EXPIRED vids in (expiry_dtimes, vid) order.
+CREATE INDEX IF NOT EXISTS idx_vid_status_expiry ON kernel.vid (vid_status, expiry_dtimes, vid) WHERE expiry_dtimes IS NOT NULL AND is_deleted = false;
+
+---------------- VID RESERVATION BY THE VID GENERATOR ------------------
+
+COMMENT ON COLUMN kernel.vid.vid_status IS 'VID: Status of the pre-generated VID, whether it is available, reserved by a vid generator instance, assigned or expired.';
+
+-- Partial index used by the fetcher verticles, which claim AVAILABLE vids in blocks
+CREATE INDEX IF NOT EXISTS idx_vid_available ON kernel.vid (vid) WHERE vid_status = 'AVAILABLE' AND is_deleted = false;
+
+-- Partial index used to release the vids left RESERVED by an instance which died or lost them
+CREATE INDEX IF NOT EXISTS idx_vid_reserved ON kernel.vid (upd_dtimes) WHERE vid_status = 'RESERVED';
+
+---------------- UIN RESERVATION BY THE UIN PREFETCHER ------------------
+
+-- Partial index used by the uin prefetcher to read back the uins of a claim, stored in upd_by
+CREATE INDEX IF NOT EXISTS idx_uin_reserved ON kernel.uin (upd_by) WHERE uin_status = 'RESERVED';
@@ -10,4 +10,22 @@
 
 \c mosip_kernel sysadmin
 
------------------------------------------------------------------------------------------------------
\ No newline at end of file
+-----------------------------------------------------------------------------------------------------
+
+--------- VID EXPIRY AND RENEWAL INDEX REVOKE -----------
+
+DROP INDEX IF EXISTS kernel.idx_vid_status_expiry;
+
+--------- VID RESERVATION BY THE VID GENERATOR REVOKE -----------
+
+UPDATE kernel.vid SET vid_status = 'AVAILABLE' WHERE vid_status = 'RESERVED';
+
+DROP INDEX IF EXISTS kernel.idx_vid_reserved;
+
+DROP INDEX IF EXISTS kernel.idx_vid_available;
+
+COMMENT ON COLUMN kernel.vid.vid_status IS 'VID: Status of the pre-generated VID, whether it is available, expired or assigned.';
+
+--------- UIN RESERVATION BY THE UIN PREFETCHER REVOKE -----------
+
+DROP INDEX IF EXISTS kernel.idx_uin_reserved;
@@ -30,7 +30,7 @@ COMMENT ON TABLE kernel.uin IS 'UIN: Stores pre-generated UINs that are assigned
 -- ddl-end --
 COMMENT ON COLUMN kernel.uin.uin IS 'UIN: Pre-generated UINs (Unique Identification Number), which will be used to assign to an individual';
 -- ddl-end --
-COMMENT ON COLUMN kernel.uin.uin_status IS 'Is Used: Status of the pre-generated UIN, whether it is assigned, unassigned or issued.';
+COMMENT ON COLUMN kernel.uin.uin_status IS 'Is Used: Status of the pre-generated UIN, whether it is assigned, unassigned, issued or reserved by a uin generator instance.';
 -- ddl-end --
 COMMENT ON COLUMN kernel.uin.cr_by IS 'Created By : ID or name of the user who create / insert record';
 -- ddl-end --
@@ -45,3 +45,8 @@ COMMENT ON COLUMN kernel.uin.is_deleted IS 'IS_Deleted : Flag to mark whether th
 COMMENT ON COLUMN kernel.uin.del_dtimes IS 'Deleted DateTimestamp : Date and Timestamp when the record is soft deleted with is_deleted=TRUE';
 -- ddl-end --
 
+-- object: kernel.idx_uin_reserved | type: INDEX --
+-- Partial index used by the uin prefetcher to read back the uins of a claim, stored in upd_by
+-- DROP INDEX IF EXISTS kernel.idx_uin_reserved CASCADE;
+CREATE INDEX idx_uin_reserved ON kernel.uin (upd_by) WHERE uin_status = 'RESERVED';
+-- ddl-end --
@@ -32,7 +32,7 @@ COMMENT ON COLUMN kernel.vid.vid IS 'VID: Pre-generated VIDs (Vertual Identifica
 -- ddl-end --
 COMMENT ON COLUMN kernel.vid.expiry_dtimes IS 'Expiry Date and Time: Expiry Date and Time of the Vertual ID';
 -- ddl-end --
-COMMENT ON COLUMN kernel.vid.vid_status IS 'VID: Status of the pre-generated VID, whether it is available, expired or assigned.';
+COMMENT ON COLUMN kernel.vid.vid_status IS 'VID: Status of the pre-generated VID, whether it is available, reserved by a vid generator instance, assigned or expired.';
 -- ddl-end --
 COMMENT ON COLUMN kernel.vid.cr_by IS 'Created By : ID or name of the user who create / insert record';
 -- ddl-end --
@@ -45,4 +45,24 @@ COMMENT ON COLUMN kernel.vid.upd_dtimes IS 'Updated DateTimestamp : Date and Tim
 COMMENT ON COLUMN kernel.vid.is_deleted IS 'IS_Deleted : Flag to mark whether the record is Soft deleted.';
 -- ddl-end --
 COMMENT ON COLUMN kernel.vid.del_dtimes IS 'Deleted DateTimestamp : Date and Timestamp when the record is soft deleted with is_deleted=TRUE';
--- ddl-end --
\ No newline at end of file
+-- ddl-end --
+
+-- object: kernel.idx_vid_status_expiry | type: INDEX --
+-- Partial index used by the expiry / renewal job, which reads ASSIGNED and EXPIRED vids in (expiry_dtimes, vid) order.
+-- The status is bound as a parameter, so it is not part of the predicate: a generic plan could not prove it.
+-- expiry_dtimes <= :expiry implies the NOT NULL predicate, which keeps the AVAILABLE vids out of the index.
+-- DROP INDEX IF EXISTS kernel.idx_vid_status_expiry CASCADE;
+CREATE INDEX idx_vid_status_expiry ON kernel.vid (vid_status, expiry_dtimes, vid) WHERE expiry_dtimes IS NOT NULL AND is_deleted = false;
+-- ddl-end --
+
+-- object: kernel.idx_vid_available | type: INDEX --
+-- Partial index used by the fetcher verticles, which claim AVAILABLE vids in blocks
+-- DROP INDEX IF EXISTS kernel.idx_vid_available CASCADE;
+CREATE INDEX idx_vid_available ON kernel.vid (vid) WHERE vid_status = 'AVAILABLE' AND is_deleted = false;
+-- ddl-end --
+
+-- object: kernel.idx_vid_reserved | type: INDEX --
+-- Partial index used to release the vids left RESERVED by an instance which died or lost them
+-- DROP INDEX IF EXISTS kernel.idx_vid_reserved CASCADE;
+CREATE INDEX idx_vid_reserved ON kernel.vid (upd_dtimes) WHERE vid_status = 'RESERVED';
+-- ddl-end --
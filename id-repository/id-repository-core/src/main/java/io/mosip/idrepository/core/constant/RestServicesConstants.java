@@ -17,7 +17,11 @@ public enum RestServicesConstants {
 
 	CRYPTO_MANAGER_ENCRYPT("mosip.idrepo.encryptor"),
 
-	CRYPTO_MANAGER_DECRYPT("mosip.idrepo.decryptor");
+	CRYPTO_MANAGER_DECRYPT("mosip.idrepo.decryptor"),
+
+	KEYMANAGER_PUBLIC_KEY("mosip.idrepo.keymanager-publickey"),
+
+	KEYMANAGER_DECRYPT_KEY("mosip.idrepo.keymanager-decrypt");
 
 	/** The service name. */
 	private final String serviceName;
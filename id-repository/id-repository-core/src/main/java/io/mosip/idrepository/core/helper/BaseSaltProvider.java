@@ -0,0 +1,167 @@
+package io.mosip.idrepository.core.helper;
+
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+
+import io.mosip.idrepository.core.constant.IdRepoConstants;
+import io.mosip.idrepository.core.logger.IdRepoLogger;
+import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class BaseSaltProvider - provides the UIN hash and encrypt salts from
+ * arrays indexed by salt id, instead of querying the salt tables for every
+ * request. The salt ids range from 0 to the modulo value, so both tables are
+ * loaded at startup, or on first use of each salt when
+ * {@code mosip.idrepo.salt.lazy-load} is enabled. Salts are reloaded with
+ * {@link #loadSalts()}, which subclasses annotated with {@code @RefreshScope}
+ * get on refresh of the configuration.
+ *
+ * @since 1.0.0
+ */
+public abstract class BaseSaltProvider {
+
+	/** The mosip logger. */
+	private Logger mosipLogger = IdRepoLogger.getLogger(BaseSaltProvider.class);
+
+	/** The Constant SALT_PROVIDER. */
+	private static final String SALT_PROVIDER = "SaltProvider";
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** Loads each salt on first use, instead of both tables at startup. */
+	@Value("${mosip.idrepo.salt.lazy-load:false}")
+	private boolean lazyLoad;
+
+	/**
+	 * The hash salts by id. Salts are immutable strings, so loading a missing
+	 * salt twice concurrently is harmless.
+	 */
+	private volatile String[] hashSalts = new String[0];
+
+	/** The encrypt salts by id. */
+	private volatile String[] encryptSalts = new String[0];
+
+	/**
+	 * Loads the salt tables, unless lazy loading is enabled.
+	 */
+	@PostConstruct
+	public void init() {
+		if (lazyLoad) {
+			int moduloValue = env.getProperty(IdRepoConstants.MODULO_VALUE.getValue(), Integer.class);
+			hashSalts = new String[moduloValue];
+			encryptSalts = new String[moduloValue];
+		} else {
+			loadSalts();
+		}
+	}
+
+	/**
+	 * Loads both salt tables, replacing the salts loaded before.
+	 */
+	public void loadSalts() {
+		int moduloValue = env.getProperty(IdRepoConstants.MODULO_VALUE.getValue(), Integer.class);
+		String[] newHashSalts = toArray(loadHashSalts(), moduloValue);
+		String[] newEncryptSalts = toArray(loadEncryptSalts(), moduloValue);
+		hashSalts = newHashSalts;
+		encryptSalts = newEncryptSalts;
+		mosipLogger.debug(IdRepoSecurityManager.getUser(), SALT_PROVIDER, "loadSalts",
+				"loaded salts for modulo value " + moduloValue);
+	}
+
+	/**
+	 * Returns the hash salt for the id.
+	 *
+	 * @param id the id
+	 * @return the hash salt
+	 */
+	public String getHashSalt(int id) {
+		return getSalt(hashSalts, id, this::retrieveHashSalt);
+	}
+
+	/**
+	 * Returns the encrypt salt for the id.
+	 *
+	 * @param id the id
+	 * @return the encrypt salt
+	 */
+	public String getEncryptSalt(int id) {
+		return getSalt(encryptSalts, id, this::retrieveEncryptSalt);
+	}
+
+	/**
+	 * Returns the salt from the array, retrieving it from the table when it is
+	 * not loaded yet.
+	 *
+	 * @param salts the salts
+	 * @param id the id
+	 * @param retrieveSalt the salt retrieval from the table
+	 * @return the salt
+	 */
+	private String getSalt(String[] salts, int id, IntFunction<String> retrieveSalt) {
+		if (id < 0 || id >= salts.length) {
+			return retrieveSalt.apply(id);
+		}
+		String salt = salts[id];
+		if (salt == null) {
+			salt = retrieveSalt.apply(id);
+			salts[id] = salt;
+		}
+		return salt;
+	}
+
+	/**
+	 * Copies the salts to an array indexed by id.
+	 *
+	 * @param salts the salts by id
+	 * @param moduloValue the modulo value
+	 * @return the salts array
+	 */
+	private String[] toArray(Map<Integer, String> salts, int moduloValue) {
+		String[] saltArray = new String[moduloValue];
+		salts.forEach((id, salt) -> {
+			if (id >= 0 && id < moduloValue) {
+				saltArray[id] = salt;
+			}
+		});
+		return saltArray;
+	}
+
+	/**
+	 * Loads all the hash salts.
+	 *
+	 * @return the hash salts by id
+	 */
+	protected abstract Map<Integer, String> loadHashSalts();
+
+	/**
+	 * Loads all the encrypt salts.
+	 *
+	 * @return the encrypt salts by id
+	 */
+	protected abstract Map<Integer, String> loadEncryptSalts();
+
+	/**
+	 * Retrieves the hash salt of the id.
+	 *
+	 * @param id the id
+	 * @return the hash salt
+	 */
+	protected abstract String retrieveHashSalt(int id);
+
+	/**
+	 * Retrieves the encrypt salt of the id.
+	 *
+	 * @param id the id
+	 * @return the encrypt salt
+	 */
+	protected abstract String retrieveEncryptSalt(int id);
+}
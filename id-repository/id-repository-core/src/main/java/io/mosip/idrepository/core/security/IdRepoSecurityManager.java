@@ -20,6 +20,7 @@ import io.mosip.idrepository.core.exception.IdRepoAppException;
 import io.mosip.idrepository.core.exception.RestServiceException;
 import io.mosip.idrepository.core.helper.RestHelper;
 import io.mosip.idrepository.core.logger.IdRepoLogger;
+import io.mosip.idrepository.core.spi.IdRepoCryptoProvider;
 import io.mosip.kernel.auth.adapter.model.AuthUserDetails;
 import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -29,8 +30,9 @@ import io.mosip.kernel.core.util.HMACUtils;
 
 /**
  * The Class IdRepoSecurityManager - provides security related functionalities
- * such as hashing, encryption and decryption using kernel-cryptomanager and
- * providing user details.
+ * such as hashing, encryption and decryption using kernel-cryptomanager, or the
+ * in process {@link IdRepoCryptoProvider} when enabled, and providing user
+ * details.
  *
  * @author Manoj SP
  */
@@ -62,6 +64,14 @@ public class IdRepoSecurityManager {
 	@Autowired
 	private ObjectMapper mapper;
 
+	/**
+	 * The in process crypto provider, if enabled with
+	 * mosip.idrepo.crypto.provider. kernel-cryptomanager is called when it is not
+	 * enabled or fails.
+	 */
+	@Autowired(required = false)
+	private IdRepoCryptoProvider cryptoProvider;
+
 	/**
 	 * Hash - provides basic hash.
 	 *
@@ -103,13 +113,21 @@ public class IdRepoSecurityManager {
 	}
 
 	/**
-	 * Encryption of data by making rest call to kernel-cryptomanager.
+	 * Encryption of data, in process or through kernel-cryptomanager.
 	 *
 	 * @param dataToEncrypt the data to encrypt
 	 * @return the byte[]
 	 * @throws IdRepoAppException the id repo app exception
 	 */
 	public byte[] encrypt(final byte[] dataToEncrypt) throws IdRepoAppException {
+		if (Objects.nonNull(cryptoProvider)) {
+			try {
+				return cryptoProvider.encrypt(dataToEncrypt);
+			} catch (IdRepoAppException e) {
+				mosipLogger.warn(IdRepoSecurityManager.getUser(), ID_REPO_SECURITY_MANAGER, ENCRYPT_DECRYPT_DATA,
+						"in process crypto failed, falling back to kernel-cryptomanager: " + e.getErrorText());
+			}
+		}
 		try {
 			RequestWrapper<ObjectNode> baseRequest = new RequestWrapper<>();
 			baseRequest.setId("string");
@@ -130,7 +148,7 @@ public class IdRepoSecurityManager {
 	}
 	
 	/**
-	 * Encryption of data by making rest call to kernel-cryptomanager with salt.
+	 * Encryption of data with salt, in process or through kernel-cryptomanager.
 	 *
 	 * @param dataToEncrypt the data to encrypt
 	 * @param saltToEncrypt the salt to encrypt
@@ -138,6 +156,14 @@ public class IdRepoSecurityManager {
 	 * @throws IdRepoAppException the id repo app exception
 	 */
 	public byte[] encryptWithSalt(final byte[] dataToEncrypt,final byte[] saltToEncrypt) throws IdRepoAppException {
+		if (Objects.nonNull(cryptoProvider)) {
+			try {
+				return cryptoProvider.encryptWithSalt(dataToEncrypt, saltToEncrypt);
+			} catch (IdRepoAppException e) {
+				mosipLogger.warn(IdRepoSecurityManager.getUser(), ID_REPO_SECURITY_MANAGER, ENCRYPT_DECRYPT_DATA,
+						"in process crypto failed, falling back to kernel-cryptomanager: " + e.getErrorText());
+			}
+		}
 		try {
 			RequestWrapper<ObjectNode> baseRequest = new RequestWrapper<>();
 			baseRequest.setId("string");
@@ -159,13 +185,21 @@ public class IdRepoSecurityManager {
 	}
 
 	/**
-	 * Decryption of data by making rest call to kernel-cryptomanager.
+	 * Decryption of data, in process or through kernel-cryptomanager.
 	 *
 	 * @param dataToDecrypt the data to decrypt
 	 * @return the byte[]
 	 * @throws IdRepoAppException the id repo app exception
 	 */
 	public byte[] decrypt(final byte[] dataToDecrypt) throws IdRepoAppException {
+		if (Objects.nonNull(cryptoProvider)) {
+			try {
+				return cryptoProvider.decrypt(dataToDecrypt);
+			} catch (IdRepoAppException e) {
+				mosipLogger.warn(IdRepoSecurityManager.getUser(), ID_REPO_SECURITY_MANAGER, ENCRYPT_DECRYPT_DATA,
+						"in process crypto failed, falling back to kernel-cryptomanager: " + e.getErrorText());
+			}
+		}
 		try {
 			RequestWrapper<ObjectNode> baseRequest = new RequestWrapper<>();
 			baseRequest.setId("string");
@@ -186,7 +220,7 @@ public class IdRepoSecurityManager {
 	}
 	
 	/**
-	 * Decryption of data by making rest call to kernel-cryptomanager with salt.
+	 * Decryption of data with salt, in process or through kernel-cryptomanager.
 	 *
 	 * @param dataToDecrypt the data to decrypt
 	 * @param saltToDecrypt the salt to decrypt
@@ -194,6 +228,14 @@ public class IdRepoSecurityManager {
 	 * @throws IdRepoAppException the id repo app exception
 	 */
 	public byte[] decryptWithSalt(final byte[] dataToDecrypt, final byte[] saltToDecrypt) throws IdRepoAppException {
+		if (Objects.nonNull(cryptoProvider)) {
+			try {
+				return cryptoProvider.decryptWithSalt(dataToDecrypt, saltToDecrypt);
+			} catch (IdRepoAppException e) {
+				mosipLogger.warn(IdRepoSecurityManager.getUser(), ID_REPO_SECURITY_MANAGER, ENCRYPT_DECRYPT_DATA,
+						"in process crypto failed, falling back to kernel-cryptomanager: " + e.getErrorText());
+			}
+		}
 		try {
 			RequestWrapper<ObjectNode> baseRequest = new RequestWrapper<>();
 			baseRequest.setId("string");
@@ -0,0 +1,456 @@
+package io.mosip.idrepository.core.security;
+
+import static java.util.Arrays.copyOfRange;
+
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.mosip.idrepository.core.builder.RestRequestBuilder;
+import io.mosip.idrepository.core.constant.IdRepoConstants;
+import io.mosip.idrepository.core.constant.IdRepoErrorConstants;
+import io.mosip.idrepository.core.constant.RestServicesConstants;
+import io.mosip.idrepository.core.dto.RestRequestDTO;
+import io.mosip.idrepository.core.exception.IdRepoAppException;
+import io.mosip.idrepository.core.exception.RestServiceException;
+import io.mosip.idrepository.core.helper.RestHelper;
+import io.mosip.idrepository.core.logger.IdRepoLogger;
+import io.mosip.idrepository.core.spi.IdRepoCryptoProvider;
+import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.core.exception.BaseUncheckedException;
+import io.mosip.kernel.core.http.RequestWrapper;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.DateUtils;
+
+/**
+ * The Class LocalCryptoProvider - encrypts and decrypts data in process with
+ * kernel-crypto-jce, in the format of kernel-cryptomanager, calling
+ * kernel-keymanager only for the keys. Enabled with
+ * {@code mosip.idrepo.crypto.provider=local}.
+ * <p>
+ * Data is encrypted with a data key which is generated and encrypted with the
+ * public key of the application once per refresh period, so that encryption
+ * does not call any service until the data key is refreshed. Data keys
+ * decrypted by kernel-keymanager, and the data keys generated here, are cached
+ * by their encrypted form, so that data encrypted with the same data key is
+ * decrypted with a single call to kernel-keymanager. Data encrypted with salt
+ * gets a data key of its own, since the salt is used as IV.
+ *
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "mosip.idrepo.crypto.provider", havingValue = "local")
+public class LocalCryptoProvider implements IdRepoCryptoProvider {
+
+	/** The mosip logger. */
+	private Logger mosipLogger = IdRepoLogger.getLogger(LocalCryptoProvider.class);
+
+	/** The Constant LOCAL_CRYPTO_PROVIDER. */
+	private static final String LOCAL_CRYPTO_PROVIDER = "LocalCryptoProvider";
+
+	/** The Constant AES. */
+	private static final String AES = "AES";
+
+	/** The Constant RSA. */
+	private static final String RSA = "RSA";
+
+	/** The Constant RESPONSE. */
+	private static final String RESPONSE = "response";
+
+	/** The rest factory. */
+	@Autowired
+	private RestRequestBuilder restBuilder;
+
+	/** The rest helper. */
+	@Autowired
+	private RestHelper restHelper;
+
+	/** The env. */
+	@Autowired
+	private Environment env;
+
+	/** The mapper. */
+	@Autowired
+	private ObjectMapper mapper;
+
+	/** The crypto core. */
+	@Autowired
+	private CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> cryptoCore;
+
+	/** The key splitter, as configured for kernel-cryptomanager. */
+	@Value("${mosip.kernel.data-key-splitter:#KEY_SPLITTER#}")
+	private String keySplitter;
+
+	/** The symmetric key length. */
+	@Value("${mosip.kernel.keygenerator.symmetric-key-length:256}")
+	private int symmetricKeyLength;
+
+	/** Seconds a data key encrypts data for, before a new one is generated. */
+	@Value("${mosip.idrepo.crypto.local.data-key-refresh-seconds:3600}")
+	private long dataKeyRefreshSeconds;
+
+	/** Number of values a data key encrypts at most. */
+	@Value("${mosip.idrepo.crypto.local.data-key-max-uses:1000000}")
+	private long dataKeyMaxUses;
+
+	/** Seconds a decrypted data key is cached for. */
+	@Value("${mosip.idrepo.crypto.local.key-cache-seconds:3600}")
+	private long keyCacheSeconds;
+
+	/** Number of decrypted data keys cached at most. */
+	@Value("${mosip.idrepo.crypto.local.max-cached-keys:1000}")
+	private int maxCachedKeys;
+
+	/** The secure random. */
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	/** The data key used for encryption without salt. */
+	private volatile DataKey dataKey;
+
+	/**
+	 * The decrypted data keys by their BASE64 encoded encrypted form, least
+	 * recently used first, dropping the least recently used key once full.
+	 */
+	private final Map<String, CachedKey> decryptedKeys = Collections
+			.synchronizedMap(new LinkedHashMap<String, CachedKey>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, CachedKey> eldest) {
+					return size() > maxCachedKeys;
+				}
+			});
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see io.mosip.idrepository.core.spi.IdRepoCryptoProvider#encrypt(byte[])
+	 */
+	@Override
+	public byte[] encrypt(byte[] dataToEncrypt) throws IdRepoAppException {
+		try {
+			DataKey currentKey = getDataKey();
+			byte[] encryptedData = cryptoCore.symmetricEncrypt(currentKey.secretKey, dataToEncrypt, null);
+			return CryptoUtil
+					.encodeBase64(CryptoUtil.combineByteArray(encryptedData, currentKey.encryptedKey, keySplitter))
+					.getBytes();
+		} catch (BaseUncheckedException e) {
+			throw encryptionFailed(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.idrepository.core.spi.IdRepoCryptoProvider#encryptWithSalt(byte[],
+	 * byte[])
+	 */
+	@Override
+	public byte[] encryptWithSalt(byte[] dataToEncrypt, byte[] saltToEncrypt) throws IdRepoAppException {
+		if (Objects.isNull(saltToEncrypt) || saltToEncrypt.length == 0) {
+			return encrypt(dataToEncrypt);
+		}
+		try {
+			SecretKey secretKey = generateSecretKey();
+			byte[] encryptedData = cryptoCore.symmetricEncrypt(secretKey, dataToEncrypt, saltToEncrypt, null);
+			byte[] encryptedKey = cryptoCore.asymmetricEncrypt(getDataKey().publicKey, secretKey.getEncoded());
+			return CryptoUtil.encodeBase64(CryptoUtil.combineByteArray(encryptedData, encryptedKey, keySplitter))
+					.getBytes();
+		} catch (BaseUncheckedException e) {
+			throw encryptionFailed(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see io.mosip.idrepository.core.spi.IdRepoCryptoProvider#decrypt(byte[])
+	 */
+	@Override
+	public byte[] decrypt(byte[] dataToDecrypt) throws IdRepoAppException {
+		return decryptWithSalt(CryptoUtil.decodeBase64(new String(dataToDecrypt)), null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * io.mosip.idrepository.core.spi.IdRepoCryptoProvider#decryptWithSalt(byte[],
+	 * byte[])
+	 */
+	@Override
+	public byte[] decryptWithSalt(byte[] dataToDecrypt, byte[] saltToDecrypt) throws IdRepoAppException {
+		try {
+			int keyDemiliterIndex = CryptoUtil.getSplitterIndex(dataToDecrypt, 0, keySplitter);
+			String encryptedKey = CryptoUtil.encodeBase64(copyOfRange(dataToDecrypt, 0, keyDemiliterIndex));
+			byte[] encryptedData = copyOfRange(dataToDecrypt, keyDemiliterIndex + keySplitter.length(),
+					dataToDecrypt.length);
+			SecretKey secretKey = getDecryptedKey(encryptedKey);
+			if (Objects.isNull(saltToDecrypt) || saltToDecrypt.length == 0) {
+				return cryptoCore.symmetricDecrypt(secretKey, encryptedData, null);
+			}
+			return cryptoCore.symmetricDecrypt(secretKey, encryptedData, saltToDecrypt, null);
+		} catch (BaseUncheckedException | IndexOutOfBoundsException e) {
+			throw encryptionFailed(e);
+		}
+	}
+
+	/**
+	 * Gets the data key for encryption, generating a new one once the current one
+	 * is expired or used up.
+	 *
+	 * @return the data key
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	private DataKey getDataKey() throws IdRepoAppException {
+		DataKey currentKey = dataKey;
+		if (Objects.nonNull(currentKey) && !currentKey.isExpired()
+				&& currentKey.uses.incrementAndGet() <= dataKeyMaxUses) {
+			return currentKey;
+		}
+		return refreshDataKey(currentKey);
+	}
+
+	/**
+	 * Generates a new data key, unless another thread already replaced the given
+	 * one.
+	 *
+	 * @param expiredKey the data key found expired or used up
+	 * @return the data key
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	private synchronized DataKey refreshDataKey(DataKey expiredKey) throws IdRepoAppException {
+		if (dataKey != expiredKey) {
+			return getDataKey();
+		}
+		PublicKey publicKey = getPublicKey();
+		SecretKey secretKey = generateSecretKey();
+		byte[] encryptedKey = cryptoCore.asymmetricEncrypt(publicKey, secretKey.getEncoded());
+		DataKey newKey = new DataKey(publicKey, secretKey, encryptedKey,
+				System.nanoTime() + TimeUnit.SECONDS.toNanos(dataKeyRefreshSeconds));
+		newKey.uses.incrementAndGet();
+		cacheDecryptedKey(CryptoUtil.encodeBase64(encryptedKey), secretKey);
+		dataKey = newKey;
+		mosipLogger.debug(IdRepoSecurityManager.getUser(), LOCAL_CRYPTO_PROVIDER, "refreshDataKey",
+				"new data key generated");
+		return newKey;
+	}
+
+	/**
+	 * Generates a symmetric key.
+	 *
+	 * @return the secret key
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	private SecretKey generateSecretKey() throws IdRepoAppException {
+		try {
+			KeyGenerator keyGenerator = KeyGenerator.getInstance(AES);
+			keyGenerator.init(symmetricKeyLength, secureRandom);
+			return keyGenerator.generateKey();
+		} catch (NoSuchAlgorithmException e) {
+			throw encryptionFailed(e);
+		}
+	}
+
+	/**
+	 * Gets the decrypted data key of an encrypted data key, from the cache or
+	 * through kernel-keymanager.
+	 *
+	 * @param encryptedKey the BASE64 encoded encrypted data key
+	 * @return the secret key
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	private SecretKey getDecryptedKey(String encryptedKey) throws IdRepoAppException {
+		CachedKey cachedKey = decryptedKeys.get(encryptedKey);
+		if (Objects.nonNull(cachedKey)) {
+			if (!cachedKey.isExpired()) {
+				return cachedKey.secretKey;
+			}
+			decryptedKeys.remove(encryptedKey, cachedKey);
+		}
+		SecretKey secretKey = decryptSymmetricKey(encryptedKey);
+		cacheDecryptedKey(encryptedKey, secretKey);
+		return secretKey;
+	}
+
+	/**
+	 * Caches a decrypted data key. Expired keys are dropped when read, and the
+	 * least recently used key once the cache is full.
+	 *
+	 * @param encryptedKey the BASE64 encoded encrypted data key
+	 * @param secretKey    the secret key
+	 */
+	private void cacheDecryptedKey(String encryptedKey, SecretKey secretKey) {
+		if (keyCacheSeconds <= 0) {
+			return;
+		}
+		decryptedKeys.put(encryptedKey,
+				new CachedKey(secretKey, System.nanoTime() + TimeUnit.SECONDS.toNanos(keyCacheSeconds)));
+	}
+
+	/**
+	 * Gets the public key of the application from kernel-keymanager.
+	 *
+	 * @return the public key
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	private PublicKey getPublicKey() throws IdRepoAppException {
+		try {
+			RestRequestDTO restRequest = restBuilder.buildRequest(RestServicesConstants.KEYMANAGER_PUBLIC_KEY, null,
+					ObjectNode.class);
+			restRequest.setPathVariables(Collections.singletonMap("applicationId",
+					env.getProperty(IdRepoConstants.APPLICATION_ID.getValue())));
+			MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+			params.add("timeStamp", getTimestamp());
+			restRequest.setParams(params);
+			String publicKey = getResponseValue(restHelper.requestSync(restRequest), "publicKey");
+			return KeyFactory.getInstance(RSA).generatePublic(new X509EncodedKeySpec(CryptoUtil.decodeBase64(publicKey)));
+		} catch (RestServiceException | NoSuchAlgorithmException | InvalidKeySpecException e) {
+			throw encryptionFailed(e);
+		}
+	}
+
+	/**
+	 * Decrypts an encrypted data key through kernel-keymanager.
+	 *
+	 * @param encryptedKey the BASE64 encoded encrypted data key
+	 * @return the secret key
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	private SecretKey decryptSymmetricKey(String encryptedKey) throws IdRepoAppException {
+		try {
+			RequestWrapper<ObjectNode> baseRequest = new RequestWrapper<>();
+			baseRequest.setId("string");
+			baseRequest.setRequesttime(DateUtils.getUTCCurrentDateTime());
+			baseRequest.setVersion(env.getProperty(IdRepoConstants.APPLICATION_VERSION.getValue()));
+			ObjectNode request = new ObjectNode(mapper.getNodeFactory());
+			request.put("applicationId", env.getProperty(IdRepoConstants.APPLICATION_ID.getValue()));
+			request.put("timeStamp", getTimestamp());
+			request.put("encryptedSymmetricKey", encryptedKey);
+			baseRequest.setRequest(request);
+			RestRequestDTO restRequest = restBuilder.buildRequest(RestServicesConstants.KEYMANAGER_DECRYPT_KEY,
+					baseRequest, ObjectNode.class);
+			String symmetricKey = getResponseValue(restHelper.requestSync(restRequest), "symmetricKey");
+			return new SecretKeySpec(CryptoUtil.decodeBase64(symmetricKey), AES);
+		} catch (RestServiceException e) {
+			throw encryptionFailed(e);
+		}
+	}
+
+	/**
+	 * Gets a value of the response block of a kernel-keymanager response.
+	 *
+	 * @param response the response
+	 * @param field    the field of the response block
+	 * @return the value
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	private String getResponseValue(ObjectNode response, String field) throws IdRepoAppException {
+		JsonNode value = Objects.nonNull(response) && response.hasNonNull(RESPONSE)
+				? response.get(RESPONSE).get(field)
+				: null;
+		if (Objects.isNull(value) || value.isNull()) {
+			mosipLogger.error(IdRepoSecurityManager.getUser(), LOCAL_CRYPTO_PROVIDER, "getResponseValue",
+					"No " + field + " found in response");
+			throw new IdRepoAppException(IdRepoErrorConstants.ENCRYPTION_DECRYPTION_FAILED);
+		}
+		return value.asText();
+	}
+
+	/**
+	 * Gets the current time in the configured pattern.
+	 *
+	 * @return the timestamp
+	 */
+	private String getTimestamp() {
+		return DateUtils.formatDate(new Date(), env.getProperty(IdRepoConstants.DATETIME_PATTERN.getValue()));
+	}
+
+	/**
+	 * Logs a failure and wraps it in an {@link IdRepoAppException}.
+	 *
+	 * @param e the failure
+	 * @return the id repo app exception
+	 */
+	private IdRepoAppException encryptionFailed(Exception e) {
+		mosipLogger.error(IdRepoSecurityManager.getUser(), LOCAL_CRYPTO_PROVIDER, "encryptDecryptData",
+				e.getMessage());
+		return new IdRepoAppException(IdRepoErrorConstants.ENCRYPTION_DECRYPTION_FAILED, e);
+	}
+
+	/**
+	 * The data key used for encryption, with the public key it is encrypted with.
+	 */
+	private static final class DataKey {
+
+		private final PublicKey publicKey;
+
+		private final SecretKey secretKey;
+
+		private final byte[] encryptedKey;
+
+		private final long expiresAt;
+
+		private final AtomicLong uses = new AtomicLong();
+
+		private DataKey(PublicKey publicKey, SecretKey secretKey, byte[] encryptedKey, long expiresAt) {
+			this.publicKey = publicKey;
+			this.secretKey = secretKey;
+			this.encryptedKey = encryptedKey;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired() {
+			return System.nanoTime() - expiresAt >= 0;
+		}
+	}
+
+	/**
+	 * A decrypted data key and its expiry, in {@link System#nanoTime()}.
+	 */
+	private static final class CachedKey {
+
+		private final SecretKey secretKey;
+
+		private final long expiresAt;
+
+		private CachedKey(SecretKey secretKey, long expiresAt) {
+			this.secretKey = secretKey;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired() {
+			return System.nanoTime() - expiresAt >= 0;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package io.mosip.idrepository.core.spi;
+
+import io.mosip.idrepository.core.exception.IdRepoAppException;
+
+/**
+ * The Interface IdRepoCryptoProvider - encrypts and decrypts data in place of
+ * the rest calls to kernel-cryptomanager. The data is encrypted in the format
+ * of kernel-cryptomanager, so that either of them can decrypt it.
+ *
+ * @since 1.0.0
+ */
+public interface IdRepoCryptoProvider {
+
+	/**
+	 * Encrypts data.
+	 *
+	 * @param dataToEncrypt the data to encrypt
+	 * @return the BASE64 encoded encrypted data
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	byte[] encrypt(byte[] dataToEncrypt) throws IdRepoAppException;
+
+	/**
+	 * Encrypts data with salt.
+	 *
+	 * @param dataToEncrypt the data to encrypt
+	 * @param saltToEncrypt the salt
+	 * @return the BASE64 encoded encrypted data
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	byte[] encryptWithSalt(byte[] dataToEncrypt, byte[] saltToEncrypt) throws IdRepoAppException;
+
+	/**
+	 * Decrypts data.
+	 *
+	 * @param dataToDecrypt the BASE64 encoded encrypted data
+	 * @return the decrypted data
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	byte[] decrypt(byte[] dataToDecrypt) throws IdRepoAppException;
+
+	/**
+	 * Decrypts data with salt.
+	 *
+	 * @param dataToDecrypt the encrypted data
+	 * @param saltToDecrypt the salt
+	 * @return the decrypted data
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	byte[] decryptWithSalt(byte[] dataToDecrypt, byte[] saltToDecrypt) throws IdRepoAppException;
+}
@@ -34,6 +34,7 @@ import io.mosip.idrepository.core.exception.IdRepoAppException;
 import io.mosip.idrepository.core.exception.RestServiceException;
 import io.mosip.idrepository.core.helper.RestHelper;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.idrepository.core.spi.IdRepoCryptoProvider;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.util.CryptoUtil;
 
@@ -160,4 +161,31 @@ public class IdRepoSecurityManagerTest {
 			assertEquals(e.getErrorText(), IdRepoErrorConstants.ENCRYPTION_DECRYPTION_FAILED.getErrorMessage());
 		}
 	}
+
+	@Test
+	public void testEncryptWithCryptoProvider() throws IdRepoAppException {
+		IdRepoCryptoProvider cryptoProvider = Mockito.mock(IdRepoCryptoProvider.class);
+		when(cryptoProvider.encrypt(Mockito.any())).thenReturn("local".getBytes());
+		ReflectionTestUtils.setField(securityManager, "cryptoProvider", cryptoProvider);
+		assertEquals("local", new String(securityManager.encrypt("1".getBytes())));
+		Mockito.verifyZeroInteractions(restHelper);
+	}
+
+	@Test
+	public void testDecryptCryptoProviderFallback()
+			throws IdRepoAppException, JsonParseException, JsonMappingException, JsonProcessingException, IOException {
+		IdRepoCryptoProvider cryptoProvider = Mockito.mock(IdRepoCryptoProvider.class);
+		when(cryptoProvider.decrypt(Mockito.any()))
+				.thenThrow(new IdRepoAppException(IdRepoErrorConstants.ENCRYPTION_DECRYPTION_FAILED));
+		ReflectionTestUtils.setField(securityManager, "cryptoProvider", cryptoProvider);
+		ResponseWrapper<ObjectNode> response = new ResponseWrapper<>();
+		ObjectNode responseNode = mapper.createObjectNode();
+		responseNode.put("data", CryptoUtil.encodeBase64String("data".getBytes()));
+		response.setResponse(responseNode);
+		when(restBuilder.buildRequest(Mockito.any(), Mockito.any(), Mockito.any(Class.class)))
+				.thenReturn(new RestRequestDTO());
+		when(restHelper.requestSync(Mockito.any()))
+				.thenReturn(mapper.readValue(mapper.writeValueAsString(response), ObjectNode.class));
+		assertEquals("data", new String(securityManager.decrypt("1".getBytes())));
+	}
 }
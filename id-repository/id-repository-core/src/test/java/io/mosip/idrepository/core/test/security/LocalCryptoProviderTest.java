@@ -0,0 +1,199 @@
+package io.mosip.idrepository.core.test.security;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.MGF1ParameterSpec;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource.PSpecified;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.mosip.idrepository.core.builder.RestRequestBuilder;
+import io.mosip.idrepository.core.dto.RestRequestDTO;
+import io.mosip.idrepository.core.exception.IdRepoAppException;
+import io.mosip.idrepository.core.helper.RestHelper;
+import io.mosip.idrepository.core.security.LocalCryptoProvider;
+import io.mosip.kernel.core.http.RequestWrapper;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.crypto.jce.core.CryptoCore;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+@ActiveProfiles("test")
+public class LocalCryptoProviderTest {
+
+	private static final String KEY_SPLITTER = "#KEY_SPLITTER#";
+
+	private static final String ASYMMETRIC_ALGORITHM = "RSA/ECB/OAEPWITHSHA-256ANDMGF1PADDING";
+
+	@Mock
+	private RestRequestBuilder restBuilder;
+
+	@Mock
+	private RestHelper restHelper;
+
+	@Autowired
+	private Environment env;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	@InjectMocks
+	private LocalCryptoProvider cryptoProvider;
+
+	private CryptoCore cryptoCore;
+
+	private KeyPair keyPair;
+
+	@Before
+	public void setup() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		keyPair = keyPairGenerator.generateKeyPair();
+		cryptoCore = new CryptoCore();
+		ReflectionTestUtils.setField(cryptoCore, "symmetricAlgorithm", "AES/GCM/NoPadding");
+		ReflectionTestUtils.setField(cryptoCore, "asymmetricAlgorithm", ASYMMETRIC_ALGORITHM);
+		ReflectionTestUtils.setField(cryptoCore, "tagLength", 128);
+		cryptoCore.init();
+		ReflectionTestUtils.setField(cryptoProvider, "env", env);
+		ReflectionTestUtils.setField(cryptoProvider, "mapper", mapper);
+		ReflectionTestUtils.setField(cryptoProvider, "cryptoCore", cryptoCore);
+		ReflectionTestUtils.setField(cryptoProvider, "keySplitter", KEY_SPLITTER);
+		ReflectionTestUtils.setField(cryptoProvider, "symmetricKeyLength", 256);
+		ReflectionTestUtils.setField(cryptoProvider, "dataKeyRefreshSeconds", 3600L);
+		ReflectionTestUtils.setField(cryptoProvider, "dataKeyMaxUses", 1000L);
+		ReflectionTestUtils.setField(cryptoProvider, "keyCacheSeconds", 3600L);
+		ReflectionTestUtils.setField(cryptoProvider, "maxCachedKeys", 10);
+		when(restBuilder.buildRequest(Mockito.any(), Mockito.any(), Mockito.any(Class.class))).thenAnswer(invocation -> {
+			RestRequestDTO request = new RestRequestDTO();
+			request.setRequestBody(invocation.getArgument(1));
+			return request;
+		});
+		when(restHelper.requestSync(Mockito.any())).thenAnswer(invocation -> keymanagerResponse(invocation.getArgument(0)));
+	}
+
+	@Test
+	public void testEncryptDecryptWithDataKey() throws IdRepoAppException {
+		byte[] first = cryptoProvider.encrypt("first".getBytes());
+		byte[] second = cryptoProvider.encrypt("second".getBytes());
+		assertEquals(encryptedKey(first), encryptedKey(second));
+		assertEquals("first", new String(cryptoProvider.decrypt(first)));
+		assertEquals("second", new String(cryptoProvider.decrypt(second)));
+		// public key only, the data key is cached when generated
+		verify(restHelper, times(1)).requestSync(Mockito.any());
+	}
+
+	@Test
+	public void testDataKeyRefreshedAfterMaxUses() throws IdRepoAppException {
+		ReflectionTestUtils.setField(cryptoProvider, "dataKeyMaxUses", 1L);
+		byte[] first = cryptoProvider.encrypt("first".getBytes());
+		byte[] second = cryptoProvider.encrypt("second".getBytes());
+		assertNotEquals(encryptedKey(first), encryptedKey(second));
+		assertEquals("first", new String(cryptoProvider.decrypt(first)));
+		verify(restHelper, times(2)).requestSync(Mockito.any());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedKeyEvicted() throws IdRepoAppException {
+		ReflectionTestUtils.setField(cryptoProvider, "dataKeyMaxUses", 1L);
+		ReflectionTestUtils.setField(cryptoProvider, "maxCachedKeys", 2);
+		byte[] first = cryptoProvider.encrypt("first".getBytes());
+		byte[] second = cryptoProvider.encrypt("second".getBytes());
+		byte[] third = cryptoProvider.encrypt("third".getBytes());
+		Mockito.clearInvocations(restHelper);
+		assertEquals("third", new String(cryptoProvider.decrypt(third)));
+		assertEquals("second", new String(cryptoProvider.decrypt(second)));
+		verify(restHelper, never()).requestSync(Mockito.any());
+		// the first key was evicted, and caching it again evicts the third one
+		assertEquals("first", new String(cryptoProvider.decrypt(first)));
+		assertEquals("second", new String(cryptoProvider.decrypt(second)));
+		verify(restHelper, times(1)).requestSync(Mockito.any());
+		assertEquals("third", new String(cryptoProvider.decrypt(third)));
+		verify(restHelper, times(2)).requestSync(Mockito.any());
+	}
+
+	@Test
+	public void testEncryptDecryptWithSalt() throws IdRepoAppException {
+		byte[] salt = "1234567890123456".getBytes();
+		byte[] encrypted = cryptoProvider.encryptWithSalt("uin".getBytes(), salt);
+		assertEquals("uin",
+				new String(cryptoProvider.decryptWithSalt(CryptoUtil.decodeBase64(new String(encrypted)), salt)));
+	}
+
+	@Test
+	public void testDecryptCryptomanagerData() throws Exception {
+		KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+		keyGenerator.init(256);
+		SecretKey secretKey = keyGenerator.generateKey();
+		byte[] encryptedData = cryptoCore.symmetricEncrypt(secretKey, "data".getBytes(), null);
+		byte[] encryptedKey = cryptoCore.asymmetricEncrypt(keyPair.getPublic(), secretKey.getEncoded());
+		byte[] data = CryptoUtil.encodeBase64(CryptoUtil.combineByteArray(encryptedData, encryptedKey, KEY_SPLITTER))
+				.getBytes();
+		assertArrayEquals("data".getBytes(), cryptoProvider.decrypt(data));
+		assertArrayEquals("data".getBytes(), cryptoProvider.decrypt(data));
+		verify(restHelper, times(1)).requestSync(Mockito.any());
+	}
+
+	@Test(expected = IdRepoAppException.class)
+	public void testDecryptInvalidData() throws IdRepoAppException {
+		cryptoProvider.decrypt(CryptoUtil.encodeBase64("data".getBytes()).getBytes());
+	}
+
+	/**
+	 * Answers as kernel-keymanager, with the public key for requests without body
+	 * and the decrypted symmetric key otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	private ObjectNode keymanagerResponse(RestRequestDTO request) throws Exception {
+		ObjectNode response = mapper.createObjectNode();
+		ObjectNode responseBlock = response.putObject("response");
+		if (request.getRequestBody() == null) {
+			responseBlock.put("publicKey", CryptoUtil.encodeBase64(keyPair.getPublic().getEncoded()));
+		} else {
+			ObjectNode requestBlock = ((RequestWrapper<ObjectNode>) request.getRequestBody()).getRequest();
+			Cipher cipher = Cipher.getInstance(ASYMMETRIC_ALGORITHM);
+			cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate(),
+					new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSpecified.DEFAULT));
+			byte[] symmetricKey = cipher
+					.doFinal(CryptoUtil.decodeBase64(requestBlock.get("encryptedSymmetricKey").asText()));
+			responseBlock.put("symmetricKey", CryptoUtil.encodeBase64(symmetricKey));
+		}
+		return response;
+	}
+
+	private String encryptedKey(byte[] encrypted) {
+		byte[] data = CryptoUtil.decodeBase64(new String(encrypted));
+		int keyDemiliterIndex = CryptoUtil.getSplitterIndex(data, 0, KEY_SPLITTER);
+		return CryptoUtil.encodeBase64(java.util.Arrays.copyOfRange(data, 0, keyDemiliterIndex));
+	}
+}
@@ -7,6 +7,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.annotation.Resource;
 
@@ -14,8 +21,12 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.hibernate.exception.JDBCConnectionException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.dao.DataAccessException;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.TransactionException;
 
@@ -37,7 +48,7 @@ import io.mosip.idrepository.core.logger.IdRepoLogger;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
 import io.mosip.idrepository.core.spi.IdRepoService;
 import io.mosip.idrepository.identity.entity.Uin;
-import io.mosip.idrepository.identity.repository.UinHashSaltRepo;
+import io.mosip.idrepository.identity.provider.UinSaltProvider;
 import io.mosip.idrepository.identity.repository.UinHistoryRepo;
 import io.mosip.idrepository.identity.repository.UinRepo;
 import io.mosip.kernel.core.fsadapter.exception.FSAdapterException;
@@ -143,9 +154,18 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 	@Autowired
 	private IdRepoSecurityManager securityManager;
 
-	/** The uin hash salt repo. */
+	/** The salt provider. */
 	@Autowired
-	private UinHashSaltRepo uinHashSaltRepo;
+	private UinSaltProvider saltProvider;
+
+	/** The executor fetching and decrypting documents. */
+	@Autowired
+	@Qualifier("documentExecutor")
+	private Executor documentExecutor;
+
+	/** The number of files of a request fetched at a time. */
+	@Value("${mosip.idrepo.identity.documents.max-concurrent-files-per-request:4}")
+	private int maxConcurrentFiles;
 
 	/*
 	 * (non-Javadoc)
@@ -223,7 +243,7 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 	private String retrieveUinHash(String uin) {
 		Integer moduloValue = env.getProperty(IdRepoConstants.MODULO_VALUE.getValue(), Integer.class);
 		int modResult = (int) (Long.parseLong(uin) % moduloValue);
-		String hashSalt = uinHashSaltRepo.retrieveSaltById(modResult);
+		String hashSalt = saltProvider.getHashSalt(modResult);
 		return modResult + IdRepoConstants.SPLITTER.getValue() + securityManager.hashwithSalt(uin.getBytes(), hashSalt.getBytes());
 	}
 
@@ -253,8 +273,7 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 					"docs documents  --> " + documents);
 			return constructIdResponse(this.id.get(READ), uinObject, documents);
 		} else if (type.equalsIgnoreCase(ALL)) {
-			getFiles(uinObject, documents, BIOMETRICS);
-			getFiles(uinObject, documents, DEMOGRAPHICS);
+			getFiles(uinObject, documents, BIOMETRICS, DEMOGRAPHICS);
 			mosipLogger.info(IdRepoSecurityManager.getUser(), RETRIEVE_IDENTITY, "filter - all",
 					"docs documents  --> " + documents);
 			return constructIdResponse(this.id.get(READ), uinObject, documents);
@@ -301,113 +320,182 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 	}
 
 	/**
-	 * Gets the files.
+	 * Gets the files of the given types, fetching and decrypting them
+	 * concurrently. The documents are added in the order of the types and of the
+	 * files of each type.
 	 *
 	 * @param uinObject the uin object
 	 * @param documents the documents
-	 * @param type      the type
-	 * @return the files
+	 * @param types     the types
 	 */
-	private void getFiles(Uin uinObject, List<DocumentsDTO> documents, String type) {
-		if (type.equals(BIOMETRICS)) {
-			getBiometricFiles(uinObject, documents);
-		}
+	private void getFiles(Uin uinObject, List<DocumentsDTO> documents, String... types) {
+		List<Supplier<DocumentsDTO>> files = new ArrayList<>();
+		for (String type : types) {
+			if (type.equals(BIOMETRICS)) {
+				getBiometricFiles(uinObject, files);
+			}
 
-		if (type.equals(DEMOGRAPHICS)) {
-			getDemographicFiles(uinObject, documents);
+			if (type.equals(DEMOGRAPHICS)) {
+				getDemographicFiles(uinObject, files);
+			}
 		}
+		fetchFiles(files).stream().filter(Objects::nonNull).forEach(documents::add);
 	}
 
 	/**
-	 * Gets the demographic files.
+	 * Fetches files on the document executor, with at most
+	 * {@code maxConcurrentFiles} files of the request being fetched at a time. A
+	 * single file is fetched by the requesting thread. Once a file fails, no more
+	 * files are fetched and the failure is thrown.
 	 *
-	 * @param uinObject the uin object
-	 * @param documents the documents
-	 * @return the demographic files
+	 * @param files the files to fetch
+	 * @return the documents, in the order of the files
 	 */
-	private void getDemographicFiles(Uin uinObject, List<DocumentsDTO> documents) {
-		uinObject.getDocuments().stream().forEach(demo -> {
+	private List<DocumentsDTO> fetchFiles(List<Supplier<DocumentsDTO>> files) {
+		if (files.size() <= 1 || maxConcurrentFiles <= 1) {
+			return files.stream().map(Supplier::get).collect(Collectors.toList());
+		}
+		// the security context carries the auth token used to call kernel services
+		Executor executor = new DelegatingSecurityContextExecutor(documentExecutor, SecurityContextHolder.getContext());
+		Semaphore permits = new Semaphore(maxConcurrentFiles);
+		AtomicBoolean failed = new AtomicBoolean();
+		List<CompletableFuture<DocumentsDTO>> futures = new ArrayList<>(files.size());
+		try {
+			for (Supplier<DocumentsDTO> file : files) {
+				permits.acquire();
+				if (failed.get()) {
+					break;
+				}
+				futures.add(CompletableFuture.supplyAsync(file, executor).whenComplete((document, e) -> {
+					if (Objects.nonNull(e)) {
+						failed.set(true);
+					}
+					permits.release();
+				}));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, "\n" + e.getMessage());
+			throw new IdRepoAppUncheckedException(IdRepoErrorConstants.FILE_STORAGE_ACCESS_ERROR, e);
+		}
+		List<DocumentsDTO> documents = new ArrayList<>(futures.size());
+		for (CompletableFuture<DocumentsDTO> future : futures) {
 			try {
-				String fileName = DEMOGRAPHICS + SLASH + demo.getDocId();
-				LocalDateTime startTime = DateUtils.getUTCCurrentDateTime();
-				byte[] data = securityManager
-						.decrypt(IOUtils.toByteArray(fsAdapter.getFile(uinObject.getUinHash(), fileName)));
-				mosipLogger.debug(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
-						"time taken to get file in millis: " + fileName + "  - "
-								+ Duration.between(startTime, DateUtils.getUTCCurrentDateTime()).toMillis() + "  "
-								+ "Start time : " + startTime + "  " + "end time : "
-								+ DateUtils.getUTCCurrentDateTime());
-				if (demo.getDocHash().equals(securityManager.hash(data))) {
-					documents.add(new DocumentsDTO(demo.getDoccatCode(), CryptoUtil.encodeBase64(data)));
-				} else {
-					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
-							IdRepoErrorConstants.DOCUMENT_HASH_MISMATCH.getErrorMessage());
-					throw new IdRepoAppException(IdRepoErrorConstants.DOCUMENT_HASH_MISMATCH);
+				documents.add(future.join());
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
 				}
-			} catch (IdRepoAppException e) {
-				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, "\n" + e.getMessage());
-				throw new IdRepoAppUncheckedException(e.getErrorCode(), e.getErrorText(), e);
-			} catch (FSAdapterException e) {
-				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, "\n" + e.getMessage());
-				throw new IdRepoAppUncheckedException(
-						e.getErrorCode().equals(HDFSAdapterErrorCode.FILE_NOT_FOUND_EXCEPTION.getErrorCode())
-								? IdRepoErrorConstants.FILE_NOT_FOUND
-								: IdRepoErrorConstants.FILE_STORAGE_ACCESS_ERROR,
-						e);
-			} catch (IOException e) {
-				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, "\n" + e.getMessage());
-				throw new IdRepoAppUncheckedException(IdRepoErrorConstants.FILE_STORAGE_ACCESS_ERROR, e);
+				throw e;
 			}
-		});
+		}
+		return documents;
 	}
 
 	/**
-	 * Gets the biometric files.
+	 * Gets the demographic files.
 	 *
 	 * @param uinObject the uin object
-	 * @param documents the documents
-	 * @return the biometric files
+	 * @param files     the files to fetch
 	 */
-	private void getBiometricFiles(Uin uinObject, List<DocumentsDTO> documents) {
-		uinObject.getBiometrics().stream().forEach(bio -> {
-			if (allowedBioAttributes.contains(bio.getBiometricFileType())) {
+	private void getDemographicFiles(Uin uinObject, List<Supplier<DocumentsDTO>> files) {
+		String uinHash = uinObject.getUinHash();
+		uinObject.getDocuments().stream().forEach(demo -> {
+			String fileName = DEMOGRAPHICS + SLASH + demo.getDocId();
+			String docHash = demo.getDocHash();
+			String doccatCode = demo.getDoccatCode();
+			files.add(() -> {
 				try {
-					String fileName = BIOMETRICS + SLASH + bio.getBioFileId();
-					LocalDateTime startTime = DateUtils.getUTCCurrentDateTime();
-					byte[] data = securityManager
-							.decrypt(IOUtils.toByteArray(fsAdapter.getFile(uinObject.getUinHash(), fileName)));
-					mosipLogger.debug(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
-							"time taken to get file in millis: " + fileName + "  - "
-									+ Duration.between(startTime, DateUtils.getUTCCurrentDateTime()).toMillis() + "  "
-									+ "Start time : " + startTime + "  " + "end time : "
-									+ DateUtils.getUTCCurrentDateTime());
-					if (Objects.nonNull(data)) {
-						if (StringUtils.equals(bio.getBiometricFileHash(), securityManager.hash(data))) {
-							documents.add(new DocumentsDTO(bio.getBiometricFileType(), CryptoUtil.encodeBase64(data)));
-						} else {
-							mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
-									IdRepoErrorConstants.DOCUMENT_HASH_MISMATCH.getErrorMessage());
-							throw new IdRepoAppException(IdRepoErrorConstants.DOCUMENT_HASH_MISMATCH);
-						}
+					byte[] data = getFile(uinHash, fileName);
+					if (docHash.equals(securityManager.hash(data))) {
+						return new DocumentsDTO(doccatCode, CryptoUtil.encodeBase64(data));
+					} else {
+						mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
+								IdRepoErrorConstants.DOCUMENT_HASH_MISMATCH.getErrorMessage());
+						throw new IdRepoAppException(IdRepoErrorConstants.DOCUMENT_HASH_MISMATCH);
 					}
 				} catch (IdRepoAppException e) {
-					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
+					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, "\n" + e.getMessage());
 					throw new IdRepoAppUncheckedException(e.getErrorCode(), e.getErrorText(), e);
 				} catch (FSAdapterException e) {
-					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
+					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, "\n" + e.getMessage());
 					throw new IdRepoAppUncheckedException(
 							e.getErrorCode().equals(HDFSAdapterErrorCode.FILE_NOT_FOUND_EXCEPTION.getErrorCode())
 									? IdRepoErrorConstants.FILE_NOT_FOUND
 									: IdRepoErrorConstants.FILE_STORAGE_ACCESS_ERROR,
 							e);
 				} catch (IOException e) {
-					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
+					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, "\n" + e.getMessage());
 					throw new IdRepoAppUncheckedException(IdRepoErrorConstants.FILE_STORAGE_ACCESS_ERROR, e);
 				}
+			});
+		});
+	}
+
+	/**
+	 * Gets the biometric files.
+	 *
+	 * @param uinObject the uin object
+	 * @param files     the files to fetch
+	 */
+	private void getBiometricFiles(Uin uinObject, List<Supplier<DocumentsDTO>> files) {
+		String uinHash = uinObject.getUinHash();
+		uinObject.getBiometrics().stream().forEach(bio -> {
+			if (allowedBioAttributes.contains(bio.getBiometricFileType())) {
+				String fileName = BIOMETRICS + SLASH + bio.getBioFileId();
+				String biometricFileHash = bio.getBiometricFileHash();
+				String biometricFileType = bio.getBiometricFileType();
+				files.add(() -> {
+					try {
+						byte[] data = getFile(uinHash, fileName);
+						if (Objects.nonNull(data)) {
+							if (StringUtils.equals(biometricFileHash, securityManager.hash(data))) {
+								return new DocumentsDTO(biometricFileType, CryptoUtil.encodeBase64(data));
+							} else {
+								mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
+										IdRepoErrorConstants.DOCUMENT_HASH_MISMATCH.getErrorMessage());
+								throw new IdRepoAppException(IdRepoErrorConstants.DOCUMENT_HASH_MISMATCH);
+							}
+						}
+						return null;
+					} catch (IdRepoAppException e) {
+						mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
+						throw new IdRepoAppUncheckedException(e.getErrorCode(), e.getErrorText(), e);
+					} catch (FSAdapterException e) {
+						mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
+						throw new IdRepoAppUncheckedException(
+								e.getErrorCode().equals(HDFSAdapterErrorCode.FILE_NOT_FOUND_EXCEPTION.getErrorCode())
+										? IdRepoErrorConstants.FILE_NOT_FOUND
+										: IdRepoErrorConstants.FILE_STORAGE_ACCESS_ERROR,
+								e);
+					} catch (IOException e) {
+						mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
+						throw new IdRepoAppUncheckedException(IdRepoErrorConstants.FILE_STORAGE_ACCESS_ERROR, e);
+					}
+				});
 			}
 		});
 	}
 
+	/**
+	 * Reads and decrypts a file.
+	 *
+	 * @param uinHash  the uin hash
+	 * @param fileName the file name
+	 * @return the decrypted file
+	 * @throws IdRepoAppException the id repo app exception
+	 * @throws IOException        Signals that an I/O exception has occurred.
+	 */
+	private byte[] getFile(String uinHash, String fileName) throws IdRepoAppException, IOException {
+		LocalDateTime startTime = DateUtils.getUTCCurrentDateTime();
+		byte[] data = securityManager.decrypt(IOUtils.toByteArray(fsAdapter.getFile(uinHash, fileName)));
+		mosipLogger.debug(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
+				"time taken to get file in millis: " + fileName + "  - "
+						+ Duration.between(startTime, DateUtils.getUTCCurrentDateTime()).toMillis() + "  "
+						+ "Start time : " + startTime + "  " + "end time : " + DateUtils.getUTCCurrentDateTime());
+		return data;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -56,10 +56,9 @@ import io.mosip.idrepository.identity.entity.UinBiometricHistory;
 import io.mosip.idrepository.identity.entity.UinDocument;
 import io.mosip.idrepository.identity.entity.UinDocumentHistory;
 import io.mosip.idrepository.identity.entity.UinHistory;
+import io.mosip.idrepository.identity.provider.UinSaltProvider;
 import io.mosip.idrepository.identity.repository.UinBiometricHistoryRepo;
 import io.mosip.idrepository.identity.repository.UinDocumentHistoryRepo;
-import io.mosip.idrepository.identity.repository.UinEncryptSaltRepo;
-import io.mosip.idrepository.identity.repository.UinHashSaltRepo;
 import io.mosip.idrepository.identity.repository.UinHistoryRepo;
 import io.mosip.idrepository.identity.repository.UinRepo;
 import io.mosip.kernel.core.cbeffutil.entity.BIR;
@@ -167,13 +166,9 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 	@Resource
 	private List<String> bioAttributes;
 
-	/** The uin hash salt repo. */
+	/** The salt provider. */
 	@Autowired
-	private UinHashSaltRepo uinHashSaltRepo;
-
-	/** The uin encrypt salt repo. */
-	@Autowired
-	private UinEncryptSaltRepo uinEncryptSaltRepo;
+	private UinSaltProvider saltProvider;
 
 	/**
 	 * Adds the identity to DB.
@@ -190,9 +185,9 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 		byte[] identityInfo = convertToBytes(request.getRequest().getIdentity());
 		Integer moduloValue = env.getProperty(IdRepoConstants.MODULO_VALUE.getValue(), Integer.class);
 		int modResult = (int) (Long.parseLong(uin) % moduloValue);
-		String hashSalt = uinHashSaltRepo.retrieveSaltById(modResult);
+		String hashSalt = saltProvider.getHashSalt(modResult);
 		String uinHash = modResult + IdRepoConstants.SPLITTER.getValue() + securityManager.hashwithSalt(uin.getBytes(), hashSalt.getBytes());
-		String encryptSalt = uinEncryptSaltRepo.retrieveSaltById(modResult);
+		String encryptSalt = saltProvider.getEncryptSalt(modResult);
 		String uinToEncrypt = modResult + IdRepoConstants.SPLITTER.getValue() + uin + IdRepoConstants.SPLITTER.getValue() + encryptSalt;
         
 		List<UinDocument> docList = new ArrayList<>();
@@ -404,8 +399,8 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 	public Uin updateIdentity(IdRequestDTO request, String uin) throws IdRepoAppException {
 		Integer moduloValue = env.getProperty(IdRepoConstants.MODULO_VALUE.getValue(), Integer.class);
 		int modResult = (int) (Long.parseLong(uin) % moduloValue);
-		String encryptSalt = uinEncryptSaltRepo.retrieveSaltById(modResult);
-		String hashSalt = uinHashSaltRepo.retrieveSaltById(modResult);
+		String encryptSalt = saltProvider.getEncryptSalt(modResult);
+		String hashSalt = saltProvider.getHashSalt(modResult);
 		String uinToEncrypt = modResult + IdRepoConstants.SPLITTER.getValue() + uin + IdRepoConstants.SPLITTER.getValue() + encryptSalt;
 		String uinHash = modResult + IdRepoConstants.SPLITTER.getValue() + securityManager.hashwithSalt(uin.getBytes(), hashSalt.getBytes());
 
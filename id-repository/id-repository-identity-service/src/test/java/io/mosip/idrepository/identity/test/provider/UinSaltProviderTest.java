@@ -0,0 +1,88 @@
+package io.mosip.idrepository.identity.test.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.core.env.Environment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.idrepository.identity.entity.UinEncryptSalt;
+import io.mosip.idrepository.identity.entity.UinHashSalt;
+import io.mosip.idrepository.identity.provider.UinSaltProvider;
+import io.mosip.idrepository.identity.repository.UinEncryptSaltRepo;
+import io.mosip.idrepository.identity.repository.UinHashSaltRepo;
+
+public class UinSaltProviderTest {
+
+	private UinSaltProvider saltProvider;
+
+	private UinHashSaltRepo uinHashSaltRepo;
+
+	private UinEncryptSaltRepo uinEncryptSaltRepo;
+
+	@Before
+	public void setup() {
+		uinHashSaltRepo = Mockito.mock(UinHashSaltRepo.class);
+		uinEncryptSaltRepo = Mockito.mock(UinEncryptSaltRepo.class);
+		Environment env = Mockito.mock(Environment.class);
+		when(env.getProperty("mosip.idrepo.modulo-value", Integer.class)).thenReturn(2);
+		saltProvider = new UinSaltProvider();
+		ReflectionTestUtils.setField(saltProvider, "uinHashSaltRepo", uinHashSaltRepo);
+		ReflectionTestUtils.setField(saltProvider, "uinEncryptSaltRepo", uinEncryptSaltRepo);
+		ReflectionTestUtils.setField(saltProvider, "env", env);
+	}
+
+	@Test
+	public void testSaltsLoadedAtStartup() {
+		when(uinHashSaltRepo.findAll()).thenReturn(Arrays.asList(hashSalt(0, "hash0"), hashSalt(1, "hash1")));
+		when(uinEncryptSaltRepo.findAll())
+				.thenReturn(Arrays.asList(encryptSalt(0, "encrypt0"), encryptSalt(1, "encrypt1")));
+		saltProvider.init();
+		assertEquals("hash1", saltProvider.getHashSalt(1));
+		assertEquals("encrypt0", saltProvider.getEncryptSalt(0));
+		verify(uinHashSaltRepo, never()).retrieveSaltById(Mockito.anyInt());
+		verify(uinEncryptSaltRepo, never()).retrieveSaltById(Mockito.anyInt());
+	}
+
+	@Test
+	public void testSaltsLoadedOnFirstUse() {
+		ReflectionTestUtils.setField(saltProvider, "lazyLoad", true);
+		when(uinHashSaltRepo.retrieveSaltById(1)).thenReturn("hash1");
+		saltProvider.init();
+		assertEquals("hash1", saltProvider.getHashSalt(1));
+		assertEquals("hash1", saltProvider.getHashSalt(1));
+		verify(uinHashSaltRepo, never()).findAll();
+		verify(uinHashSaltRepo, times(1)).retrieveSaltById(1);
+	}
+
+	@Test
+	public void testSaltsReloaded() {
+		when(uinHashSaltRepo.findAll()).thenReturn(Arrays.asList(hashSalt(0, "hash0")));
+		saltProvider.init();
+		when(uinHashSaltRepo.findAll()).thenReturn(Arrays.asList(hashSalt(0, "newHash0")));
+		saltProvider.loadSalts();
+		assertEquals("newHash0", saltProvider.getHashSalt(0));
+	}
+
+	private UinHashSalt hashSalt(int id, String salt) {
+		UinHashSalt hashSalt = new UinHashSalt();
+		hashSalt.setId(id);
+		hashSalt.setSalt(salt);
+		return hashSalt;
+	}
+
+	private UinEncryptSalt encryptSalt(int id, String salt) {
+		UinEncryptSalt encryptSalt = new UinEncryptSalt();
+		encryptSalt.setId(id);
+		encryptSalt.setSalt(salt);
+		return encryptSalt;
+	}
+}
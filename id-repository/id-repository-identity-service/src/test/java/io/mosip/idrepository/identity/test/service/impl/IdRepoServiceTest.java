@@ -12,6 +12,8 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
 import org.hibernate.exception.JDBCConnectionException;
@@ -46,6 +48,7 @@ import com.google.common.collect.Lists;
 import io.mosip.idrepository.core.builder.RestRequestBuilder;
 import io.mosip.idrepository.core.constant.IdRepoConstants;
 import io.mosip.idrepository.core.constant.IdRepoErrorConstants;
+import io.mosip.idrepository.core.dto.DocumentsDTO;
 import io.mosip.idrepository.core.dto.IdRequestDTO;
 import io.mosip.idrepository.core.dto.IdResponseDTO;
 import io.mosip.idrepository.core.dto.RequestDTO;
@@ -62,6 +65,7 @@ import io.mosip.idrepository.identity.entity.UinDocument;
 import io.mosip.idrepository.identity.provider.impl.FingerprintProvider;
 import io.mosip.idrepository.identity.repository.UinBiometricHistoryRepo;
 import io.mosip.idrepository.identity.repository.UinDocumentHistoryRepo;
+import io.mosip.idrepository.identity.provider.UinSaltProvider;
 import io.mosip.idrepository.identity.repository.UinEncryptSaltRepo;
 import io.mosip.idrepository.identity.repository.UinHashSaltRepo;
 import io.mosip.idrepository.identity.repository.UinHistoryRepo;
@@ -212,6 +216,14 @@ public class IdRepoServiceTest {
 		ReflectionTestUtils.setField(securityManager, "mapper", mapper);
 		ReflectionTestUtils.setField(service, "securityManager", securityManager);
 		ReflectionTestUtils.setField(proxyService, "securityManager", securityManager);
+		UinSaltProvider saltProvider = new UinSaltProvider();
+		ReflectionTestUtils.setField(saltProvider, "uinHashSaltRepo", uinHashSaltRepo);
+		ReflectionTestUtils.setField(saltProvider, "uinEncryptSaltRepo", uinEncryptSaltRepo);
+		ReflectionTestUtils.setField(saltProvider, "env", env);
+		ReflectionTestUtils.setField(saltProvider, "lazyLoad", true);
+		saltProvider.init();
+		ReflectionTestUtils.setField(service, "saltProvider", saltProvider);
+		ReflectionTestUtils.setField(proxyService, "saltProvider", saltProvider);
 		when(restBuilder.buildRequest(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(new RestRequestDTO());
 		when(restHelper.requestSync(Mockito.any()))
 				.thenReturn(mapper.readValue("{\"response\":{\"data\":\"1234\"}}".getBytes(), ObjectNode.class));
@@ -223,6 +235,8 @@ public class IdRepoServiceTest {
 		ReflectionTestUtils.setField(proxyService, "service", service);
 		ReflectionTestUtils.setField(proxyService, "allowedBioAttributes",
 				Collections.singletonList("individualBiometrics"));
+		ReflectionTestUtils.setField(proxyService, "documentExecutor", ForkJoinPool.commonPool());
+		ReflectionTestUtils.setField(proxyService, "maxConcurrentFiles", 2);
 		ReflectionTestUtils.setField(service, "bioAttributes",
 				Lists.newArrayList("individualBiometrics", "parentOrGuardianBiometrics"));
 		RequestDTO req = new RequestDTO();
@@ -854,6 +868,43 @@ public class IdRepoServiceTest {
 		assertEquals(identity, mapper.writeValueAsString(retrieveIdentityByUin.getResponse().getIdentity()));
 	}
 
+	@Test
+	public void testRetrieveIdentityWithAllTypeDocumentsInOrder()
+			throws IdRepoAppException, JsonParseException, JsonMappingException, IOException {
+		when(connection.getFile(Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> IOUtils.toInputStream("data", Charset.defaultCharset()));
+		Uin uinObj = new Uin();
+		uinObj.setUin("1234");
+		uinObj.setUinRefId("1234");
+		UinBiometric biometrics = new UinBiometric();
+		biometrics.setBiometricFileType("individualBiometrics");
+		biometrics.setBiometricFileHash("5B72C3B57A72C6497461289FCA7B1F865ED6FB0596B446FEA1F92AF931A5D4B7");
+		biometrics.setBioFileId("1234");
+		biometrics.setBiometricFileName("name");
+		uinObj.setBiometrics(Collections.singletonList(biometrics));
+		UinDocument identityDocument = new UinDocument();
+		identityDocument.setDoccatCode("ProofOfIdentity");
+		identityDocument.setDocHash("5B72C3B57A72C6497461289FCA7B1F865ED6FB0596B446FEA1F92AF931A5D4B7");
+		identityDocument.setDocId("1234");
+		identityDocument.setDocName("name");
+		UinDocument addressDocument = new UinDocument();
+		addressDocument.setDoccatCode("ProofOfAddress");
+		addressDocument.setDocHash("5B72C3B57A72C6497461289FCA7B1F865ED6FB0596B446FEA1F92AF931A5D4B7");
+		addressDocument.setDocId("5678");
+		addressDocument.setDocName("name");
+		uinObj.setDocuments(Arrays.asList(identityDocument, addressDocument));
+		String identity = "{\"ProofOfIdentity\":{\"format\":\"pdf\",\"version\":1.0,\"fileReference\":\"fileReferenceID\"},\"individualBiometrics\":{\"format\":\"cbeff\",\"version\":1.0,\"fileReference\":\"fileReferenceID\"}}";
+		uinObj.setUinData(identity.getBytes());
+		when(uinRepo.existsByUinHash(Mockito.any())).thenReturn(true);
+		when(uinRepo.findByUinHash(Mockito.any())).thenReturn(uinObj);
+		when(uinEncryptSaltRepo.retrieveSaltById(Mockito.anyInt())).thenReturn("7C9JlRD32RnFTzAmeTfIzg");
+		when(uinHashSaltRepo.retrieveSaltById(Mockito.anyInt())).thenReturn("AG7JQI1HwFp_cI_DcdAQ9A");
+		IdResponseDTO retrieveIdentityByUin = proxyService.retrieveIdentityByUin("1234", "all");
+		assertEquals(Arrays.asList("individualBiometrics", "ProofOfIdentity", "ProofOfAddress"),
+				retrieveIdentityByUin.getResponse().getDocuments().stream().map(DocumentsDTO::getCategory)
+						.collect(Collectors.toList()));
+	}
+
 	@Test
 	public void testRetrieveIdentityWithUnknownType()
 			throws IdRepoAppException, JsonParseException, JsonMappingException, IOException {
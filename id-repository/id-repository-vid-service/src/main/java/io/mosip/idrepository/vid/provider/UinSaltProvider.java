@@ -0,0 +1,75 @@
+package io.mosip.idrepository.vid.provider;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.stereotype.Component;
+
+import io.mosip.idrepository.core.helper.BaseSaltProvider;
+import io.mosip.idrepository.vid.entity.UinEncryptSalt;
+import io.mosip.idrepository.vid.entity.UinHashSalt;
+import io.mosip.idrepository.vid.repository.UinEncryptSaltRepo;
+import io.mosip.idrepository.vid.repository.UinHashSaltRepo;
+
+/**
+ * The Class UinSaltProvider - provides the UIN hash and encrypt salts loaded
+ * from uin_hash_salt and uin_encrypt_salt tables.
+ *
+ * @since 1.0.0
+ */
+@Component
+@RefreshScope
+public class UinSaltProvider extends BaseSaltProvider {
+
+	/** The uin hash salt repo. */
+	@Autowired
+	private UinHashSaltRepo uinHashSaltRepo;
+
+	/** The uin encrypt salt repo. */
+	@Autowired
+	private UinEncryptSaltRepo uinEncryptSaltRepo;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.idrepository.core.helper.BaseSaltProvider#loadHashSalts()
+	 */
+	@Override
+	protected Map<Integer, String> loadHashSalts() {
+		return uinHashSaltRepo.findAll().stream().collect(Collectors.toMap(UinHashSalt::getId, UinHashSalt::getSalt));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.idrepository.core.helper.BaseSaltProvider#loadEncryptSalts()
+	 */
+	@Override
+	protected Map<Integer, String> loadEncryptSalts() {
+		return uinEncryptSaltRepo.findAll().stream()
+				.collect(Collectors.toMap(UinEncryptSalt::getId, UinEncryptSalt::getSalt));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.idrepository.core.helper.BaseSaltProvider#retrieveHashSalt(int)
+	 */
+	@Override
+	protected String retrieveHashSalt(int id) {
+		return uinHashSaltRepo.retrieveSaltById(id);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.idrepository.core.helper.BaseSaltProvider#retrieveEncryptSalt(int)
+	 */
+	@Override
+	protected String retrieveEncryptSalt(int id) {
+		return uinEncryptSaltRepo.retrieveSaltById(id);
+	}
+}
@@ -41,9 +41,8 @@ import io.mosip.idrepository.core.logger.IdRepoLogger;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
 import io.mosip.idrepository.core.spi.VidService;
 import io.mosip.idrepository.vid.entity.Vid;
+import io.mosip.idrepository.vid.provider.UinSaltProvider;
 import io.mosip.idrepository.vid.provider.VidPolicyProvider;
-import io.mosip.idrepository.vid.repository.UinEncryptSaltRepo;
-import io.mosip.idrepository.vid.repository.UinHashSaltRepo;
 import io.mosip.idrepository.vid.repository.VidRepo;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.exception.ServiceError;
@@ -121,13 +120,9 @@ public class VidServiceImpl implements VidService<VidRequestDTO, ResponseWrapper
 	@Autowired
 	private AuditHelper auditHelper;
 
-	/** The Uin Hash Salt Repo. */
+	/** The salt provider. */
 	@Autowired
-	private UinHashSaltRepo uinHashSaltRepo;
-
-	/** The Uin Encrypt Salt Repo. */
-	@Autowired
-	private UinEncryptSaltRepo uinEncryptSaltRepo;
+	private UinSaltProvider saltProvider;
 
 	/** The id. */
 	@Resource
@@ -174,8 +169,8 @@ public class VidServiceImpl implements VidService<VidRequestDTO, ResponseWrapper
 		checkUinStatus(uin);
 		Integer moduloValue = env.getProperty(IdRepoConstants.MODULO_VALUE.getValue(), Integer.class);
 		int modResult = (int) (Long.parseLong(uin) % moduloValue);
-		String encryptSalt = uinEncryptSaltRepo.retrieveSaltById(modResult);
-		String hashSalt = uinHashSaltRepo.retrieveSaltById(modResult);
+		String encryptSalt = saltProvider.getEncryptSalt(modResult);
+		String hashSalt = saltProvider.getHashSalt(modResult);
 		String uinToEncrypt = modResult + IdRepoConstants.SPLITTER.getValue() + uin
 				+ IdRepoConstants.SPLITTER.getValue() + encryptSalt;
 		String uinHash = String.valueOf(modResult) + IdRepoConstants.SPLITTER.getValue()
@@ -456,7 +451,7 @@ public class VidServiceImpl implements VidService<VidRequestDTO, ResponseWrapper
 	private ResponseWrapper<VidResponseDTO> applyVIDStatus(String uin, String status, String idType,
 			String vidStatusToRetrieveVIDList) throws IdRepoAppException {
 		Integer moduloValue = env.getProperty(IdRepoConstants.MODULO_VALUE.getValue(), Integer.class);
-		String hashSalt = uinHashSaltRepo.retrieveSaltById((int) (Long.parseLong(uin) % moduloValue));
+		String hashSalt = saltProvider.getHashSalt((int) (Long.parseLong(uin) % moduloValue));
 		String uinHash = String.valueOf((Long.parseLong(uin) % moduloValue)) + IdRepoConstants.SPLITTER.getValue()
 				+ securityManager.hashwithSalt(uin.getBytes(), CryptoUtil.decodeBase64(hashSalt));
 		List<Vid> vidList = vidRepo.findByUinHashAndStatusCodeAndExpiryDTimesAfter(uinHash, vidStatusToRetrieveVIDList,
@@ -549,8 +544,8 @@ public class VidServiceImpl implements VidService<VidRequestDTO, ResponseWrapper
 	private String decryptUin(String uin, String uinHash) throws IdRepoAppException {
 		List<String> uinDetails = Arrays.stream(uin.split(IdRepoConstants.SPLITTER.getValue()))
 				.collect(Collectors.toList());
-		String decryptSalt = uinEncryptSaltRepo.retrieveSaltById(Integer.parseInt(uinDetails.get(0)));
-		String hashSalt = uinHashSaltRepo.retrieveSaltById(Integer.parseInt(uinDetails.get(0)));
+		String decryptSalt = saltProvider.getEncryptSalt(Integer.parseInt(uinDetails.get(0)));
+		String hashSalt = saltProvider.getHashSalt(Integer.parseInt(uinDetails.get(0)));
 		String encryptedUin = uin.substring(uinDetails.get(0).length() + 1, uin.length());
 		String decryptedUin = new String(securityManager.decryptWithSalt(CryptoUtil.decodeBase64(encryptedUin),
 				CryptoUtil.decodeBase64(decryptSalt)));
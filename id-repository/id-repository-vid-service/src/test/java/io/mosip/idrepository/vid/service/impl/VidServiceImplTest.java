@@ -52,6 +52,7 @@ import io.mosip.idrepository.core.helper.AuditHelper;
 import io.mosip.idrepository.core.helper.RestHelper;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
 import io.mosip.idrepository.vid.entity.Vid;
+import io.mosip.idrepository.vid.provider.UinSaltProvider;
 import io.mosip.idrepository.vid.provider.VidPolicyProvider;
 import io.mosip.idrepository.vid.repository.UinEncryptSaltRepo;
 import io.mosip.idrepository.vid.repository.UinHashSaltRepo;
@@ -121,6 +122,13 @@ public class VidServiceImplTest {
 		ReflectionTestUtils.setField(service, "env", environment);
 		ReflectionTestUtils.setField(restHelper, "mapper", mapper);
 		ReflectionTestUtils.setField(service, "id", id);
+		UinSaltProvider saltProvider = new UinSaltProvider();
+		ReflectionTestUtils.setField(saltProvider, "uinHashSaltRepo", uinHashSaltRepo);
+		ReflectionTestUtils.setField(saltProvider, "uinEncryptSaltRepo", uinEncryptSaltRepo);
+		ReflectionTestUtils.setField(saltProvider, "env", environment);
+		ReflectionTestUtils.setField(saltProvider, "lazyLoad", true);
+		saltProvider.init();
+		ReflectionTestUtils.setField(service, "saltProvider", saltProvider);
 	}
 
 	@Test
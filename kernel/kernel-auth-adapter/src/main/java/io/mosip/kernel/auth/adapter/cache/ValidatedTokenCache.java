@@ -0,0 +1,277 @@
+package io.mosip.kernel.auth.adapter.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.kernel.core.util.ExpiringCache;
+
+/**
+ * Cache of the outcome of token validations, so that a token used for many
+ * requests is validated once per <code>ttlSeconds</code> instead of on every
+ * request.
+ * <p>
+ * Tokens are cached by their SHA-256 hash, with the validated user details of
+ * each type the token was validated to. Entries expire <code>ttlSeconds</code>
+ * after validation, or at the expiry of the token if it is a JWT expiring
+ * earlier; tokens already expired are not cached. Rejected tokens are cached
+ * for <code>negativeTtlSeconds</code> with the error code and message they were
+ * rejected with, so that a replayed invalid token is rejected without
+ * validating it again, with a new exception each time. The entries are kept in
+ * an {@link ExpiringCache} of at most <code>maxTokens</code> tokens, which
+ * evicts the least recently used ones.
+ * <p>
+ * The cache is off unless <code>auth.token.cache.ttl-seconds</code> is set.
+ * Logout and invalidation drop the token from the cache of the auth service
+ * only, so a service validating tokens through the adapter keeps accepting a
+ * logged out token until its entry expires. Enable it there only with a TTL
+ * short enough for that revocation delay to be acceptable, a few seconds
+ * rather than minutes.
+ *
+ * @since 1.0.0
+ */
+@Component
+public class ValidatedTokenCache {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	/**
+	 * Seconds a validated token is cached for, zero or negative to disable the
+	 * cache, which is also the delay before a logged out token is rejected by
+	 * the adapter
+	 */
+	@Value("${auth.token.cache.ttl-seconds:0}")
+	private long ttlSeconds;
+
+	/**
+	 * Seconds a rejected token is cached for, zero or negative to not cache
+	 * rejections
+	 */
+	@Value("${auth.token.cache.negative-ttl-seconds:10}")
+	private long negativeTtlSeconds;
+
+	/**
+	 * Number of tokens cached at most
+	 */
+	@Value("${auth.token.cache.max-tokens:10000}")
+	private int maxTokens;
+
+	/**
+	 * Validation outcomes by token hash
+	 */
+	private ExpiringCache<String, Entry> tokens;
+
+	private Counter hits;
+
+	private Counter misses;
+
+	private Counter rejectedHits;
+
+	private Counter evictions;
+
+	@PostConstruct
+	public void init() {
+		hits = counter("hit");
+		misses = counter("miss");
+		rejectedHits = counter("rejected");
+		evictions = Counter.builder("mosip.kernel.auth.token.cache.evictions")
+				.description("Tokens expired or evicted from the cache").register(Metrics.globalRegistry);
+		tokens = new ExpiringCache<>(maxTokens, 0, (hash, entry) -> evictions.increment());
+		Gauge.builder("mosip.kernel.auth.token.cache.size", tokens, ExpiringCache::size)
+				.description("Tokens in the cache").register(Metrics.globalRegistry);
+	}
+
+	private static Counter counter(String result) {
+		return Counter.builder("mosip.kernel.auth.token.cache.requests").tag("result", result)
+				.description("Validated token cache requests").register(Metrics.globalRegistry);
+	}
+
+	/**
+	 * Gets the user details the token was validated to
+	 *
+	 * @param token the token
+	 * @param type  the type of the user details
+	 * @param <T>   the type of the user details
+	 * @return the user details, or null if the token was not validated to this
+	 *         type recently
+	 * @throws RuntimeException a new exception with the error the token was
+	 *                          rejected with, if it was rejected recently
+	 */
+	public <T> T getValidated(String token, Class<T> type) {
+		if (ttlSeconds <= 0 || token == null) {
+			return null;
+		}
+		Entry entry = tokens.get(hash(token));
+		if (entry == null) {
+			misses.increment();
+			return null;
+		}
+		if (entry.rejection != null) {
+			rejectedHits.increment();
+			throw entry.rejection.newException();
+		}
+		Object value = entry.values.get(type);
+		if (value == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return type.cast(value);
+	}
+
+	/**
+	 * Caches the user details the token was validated to
+	 *
+	 * @param token the token
+	 * @param type  the type of the user details
+	 * @param value the user details
+	 * @param <T>   the type of the user details
+	 */
+	public <T> void putValidated(String token, Class<T> type, T value) {
+		if (ttlSeconds <= 0 || token == null || value == null) {
+			return;
+		}
+		long ttlMillis = ttlMillis(token, ttlSeconds);
+		if (ttlMillis <= 0) {
+			return;
+		}
+		String hash = hash(token);
+		Entry entry = tokens.get(hash);
+		if (entry == null || entry.rejection != null) {
+			entry = new Entry(null);
+			tokens.put(hash, entry, ttlMillis);
+		}
+		entry.values.put(type, value);
+	}
+
+	/**
+	 * Caches the rejection of the token, as its error code and message
+	 *
+	 * @param token        the token
+	 * @param errorCode    the error code the token is rejected with
+	 * @param errorMessage the error message the token is rejected with
+	 * @param rejection    creates the exception the token is rejected with from
+	 *                     the error code and message, for every request
+	 *                     presenting the token while its rejection is cached
+	 * @param <E>          the type of the exception
+	 * @return a new exception, to be thrown
+	 */
+	public <E extends RuntimeException> E putRejected(String token, String errorCode, String errorMessage,
+			BiFunction<String, String, E> rejection) {
+		if (ttlSeconds > 0 && negativeTtlSeconds > 0 && token != null) {
+			long ttlMillis = ttlMillis(token, negativeTtlSeconds);
+			if (ttlMillis > 0) {
+				tokens.put(hash(token), new Entry(new Rejection(errorCode, errorMessage, rejection)), ttlMillis);
+			}
+		}
+		return rejection.apply(errorCode, errorMessage);
+	}
+
+	/**
+	 * Drops the token, for when it is logged out or invalidated
+	 *
+	 * @param token the token
+	 */
+	public void invalidate(String token) {
+		if (token != null) {
+			tokens.remove(hash(token));
+		}
+	}
+
+	/**
+	 * Time a cache entry is kept, capped at the expiry of the token if it is a JWT
+	 *
+	 * @return the time in milliseconds, zero or negative if the token expired
+	 */
+	private static long ttlMillis(String token, long seconds) {
+		long ttlMillis = TimeUnit.SECONDS.toMillis(seconds);
+		long tokenExpiry = getTokenExpiry(token);
+		if (tokenExpiry > 0) {
+			ttlMillis = Math.min(ttlMillis, TimeUnit.SECONDS.toMillis(tokenExpiry) - System.currentTimeMillis());
+		}
+		return ttlMillis;
+	}
+
+	/**
+	 * Reads the exp claim of the token, without verifying it
+	 *
+	 * @return the expiry in epoch seconds, or zero if the token is not a JWT
+	 *         with an expiry
+	 */
+	private static long getTokenExpiry(String token) {
+		String[] parts = token.split("\\.");
+		if (parts.length < 2) {
+			return 0;
+		}
+		try {
+			JsonNode claims = MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1]));
+			return claims.path("exp").asLong(0);
+		} catch (Exception e) {
+			return 0;
+		}
+	}
+
+	private static String hash(String token) {
+		try {
+			return Base64.getEncoder().encodeToString(
+					MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Validation outcome of a token: the user details it was validated to, or
+	 * its rejection
+	 */
+	private static final class Entry {
+
+		private final Rejection rejection;
+
+		private final Map<Class<?>, Object> values = new ConcurrentHashMap<>();
+
+		private Entry(Rejection rejection) {
+			this.rejection = rejection;
+		}
+	}
+
+	/**
+	 * Error a token was rejected with, and the factory of the exception thrown
+	 * for it
+	 */
+	private static final class Rejection {
+
+		private final String errorCode;
+
+		private final String errorMessage;
+
+		private final BiFunction<String, String, ? extends RuntimeException> exceptionFactory;
+
+		private Rejection(String errorCode, String errorMessage,
+				BiFunction<String, String, ? extends RuntimeException> exceptionFactory) {
+			this.errorCode = errorCode;
+			this.errorMessage = errorMessage;
+			this.exceptionFactory = exceptionFactory;
+		}
+
+		private RuntimeException newException() {
+			return exceptionFactory.apply(errorCode, errorMessage);
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package io.mosip.kernel.auth.adapter.config;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+
+/**
+ * Shared HTTP clients of the auth adapter for the calls to the auth server, so
+ * that validating a token reuses a kept alive connection instead of opening
+ * one per request.
+ * <p>
+ * The blocking client is a RestTemplate over a pooled Apache HttpClient, with
+ * at most <code>maxConnections</code> connections and
+ * <code>maxConnectionsPerRoute</code> per host. Connections are kept alive as
+ * long as the server allows, up to <code>keepAliveSeconds</code>, and evicted
+ * once idle for that long. Pool usage is exposed as the
+ * <code>mosip.kernel.auth.http.pool</code> gauges.
+ * <p>
+ * The non blocking client is a Vert.x HttpClient per Vertx instance, for the
+ * routes secured with {@code AuthHandler#addAuthFilter}, so that the event
+ * loop is not blocked while the token is validated.
+ *
+ * @since 1.0.0
+ */
+@Component
+public class AuthHttpClient {
+
+	@Value("${auth.http.max-connections:200}")
+	private int maxConnections;
+
+	@Value("${auth.http.max-connections-per-route:50}")
+	private int maxConnectionsPerRoute;
+
+	@Value("${auth.http.connect-timeout-ms:5000}")
+	private int connectTimeoutMs;
+
+	@Value("${auth.http.read-timeout-ms:10000}")
+	private int readTimeoutMs;
+
+	@Value("${auth.http.connection-request-timeout-ms:5000}")
+	private int connectionRequestTimeoutMs;
+
+	@Value("${auth.http.keep-alive-seconds:60}")
+	private int keepAliveSeconds;
+
+	private PoolingHttpClientConnectionManager connectionManager;
+
+	private CloseableHttpClient httpClient;
+
+	private RestTemplate restTemplate;
+
+	/**
+	 * Vert.x clients by the Vertx instance they are created with
+	 */
+	private final Map<Vertx, HttpClient> vertxClients = new ConcurrentHashMap<>();
+
+	/**
+	 * Requests in flight on the Vert.x clients
+	 */
+	private final AtomicInteger vertxRequests = new AtomicInteger();
+
+	@PostConstruct
+	public void init() {
+		connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+		RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(connectTimeoutMs)
+				.setSocketTimeout(readTimeoutMs).setConnectionRequestTimeout(connectionRequestTimeoutMs).build();
+		long maxKeepAliveMs = TimeUnit.SECONDS.toMillis(keepAliveSeconds);
+		httpClient = HttpClients.custom().setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig).setKeepAliveStrategy((response, context) -> {
+					long keepAliveMs = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+							context);
+					return keepAliveMs > 0 ? Math.min(keepAliveMs, maxKeepAliveMs) : maxKeepAliveMs;
+				}).evictExpiredConnections().evictIdleConnections(keepAliveSeconds, TimeUnit.SECONDS).build();
+		restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+		restTemplate.setInterceptors(Collections.singletonList(new RestTemplateInterceptor()));
+		poolGauge("leased", PoolStats::getLeased);
+		poolGauge("available", PoolStats::getAvailable);
+		poolGauge("pending", PoolStats::getPending);
+		poolGauge("max", PoolStats::getMax);
+		Gauge.builder("mosip.kernel.auth.http.vertx.requests", vertxRequests, AtomicInteger::get)
+				.description("Auth server requests in flight on the Vert.x clients").register(Metrics.globalRegistry);
+	}
+
+	private void poolGauge(String state, ToDoubleFunction<PoolStats> value) {
+		Gauge.builder("mosip.kernel.auth.http.pool", connectionManager,
+				manager -> value.applyAsDouble(manager.getTotalStats())).tag("state", state)
+				.description("Auth server connection pool").register(Metrics.globalRegistry);
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		vertxClients.values().forEach(HttpClient::close);
+		httpClient.close();
+	}
+
+	/**
+	 * Gets the pooled RestTemplate, which passes the token of the current user on
+	 *
+	 * @return the rest template
+	 */
+	public RestTemplate getRestTemplate() {
+		return restTemplate;
+	}
+
+	/**
+	 * Gets the pooled Vert.x client of a Vertx instance
+	 *
+	 * @param vertx the vertx instance
+	 * @return the http client
+	 */
+	public HttpClient getVertxHttpClient(Vertx vertx) {
+		return vertxClients.computeIfAbsent(vertx,
+				key -> key.createHttpClient(new HttpClientOptions().setMaxPoolSize(maxConnectionsPerRoute)
+						.setKeepAlive(true).setKeepAliveTimeout(keepAliveSeconds).setIdleTimeout(keepAliveSeconds)
+						.setConnectTimeout(connectTimeoutMs)));
+	}
+
+	/**
+	 * Gets the timeout of a request on the Vert.x client
+	 *
+	 * @return the timeout in milliseconds
+	 */
+	public int getReadTimeoutMs() {
+		return readTimeoutMs;
+	}
+
+	/**
+	 * Counts a request started on the Vert.x client, for the in flight gauge
+	 */
+	public void vertxRequestStarted() {
+		vertxRequests.incrementAndGet();
+	}
+
+	/**
+	 * Counts a request ended on the Vert.x client, for the in flight gauge
+	 */
+	public void vertxRequestEnded() {
+		vertxRequests.decrementAndGet();
+	}
+}
@@ -52,6 +52,15 @@ public class AuthManagerException extends AuthenticationException {
 		this.list = list;
 	}
 
+	/**
+	 * Getter for error code.
+	 * 
+	 * @return The error code.
+	 */
+	public String getErrorCode() {
+		return errorCode;
+	}
+
 	/**
 	 * Getter for error list.
 	 * 
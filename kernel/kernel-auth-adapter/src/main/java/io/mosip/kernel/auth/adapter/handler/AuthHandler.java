@@ -1,13 +1,11 @@
 package io.mosip.kernel.auth.adapter.handler;
 
 import java.io.IOException;
-import java.security.KeyManagementException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,17 +28,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.mosip.kernel.auth.adapter.cache.ValidatedTokenCache;
+import io.mosip.kernel.auth.adapter.config.AuthHttpClient;
 import io.mosip.kernel.auth.adapter.config.LoggerConfiguration;
-import io.mosip.kernel.auth.adapter.config.RestTemplateInterceptor;
 import io.mosip.kernel.auth.adapter.constant.AuthAdapterConstant;
 import io.mosip.kernel.auth.adapter.constant.AuthAdapterErrorCode;
 import io.mosip.kernel.auth.adapter.exception.AuthManagerException;
@@ -52,7 +49,9 @@ import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.EmptyCheckUtils;
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
@@ -68,6 +67,10 @@ import io.vertx.ext.web.RoutingContext;
  * security context through AuthUserDetails. 4. Bind MosipUserDto instance
  * details with the AuthUserDetails that extends Spring Security's UserDetails.
  * 
+ * With auth.token.validation.mode=local, the token is verified in process by
+ * {@link LocalTokenValidator} and the auth server is contacted only when
+ * auth.token.remote-validation is enabled or the realm keys are not available.
+ * 
  * @author Ramadurai Saravana Pandian
  * @author Raj Jha
  * @author Urvil Joshi
@@ -91,9 +94,21 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 	@Value("${auth.jwt.secret:authjwtsecret}")
 	private String authJwtSecret;
 
+	@Value("${auth.token.remote-validation:false}")
+	private boolean remoteValidation;
+
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	@Autowired
+	private LocalTokenValidator localTokenValidator;
+
+	@Autowired
+	private ValidatedTokenCache tokenCache;
+
+	@Autowired
+	private AuthHttpClient authHttpClient;
+
 	@Override
 	protected void additionalAuthenticationChecks(UserDetails userDetails,
 			UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken) throws AuthenticationException {
@@ -106,13 +121,17 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 		String token = null;
 		AuthToken authToken = (AuthToken) usernamePasswordAuthenticationToken;
 		token = authToken.getToken();
-		MosipUserDto mosipUserDto = null;
+		MosipUserDto mosipUserDto = tokenCache.getValidated(token, MosipUserDto.class);
+		if (mosipUserDto == null) {
+			mosipUserDto = getLocallyValidatedUser(token);
+		}
 		//added for keycloak impl
-		
+		if (mosipUserDto == null) {
              response = getKeycloakValidatedUserResponse(token);
              List<ServiceError> validationErrorsList = ExceptionUtils.getServiceErrorList(response.getBody());
      		if (!validationErrorsList.isEmpty()) {
-     			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(), validationErrorsList);
+     			throw tokenCache.putRejected(token, AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(), null,
+     					(errorCode, errorMessage) -> new AuthManagerException(errorCode, validationErrorsList));
      		}
      		try {
      			ResponseWrapper<?> responseObject = objectMapper.readValue(response.getBody(), ResponseWrapper.class);
@@ -120,7 +139,9 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
      					MosipUserDto.class);
      		} catch (Exception e) {
      			throw new AuthManagerException(String.valueOf(HttpStatus.UNAUTHORIZED.value()), e.getMessage(), e);
-     		}			
+     		}
+     		tokenCache.putValidated(token, MosipUserDto.class, mosipUserDto);
+		}
 		List<GrantedAuthority> grantedAuthorities = AuthorityUtils
 				.commaSeparatedStringToAuthorityList(mosipUserDto.getRole());
 		AuthUserDetails authUserDetails = new AuthUserDetails(mosipUserDto, token);
@@ -129,6 +150,33 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 
 	}
 
+	/**
+	 * Validates the token in process when local validation is enabled.
+	 * 
+	 * @param token the token
+	 * @return the user details, or null when the token has to be validated by
+	 *         the auth server, either to check for revocation with
+	 *         auth.token.remote-validation or since the realm keys are not
+	 *         available
+	 */
+	private MosipUserDto getLocallyValidatedUser(String token) {
+		if (!localTokenValidator.isEnabled()) {
+			return null;
+		}
+		MosipUserDto mosipUserDto;
+		try {
+			mosipUserDto = localTokenValidator.validateToken(token);
+		} catch (AuthManagerException e) {
+			tokenCache.putRejected(token, e.getErrorCode(), e.getMessage(), AuthManagerException::new);
+			throw e;
+		}
+		if (mosipUserDto == null || remoteValidation) {
+			return null;
+		}
+		tokenCache.putValidated(token, MosipUserDto.class, mosipUserDto);
+		return mosipUserDto;
+	}
+
 	private Claims getClaims(String token) throws Exception {
 		String token_base = authJwtBase;
 		String secret = authJwtSecret;
@@ -174,7 +222,7 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 		HttpEntity<String> entity = new HttpEntity<>("parameters", headers);
 		try {
 			return getRestTemplate().exchange(validateUrl, HttpMethod.POST, entity, String.class);
-		} catch (RestClientException | KeyManagementException | NoSuchAlgorithmException | KeyStoreException e) {
+		} catch (RestClientException e) {
 			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(), e.getMessage(), e);
 		}
 	}
@@ -185,25 +233,19 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 		HttpEntity<String> entity = new HttpEntity<>("parameters", headers);
 		try {
 			return getRestTemplate().exchange(adminValidateUrl, HttpMethod.GET, entity, String.class);
-		} catch (RestClientException | KeyManagementException | NoSuchAlgorithmException | KeyStoreException e) {
+		} catch (RestClientException e) {
 			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(), e.getMessage(), e);
 		}
 	}
 
-    public RestTemplate getRestTemplate() throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
-//        TrustStrategy acceptingTrustStrategy = (X509Certificate[] chain, String authType) -> true;
-//        SSLContext sslContext = org.apache.http.ssl.SSLContexts.custom().loadTrustMaterial(null, acceptingTrustStrategy)
-//                     .build();
-//        SSLConnectionSocketFactory csf = new SSLConnectionSocketFactory(sslContext);
-//        CloseableHttpClient httpClient = HttpClients.custom().setSSLSocketFactory(csf).build();
-//        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
-//        requestFactory.setHttpClient(httpClient);            
-//        RestTemplate restTemplate = new RestTemplate(requestFactory);
-          RestTemplate restTemplate = new RestTemplate();
-          restTemplate.setInterceptors(Collections.singletonList(new RestTemplateInterceptor()));
-          return restTemplate;
-    }
-
+	/**
+	 * Gets the pooled RestTemplate of the auth server calls
+	 * 
+	 * @return the rest template
+	 */
+	public RestTemplate getRestTemplate() {
+		return authHttpClient.getRestTemplate();
+	}
 
 	public void addCorsFilter(HttpServer httpServer, Vertx vertx) {
 		Router router = Router.router(vertx);
@@ -249,25 +291,22 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 		String[] roles = commaSepratedRoles.split(",");
 		Route filterRoute = router.route(httpMethod, path);
 		filterRoute.handler(routingContext -> {
-			String token;
 			try {
-				token = validateToken(routingContext, roles);
-				if (token.isEmpty()) {
-					return;
-				}
-				HttpServerResponse httpServerResponse = routingContext.response();
-				httpServerResponse.putHeader(AuthAdapterConstant.AUTH_HEADER_SET_COOKIE, token);
-				routingContext.next();
+				validateToken(routingContext, roles);
 			} catch (Exception e) {
 				throw new AuthManagerException(String.valueOf(HttpStatus.UNAUTHORIZED.value()), e.getMessage(), e);
 			}
 		});
 	}
 
-	private String validateToken(RoutingContext routingContext, String[] roles)
-			throws RestClientException, KeyManagementException, NoSuchAlgorithmException, KeyStoreException,
-			JsonParseException, JsonMappingException, JsonProcessingException, IOException {
-		boolean isAuthorized = false;
+	/**
+	 * Validates the token of the request, locally or with the auth server through
+	 * the non blocking client, and passes the request on to the next handler if
+	 * the user has one of the roles. Neither blocks the event loop, the local
+	 * validation going on once the realm keys it needs are fetched. Outcomes are
+	 * cached in the {@link ValidatedTokenCache}, as for servlet requests.
+	 */
+	private void validateToken(RoutingContext routingContext, String[] roles) {
 		HttpServerRequest httpRequest = routingContext.request();
 		String token = null;
 		String cookies = httpRequest.getHeader(AuthAdapterConstant.AUTH_HEADER_COOKIE);
@@ -275,35 +314,112 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 			token = cookies.replace(AuthAdapterConstant.AUTH_COOOKIE_HEADER, "").trim();
 		}
 		if (token == null || token.isEmpty()) {
-			List<ServiceError> errors = new ArrayList<>();
-			ServiceError error = new ServiceError(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(),
-					AuthAdapterErrorCode.UNAUTHORIZED.getErrorMessage());
-			errors.add(error);
-			sendErrors(routingContext, errors, AuthAdapterConstant.NOTAUTHENTICATED);
-			return "";
+			sendError(routingContext, AuthAdapterErrorCode.UNAUTHORIZED, AuthAdapterConstant.NOTAUTHENTICATED);
+			return;
 		}
-		token = token.split(";")[0];
-		ResponseEntity<String> response = getKeycloakValidatedUserResponse(token);
-		if (response == null) {
-			List<ServiceError> errors = new ArrayList<>();
-			ServiceError error = new ServiceError(AuthAdapterErrorCode.CONNECT_EXCEPTION.getErrorCode(),
-					AuthAdapterErrorCode.CONNECT_EXCEPTION.getErrorMessage());
-			errors.add(error);
-			sendErrors(routingContext, errors, AuthAdapterConstant.INTERNEL_SERVER_ERROR);
-			return "";
+		String validatedToken = token.split(";")[0];
+		MosipUserDto cachedUserDto;
+		try {
+			cachedUserDto = tokenCache.getValidated(validatedToken, MosipUserDto.class);
+		} catch (AuthManagerException e) {
+			sendError(routingContext, AuthAdapterErrorCode.UNAUTHORIZED, AuthAdapterConstant.NOTAUTHENTICATED);
+			return;
+		}
+		if (cachedUserDto != null) {
+			if (authorize(routingContext, roles, cachedUserDto, validatedToken)) {
+				proceed(routingContext, validatedToken);
+			}
+			return;
 		}
-		List<ServiceError> validationErrorsList = ExceptionUtils.getServiceErrorList(response.getBody());
-		if (!validationErrorsList.isEmpty()) {
-			sendErrors(routingContext, validationErrorsList, AuthAdapterConstant.NOTAUTHENTICATED);
-			return "";
+		if (!localTokenValidator.isEnabled()) {
+			validateTokenWithAuthServer(routingContext, roles, validatedToken);
+			return;
 		}
-		ResponseWrapper<?> responseObject = null;
-		MosipUserDto mosipUserDto = null;
+		// resumed on the context of the request, as the keys may be fetched first
+		Context context = routingContext.vertx().getOrCreateContext();
+		localTokenValidator.validateTokenAsync(validatedToken)
+				.whenComplete((localUserDto, e) -> context.runOnContext(v -> {
+					Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+					if (cause instanceof AuthManagerException) {
+						AuthManagerException rejection = (AuthManagerException) cause;
+						tokenCache.putRejected(validatedToken, rejection.getErrorCode(), rejection.getMessage(),
+								AuthManagerException::new);
+						sendError(routingContext, AuthAdapterErrorCode.UNAUTHORIZED,
+								AuthAdapterConstant.NOTAUTHENTICATED);
+					} else if (cause != null) {
+						routingContext.fail(cause);
+					} else if (localUserDto != null && !remoteValidation) {
+						tokenCache.putValidated(validatedToken, MosipUserDto.class, localUserDto);
+						if (authorize(routingContext, roles, localUserDto, validatedToken)) {
+							proceed(routingContext, validatedToken);
+						}
+					} else {
+						validateTokenWithAuthServer(routingContext, roles, validatedToken);
+					}
+				}));
+	}
 
-		responseObject = objectMapper.readValue(response.getBody(), ResponseWrapper.class);
-		mosipUserDto = objectMapper.readValue(objectMapper.writeValueAsString(responseObject.getResponse()),
-				MosipUserDto.class);
+	private void validateTokenWithAuthServer(RoutingContext routingContext, String[] roles, String token) {
+		AtomicBoolean ended = new AtomicBoolean();
+		authHttpClient.vertxRequestStarted();
+		HttpClientRequest request = authHttpClient.getVertxHttpClient(routingContext.vertx())
+				.getAbs(adminValidateUrl, response -> response.bodyHandler(body -> {
+					if (!ended.compareAndSet(false, true)) {
+						return;
+					}
+					authHttpClient.vertxRequestEnded();
+					try {
+						List<ServiceError> validationErrorsList = ExceptionUtils.getServiceErrorList(body.toString());
+						if (!validationErrorsList.isEmpty()) {
+							tokenCache.putRejected(token, AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(), null,
+									(errorCode, errorMessage) -> new AuthManagerException(errorCode,
+											validationErrorsList));
+							sendErrors(routingContext, validationErrorsList, AuthAdapterConstant.NOTAUTHENTICATED);
+							return;
+						}
+						ResponseWrapper<?> responseObject = objectMapper.readValue(body.getBytes(),
+								ResponseWrapper.class);
+						MosipUserDto mosipUserDto = objectMapper.readValue(
+								objectMapper.writeValueAsString(responseObject.getResponse()), MosipUserDto.class);
+						tokenCache.putValidated(token, MosipUserDto.class, mosipUserDto);
+						if (authorize(routingContext, roles, mosipUserDto, token)) {
+							String setCookie = response.getHeader(AuthAdapterConstant.AUTH_HEADER_SET_COOKIE);
+							proceed(routingContext, setCookie == null ? token
+									: setCookie.replaceAll(AuthAdapterConstant.AUTH_COOOKIE_HEADER, ""));
+						}
+					} catch (Exception e) {
+						routingContext.fail(new AuthManagerException(String.valueOf(HttpStatus.UNAUTHORIZED.value()),
+								e.getMessage(), e));
+					}
+				}));
+		request.exceptionHandler(e -> {
+			if (!ended.compareAndSet(false, true)) {
+				return;
+			}
+			authHttpClient.vertxRequestEnded();
+			LOGGER.error("", "", "validateTokenWithAuthServer", e.getMessage());
+			sendError(routingContext, AuthAdapterErrorCode.CONNECT_EXCEPTION,
+					AuthAdapterConstant.INTERNEL_SERVER_ERROR);
+		});
+		request.putHeader(AuthAdapterConstant.AUTH_HEADER_COOKIE, AuthAdapterConstant.AUTH_COOOKIE_HEADER + token)
+				.setTimeout(authHttpClient.getReadTimeoutMs()).end();
+	}
 
+	private void proceed(RoutingContext routingContext, String token) {
+		routingContext.response().putHeader(AuthAdapterConstant.AUTH_HEADER_SET_COOKIE, token);
+		routingContext.next();
+	}
+
+	private void sendError(RoutingContext routingContext, AuthAdapterErrorCode errorCode, int statusCode) {
+		List<ServiceError> errors = new ArrayList<>();
+		ServiceError error = new ServiceError(errorCode.getErrorCode(), errorCode.getErrorMessage());
+		errors.add(error);
+		sendErrors(routingContext, errors, statusCode);
+	}
+
+	private boolean authorize(RoutingContext routingContext, String[] roles, MosipUserDto mosipUserDto,
+			String token) {
+		boolean isAuthorized = false;
 		AuthUserDetails authUserDetails = new AuthUserDetails(mosipUserDto, token);
 		Authentication authentication = new UsernamePasswordAuthenticationToken(authUserDetails,
 				authUserDetails.getPassword(), null);
@@ -323,10 +439,8 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 					AuthAdapterErrorCode.FORBIDDEN.getErrorMessage());
 			errors.add(error);
 			sendErrors(routingContext, errors, AuthAdapterConstant.UNAUTHORIZED);
-			return "";
 		}
-		return response.getHeaders().get(AuthAdapterConstant.AUTH_HEADER_SET_COOKIE).get(0)
-				.replaceAll(AuthAdapterConstant.AUTH_COOOKIE_HEADER, "");
+		return isAuthorized;
 	}
 
 	private void sendErrors(RoutingContext routingContext, List<ServiceError> errors, int statusCode) {
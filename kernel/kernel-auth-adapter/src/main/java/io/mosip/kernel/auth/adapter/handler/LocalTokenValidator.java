@@ -0,0 +1,358 @@
+package io.mosip.kernel.auth.adapter.handler;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.mosip.kernel.auth.adapter.config.AuthHttpClient;
+import io.mosip.kernel.auth.adapter.config.LoggerConfiguration;
+import io.mosip.kernel.auth.adapter.constant.AuthAdapterConstant;
+import io.mosip.kernel.auth.adapter.constant.AuthAdapterErrorCode;
+import io.mosip.kernel.auth.adapter.exception.AuthManagerException;
+import io.mosip.kernel.auth.adapter.model.MosipUserDto;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.EmptyCheckUtils;
+
+/**
+ * Validates Keycloak issued tokens in process, without calling the auth
+ * server. Enabled with {@code auth.token.validation.mode=local}.
+ *
+ * Tasks: 1. Verifies the token signature, which has to be an RSA one, against
+ * the realm keys published at {@code auth.jwks.url}. 2. Verifies the token
+ * expiry, which tokens must have, and, when configured, the issuer and the
+ * audience. 3. Builds the MosipUserDto from the token claims, as the auth
+ * server does.
+ * 
+ * The realm keys are fetched through the pooled {@link AuthHttpClient} on a
+ * background thread, one fetch at a time. They are refreshed every
+ * {@code auth.jwks.refresh-seconds} while requests keep using the cached keys,
+ * and when a token is signed with a key not cached yet, at most every
+ * {@code auth.jwks.min-refresh-seconds}; only the requests needing the new key
+ * wait for that fetch. {@link #validateToken(String)} waits by blocking the
+ * calling thread, while {@link #validateTokenAsync(String)}, for event loops,
+ * goes on with the validation once the fetch completes.
+ *
+ * @since 1.0.0
+ */
+@Component
+public class LocalTokenValidator {
+
+	private static final Logger LOGGER = LoggerConfiguration.logConfig(LocalTokenValidator.class);
+
+	private static final String LOCAL = "local";
+
+	private static final String RSA = "RSA";
+
+	@Value("${auth.token.validation.mode:remote}")
+	private String validationMode;
+
+	@Value("${auth.jwks.url:}")
+	private String jwksUrl;
+
+	@Value("${auth.jwks.refresh-seconds:300}")
+	private long jwksRefreshSeconds;
+
+	@Value("${auth.jwks.min-refresh-seconds:30}")
+	private long jwksMinRefreshSeconds;
+
+	@Value("${auth.jwt.issuer:}")
+	private String issuer;
+
+	@Value("${auth.jwt.audience:}")
+	private String audience;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private AuthHttpClient authHttpClient;
+
+	/** Fetches the realm keys, off the request threads. */
+	private final ExecutorService jwksRefresher = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "auth-jwks-refresher");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/** The fetch of the realm keys in progress, if any. */
+	private final AtomicReference<CompletableFuture<Boolean>> jwksRefresh = new AtomicReference<>();
+
+	/** The realm public keys by key id. */
+	private volatile Map<String, PublicKey> publicKeys = Collections.emptyMap();
+
+	/** Time of the last fetch of the realm keys, in nanos. */
+	private volatile long jwksFetchedAt;
+
+	/** Whether the realm keys were ever requested. */
+	private volatile boolean jwksRequested;
+
+	/** Whether the realm keys were ever fetched. */
+	private volatile boolean jwksFetched;
+
+	public boolean isEnabled() {
+		return LOCAL.equalsIgnoreCase(validationMode) && !EmptyCheckUtils.isNullEmpty(jwksUrl);
+	}
+
+	@PreDestroy
+	public void close() {
+		jwksRefresher.shutdownNow();
+	}
+
+	/**
+	 * Validates the token and returns the user details from its claims.
+	 *
+	 * @param token the token
+	 * @return the user details, or null when the realm keys could not be fetched
+	 *         and the token has to be validated by the auth server
+	 * @throws AuthManagerException if the token is invalid or expired
+	 */
+	public MosipUserDto validateToken(String token) {
+		return validate(token, KeyFetch.AWAIT);
+	}
+
+	/**
+	 * Validates the token without blocking the calling thread on a fetch of the
+	 * realm keys. When the token needs keys that are being fetched, the
+	 * validation completes on the fetching thread once the fetch is done.
+	 *
+	 * @param token the token
+	 * @return the user details, or null when the realm keys could not be fetched
+	 *         and the token has to be validated by the auth server; completed
+	 *         exceptionally with an {@link AuthManagerException} if the token is
+	 *         invalid or expired
+	 */
+	public CompletableFuture<MosipUserDto> validateTokenAsync(String token) {
+		CompletableFuture<MosipUserDto> validation = new CompletableFuture<>();
+		try {
+			validation.complete(validate(token, KeyFetch.DEFER));
+		} catch (PendingKeyFetch e) {
+			return e.fetch.thenApply(fetched -> validate(token, KeyFetch.NONE));
+		} catch (AuthManagerException e) {
+			validation.completeExceptionally(e);
+		}
+		return validation;
+	}
+
+	private MosipUserDto validate(String token, KeyFetch keyFetch) {
+		CompletableFuture<Boolean> refresh = refreshKeys(jwksRefreshSeconds);
+		if (!jwksFetched) {
+			// no keys to use yet, as on the first request
+			awaitFetch(refresh, keyFetch);
+			if (!jwksFetched) {
+				return null;
+			}
+		}
+		Claims claims;
+		try {
+			claims = Jwts.parser().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+				@SuppressWarnings("rawtypes")
+				@Override
+				public Key resolveSigningKey(JwsHeader header, Claims claims) {
+					return getPublicKey(header, keyFetch);
+				}
+			}).parseClaimsJws(token).getBody();
+		} catch (JwtException | IllegalArgumentException e) {
+			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(), e.getMessage(), e);
+		}
+		if (claims.getExpiration() == null) {
+			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(),
+					AuthAdapterConstant.AUTH_INVALID_TOKEN);
+		}
+		if (!EmptyCheckUtils.isNullEmpty(issuer) && !issuer.equals(claims.getIssuer())) {
+			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(),
+					AuthAdapterConstant.AUTH_INVALID_TOKEN);
+		}
+		if (!EmptyCheckUtils.isNullEmpty(audience) && !hasAudience(claims.get(Claims.AUDIENCE))) {
+			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(),
+					AuthAdapterConstant.AUTH_INVALID_TOKEN);
+		}
+		return buildDto(claims, token);
+	}
+
+	/**
+	 * Returns the cached public key the token is signed with, fetching the realm
+	 * keys again if it is not cached.
+	 */
+	@SuppressWarnings("rawtypes")
+	private PublicKey getPublicKey(JwsHeader header, KeyFetch keyFetch) {
+		if (header.getAlgorithm() == null || !header.getAlgorithm().startsWith("RS")) {
+			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(),
+					AuthAdapterConstant.AUTH_INVALID_TOKEN);
+		}
+		PublicKey publicKey = publicKeys.get(header.getKeyId());
+		if (publicKey == null && keyFetch != KeyFetch.NONE) {
+			awaitFetch(refreshKeys(jwksMinRefreshSeconds), keyFetch);
+			publicKey = publicKeys.get(header.getKeyId());
+		}
+		if (publicKey == null) {
+			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(),
+					AuthAdapterConstant.AUTH_SIGNATURE_MESSAGE);
+		}
+		return publicKey;
+	}
+
+	/**
+	 * Starts fetching the realm keys if they are older than the given seconds and
+	 * no fetch is in progress. Cached keys are kept if the fetch fails.
+	 *
+	 * @return the fetch in progress, completing with true if the keys were
+	 *         fetched, or null if there is none as the keys are recent enough
+	 */
+	private CompletableFuture<Boolean> refreshKeys(long maxAgeSeconds) {
+		CompletableFuture<Boolean> refresh = jwksRefresh.get();
+		if (refresh != null || !isStale(maxAgeSeconds)) {
+			return refresh;
+		}
+		CompletableFuture<Boolean> started = new CompletableFuture<>();
+		if (!jwksRefresh.compareAndSet(null, started)) {
+			return jwksRefresh.get();
+		}
+		if (!isStale(maxAgeSeconds)) {
+			// fetched by the refresh that ended before this one started
+			jwksRefresh.set(null);
+			started.complete(false);
+			return null;
+		}
+		try {
+			jwksRefresher.execute(() -> {
+				try {
+					started.complete(fetchKeys());
+				} finally {
+					jwksRefresh.compareAndSet(started, null);
+				}
+			});
+		} catch (RuntimeException e) {
+			jwksRefresh.compareAndSet(started, null);
+			started.complete(false);
+		}
+		return started;
+	}
+
+	/**
+	 * Waits for a fetch of the realm keys returned by {@link #refreshKeys(long)},
+	 * if any and if the validation waits for fetches. Blocking waits are bounded
+	 * by the timeouts of the auth server client.
+	 *
+	 * @throws PendingKeyFetch to defer the validation until the fetch is done
+	 */
+	private void awaitFetch(CompletableFuture<Boolean> fetch, KeyFetch keyFetch) {
+		if (fetch == null || keyFetch == KeyFetch.NONE) {
+			return;
+		}
+		if (keyFetch == KeyFetch.DEFER && !fetch.isDone()) {
+			throw new PendingKeyFetch(fetch);
+		}
+		fetch.join();
+	}
+
+	private boolean isStale(long maxAgeSeconds) {
+		return !jwksRequested || System.nanoTime() - jwksFetchedAt >= TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+	}
+
+	private boolean fetchKeys() {
+		try {
+			JsonNode jwks = objectMapper
+					.readTree(authHttpClient.getRestTemplate().getForObject(jwksUrl, String.class));
+			Map<String, PublicKey> keys = new HashMap<>();
+			KeyFactory keyFactory = KeyFactory.getInstance(RSA);
+			for (JsonNode jwk : jwks.path("keys")) {
+				if (RSA.equals(jwk.path("kty").asText()) && !"enc".equals(jwk.path("use").asText())) {
+					keys.put(jwk.path("kid").asText(), keyFactory.generatePublic(
+							new RSAPublicKeySpec(toBigInteger(jwk.path("n").asText()), toBigInteger(jwk.path("e").asText()))));
+				}
+			}
+			publicKeys = keys;
+			jwksFetched = true;
+			return true;
+		} catch (Exception e) {
+			LOGGER.error("", "", "refreshKeys", "failed to fetch realm keys: " + e.getMessage());
+			return false;
+		} finally {
+			// failed fetches are retried after the same period, not on every request
+			jwksFetchedAt = System.nanoTime();
+			jwksRequested = true;
+		}
+	}
+
+	private BigInteger toBigInteger(String value) {
+		return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+	}
+
+	private boolean hasAudience(Object tokenAudience) {
+		if (tokenAudience instanceof Collection) {
+			return ((Collection<?>) tokenAudience).contains(audience);
+		}
+		return audience.equals(tokenAudience);
+	}
+
+	@SuppressWarnings("unchecked")
+	private MosipUserDto buildDto(Claims claims, String token) {
+		MosipUserDto mosipUserDto = new MosipUserDto();
+		Object realmAccess = claims.get("realm_access");
+		List<String> roles = realmAccess instanceof Map
+				? (List<String>) ((Map<String, Object>) realmAccess).getOrDefault("roles", Collections.emptyList())
+				: Collections.emptyList();
+		mosipUserDto.setUserId(claims.get("preferred_username", String.class));
+		mosipUserDto.setName(claims.get("preferred_username", String.class));
+		mosipUserDto.setMail(claims.get("email", String.class));
+		mosipUserDto.setMobile(claims.get("mobile", String.class));
+		mosipUserDto.setRId(claims.get("rid", String.class));
+		mosipUserDto.setRole(String.join(",", roles));
+		mosipUserDto.setToken(token);
+		return mosipUserDto;
+	}
+
+	/**
+	 * How a validation waits for the fetch of the realm keys it needs
+	 */
+	private enum KeyFetch {
+		/** Blocks the calling thread until the keys are fetched */
+		AWAIT,
+		/** Validates again once the keys are fetched, without blocking */
+		DEFER,
+		/** Uses the keys at hand, as the validation was deferred already */
+		NONE
+	}
+
+	/**
+	 * Interrupts a deferred validation that needs the keys being fetched
+	 */
+	private static final class PendingKeyFetch extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient CompletableFuture<Boolean> fetch;
+
+		private PendingKeyFetch(CompletableFuture<Boolean> fetch) {
+			super(null, null, false, false);
+			this.fetch = fetch;
+		}
+	}
+}
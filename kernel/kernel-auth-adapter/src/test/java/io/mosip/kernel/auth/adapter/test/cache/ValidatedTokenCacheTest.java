@@ -0,0 +1,169 @@
+package io.mosip.kernel.auth.adapter.test.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.auth.adapter.cache.ValidatedTokenCache;
+import io.mosip.kernel.auth.adapter.exception.AuthManagerException;
+import io.mosip.kernel.auth.adapter.model.MosipUserDto;
+import io.mosip.kernel.core.util.ExpiringCache;
+
+/**
+ * Caches validation outcomes of opaque tokens and of unsigned JWTs, whose exp
+ * claim caps the time they are cached for.
+ *
+ * @since 1.0.0
+ *
+ */
+public class ValidatedTokenCacheTest {
+
+	private static final String TOKEN = "opaque-token";
+
+	private static final String ERROR_CODE = "KER-ATH-401";
+
+	private ValidatedTokenCache tokenCache;
+
+	@Before
+	public void setup() {
+		tokenCache = new ValidatedTokenCache();
+		ReflectionTestUtils.setField(tokenCache, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(tokenCache, "negativeTtlSeconds", 10L);
+		ReflectionTestUtils.setField(tokenCache, "maxTokens", 10);
+		tokenCache.init();
+	}
+
+	@Test
+	public void validatedTokenTest() {
+		MosipUserDto mosipUserDto = user("110001");
+		tokenCache.putValidated(TOKEN, MosipUserDto.class, mosipUserDto);
+		assertThat(tokenCache.getValidated(TOKEN, MosipUserDto.class), is(sameInstance(mosipUserDto)));
+		assertThat(tokenCache.getValidated(TOKEN, String.class), is(nullValue()));
+		assertThat(tokenCache.getValidated("other-token", MosipUserDto.class), is(nullValue()));
+	}
+
+	@Test
+	public void disabledCacheTest() {
+		ReflectionTestUtils.setField(tokenCache, "ttlSeconds", 0L);
+		tokenCache.putValidated(TOKEN, MosipUserDto.class, user("110001"));
+		assertThat(tokenCache.getValidated(TOKEN, MosipUserDto.class), is(nullValue()));
+	}
+
+	@Test
+	public void ttlCappedAtTokenExpiryTest() throws InterruptedException {
+		long exp = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 2;
+		String token = jwt(exp);
+		tokenCache.putValidated(token, MosipUserDto.class, user("110001"));
+		assertThat(tokenCache.getValidated(token, MosipUserDto.class), is(notNullValue()));
+		Thread.sleep(TimeUnit.SECONDS.toMillis(exp) - System.currentTimeMillis() + 50);
+		assertThat(tokenCache.getValidated(token, MosipUserDto.class), is(nullValue()));
+	}
+
+	@Test
+	public void expiredTokenNotCachedTest() {
+		String token = jwt(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) - 60);
+		tokenCache.putValidated(token, MosipUserDto.class, user("110001"));
+		assertThat(tokenCache.getValidated(token, MosipUserDto.class), is(nullValue()));
+		assertThat(cache().size(), is(0));
+	}
+
+	@Test
+	public void rejectedTokenTest() {
+		AuthManagerException rejection = tokenCache.putRejected(TOKEN, ERROR_CODE, "Invalid Token",
+				AuthManagerException::new);
+		assertThat(rejection.getErrorCode(), is(ERROR_CODE));
+		AuthManagerException first = rejected(TOKEN);
+		AuthManagerException second = rejected(TOKEN);
+		assertThat(first.getErrorCode(), is(ERROR_CODE));
+		assertThat(first.getMessage(), is("Invalid Token"));
+		// a new exception per request, not the one shared by all of them
+		assertThat(first, is(not(sameInstance(rejection))));
+		assertThat(second, is(not(sameInstance(first))));
+	}
+
+	@Test
+	public void rejectionReplacesValidatedTokenTest() {
+		tokenCache.putValidated(TOKEN, MosipUserDto.class, user("110001"));
+		tokenCache.putRejected(TOKEN, ERROR_CODE, "Invalid Token", AuthManagerException::new);
+		assertThat(rejected(TOKEN).getErrorCode(), is(ERROR_CODE));
+		tokenCache.putValidated(TOKEN, MosipUserDto.class, user("110001"));
+		assertThat(tokenCache.getValidated(TOKEN, MosipUserDto.class), is(notNullValue()));
+	}
+
+	@Test
+	public void negativeCachingDisabledTest() {
+		ReflectionTestUtils.setField(tokenCache, "negativeTtlSeconds", 0L);
+		AuthManagerException rejection = tokenCache.putRejected(TOKEN, ERROR_CODE, "Invalid Token",
+				AuthManagerException::new);
+		assertThat(rejection.getMessage(), is("Invalid Token"));
+		assertThat(tokenCache.getValidated(TOKEN, MosipUserDto.class), is(nullValue()));
+	}
+
+	@Test
+	public void invalidateTest() {
+		tokenCache.putValidated(TOKEN, MosipUserDto.class, user("110001"));
+		tokenCache.invalidate(TOKEN);
+		assertThat(tokenCache.getValidated(TOKEN, MosipUserDto.class), is(nullValue()));
+	}
+
+	@Test
+	public void evictionTest() {
+		for (int i = 0; i < 25; i++) {
+			tokenCache.putValidated(TOKEN + i, MosipUserDto.class, user(String.valueOf(i)));
+		}
+		assertThat(cache().size() <= 10, is(true));
+		assertThat(tokenCache.getValidated(TOKEN + 24, MosipUserDto.class), is(notNullValue()));
+	}
+
+	@Test
+	public void sha256KeyingTest() throws Exception {
+		tokenCache.putValidated(TOKEN, MosipUserDto.class, user("110001"));
+		String hash = Base64.getEncoder().encodeToString(
+				MessageDigest.getInstance("SHA-256").digest(TOKEN.getBytes(StandardCharsets.UTF_8)));
+		assertThat(cache().get(TOKEN), is(nullValue()));
+		assertThat(cache().get(hash), is(notNullValue()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private ExpiringCache<String, Object> cache() {
+		return (ExpiringCache<String, Object>) ReflectionTestUtils.getField(tokenCache, "tokens");
+	}
+
+	private AuthManagerException rejected(String token) {
+		try {
+			tokenCache.getValidated(token, MosipUserDto.class);
+		} catch (AuthManagerException e) {
+			return e;
+		}
+		throw new AssertionError("expected AuthManagerException");
+	}
+
+	private static MosipUserDto user(String userId) {
+		MosipUserDto mosipUserDto = new MosipUserDto();
+		mosipUserDto.setUserId(userId);
+		return mosipUserDto;
+	}
+
+	/**
+	 * An unsigned JWT, as the cache reads the exp claim without verifying the
+	 * token
+	 */
+	private static String jwt(long exp) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + '.'
+				+ encoder.encodeToString(("{\"sub\":\"110001\",\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8))
+				+ '.';
+	}
+}
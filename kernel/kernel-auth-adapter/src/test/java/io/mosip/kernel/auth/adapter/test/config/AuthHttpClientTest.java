@@ -0,0 +1,94 @@
+package io.mosip.kernel.auth.adapter.test.config;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import io.mosip.kernel.auth.adapter.config.AuthHttpClient;
+import io.mosip.kernel.auth.adapter.config.RestTemplateInterceptor;
+import io.vertx.core.Vertx;
+
+/**
+ * Checks the pools of the auth server clients against their settings.
+ *
+ * @since 1.0.0
+ *
+ */
+public class AuthHttpClientTest {
+
+	private AuthHttpClient authHttpClient;
+
+	@Before
+	public void setup() {
+		authHttpClient = new AuthHttpClient();
+		ReflectionTestUtils.setField(authHttpClient, "maxConnections", 40);
+		ReflectionTestUtils.setField(authHttpClient, "maxConnectionsPerRoute", 10);
+		ReflectionTestUtils.setField(authHttpClient, "connectTimeoutMs", 1000);
+		ReflectionTestUtils.setField(authHttpClient, "readTimeoutMs", 2000);
+		ReflectionTestUtils.setField(authHttpClient, "connectionRequestTimeoutMs", 3000);
+		ReflectionTestUtils.setField(authHttpClient, "keepAliveSeconds", 30);
+		authHttpClient.init();
+	}
+
+	@After
+	public void close() throws IOException {
+		authHttpClient.close();
+	}
+
+	@Test
+	public void connectionPoolTest() {
+		PoolingHttpClientConnectionManager connectionManager = (PoolingHttpClientConnectionManager) ReflectionTestUtils
+				.getField(authHttpClient, "connectionManager");
+		assertThat(connectionManager.getMaxTotal(), is(40));
+		assertThat(connectionManager.getDefaultMaxPerRoute(), is(10));
+	}
+
+	@Test
+	public void requestConfigTest() {
+		RequestConfig requestConfig = ((Configurable) ReflectionTestUtils.getField(authHttpClient, "httpClient"))
+				.getConfig();
+		assertThat(requestConfig.getConnectTimeout(), is(1000));
+		assertThat(requestConfig.getSocketTimeout(), is(2000));
+		assertThat(requestConfig.getConnectionRequestTimeout(), is(3000));
+	}
+
+	@Test
+	public void restTemplateTest() {
+		RestTemplate restTemplate = authHttpClient.getRestTemplate();
+		assertThat(restTemplate, is(sameInstance(authHttpClient.getRestTemplate())));
+		// the request factory behind the interceptors
+		assertThat(ReflectionTestUtils.getField(restTemplate, "requestFactory"),
+				is(instanceOf(HttpComponentsClientHttpRequestFactory.class)));
+		assertThat(restTemplate.getInterceptors().get(0), is(instanceOf(RestTemplateInterceptor.class)));
+	}
+
+	@Test
+	public void vertxClientPerVertxTest() {
+		Vertx vertx = Vertx.vertx();
+		Vertx otherVertx = Vertx.vertx();
+		try {
+			assertThat(authHttpClient.getVertxHttpClient(vertx),
+					is(sameInstance(authHttpClient.getVertxHttpClient(vertx))));
+			assertThat(authHttpClient.getVertxHttpClient(otherVertx),
+					is(not(sameInstance(authHttpClient.getVertxHttpClient(vertx)))));
+			assertThat(authHttpClient.getReadTimeoutMs(), is(2000));
+		} finally {
+			vertx.close();
+			otherVertx.close();
+		}
+	}
+}
@@ -0,0 +1,308 @@
+package io.mosip.kernel.auth.adapter.test.handler;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.mosip.kernel.auth.adapter.cache.ValidatedTokenCache;
+import io.mosip.kernel.auth.adapter.config.AuthHttpClient;
+import io.mosip.kernel.auth.adapter.handler.AuthHandler;
+import io.mosip.kernel.auth.adapter.handler.LocalTokenValidator;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+
+/**
+ * Secures a Vert.x route with {@link AuthHandler#addAuthFilter}, which
+ * validates the tokens with an in process auth server through the non
+ * blocking client, or locally without blocking the event loop.
+ *
+ * @since 1.0.0
+ *
+ */
+public class AuthHandlerTest {
+
+	private static final String TOKEN = "token";
+
+	private static final String JWKS_URL = "http://localhost/auth/realms/mosip/protocol/openid-connect/certs";
+
+	private Vertx vertx;
+
+	private AuthHttpClient authHttpClient;
+
+	private AuthHandler authHandler;
+
+	private int authServerPort;
+
+	private int port;
+
+	/**
+	 * Body the auth server answers with, or null to not answer
+	 */
+	private final AtomicReference<String> authServerResponse = new AtomicReference<>();
+
+	private final AtomicReference<String> authServerCookie = new AtomicReference<>();
+
+	private final AtomicInteger authServerRequests = new AtomicInteger();
+
+	@Before
+	public void setup() throws Exception {
+		vertx = Vertx.vertx();
+		authServerPort = listen(vertx.createHttpServer().requestHandler(request -> {
+			authServerRequests.incrementAndGet();
+			authServerCookie.set(request.getHeader("Cookie"));
+			String response = authServerResponse.get();
+			if (response != null) {
+				request.response().putHeader("content-type", "application/json").end(response);
+			}
+		}));
+		authHttpClient = new AuthHttpClient();
+		ReflectionTestUtils.setField(authHttpClient, "maxConnections", 10);
+		ReflectionTestUtils.setField(authHttpClient, "maxConnectionsPerRoute", 10);
+		ReflectionTestUtils.setField(authHttpClient, "connectTimeoutMs", 1000);
+		ReflectionTestUtils.setField(authHttpClient, "readTimeoutMs", 1000);
+		ReflectionTestUtils.setField(authHttpClient, "connectionRequestTimeoutMs", 1000);
+		ReflectionTestUtils.setField(authHttpClient, "keepAliveSeconds", 30);
+		authHttpClient.init();
+		authHandler = new AuthHandler();
+		ReflectionTestUtils.setField(authHandler, "adminValidateUrl",
+				"http://localhost:" + authServerPort + "/v1/authmanager/authorize/admin/validateToken");
+		ReflectionTestUtils.setField(authHandler, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(authHandler, "localTokenValidator", Mockito.mock(LocalTokenValidator.class));
+		ReflectionTestUtils.setField(authHandler, "tokenCache", Mockito.mock(ValidatedTokenCache.class));
+		ReflectionTestUtils.setField(authHandler, "authHttpClient", authHttpClient);
+		Router router = Router.router(vertx);
+		authHandler.addAuthFilter(router, "/secured", HttpMethod.GET, "REGISTRATION_ADMIN");
+		router.route(HttpMethod.GET, "/secured").handler(routingContext -> routingContext.response().end("secured"));
+		router.route(HttpMethod.GET, "/health").handler(routingContext -> routingContext.response().end("up"));
+		port = listen(vertx.createHttpServer().requestHandler(router));
+	}
+
+	@After
+	public void close() throws IOException {
+		authHttpClient.close();
+		vertx.close();
+	}
+
+	@Test
+	public void validTokenTest() throws IOException {
+		authServerResponse.set(user("REGISTRATION_ADMIN,ZONAL_ADMIN"));
+		HttpURLConnection connection = get(TOKEN);
+		assertThat(connection.getResponseCode(), is(200));
+		assertThat(body(connection), is("secured"));
+		assertThat(connection.getHeaderField("Set-Cookie"), is(TOKEN));
+		assertThat(authServerCookie.get(), is("Authorization=" + TOKEN));
+		assertThat(vertxRequests(), is(0));
+	}
+
+	@Test
+	public void missingRoleTest() throws IOException {
+		authServerResponse.set(user("ZONAL_ADMIN"));
+		HttpURLConnection connection = get(TOKEN);
+		assertThat(connection.getResponseCode(), is(403));
+		assertThat(body(connection), containsString("KER-ATH-403"));
+	}
+
+	@Test
+	public void rejectedTokenTest() throws IOException {
+		authServerResponse.set("{\"errors\":[{\"errorCode\":\"KER-ATH-401\",\"message\":\"Invalid Token\"}]}");
+		HttpURLConnection connection = get(TOKEN);
+		assertThat(connection.getResponseCode(), is(401));
+		assertThat(body(connection), containsString("Invalid Token"));
+		assertThat(vertxRequests(), is(0));
+	}
+
+	@Test
+	public void missingTokenTest() throws IOException {
+		HttpURLConnection connection = get(null);
+		assertThat(connection.getResponseCode(), is(401));
+		assertThat(authServerRequests.get(), is(0));
+	}
+
+	@Test
+	public void authServerTimeoutTest() throws IOException {
+		HttpURLConnection connection = get(TOKEN);
+		assertThat(connection.getResponseCode(), is(500));
+		assertThat(vertxRequests(), is(0));
+	}
+
+	@Test
+	public void authServerDownTest() throws IOException {
+		int closedPort;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			closedPort = socket.getLocalPort();
+		}
+		ReflectionTestUtils.setField(authHandler, "adminValidateUrl",
+				"http://localhost:" + closedPort + "/v1/authmanager/authorize/admin/validateToken");
+		HttpURLConnection connection = get(TOKEN);
+		assertThat(connection.getResponseCode(), is(500));
+		assertThat(authServerCookie.get(), is(nullValue()));
+		assertThat(vertxRequests(), is(0));
+	}
+
+	@Test
+	public void cachedValidationTest() throws IOException {
+		useTokenCache();
+		authServerResponse.set(user("REGISTRATION_ADMIN"));
+		assertThat(get(TOKEN).getResponseCode(), is(200));
+		assertThat(get(TOKEN).getResponseCode(), is(200));
+		assertThat(authServerRequests.get(), is(1));
+	}
+
+	@Test
+	public void cachedRejectionTest() throws IOException {
+		useTokenCache();
+		authServerResponse.set("{\"errors\":[{\"errorCode\":\"KER-ATH-401\",\"message\":\"Invalid Token\"}]}");
+		assertThat(get(TOKEN).getResponseCode(), is(401));
+		assertThat(get(TOKEN).getResponseCode(), is(401));
+		assertThat(authServerRequests.get(), is(1));
+	}
+
+	@Test
+	public void pendingKeyFetchNotBlockingTest() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair realmKey = generator.generateKeyPair();
+		CountDownLatch fetchStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
+		Mockito.when(restTemplate.getForObject(ArgumentMatchers.eq(JWKS_URL), ArgumentMatchers.eq(String.class)))
+				.thenAnswer(invocation -> {
+					fetchStarted.countDown();
+					release.await(10, TimeUnit.SECONDS);
+					return jwks((RSAPublicKey) realmKey.getPublic());
+				});
+		AuthHttpClient jwksClient = Mockito.mock(AuthHttpClient.class);
+		Mockito.when(jwksClient.getRestTemplate()).thenReturn(restTemplate);
+		LocalTokenValidator localTokenValidator = new LocalTokenValidator();
+		ReflectionTestUtils.setField(localTokenValidator, "validationMode", "local");
+		ReflectionTestUtils.setField(localTokenValidator, "jwksUrl", JWKS_URL);
+		ReflectionTestUtils.setField(localTokenValidator, "jwksRefreshSeconds", 300L);
+		ReflectionTestUtils.setField(localTokenValidator, "jwksMinRefreshSeconds", 30L);
+		ReflectionTestUtils.setField(localTokenValidator, "issuer", "");
+		ReflectionTestUtils.setField(localTokenValidator, "audience", "");
+		ReflectionTestUtils.setField(localTokenValidator, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(localTokenValidator, "authHttpClient", jwksClient);
+		ReflectionTestUtils.setField(authHandler, "localTokenValidator", localTokenValidator);
+		String token = Jwts.builder().setHeaderParam("kid", "realm").setSubject("f6b12a4c")
+				.setExpiration(new Date(System.currentTimeMillis() + 300000)).claim("preferred_username", "110001")
+				.claim("realm_access", Collections.singletonMap("roles", Arrays.asList("REGISTRATION_ADMIN")))
+				.signWith(SignatureAlgorithm.RS256, realmKey.getPrivate()).compact();
+		ExecutorService client = Executors.newSingleThreadExecutor();
+		try {
+			// the first request waits for the realm keys
+			Future<Integer> secured = client.submit(() -> get(token).getResponseCode());
+			assertThat(fetchStarted.await(10, TimeUnit.SECONDS), is(true));
+			HttpURLConnection health = (HttpURLConnection) new URL("http://localhost:" + port + "/health")
+					.openConnection();
+			health.setReadTimeout(2000);
+			assertThat(health.getResponseCode(), is(200));
+			assertThat(secured.isDone(), is(false));
+			release.countDown();
+			assertThat(secured.get(10, TimeUnit.SECONDS), is(200));
+			assertThat(authServerRequests.get(), is(0));
+		} finally {
+			release.countDown();
+			client.shutdownNow();
+			localTokenValidator.close();
+		}
+	}
+
+	private static String jwks(RSAPublicKey publicKey) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return "{\"keys\":[{\"kid\":\"realm\",\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"n\":\""
+				+ encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\",\"e\":\""
+				+ encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}";
+	}
+
+	private void useTokenCache() {
+		ValidatedTokenCache tokenCache = new ValidatedTokenCache();
+		ReflectionTestUtils.setField(tokenCache, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(tokenCache, "negativeTtlSeconds", 10L);
+		ReflectionTestUtils.setField(tokenCache, "maxTokens", 10);
+		tokenCache.init();
+		ReflectionTestUtils.setField(authHandler, "tokenCache", tokenCache);
+	}
+
+	private static int listen(HttpServer server) throws Exception {
+		CompletableFuture<Integer> listening = new CompletableFuture<>();
+		server.listen(0, result -> {
+			if (result.succeeded()) {
+				listening.complete(result.result().actualPort());
+			} else {
+				listening.completeExceptionally(result.cause());
+			}
+		});
+		return listening.get(10, TimeUnit.SECONDS);
+	}
+
+	private HttpURLConnection get(String token) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/secured")
+				.openConnection();
+		connection.setReadTimeout(10000);
+		if (token != null) {
+			connection.setRequestProperty("Cookie", "Authorization=" + token);
+		}
+		return connection;
+	}
+
+	private static String body(HttpURLConnection connection) throws IOException {
+		InputStream stream = connection.getResponseCode() < 400 ? connection.getInputStream()
+				: connection.getErrorStream();
+		try (Scanner scanner = new Scanner(stream, StandardCharsets.UTF_8.name())) {
+			return scanner.useDelimiter("\\A").hasNext() ? scanner.next() : "";
+		}
+	}
+
+	/**
+	 * Auth server response for a user with the given roles
+	 */
+	private static String user(String roles) {
+		return "{\"response\":{\"userId\":\"110001\",\"role\":\"" + roles + "\"},\"errors\":[]}";
+	}
+
+	/**
+	 * Requests in flight on the Vert.x clients, which are back to zero once the
+	 * response is sent
+	 */
+	private int vertxRequests() {
+		return ((AtomicInteger) ReflectionTestUtils.getField(authHttpClient, "vertxRequests")).get();
+	}
+}
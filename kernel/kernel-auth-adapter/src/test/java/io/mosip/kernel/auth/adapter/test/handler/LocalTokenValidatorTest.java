@@ -0,0 +1,297 @@
+package io.mosip.kernel.auth.adapter.test.handler;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.mosip.kernel.auth.adapter.config.AuthHttpClient;
+import io.mosip.kernel.auth.adapter.exception.AuthManagerException;
+import io.mosip.kernel.auth.adapter.handler.LocalTokenValidator;
+import io.mosip.kernel.auth.adapter.model.MosipUserDto;
+
+/**
+ * Validates tokens signed with generated realm keys, which are served by a
+ * mocked auth server client.
+ *
+ * @since 1.0.0
+ *
+ */
+public class LocalTokenValidatorTest {
+
+	private static final String JWKS_URL = "http://localhost/auth/realms/mosip/protocol/openid-connect/certs";
+
+	private static KeyPair realmKey;
+
+	private static KeyPair rotatedRealmKey;
+
+	private static KeyPair otherKey;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * The realm keys served by the auth server, by key id
+	 */
+	private final Map<String, KeyPair> servedKeys = new LinkedHashMap<>();
+
+	private final AtomicInteger jwksFetches = new AtomicInteger();
+
+	private RestTemplate restTemplate;
+
+	private LocalTokenValidator validator;
+
+	@BeforeClass
+	public static void generateKeys() throws NoSuchAlgorithmException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		realmKey = generator.generateKeyPair();
+		rotatedRealmKey = generator.generateKeyPair();
+		otherKey = generator.generateKeyPair();
+	}
+
+	@Before
+	public void setup() {
+		servedKeys.put("realm", realmKey);
+		restTemplate = Mockito.mock(RestTemplate.class);
+		Mockito.when(restTemplate.getForObject(ArgumentMatchers.eq(JWKS_URL), ArgumentMatchers.eq(String.class)))
+				.thenAnswer(invocation -> {
+					jwksFetches.incrementAndGet();
+					return jwks();
+				});
+		AuthHttpClient authHttpClient = Mockito.mock(AuthHttpClient.class);
+		Mockito.when(authHttpClient.getRestTemplate()).thenReturn(restTemplate);
+		validator = new LocalTokenValidator();
+		ReflectionTestUtils.setField(validator, "validationMode", "local");
+		ReflectionTestUtils.setField(validator, "jwksUrl", JWKS_URL);
+		ReflectionTestUtils.setField(validator, "jwksRefreshSeconds", 300L);
+		ReflectionTestUtils.setField(validator, "jwksMinRefreshSeconds", 0L);
+		ReflectionTestUtils.setField(validator, "issuer", "");
+		ReflectionTestUtils.setField(validator, "audience", "");
+		ReflectionTestUtils.setField(validator, "objectMapper", objectMapper);
+		ReflectionTestUtils.setField(validator, "authHttpClient", authHttpClient);
+	}
+
+	@After
+	public void close() {
+		validator.close();
+	}
+
+	@Test
+	public void validTokenTest() {
+		String token = token("realm", realmKey).compact();
+		MosipUserDto mosipUserDto = validator.validateToken(token);
+		assertThat(mosipUserDto.getUserId(), is("110001"));
+		assertThat(mosipUserDto.getRole(), is("REGISTRATION_ADMIN,ZONAL_ADMIN"));
+		assertThat(mosipUserDto.getToken(), is(token));
+	}
+
+	@Test(expected = AuthManagerException.class)
+	public void invalidSignatureTest() {
+		validator.validateToken(token("realm", otherKey).compact());
+	}
+
+	@Test(expected = AuthManagerException.class)
+	public void tamperedTokenTest() {
+		String[] parts = token("realm", realmKey).compact().split("\\.");
+		String payload = new String(Base64.getUrlDecoder().decode(parts[1])).replace("110001", "110002");
+		validator.validateToken(parts[0] + '.' + Base64.getUrlEncoder().withoutPadding().encodeToString(
+				payload.getBytes()) + '.' + parts[2]);
+	}
+
+	@Test(expected = AuthManagerException.class)
+	public void hmacAlgorithmRejectedTest() {
+		// signed with the public key as an HMAC secret, which an unpinned
+		// validator would verify with the same key
+		validator.validateToken(
+				token("realm", null).signWith(SignatureAlgorithm.HS256, realmKey.getPublic().getEncoded()).compact());
+	}
+
+	@Test(expected = AuthManagerException.class)
+	public void unsignedTokenRejectedTest() {
+		validator.validateToken(token("realm", null).compact());
+	}
+
+	@Test
+	public void unknownKeyIdRefreshesKeysTest() {
+		assertThat(validator.validateToken(token("realm", realmKey).compact()), is(notNullValue()));
+		servedKeys.put("rotated", rotatedRealmKey);
+		assertThat(validator.validateToken(token("rotated", rotatedRealmKey).compact()), is(notNullValue()));
+		assertThat(jwksFetches.get(), is(2));
+	}
+
+	@Test
+	public void unknownKeyIdRefreshRateLimitedTest() {
+		ReflectionTestUtils.setField(validator, "jwksMinRefreshSeconds", 30L);
+		assertThat(validator.validateToken(token("realm", realmKey).compact()), is(notNullValue()));
+		for (int i = 0; i < 3; i++) {
+			try {
+				validator.validateToken(token("unknown", otherKey).compact());
+				throw new AssertionError("expected AuthManagerException");
+			} catch (AuthManagerException e) {
+				// not signed with a realm key
+			}
+		}
+		assertThat(jwksFetches.get(), is(1));
+	}
+
+	@Test
+	public void staleKeysRefreshedInBackgroundTest() throws InterruptedException {
+		String token = token("realm", realmKey).compact();
+		assertThat(validator.validateToken(token), is(notNullValue()));
+		CountDownLatch fetchStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Mockito.doAnswer(invocation -> {
+			fetchStarted.countDown();
+			release.await(10, TimeUnit.SECONDS);
+			return jwks();
+		}).when(restTemplate).getForObject(ArgumentMatchers.eq(JWKS_URL), ArgumentMatchers.eq(String.class));
+		ReflectionTestUtils.setField(validator, "jwksRefreshSeconds", 0L);
+		try {
+			// the refresh is started, and blocked, while the cached keys are used
+			assertThat(validator.validateToken(token), is(notNullValue()));
+			assertThat(fetchStarted.await(10, TimeUnit.SECONDS), is(true));
+			assertThat(validator.validateToken(token), is(notNullValue()));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void asyncValidationDeferredTest() throws Exception {
+		CountDownLatch fetchStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Mockito.doAnswer(invocation -> {
+			fetchStarted.countDown();
+			release.await(10, TimeUnit.SECONDS);
+			return jwks();
+		}).when(restTemplate).getForObject(ArgumentMatchers.eq(JWKS_URL), ArgumentMatchers.eq(String.class));
+		try {
+			// returned while the first fetch of the keys is blocked
+			CompletableFuture<MosipUserDto> validation = validator
+					.validateTokenAsync(token("realm", realmKey).compact());
+			assertThat(fetchStarted.await(10, TimeUnit.SECONDS), is(true));
+			assertThat(validation.isDone(), is(false));
+			release.countDown();
+			assertThat(validation.get(10, TimeUnit.SECONDS).getUserId(), is("110001"));
+			// keys cached, completed right away
+			assertThat(validator.validateTokenAsync(token("realm", realmKey).compact()).isDone(), is(true));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void asyncUnknownKeyIdRejectedTest() throws Exception {
+		assertThat(validator.validateToken(token("realm", realmKey).compact()), is(notNullValue()));
+		CompletableFuture<MosipUserDto> validation = validator.validateTokenAsync(token("unknown", otherKey).compact());
+		try {
+			validation.get(10, TimeUnit.SECONDS);
+			throw new AssertionError("expected AuthManagerException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause() instanceof AuthManagerException, is(true));
+		}
+		assertThat(jwksFetches.get(), is(2));
+	}
+
+	@Test
+	public void keysUnavailableTest() {
+		Mockito.doThrow(new ResourceAccessException("connection refused")).when(restTemplate)
+				.getForObject(ArgumentMatchers.eq(JWKS_URL), ArgumentMatchers.eq(String.class));
+		assertThat(validator.validateToken(token("realm", realmKey).compact()), is(nullValue()));
+	}
+
+	@Test(expected = AuthManagerException.class)
+	public void expiredTokenTest() {
+		validator.validateToken(token("realm", null).setExpiration(new Date(System.currentTimeMillis() - 60000))
+				.signWith(SignatureAlgorithm.RS256, realmKey.getPrivate()).compact());
+	}
+
+	@Test(expected = AuthManagerException.class)
+	public void missingExpiryTest() {
+		validator.validateToken(token("realm", null).setExpiration(null)
+				.signWith(SignatureAlgorithm.RS256, realmKey.getPrivate()).compact());
+	}
+
+	@Test
+	public void audienceTest() {
+		ReflectionTestUtils.setField(validator, "audience", "mosip-resident-client");
+		assertThat(validator.validateToken(token("realm", realmKey).compact()), is(notNullValue()));
+		try {
+			validator.validateToken(token("realm", null).claim("aud", Collections.singletonList("account"))
+					.signWith(SignatureAlgorithm.RS256, realmKey.getPrivate()).compact());
+			throw new AssertionError("expected AuthManagerException");
+		} catch (AuthManagerException e) {
+			// issued for another client
+		}
+		try {
+			validator.validateToken(token("realm", null).claim("aud", null)
+					.signWith(SignatureAlgorithm.RS256, realmKey.getPrivate()).compact());
+			throw new AssertionError("expected AuthManagerException");
+		} catch (AuthManagerException e) {
+			// issued for no client
+		}
+	}
+
+	/**
+	 * Builds a token as issued by the realm, for two audiences, signed with the
+	 * given key unless null
+	 */
+	private JwtBuilder token(String keyId, KeyPair signingKey) {
+		Map<String, Object> realmAccess = Collections.singletonMap("roles",
+				Arrays.asList("REGISTRATION_ADMIN", "ZONAL_ADMIN"));
+		JwtBuilder builder = Jwts.builder().setHeaderParam("kid", keyId).setSubject("f6b12a4c")
+				.setExpiration(new Date(System.currentTimeMillis() + 300000))
+				.claim("aud", Arrays.asList("account", "mosip-resident-client"))
+				.claim("preferred_username", "110001").claim("realm_access", realmAccess);
+		return signingKey == null ? builder : builder.signWith(SignatureAlgorithm.RS256, signingKey.getPrivate());
+	}
+
+	private String jwks() {
+		ObjectNode jwks = objectMapper.createObjectNode();
+		ArrayNode keys = jwks.putArray("keys");
+		servedKeys.forEach((keyId, keyPair) -> {
+			RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+			keys.addObject().put("kid", keyId).put("kty", "RSA").put("alg", "RS256").put("use", "sig")
+					.put("n", base64Url(publicKey.getModulus())).put("e", base64Url(publicKey.getPublicExponent()));
+		});
+		return jwks.toString();
+	}
+
+	private static String base64Url(BigInteger value) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toByteArray());
+	}
+}
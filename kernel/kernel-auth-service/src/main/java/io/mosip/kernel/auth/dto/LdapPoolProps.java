@@ -0,0 +1,25 @@
+package io.mosip.kernel.auth.dto;
+
+import lombok.Data;
+
+/**
+ * Settings of the LDAP connection pools of an LDAP datastore
+ *
+ * @since 1.0.0
+ *
+ */
+@Data
+public class LdapPoolProps {
+	/**
+	 * Dn the lookup connections are bound with, anonymous if empty
+	 */
+	private String adminDn;
+	private String adminPassword;
+	private int maxTotal = 25;
+	private int maxIdle = 10;
+	private int minIdle = 0;
+	private long maxWaitMillis = 10000;
+	private long timeoutMillis = 30000;
+	private long evictionIntervalMillis = 60000;
+	private long minEvictableIdleMillis = 300000;
+}
@@ -7,12 +7,17 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -33,19 +38,29 @@ import javax.naming.directory.SearchResult;
 import javax.naming.ldap.InitialLdapContext;
 import javax.naming.ldap.LdapContext;
 
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.apache.directory.api.ldap.model.constants.LdapSecurityConstants;
 import org.apache.directory.api.ldap.model.cursor.EntryCursor;
 import org.apache.directory.api.ldap.model.entry.Entry;
+import org.apache.directory.api.ldap.model.entry.Value;
+import org.apache.directory.api.ldap.model.exception.LdapException;
 import org.apache.directory.api.ldap.model.exception.LdapInvalidDnException;
+import org.apache.directory.api.ldap.model.filter.FilterEncoder;
 import org.apache.directory.api.ldap.model.message.SearchScope;
 import org.apache.directory.api.ldap.model.name.Dn;
+import org.apache.directory.api.ldap.model.name.Rdn;
 import org.apache.directory.api.ldap.model.password.PasswordDetails;
 import org.apache.directory.api.ldap.model.password.PasswordUtil;
+import org.apache.directory.ldap.client.api.DefaultLdapConnectionFactory;
 import org.apache.directory.ldap.client.api.LdapConnection;
-import org.apache.directory.ldap.client.api.LdapNetworkConnection;
+import org.apache.directory.ldap.client.api.LdapConnectionConfig;
+import org.apache.directory.ldap.client.api.LdapConnectionPool;
+import org.apache.directory.ldap.client.api.ValidatingPoolableLdapConnectionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
 import io.mosip.kernel.auth.config.MosipEnvironment;
 import io.mosip.kernel.auth.constant.AuthConstant;
 import io.mosip.kernel.auth.constant.AuthErrorCode;
@@ -55,6 +70,7 @@ import io.mosip.kernel.auth.dto.AuthZResponseDto;
 import io.mosip.kernel.auth.dto.ClientSecret;
 import io.mosip.kernel.auth.dto.DataBaseProps;
 import io.mosip.kernel.auth.dto.LdapControl;
+import io.mosip.kernel.auth.dto.LdapPoolProps;
 import io.mosip.kernel.auth.dto.LoginUser;
 import io.mosip.kernel.auth.dto.MosipUserDto;
 import io.mosip.kernel.auth.dto.MosipUserListDto;
@@ -87,14 +103,105 @@ import io.mosip.kernel.core.util.HMACUtils;
 @Component
 public class LdapDataStore implements DataStore {
 
+	/**
+	 * Users looked up per search at most, to bound the size of the filters
+	 */
+	private static final int MAX_USERS_PER_SEARCH = 100;
+
 	private DataBaseProps dataBaseConfig;
 
+	/**
+	 * Connections bound with the admin dn, for lookups and searches
+	 */
+	private LdapConnectionPool lookupPool;
+
+	/**
+	 * Connections bound with the credentials of a user to authenticate them,
+	 * which are bound back when released
+	 */
+	private LdapConnectionPool bindPool;
+
 	public LdapDataStore() {
 	}
 
 	public LdapDataStore(DataBaseProps dataBaseConfig) {
+		this(dataBaseConfig, new LdapPoolProps());
+	}
+
+	public LdapDataStore(DataBaseProps dataBaseConfig, LdapPoolProps ldapPoolProps) {
 		super();
 		this.dataBaseConfig = dataBaseConfig;
+		this.lookupPool = createPool(ldapPoolProps, ldapPoolProps.getAdminDn(), ldapPoolProps.getAdminPassword(),
+				"lookup");
+		this.bindPool = createPool(ldapPoolProps, null, null, "bind");
+	}
+
+	/**
+	 * Creates a pool of connections bound with the given dn, or anonymous. The
+	 * connections are validated when borrowed, rebound when released after a
+	 * bind with other credentials, and closed once idle for
+	 * minEvictableIdleMillis.
+	 */
+	private LdapConnectionPool createPool(LdapPoolProps ldapPoolProps, String bindDn, String bindPassword,
+			String poolName) {
+		LdapConnectionConfig connectionConfig = new LdapConnectionConfig();
+		connectionConfig.setLdapHost(dataBaseConfig.getUrl());
+		connectionConfig.setLdapPort(Integer.valueOf(dataBaseConfig.getPort()));
+		if (bindDn != null && !bindDn.isEmpty()) {
+			connectionConfig.setName(bindDn);
+			connectionConfig.setCredentials(bindPassword);
+		}
+		DefaultLdapConnectionFactory connectionFactory = new DefaultLdapConnectionFactory(connectionConfig);
+		connectionFactory.setTimeOut(ldapPoolProps.getTimeoutMillis());
+
+		GenericObjectPoolConfig poolConfig = new GenericObjectPoolConfig();
+		poolConfig.setMaxTotal(ldapPoolProps.getMaxTotal());
+		poolConfig.setMaxIdle(ldapPoolProps.getMaxIdle());
+		poolConfig.setMinIdle(ldapPoolProps.getMinIdle());
+		poolConfig.setMaxWaitMillis(ldapPoolProps.getMaxWaitMillis());
+		poolConfig.setTestOnBorrow(true);
+		poolConfig.setTestWhileIdle(true);
+		poolConfig.setTimeBetweenEvictionRunsMillis(ldapPoolProps.getEvictionIntervalMillis());
+		poolConfig.setMinEvictableIdleTimeMillis(ldapPoolProps.getMinEvictableIdleMillis());
+		poolConfig.setJmxEnabled(false);
+		LdapConnectionPool pool = new LdapConnectionPool(new ValidatingPoolableLdapConnectionFactory(connectionFactory),
+				poolConfig);
+
+		poolGauge(pool, poolName, "active", LdapConnectionPool::getNumActive);
+		poolGauge(pool, poolName, "idle", LdapConnectionPool::getNumIdle);
+		poolGauge(pool, poolName, "waiting", LdapConnectionPool::getNumWaiters);
+		return pool;
+	}
+
+	private void poolGauge(LdapConnectionPool pool, String poolName, String state,
+			ToDoubleFunction<LdapConnectionPool> value) {
+		Gauge.builder("mosip.kernel.auth.ldap.pool", pool, value).tag("datastore", dataBaseConfig.getSchemas())
+				.tag("pool", poolName).tag("state", state).description("LDAP connection pool")
+				.register(Metrics.globalRegistry);
+	}
+
+	/**
+	 * Closes the connection pools, along with their idle connections. Called by
+	 * {@link UserStoreFactoryImpl}, which creates the LDAP datastores.
+	 */
+	public void close() {
+		try {
+			closePool(lookupPool);
+		} finally {
+			closePool(bindPool);
+		}
+	}
+
+	private void closePool(LdapConnectionPool pool) {
+		if (pool == null || pool.isClosed()) {
+			return;
+		}
+		try {
+			pool.close();
+		} catch (Exception e) {
+			throw new AuthManagerException(LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorCode(),
+					LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorMessage(), e);
+		}
 	}
 
 	@Autowired
@@ -106,10 +213,27 @@ public class LdapDataStore implements DataStore {
 	@Autowired
 	MosipEnvironment environment;
 
-	private LdapConnection createAnonymousConnection() throws Exception {
-		LdapConnection connection = new LdapNetworkConnection(dataBaseConfig.getUrl(),
-				Integer.valueOf(dataBaseConfig.getPort()));
-		return connection;
+	private LdapConnection getLookupConnection() throws LdapException {
+		return lookupPool.getConnection();
+	}
+
+	private LdapConnection getBindConnection() throws LdapException {
+		return bindPool.getConnection();
+	}
+
+	/**
+	 * Returns the connection to its pool, if it was borrowed
+	 */
+	private void releaseConnection(LdapConnectionPool pool, LdapConnection connection) {
+		if (connection == null) {
+			return;
+		}
+		try {
+			pool.releaseConnection(connection);
+		} catch (LdapException e) {
+			throw new AuthManagerException(LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorCode(),
+					LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorMessage(), e);
+		}
 	}
 
 	private LdapContext getContext() throws NamingException {
@@ -146,11 +270,12 @@ public class LdapDataStore implements DataStore {
 	}
 
 	private MosipUserDto getOtpDetails(OtpUser otpUser) throws Exception {
-		LdapConnection connection = createAnonymousConnection();
+		LdapConnection connection = null;
 		MosipUserDto mosipUserDto = null;
 		Dn userdn = null;
 		try
 		{
+		connection = getLookupConnection();
 		userdn = createUserDn(otpUser.getUserId());
 		mosipUserDto = lookupUserDetails(userdn, connection);
 		if (!connection.exists(userdn)) {
@@ -166,7 +291,7 @@ public class LdapDataStore implements DataStore {
 		}
 		finally
 		{
-			connection.close();
+			releaseConnection(lookupPool, connection);
 		}
 		return mosipUserDto;
 	}
@@ -189,7 +314,7 @@ public class LdapDataStore implements DataStore {
 		MosipUserDto mosipUserDto = null;
 		try
 		{
-		connection = createAnonymousConnection();
+		connection = getLookupConnection();
 		Dn userdn = createUserDn(userId);
 		mosipUserDto = lookupUserDetails(userdn, connection);
 		}
@@ -200,7 +325,7 @@ public class LdapDataStore implements DataStore {
 		}
 		finally
 		{
-			connection.close();
+			releaseConnection(lookupPool, connection);
 		}
 		return mosipUserDto;
 	}
@@ -221,7 +346,7 @@ public class LdapDataStore implements DataStore {
 	private MosipUserDto getClientSecretDetails(ClientSecret clientSecret) throws Exception {
 		LdapConnection connection = null;
 		try {
-			connection = createAnonymousConnection();
+			connection = getBindConnection();
 			Dn userdn = createUserDn(clientSecret.getClientId());
 			connection.bind(userdn, clientSecret.getSecretKey());
 			if (connection.isAuthenticated()) {
@@ -233,8 +358,8 @@ public class LdapDataStore implements DataStore {
 		}
 		finally
 		{
-			connection.unBind();
-			connection.close();
+			// rebound with the pool credentials on release, unBind would close it
+			releaseConnection(bindPool, connection);
 		}
 		return null;
 	}
@@ -249,7 +374,7 @@ public class LdapDataStore implements DataStore {
 	public MosipUserDto getLoginDetails(LoginUser loginUser) throws Exception {
 		LdapConnection connection = null;
 		try {
-			connection = createAnonymousConnection();
+			connection = getBindConnection();
 			Dn userdn = createUserDn(loginUser.getUserName());
 			connection.bind(userdn, loginUser.getPassword());
 			if (connection.isAuthenticated()) {
@@ -261,8 +386,8 @@ public class LdapDataStore implements DataStore {
 		}
 		finally
 		{
-			connection.unBind();
-			connection.close();
+			// rebound with the pool credentials on release, unBind would close it
+			releaseConnection(bindPool, connection);
 		}
 		return null;
 	}
@@ -281,24 +406,7 @@ public class LdapDataStore implements DataStore {
 
 			Entry userLookup = connection.lookup(userdn);
 			if (userLookup != null) {
-				mosipUserDto = new MosipUserDto();
-				mosipUserDto.setUserId(userLookup.get("uid").get().toString());
-				mosipUserDto
-						.setMobile(userLookup.get("mobile") != null ? userLookup.get("mobile").get().toString() : null);
-				mosipUserDto.setMail(userLookup.get("mail") != null ? userLookup.get("mail").get().toString() : null);
-				if (userLookup.get("userPassword") != null) {
-					PasswordDetails password = PasswordUtil
-							.splitCredentials(userLookup.get("userPassword").get().getBytes());
-					mosipUserDto.setUserPassword(
-							userLookup.get("userPassword") != null ? HMACUtils.digestAsPlainText(password.getPassword())
-									: null);
-				}
-				// mosipUserDto.setLangCode(userLookup.get("preferredLanguage").get().toString());
-				mosipUserDto.setName(userLookup.get("cn").get().toString());
-				if (userLookup.get("rid") != null) {
-					mosipUserDto.setRId(userLookup.get("rid").get().toString());
-				}
-				mosipUserDto.setRole(rolesString);
+				mosipUserDto = toMosipUserDto(userLookup, rolesString);
 			}
 			return mosipUserDto;
 		} catch (Exception ex) {
@@ -307,6 +415,97 @@ public class LdapDataStore implements DataStore {
 		}
 	}
 
+	/**
+	 * Looks up the details of the users with two searches, one for the users and
+	 * one for their roles, instead of two per user
+	 * 
+	 * @param userIds
+	 *            the user ids, at most {@link #MAX_USERS_PER_SEARCH}
+	 * @param connection
+	 *            the connection
+	 * @return the details of the users found, in the order of the user ids
+	 */
+	private List<MosipUserDto> lookupUsersDetails(List<String> userIds, LdapConnection connection) throws Exception {
+		StringBuilder usersFilter = new StringBuilder("(|");
+		StringBuilder rolesFilter = new StringBuilder("(&(objectClass=organizationalRole)(|");
+		for (String userId : userIds) {
+			usersFilter.append("(uid=").append(FilterEncoder.encodeFilterValue(userId)).append(')');
+			rolesFilter.append("(roleOccupant=").append(FilterEncoder.encodeFilterValue(createUserDn(userId).getName()))
+					.append(')');
+		}
+		usersFilter.append(')');
+		rolesFilter.append("))");
+
+		Map<String, Entry> userLookups = new HashMap<>();
+		try (EntryCursor usersData = connection.search(new Dn("ou=people,c=morocco"), usersFilter.toString(),
+				SearchScope.ONELEVEL)) {
+			for (Entry entry : usersData) {
+				userLookups.putIfAbsent(toKey(entry.get("uid").getString()), entry);
+			}
+		}
+		Map<String, Set<String>> userRoles = new HashMap<>();
+		try (EntryCursor rolesData = connection.search(new Dn("ou=roles,c=morocco"), rolesFilter.toString(),
+				SearchScope.ONELEVEL, "cn", LdapConstants.ROLE_OCCUPANT)) {
+			for (Entry entry : rolesData) {
+				String role = entry.get("cn").getString();
+				for (Value roleOccupant : entry.get(LdapConstants.ROLE_OCCUPANT)) {
+					String uid = getUid(roleOccupant.getString());
+					if (uid != null) {
+						userRoles.computeIfAbsent(toKey(uid), key -> new LinkedHashSet<>()).add(role);
+					}
+				}
+			}
+		}
+
+		List<MosipUserDto> mosipUserDtos = new ArrayList<>();
+		for (String userId : userIds) {
+			Entry userLookup = userLookups.get(toKey(userId));
+			if (userLookup != null) {
+				mosipUserDtos.add(toMosipUserDto(userLookup,
+						convertRolesToString(userRoles.getOrDefault(toKey(userId), Collections.emptySet()))));
+			}
+		}
+		return mosipUserDtos;
+	}
+
+	private MosipUserDto toMosipUserDto(Entry userLookup, String rolesString) throws Exception {
+		MosipUserDto mosipUserDto = new MosipUserDto();
+		mosipUserDto.setUserId(userLookup.get("uid").get().toString());
+		mosipUserDto.setMobile(userLookup.get("mobile") != null ? userLookup.get("mobile").get().toString() : null);
+		mosipUserDto.setMail(userLookup.get("mail") != null ? userLookup.get("mail").get().toString() : null);
+		if (userLookup.get("userPassword") != null) {
+			PasswordDetails password = PasswordUtil.splitCredentials(userLookup.get("userPassword").get().getBytes());
+			mosipUserDto.setUserPassword(
+					userLookup.get("userPassword") != null ? HMACUtils.digestAsPlainText(password.getPassword()) : null);
+		}
+		// mosipUserDto.setLangCode(userLookup.get("preferredLanguage").get().toString());
+		mosipUserDto.setName(userLookup.get("cn").get().toString());
+		if (userLookup.get("rid") != null) {
+			mosipUserDto.setRId(userLookup.get("rid").get().toString());
+		}
+		mosipUserDto.setRole(rolesString);
+		return mosipUserDto;
+	}
+
+	/**
+	 * Gets the uid of a user dn
+	 * 
+	 * @param userDn
+	 *            the user dn
+	 * @return the uid, or null if the dn is not a user dn
+	 */
+	private String getUid(String userDn) throws LdapInvalidDnException {
+		Rdn rdn = new Dn(userDn).getRdn();
+		return "uid".equalsIgnoreCase(rdn.getType()) ? String.valueOf(rdn.getValue()) : null;
+	}
+
+	/**
+	 * Uids are case insensitive
+	 */
+	private String toKey(String uid) {
+		return uid.toLowerCase(Locale.ROOT);
+	}
+
 	private Collection<String> getUserRoles(Dn userdn, LdapConnection connection) {
 		try {
 			Dn searchBase = new Dn("ou=roles,c=morocco");
@@ -351,7 +550,7 @@ public class LdapDataStore implements DataStore {
 		EntryCursor rolesData = null;
 		LdapConnection connection = null;
 		try {
-			connection = createAnonymousConnection();
+			connection = getLookupConnection();
 			List<Role> roleDtos = new ArrayList<>();
 			Dn searchBase = new Dn("ou=roles,c=morocco");
 			String searchFilter = "(objectClass=organizationalRole)";
@@ -376,12 +575,15 @@ public class LdapDataStore implements DataStore {
 		finally
 		{
 			try {
-				rolesData.close();
-				connection.close();
+				if (rolesData != null) {
+					rolesData.close();
+				}
 			} catch (IOException e) {
 				throw new AuthManagerException(LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorCode(),
 						LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorMessage(),e);
-			}	
+			} finally {
+				releaseConnection(lookupPool, connection);
+			}
 		}
 	}
 
@@ -392,16 +594,13 @@ public class LdapDataStore implements DataStore {
 			MosipUserListDto userResponseDto = new MosipUserListDto();
 			List<MosipUserDto> mosipUserDtos = new ArrayList<>();
 
-			connection = createAnonymousConnection();
+			connection = getLookupConnection();
 
-			for (String user : users) {
-				Dn userdn = createUserDn(user);
-				MosipUserDto data = lookupUserDetails(userdn, connection);
-				if (data != null)
-					mosipUserDtos.add(data);
+			for (int from = 0; from < users.size(); from += MAX_USERS_PER_SEARCH) {
+				mosipUserDtos.addAll(lookupUsersDetails(
+						users.subList(from, Math.min(from + MAX_USERS_PER_SEARCH, users.size())), connection));
 			}
 
-			
 			userResponseDto.setMosipUserDtoList(mosipUserDtos);
 			return userResponseDto;
 		} catch (Exception ex) {
@@ -410,7 +609,7 @@ public class LdapDataStore implements DataStore {
 		}
 		finally
 		{
-			connection.close();
+			releaseConnection(lookupPool, connection);
 		}
 	}
 
@@ -421,7 +620,7 @@ public class LdapDataStore implements DataStore {
 		LdapConnection connection = null;
 		try
 		{
-		connection = createAnonymousConnection();
+		connection = getLookupConnection();
 		Dn searchBase = new Dn("ou=people,c=morocco");
 		String searchFilter = "(&(objectClass=organizationalPerson)(objectClass=inetOrgPerson))";
 		EntryCursor peoplesData = connection.search(searchBase, searchFilter, SearchScope.ONELEVEL);
@@ -444,7 +643,7 @@ public class LdapDataStore implements DataStore {
 		}
 		finally
 		{
-			connection.close();
+			releaseConnection(lookupPool, connection);
 		}
 		mosipUserSaltList.setMosipUserSaltList(mosipUserDtos);
 		return mosipUserSaltList;
@@ -456,7 +655,7 @@ public class LdapDataStore implements DataStore {
 		LdapConnection ldapConnection = null;
 		try
 		{
-			ldapConnection = createAnonymousConnection();
+			ldapConnection = getLookupConnection();
 			Dn userdn = createUserDn(userId);
 			MosipUserDto data = lookupUserDetails(userdn, ldapConnection);
 			if (data == null) {
@@ -469,7 +668,7 @@ public class LdapDataStore implements DataStore {
 			}
 		}finally
 		{
-			ldapConnection.close();
+			releaseConnection(lookupPool, ldapConnection);
 		}
 		return ridDto;
 	}
@@ -809,7 +1008,7 @@ public class LdapDataStore implements DataStore {
 		MosipUserDto data = null;
 		try
 		{
-		ldapConnection = createAnonymousConnection();
+		ldapConnection = getLookupConnection();
 		Dn userdn = createUserDn(username);
 		data = lookupUserDetails(userdn, ldapConnection);
 		if (data == null) {
@@ -823,7 +1022,7 @@ public class LdapDataStore implements DataStore {
 		}
 		finally
 		{
-			ldapConnection.close();
+			releaseConnection(lookupPool, ldapConnection);
 		}
 		return data;
 	}
@@ -937,22 +1136,14 @@ public class LdapDataStore implements DataStore {
 	 */
 	@Override
 	public UserDetailsResponseDto getUserDetailBasedOnUid(List<String> userIds) {
-		UserDetailsDto userDetailsDto = null;
 		List<UserDetailsDto> userDetails = new ArrayList<>();
 		UserDetailsResponseDto userDetailsResponseDto = new UserDetailsResponseDto();
+		LdapContext context = null;
 		try {
-			for (String userId : userIds) {
-
-				NamingEnumeration<SearchResult> searchResult = getSearchResultBasedOnId(userId);
-				while (searchResult.hasMore()) {
-					SearchResult result = searchResult.next();
-					userDetailsDto = setUserDetail(result);
-					userDetailsDto.setUserId(userId);
-					String rolesAsString = getRolesBasedOnUid(userId);
-					userDetailsDto.setRole(rolesAsString);
-					userDetails.add(userDetailsDto);
-					break;
-				}
+			context = getContext();
+			for (int from = 0; from < userIds.size(); from += MAX_USERS_PER_SEARCH) {
+				userDetails.addAll(
+						getUserDetails(userIds.subList(from, Math.min(from + MAX_USERS_PER_SEARCH, userIds.size())), context));
 			}
 		} catch (NamingException e) {
 			throw new AuthManagerException(AuthErrorCode.NAMING_EXCEPTION.getErrorCode(),
@@ -960,33 +1151,75 @@ public class LdapDataStore implements DataStore {
 		} catch (LdapInvalidDnException e) {
 			throw new AuthManagerException(AuthErrorCode.INVALID_DN.getErrorCode(),
 					AuthErrorCode.INVALID_DN.getErrorMessage() + " " + e.getCause());
+		} finally {
+			if (context != null) {
+				closeContext(context);
+			}
 		}
 		userDetailsResponseDto.setUserDetails(userDetails);
 		return userDetailsResponseDto;
 	}
 
 	/**
+	 * Gets the details of the users with two searches, one for the users and one
+	 * for their roles, instead of two contexts and searches per user
 	 * 
-	 * @param userId
-	 *            - userId
-	 * @return {@link NamingEnumeration}
+	 * @param userIds
+	 *            - user ids, at most {@link #MAX_USERS_PER_SEARCH}
+	 * @param context
+	 *            - context
+	 * @return the details of the users found, in the order of the user ids
 	 * @throws NamingException
 	 * @throws LdapInvalidDnException
 	 */
-	private NamingEnumeration<SearchResult> getSearchResultBasedOnId(String userId)
+	private List<UserDetailsDto> getUserDetails(List<String> userIds, LdapContext context)
 			throws NamingException, LdapInvalidDnException {
+		StringBuilder usersFilter = new StringBuilder(
+				"(&(objectClass=organizationalPerson)(objectClass=inetOrgPerson)(objectClass=person)(|");
+		StringBuilder rolesFilter = new StringBuilder("(&(objectClass=organizationalRole)(|");
+		for (String userId : userIds) {
+			usersFilter.append("(uid=").append(FilterEncoder.encodeFilterValue(userId)).append(')');
+			rolesFilter.append("(roleOccupant=").append(FilterEncoder.encodeFilterValue(createUserDn(userId).getName()))
+					.append(')');
+		}
+		usersFilter.append("))");
+		rolesFilter.append("))");
 
-		LdapContext context = getContext();
-		Dn searchBase = new Dn("uid=" + userId + ",ou=people,c=morocco");
+		Map<String, SearchResult> users = new HashMap<>();
 		SearchControls searchControls = new SearchControls();
-		NamingEnumeration<SearchResult> searchResult = null;
-
-		searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
-		searchResult = context.search(searchBase.getName(),
-				"(&(objectClass=organizationalPerson)(objectClass=inetOrgPerson)(objectClass=person))", searchControls);
+		searchControls.setSearchScope(SearchControls.ONELEVEL_SCOPE);
+		NamingEnumeration<SearchResult> searchResult = context.search("ou=people,c=morocco", usersFilter.toString(),
+				searchControls);
+		while (searchResult.hasMore()) {
+			SearchResult result = searchResult.next();
+			users.putIfAbsent(toKey((String) result.getAttributes().get("uid").get()), result);
+		}
+		Map<String, Set<String>> userRoles = new HashMap<>();
+		NamingEnumeration<SearchResult> searchResultRoles = context.search("ou=roles,c=morocco", rolesFilter.toString(),
+				new SearchControls());
+		while (searchResultRoles.hasMore()) {
+			Attributes attributeRoles = searchResultRoles.next().getAttributes();
+			String role = (String) attributeRoles.get("cn").get();
+			NamingEnumeration<?> roleOccupants = attributeRoles.get(LdapConstants.ROLE_OCCUPANT).getAll();
+			while (roleOccupants.hasMore()) {
+				String uid = getUid(roleOccupants.next().toString());
+				if (uid != null) {
+					userRoles.computeIfAbsent(toKey(uid), key -> new LinkedHashSet<>()).add(role);
+				}
+			}
+		}
 
-		context.close();
-		return searchResult;
+		List<UserDetailsDto> userDetails = new ArrayList<>();
+		for (String userId : userIds) {
+			SearchResult result = users.get(toKey(userId));
+			if (result != null) {
+				UserDetailsDto userDetailsDto = setUserDetail(result);
+				userDetailsDto.setUserId(userId);
+				userDetailsDto.setRole(String.join(",", userRoles.getOrDefault(toKey(userId), Collections.emptySet())));
+				userDetails.add(userDetailsDto);
+			}
+		}
+		return userDetails;
 	}
 
 	/**
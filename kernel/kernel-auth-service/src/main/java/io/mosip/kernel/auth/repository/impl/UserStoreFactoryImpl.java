@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,6 +19,7 @@ import io.mosip.kernel.auth.config.MosipEnvironment;
 import io.mosip.kernel.auth.constant.AuthConstant;
 import io.mosip.kernel.auth.constant.AuthErrorCode;
 import io.mosip.kernel.auth.dto.DataBaseProps;
+import io.mosip.kernel.auth.dto.LdapPoolProps;
 import io.mosip.kernel.auth.exception.AuthManagerException;
 import io.mosip.kernel.auth.repository.DataStore;
 import io.mosip.kernel.auth.repository.UserStoreFactory;
@@ -45,6 +47,25 @@ public class UserStoreFactoryImpl implements UserStoreFactory {
 	@Value("${hikari.minimumIdle:0}")
 	private int minimumIdle;
 
+	@Value("${ldap.admin.dn:}")
+	private String ldapAdminDn;
+	@Value("${ldap.admin.password:}")
+	private String ldapAdminPassword;
+	@Value("${ldap.pool.maxTotal:25}")
+	private int ldapMaxTotal;
+	@Value("${ldap.pool.maxIdle:10}")
+	private int ldapMaxIdle;
+	@Value("${ldap.pool.minIdle:0}")
+	private int ldapMinIdle;
+	@Value("${ldap.pool.maxWaitMillis:10000}")
+	private long ldapMaxWaitMillis;
+	@Value("${ldap.pool.timeoutMillis:30000}")
+	private long ldapTimeoutMillis;
+	@Value("${ldap.pool.evictionIntervalMillis:60000}")
+	private long ldapEvictionIntervalMillis;
+	@Value("${ldap.pool.minEvictableIdleMillis:300000}")
+	private long ldapMinEvictableIdleMillis;
+
 	UserStoreFactoryImpl() {
 
 	}
@@ -54,6 +75,21 @@ public class UserStoreFactoryImpl implements UserStoreFactory {
 		buildDataStoreMap();
 	}
 
+	/**
+	 * Closes the connection pools of the LDAP datastores, which are not beans
+	 */
+	@PreDestroy
+	private void destroy() {
+		if (dataStoreMap == null) {
+			return;
+		}
+		for (DataStore dataStore : dataStoreMap.values()) {
+			if (dataStore instanceof LdapDataStore) {
+				((LdapDataStore) dataStore).close();
+			}
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -79,7 +115,7 @@ public class UserStoreFactoryImpl implements UserStoreFactory {
 				dataBaseConfig.setDriverName(mosipEnvironment.getDriverName(ds));
 				dataBaseConfig.setSchemas(ds);
 				if (ds.contains(AuthConstant.LDAP)) {
-					DataStore idatastore = new LdapDataStore(dataBaseConfig);
+					DataStore idatastore = new LdapDataStore(dataBaseConfig, getLdapPoolProps());
 					dataStoreMap.put(ds, idatastore);
 				} else {
 					DataStore idatastore = new DBDataStore(dataBaseConfig,maximumPoolSize,validationTimeout,connectionTimeout,idleTimeout,minimumIdle);
@@ -91,6 +127,20 @@ public class UserStoreFactoryImpl implements UserStoreFactory {
 		}
 	}
 
+	private LdapPoolProps getLdapPoolProps() {
+		LdapPoolProps ldapPoolProps = new LdapPoolProps();
+		ldapPoolProps.setAdminDn(ldapAdminDn);
+		ldapPoolProps.setAdminPassword(ldapAdminPassword);
+		ldapPoolProps.setMaxTotal(ldapMaxTotal);
+		ldapPoolProps.setMaxIdle(ldapMaxIdle);
+		ldapPoolProps.setMinIdle(ldapMinIdle);
+		ldapPoolProps.setMaxWaitMillis(ldapMaxWaitMillis);
+		ldapPoolProps.setTimeoutMillis(ldapTimeoutMillis);
+		ldapPoolProps.setEvictionIntervalMillis(ldapEvictionIntervalMillis);
+		ldapPoolProps.setMinEvictableIdleMillis(ldapMinEvictableIdleMillis);
+		return ldapPoolProps;
+	}
+
 	@Override
 	public DataStore getDataStoreBasedOnApp(String appId) {
 		String datasource = null;
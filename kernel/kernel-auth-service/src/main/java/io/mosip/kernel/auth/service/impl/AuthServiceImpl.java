@@ -38,6 +38,7 @@ import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.kernel.auth.adapter.cache.ValidatedTokenCache;
 import io.mosip.kernel.auth.adapter.constant.AuthAdapterConstant;
 import io.mosip.kernel.auth.config.MosipEnvironment;
 import io.mosip.kernel.auth.constant.AuthConstant;
@@ -126,6 +127,9 @@ public class AuthServiceImpl implements AuthService {
 	@Autowired
 	TokenService customTokenServices;
 
+	@Autowired
+	ValidatedTokenCache validatedTokenCache;
+
 	@Autowired
 	OTPService oTPService;
 
@@ -193,11 +197,15 @@ public class AuthServiceImpl implements AuthService {
 
 	@Override
 	public MosipUserTokenDto validateToken(String token) throws Exception {
+		MosipUserTokenDto cachedUserDtoToken = validatedTokenCache.getValidated(token, MosipUserTokenDto.class);
+		if (cachedUserDtoToken != null) {
+			return cachedUserDtoToken;
+		}
 		MosipUserTokenDto mosipUserDtoToken = tokenValidator.validateToken(token);
 		AuthToken authToken = customTokenServices.getTokenDetails(token);
 		if (authToken == null) {
-			throw new AuthManagerException(AuthErrorCode.INVALID_TOKEN.getErrorCode(),
-					AuthErrorCode.INVALID_TOKEN.getErrorMessage());
+			throw validatedTokenCache.putRejected(token, AuthErrorCode.INVALID_TOKEN.getErrorCode(),
+					AuthErrorCode.INVALID_TOKEN.getErrorMessage(), AuthManagerException::new);
 		}
 		/*
 		 * AuthToken authToken = customTokenServices.getTokenDetails(token); if
@@ -213,9 +221,11 @@ public class AuthServiceImpl implements AuthService {
 		 * customTokenServices.StoreToken(newAuthToken); return mosipUserDtoToken; }
 		 */
 		if (mosipUserDtoToken != null /* && (currentTime < authToken.getExpirationTime()) */) {
+			validatedTokenCache.putValidated(token, MosipUserTokenDto.class, mosipUserDtoToken);
 			return mosipUserDtoToken;
 		} else {
-			throw new NonceExpiredException(AuthConstant.AUTH_TOKEN_EXPIRED_MESSAGE);
+			throw validatedTokenCache.putRejected(token, null, AuthConstant.AUTH_TOKEN_EXPIRED_MESSAGE,
+					(errorCode, errorMessage) -> new NonceExpiredException(errorMessage));
 		}
 	}
 
@@ -450,6 +460,7 @@ public class AuthServiceImpl implements AuthService {
 	public AuthNResponse invalidateToken(String token) throws Exception {
 		AuthNResponse authNResponse = null;
 		customTokenServices.revokeToken(token);
+		validatedTokenCache.invalidate(token);
 		authNResponse = new AuthNResponse();
 		authNResponse.setStatus(AuthConstant.SUCCESS_STATUS);
 		authNResponse.setMessage(AuthConstant.TOKEN_INVALID_MESSAGE);
@@ -553,9 +564,12 @@ public class AuthServiceImpl implements AuthService {
 		}
 
 		//token = token.substring(AuthAdapterConstant.AUTH_ADMIN_COOKIE_PREFIX.length());
+		MosipUserDto mosipUserDto = validatedTokenCache.getValidated(token, MosipUserDto.class);
+		if (mosipUserDto != null) {
+			return mosipUserDto;
+		}
 		pathparams.put(KeycloakConstants.REALM_ID, "mosip");
 		ResponseEntity<String> response = null;
-		MosipUserDto mosipUserDto = null;
 		System.out.println("validate token url "+openIdUrl);
 		StringBuilder urlBuilder = new StringBuilder().append(openIdUrl).append("userinfo");
 		UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(urlBuilder.toString());
@@ -571,7 +585,9 @@ public class AuthServiceImpl implements AuthService {
 		} catch (HttpClientErrorException | HttpServerErrorException e) {
 			KeycloakErrorResponseDto keycloakErrorResponseDto = parseKeyClockErrorResponse(e);
 			if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
-				throw new AuthenticationServiceException(AuthErrorCode.INVALID_TOKEN.getErrorMessage()+keycloakErrorResponseDto.getError_description());
+				throw validatedTokenCache.putRejected(token, AuthErrorCode.INVALID_TOKEN.getErrorCode(),
+						AuthErrorCode.INVALID_TOKEN.getErrorMessage() + keycloakErrorResponseDto.getError_description(),
+						(errorCode, errorMessage) -> new AuthenticationServiceException(errorMessage));
 			} 
 			else if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
 				throw new AccessDeniedException(AuthErrorCode.FORBIDDEN.getErrorMessage()+keycloakErrorResponseDto.getError_description());
@@ -583,6 +599,7 @@ public class AuthServiceImpl implements AuthService {
 
 		if (response.getStatusCode().is2xxSuccessful()) {
 			mosipUserDto = getClaims(token);
+			validatedTokenCache.putValidated(token, MosipUserDto.class, mosipUserDto);
 		}
 		return mosipUserDto;
 
@@ -600,6 +617,7 @@ public class AuthServiceImpl implements AuthService {
 		if(EmptyCheckUtils.isNullEmpty(token)) {
 			throw new AuthenticationServiceException(AuthErrorCode.INVALID_TOKEN.getErrorMessage());
 		}
+		validatedTokenCache.invalidate(token);
 		//token = token.substring(AuthAdapterConstant.AUTH_ADMIN_COOKIE_PREFIX.length());
 		Map<String, String> pathparams = new HashMap<>();
 		pathparams.put(KeycloakConstants.REALM_ID, realmID);
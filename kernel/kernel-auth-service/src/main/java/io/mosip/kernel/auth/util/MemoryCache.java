@@ -1,64 +1,30 @@
 package io.mosip.kernel.auth.util;
 
-import org.apache.commons.collections.map.LRUMap;
+import java.util.function.BiConsumer;
 
-import lombok.Getter;
+import io.mosip.kernel.core.util.ExpiringCache;
 
 /**
- * Local cache to store admin token
- * 
+ * Local cache to store admin token. Reads and writes do not lock, see
+ * {@link ExpiringCache}.
+ *
  * @author Urvil Joshi
  * @since 1.0.0
  *
  * @param <K> type of key
  * @param <T> type of value
  */
-public class MemoryCache<K, T> {
-
-	private LRUMap cacheMap;
-
-	protected class CacheObject {
-		@Getter
-		private long lastAccessed = System.currentTimeMillis();
-		private T value;
-
-		protected CacheObject(T value) {
-			this.value = value;
-		}
-	}
+public class MemoryCache<K, T> extends ExpiringCache<K, T> {
 
 	public MemoryCache(int maxItems) {
-		cacheMap = new LRUMap(maxItems);
-	}
-
-	public void put(K key, T value) {
-		synchronized (cacheMap) {
-			cacheMap.put(key, new CacheObject(value));
-		}
-	}
-
-	@SuppressWarnings("unchecked")
-	public T get(K key) {
-		synchronized (cacheMap) {
-			CacheObject c = (CacheObject) cacheMap.get(key);
-			if (c == null)
-				return null;
-			else {
-				c.lastAccessed = System.currentTimeMillis();
-				return c.value;
-			}
-		}
+		super(maxItems);
 	}
 
-	public void remove(K key) {
-		synchronized (cacheMap) {
-			cacheMap.remove(key);
-		}
+	public MemoryCache(int maxItems, long ttlMillis) {
+		super(maxItems, ttlMillis);
 	}
 
-	public int size() {
-		synchronized (cacheMap) {
-			return cacheMap.size();
-		}
+	public MemoryCache(int maxItems, long ttlMillis, BiConsumer<K, T> evictionListener) {
+		super(maxItems, ttlMillis, evictionListener);
 	}
-}
\ No newline at end of file
+}
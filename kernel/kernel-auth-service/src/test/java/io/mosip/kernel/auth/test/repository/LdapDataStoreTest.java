@@ -0,0 +1,191 @@
+package io.mosip.kernel.auth.test.repository;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.directory.api.ldap.model.cursor.EntryCursor;
+import org.apache.directory.api.ldap.model.entry.DefaultEntry;
+import org.apache.directory.api.ldap.model.entry.Entry;
+import org.apache.directory.api.ldap.model.message.SearchScope;
+import org.apache.directory.api.ldap.model.name.Dn;
+import org.apache.directory.ldap.client.api.LdapConnection;
+import org.apache.directory.ldap.client.api.LdapConnectionPool;
+import org.apache.directory.ldap.client.api.ValidatingPoolableLdapConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.auth.constant.LdapConstants;
+import io.mosip.kernel.auth.dto.DataBaseProps;
+import io.mosip.kernel.auth.dto.LdapPoolProps;
+import io.mosip.kernel.auth.dto.MosipUserDto;
+import io.mosip.kernel.auth.exception.AuthManagerException;
+import io.mosip.kernel.auth.repository.impl.LdapDataStore;
+
+/**
+ * Checks the connection pools of the LDAP datastore, and the batched user
+ * searches against a mocked connection.
+ *
+ * @since 1.0.0
+ *
+ */
+public class LdapDataStoreTest {
+
+	private LdapDataStore ldapDataStore;
+
+	private LdapConnection connection;
+
+	private final ArgumentCaptor<String> usersFilter = ArgumentCaptor.forClass(String.class);
+
+	private final ArgumentCaptor<String> rolesFilter = ArgumentCaptor.forClass(String.class);
+
+	/**
+	 * Role entries returned by the roles search, in LDAP order
+	 */
+	private final List<Entry> roleEntries = new ArrayList<>();
+
+	@Before
+	public void setup() throws Exception {
+		DataBaseProps dataBaseConfig = new DataBaseProps();
+		dataBaseConfig.setUrl("localhost");
+		dataBaseConfig.setPort(String.valueOf(closedPort()));
+		dataBaseConfig.setSchemas("ldap_test");
+		LdapPoolProps ldapPoolProps = new LdapPoolProps();
+		ldapPoolProps.setMaxTotal(5);
+		ldapPoolProps.setMaxIdle(2);
+		ldapPoolProps.setMaxWaitMillis(1000);
+		ldapPoolProps.setTimeoutMillis(1000);
+		ldapPoolProps.setEvictionIntervalMillis(30000);
+		ldapPoolProps.setMinEvictableIdleMillis(120000);
+		ldapDataStore = new LdapDataStore(dataBaseConfig, ldapPoolProps);
+
+		connection = Mockito.mock(LdapConnection.class);
+		Mockito.when(connection.search(ArgumentMatchers.eq(new Dn("ou=people,c=morocco")), usersFilter.capture(),
+				ArgumentMatchers.eq(SearchScope.ONELEVEL))).thenAnswer(invocation -> cursor(Collections
+						.singletonList(new DefaultEntry("uid=110001,ou=people,c=morocco", "uid: 110001", "cn: 110001"))));
+		Mockito.when(connection.search(ArgumentMatchers.eq(new Dn("ou=roles,c=morocco")), rolesFilter.capture(),
+				ArgumentMatchers.eq(SearchScope.ONELEVEL), ArgumentMatchers.eq("cn"),
+				ArgumentMatchers.eq(LdapConstants.ROLE_OCCUPANT))).thenAnswer(invocation -> cursor(roleEntries));
+	}
+
+	@After
+	public void close() {
+		ldapDataStore.close();
+	}
+
+	@Test
+	public void poolConfigTest() {
+		for (String poolName : Arrays.asList("lookupPool", "bindPool")) {
+			LdapConnectionPool pool = pool(poolName);
+			assertThat(pool.getMaxTotal(), is(5));
+			assertThat(pool.getMaxIdle(), is(2));
+			assertThat(pool.getMaxWaitMillis(), is(1000L));
+			assertThat(pool.getTimeBetweenEvictionRunsMillis(), is(30000L));
+			assertThat(pool.getMinEvictableIdleTimeMillis(), is(120000L));
+			// connections are validated before use, and while idle
+			assertThat(pool.getTestOnBorrow(), is(true));
+			assertThat(pool.getTestWhileIdle(), is(true));
+			assertThat(pool.getFactory(), is(instanceOf(ValidatingPoolableLdapConnectionFactory.class)));
+		}
+	}
+
+	@Test
+	public void unreachableServerTest() throws Exception {
+		try {
+			ldapDataStore.getListOfUsersDetails(Collections.singletonList("110001"));
+			throw new AssertionError("expected AuthManagerException");
+		} catch (AuthManagerException e) {
+			// no connection to the server
+		}
+		assertThat(pool("lookupPool").getNumActive(), is(0));
+		assertThat(pool("lookupPool").getNumIdle(), is(0));
+	}
+
+	@Test
+	public void closeTest() {
+		ldapDataStore.close();
+		assertThat(pool("lookupPool").isClosed(), is(true));
+		assertThat(pool("bindPool").isClosed(), is(true));
+		// created by Spring, without pools
+		new LdapDataStore().close();
+	}
+
+	@Test
+	public void batchedFilterEscapingTest() throws Exception {
+		useConnection();
+		ldapDataStore.getListOfUsersDetails(Arrays.asList("110001", "110002)(cn*"));
+		assertThat(usersFilter.getValue().toLowerCase(Locale.ROOT),
+				is("(|(uid=110001)(uid=110002\\29\\28cn\\2a))"));
+		assertThat(rolesFilter.getValue().toLowerCase(Locale.ROOT),
+				is("(&(objectclass=organizationalrole)(|(roleoccupant=uid=110001,ou=people,c=morocco)"
+						+ "(roleoccupant=uid=110002\\29\\28cn\\2a,ou=people,c=morocco)))"));
+	}
+
+	@Test
+	public void batchedSearchesTest() throws Exception {
+		useConnection();
+		List<String> userIds = new ArrayList<>();
+		for (int i = 0; i < 150; i++) {
+			userIds.add(String.valueOf(110001 + i));
+		}
+		List<MosipUserDto> mosipUserDtos = ldapDataStore.getListOfUsersDetails(userIds).getMosipUserDtoList();
+		// only 110001 is in the directory
+		assertThat(mosipUserDtos.size(), is(1));
+		assertThat(usersFilter.getAllValues().size(), is(2));
+		assertThat(usersFilter.getAllValues().get(0).split("\\(uid=").length - 1, is(100));
+		assertThat(usersFilter.getAllValues().get(1).split("\\(uid=").length - 1, is(50));
+		assertThat(rolesFilter.getAllValues().size(), is(2));
+	}
+
+	@Test
+	public void rolesInLdapOrderTest() throws Exception {
+		useConnection();
+		for (String role : Arrays.asList("ZONAL_ADMIN", "REGISTRATION_ADMIN", "CENTRAL_ADMIN", "INDIVIDUAL")) {
+			roleEntries.add(new DefaultEntry("cn=" + role + ",ou=roles,c=morocco", "cn: " + role,
+					"roleOccupant: uid=110001,ou=people,c=morocco", "roleOccupant: uid=110002,ou=people,c=morocco"));
+		}
+		List<MosipUserDto> mosipUserDtos = ldapDataStore.getListOfUsersDetails(Arrays.asList("110001", "110002"))
+				.getMosipUserDtoList();
+		assertThat(mosipUserDtos.size(), is(1));
+		assertThat(mosipUserDtos.get(0).getRole(), is("ZONAL_ADMIN,REGISTRATION_ADMIN,CENTRAL_ADMIN,INDIVIDUAL"));
+	}
+
+	/**
+	 * Serves the lookups from the mocked connection
+	 */
+	private void useConnection() throws Exception {
+		ldapDataStore.close();
+		LdapConnectionPool lookupPool = Mockito.mock(LdapConnectionPool.class);
+		Mockito.when(lookupPool.getConnection()).thenReturn(connection);
+		ReflectionTestUtils.setField(ldapDataStore, "lookupPool", lookupPool);
+	}
+
+	private LdapConnectionPool pool(String poolName) {
+		return (LdapConnectionPool) ReflectionTestUtils.getField(ldapDataStore, poolName);
+	}
+
+	private static EntryCursor cursor(List<Entry> entries) {
+		EntryCursor cursor = Mockito.mock(EntryCursor.class);
+		Mockito.when(cursor.iterator()).thenReturn(entries.iterator());
+		return cursor;
+	}
+
+	private static int closedPort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
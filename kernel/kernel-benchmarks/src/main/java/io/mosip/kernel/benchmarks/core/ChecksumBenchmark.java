@@ -0,0 +1,178 @@
+package io.mosip.kernel.benchmarks.core;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.mosip.kernel.core.util.ChecksumUtils;
+
+/**
+ * Compares the Verhoeff checksum of {@link ChecksumUtils} with the previous
+ * implementation, which reversed the digits into a new <code>int[]</code> on
+ * every call. Every benchmark works on the same {@value #BATCH} random 10 digit
+ * ids and reports ids per microsecond. Run with <code>-prof gc</code> to see the
+ * allocation rate.
+ * 
+ * @since 1.0.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(ChecksumBenchmark.BATCH)
+public class ChecksumBenchmark {
+
+	static final int BATCH = 1024;
+
+	private static final int ID_LENGTH = 10;
+
+	private String[] ids;
+
+	private long[] longIds;
+
+	private byte[] packedIds;
+
+	private long[] longResults;
+
+	private boolean[] results;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(42);
+		ids = new String[BATCH];
+		longIds = new long[BATCH];
+		packedIds = new byte[BATCH * ID_LENGTH];
+		longResults = new long[BATCH];
+		results = new boolean[BATCH];
+		for (int i = 0; i < BATCH; i++) {
+			StringBuilder id = new StringBuilder(ID_LENGTH);
+			id.append(1 + random.nextInt(9));
+			for (int j = 1; j < ID_LENGTH - 1; j++) {
+				id.append(random.nextInt(10));
+			}
+			id.append(ChecksumUtils.generateChecksumDigit(id.toString()));
+			ids[i] = id.toString();
+			longIds[i] = Long.parseLong(ids[i]);
+			for (int j = 0; j < ID_LENGTH; j++) {
+				packedIds[i * ID_LENGTH + j] = (byte) (ids[i].charAt(j) - '0');
+			}
+		}
+	}
+
+	@Benchmark
+	public void legacyValidate(Blackhole blackhole) {
+		for (String id : ids) {
+			blackhole.consume(LegacyChecksum.validateChecksum(id));
+		}
+	}
+
+	@Benchmark
+	public void legacyGenerate(Blackhole blackhole) {
+		for (String id : ids) {
+			blackhole.consume(LegacyChecksum.generateChecksumDigit(id.substring(0, ID_LENGTH - 1)));
+		}
+	}
+
+	@Benchmark
+	public void validateString(Blackhole blackhole) {
+		for (String id : ids) {
+			blackhole.consume(ChecksumUtils.validateChecksum(id));
+		}
+	}
+
+	@Benchmark
+	public void validateLong(Blackhole blackhole) {
+		for (long id : longIds) {
+			blackhole.consume(ChecksumUtils.validateChecksum(id));
+		}
+	}
+
+	@Benchmark
+	public void validateBytes(Blackhole blackhole) {
+		for (int i = 0; i < BATCH; i++) {
+			blackhole.consume(ChecksumUtils.validateChecksum(packedIds, i * ID_LENGTH, ID_LENGTH));
+		}
+	}
+
+	@Benchmark
+	public int validateBulkStrings() {
+		return ChecksumUtils.validateChecksums(ids, results);
+	}
+
+	@Benchmark
+	public int validateBulkBytes() {
+		return ChecksumUtils.validateChecksums(packedIds, 0, ID_LENGTH, BATCH, results);
+	}
+
+	@Benchmark
+	public long[] appendBulkLongs() {
+		for (int i = 0; i < BATCH; i++) {
+			longResults[i] = longIds[i] / 10;
+		}
+		ChecksumUtils.appendChecksums(longResults, longResults);
+		return longResults;
+	}
+
+	/**
+	 * The Verhoeff implementation of {@link ChecksumUtils} before the primitive
+	 * overloads were added, kept as the baseline
+	 */
+	private static final class LegacyChecksum {
+
+		private static int[][] d = new int[][] { { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, { 1, 2, 3, 4, 0, 6, 7, 8, 9, 5 },
+				{ 2, 3, 4, 0, 1, 7, 8, 9, 5, 6 }, { 3, 4, 0, 1, 2, 8, 9, 5, 6, 7 }, { 4, 0, 1, 2, 3, 9, 5, 6, 7, 8 },
+				{ 5, 9, 8, 7, 6, 0, 4, 3, 2, 1 }, { 6, 5, 9, 8, 7, 1, 0, 4, 3, 2 }, { 7, 6, 5, 9, 8, 2, 1, 0, 4, 3 },
+				{ 8, 7, 6, 5, 9, 3, 2, 1, 0, 4 }, { 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 } };
+
+		private static int[][] p = new int[][] { { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, { 1, 5, 7, 6, 2, 8, 3, 0, 9, 4 },
+				{ 5, 8, 0, 3, 7, 9, 6, 1, 4, 2 }, { 8, 9, 1, 6, 0, 4, 3, 5, 2, 7 }, { 9, 4, 5, 3, 1, 2, 6, 8, 7, 0 },
+				{ 4, 2, 8, 6, 5, 7, 3, 9, 0, 1 }, { 2, 7, 9, 3, 8, 0, 6, 4, 1, 5 }, { 7, 0, 4, 6, 9, 1, 3, 2, 5, 8 } };
+
+		private static int[] inv = { 0, 4, 3, 2, 1, 5, 6, 7, 8, 9 };
+
+		static String generateChecksumDigit(String num) {
+			int c = 0;
+			int[] myArray = stringToReversedIntArray(num);
+			for (int i = 0; i < myArray.length; i++) {
+				c = d[c][p[((i + 1) % 8)][myArray[i]]];
+			}
+			return Integer.toString(inv[c]);
+		}
+
+		static boolean validateChecksum(String num) {
+			int c = 0;
+			int[] myArray = stringToReversedIntArray(num);
+			for (int i = 0; i < myArray.length; i++) {
+				c = d[c][p[(i % 8)][myArray[i]]];
+			}
+			return (c == 0);
+		}
+
+		private static int[] stringToReversedIntArray(String num) {
+			int[] myArray = new int[num.length()];
+			for (int i = 0; i < num.length(); i++) {
+				myArray[i] = Integer.parseInt(num.substring(i, i + 1));
+			}
+			int[] reversed = new int[myArray.length];
+			for (int i = 0; i < myArray.length; i++) {
+				reversed[i] = myArray[myArray.length - (i + 1)];
+			}
+			return reversed;
+		}
+	}
+}
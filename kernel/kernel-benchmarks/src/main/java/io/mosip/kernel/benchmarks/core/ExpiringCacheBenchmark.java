@@ -0,0 +1,84 @@
+package io.mosip.kernel.benchmarks.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.core.util.ExpiringCache;
+
+/**
+ * Measures {@link ExpiringCache}, which backs the MemoryCache of the auth
+ * service, on 32 threads.
+ * <p>
+ * The admin token benchmark gets and puts one key, as the auth service
+ * RestInterceptor does on every request. The read mostly benchmark reads
+ * random keys out of twice as many keys as the cache holds, and puts one in
+ * ten, so that the puts evict.
+ *
+ * @since 1.0.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class ExpiringCacheBenchmark {
+
+	private static final int MAX_ITEMS = 1024;
+
+	private static final int KEYS = 2 * MAX_ITEMS;
+
+	private static final String ADMIN_TOKEN = "adminToken";
+
+	/**
+	 * Caches shared by all the threads
+	 */
+	@State(Scope.Benchmark)
+	public static class Caches {
+
+		ExpiringCache<String, String> adminTokenCache;
+
+		ExpiringCache<Integer, Integer> cache;
+
+		@Setup
+		public void setup() {
+			adminTokenCache = new ExpiringCache<>(1);
+			adminTokenCache.put(ADMIN_TOKEN, ADMIN_TOKEN);
+			cache = new ExpiringCache<>(MAX_ITEMS);
+			for (int i = 0; i < MAX_ITEMS; i++) {
+				cache.put(i, i);
+			}
+		}
+	}
+
+	@Benchmark
+	public String adminToken(Caches caches) {
+		String token = caches.adminTokenCache.get(ADMIN_TOKEN);
+		caches.adminTokenCache.put(ADMIN_TOKEN, token);
+		return token;
+	}
+
+	@Benchmark
+	public Integer readMostly(Caches caches) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int key = random.nextInt(KEYS);
+		if (random.nextInt(10) == 0) {
+			caches.cache.put(key, key);
+			return key;
+		}
+		return caches.cache.get(key);
+	}
+}
@@ -0,0 +1,120 @@
+package io.mosip.kernel.benchmarks.core;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.core.util.HMACUtils;
+
+/**
+ * Measures SHA-256 hashing through {@link HMACUtils} on one thread and on all
+ * available processors, against the previous implementation which shared one
+ * digest behind a global lock. The token id benchmarks hash twice per call,
+ * as the token id generator does. Compare the single and all-thread scores to
+ * see how hashing scales across cores.
+ * 
+ * @since 1.0.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HMACUtilsBenchmark {
+
+	/**
+	 * Per thread input, a 10 digit uin
+	 */
+	@State(Scope.Thread)
+	public static class Input {
+
+		byte[] uin;
+
+		@Setup
+		public void setup() {
+			uin = Long.toString(ThreadLocalRandom.current().nextLong(1000000000L, 10000000000L)).getBytes();
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String hashSingleThread(Input input) {
+		return HMACUtils.digestAsPlainText(HMACUtils.generateHash(input.uin));
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String hashAllThreads(Input input) {
+		return HMACUtils.digestAsPlainText(HMACUtils.generateHash(input.uin));
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String legacyHashSingleThread(Input input) {
+		return LegacyHash.digestAsPlainText(LegacyHash.generateHash(input.uin));
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String legacyHashAllThreads(Input input) {
+		return LegacyHash.digestAsPlainText(LegacyHash.generateHash(input.uin));
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String tokenIdAllThreads(Input input) {
+		String uinHash = HMACUtils.digestAsPlainText(HMACUtils.generateHash(input.uin));
+		String hash = HMACUtils.digestAsPlainText(HMACUtils.generateHash(("partner" + uinHash).getBytes()));
+		return new BigInteger(hash.getBytes()).toString().substring(0, 36);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String legacyTokenIdAllThreads(Input input) {
+		String uinHash = LegacyHash.digestAsPlainText(LegacyHash.generateHash(input.uin));
+		String hash = LegacyHash.digestAsPlainText(LegacyHash.generateHash(("partner" + uinHash).getBytes()));
+		return new BigInteger(hash.getBytes()).toString().substring(0, 36);
+	}
+
+	/**
+	 * The hashing of {@link HMACUtils} before thread local digests, kept as the
+	 * baseline
+	 */
+	private static final class LegacyHash {
+
+		private static MessageDigest messageDigest;
+
+		static {
+			try {
+				messageDigest = MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		static synchronized byte[] generateHash(final byte[] bytes) {
+			return messageDigest.digest(bytes);
+		}
+
+		static synchronized String digestAsPlainText(final byte[] bytes) {
+			return DatatypeConverter.printHexBinary(bytes).toUpperCase();
+		}
+	}
+}
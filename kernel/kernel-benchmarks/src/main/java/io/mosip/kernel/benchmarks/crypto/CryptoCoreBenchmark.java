@@ -0,0 +1,180 @@
+package io.mosip.kernel.benchmarks.crypto;
+
+import java.lang.reflect.Field;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource.PSpecified;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.crypto.jce.core.CryptoCore;
+
+/**
+ * Measures the crypto core operations with the per thread engine cache against
+ * a new JCE engine per operation, as the crypto core used to, at several
+ * payload sizes. RSA-OAEP encrypts a fixed 32 byte payload, the size of the
+ * symmetric keys it wraps.
+ *
+ * @since 1.0.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoCoreBenchmark {
+
+	private static final String SYMMETRIC_ALGORITHM = "AES/GCM/NoPadding";
+
+	private static final String ASYMMETRIC_ALGORITHM = "RSA/ECB/OAEPWITHSHA-256ANDMGF1PADDING";
+
+	private static final String SIGN_ALGORITHM = "SHA512withRSA";
+
+	private static final int TAG_LENGTH = 128;
+
+	/**
+	 * Keys, payloads and crypto core shared by the benchmark threads
+	 */
+	@State(Scope.Benchmark)
+	public static class Keys {
+
+		@Param({ "64", "1024", "65536" })
+		int payloadSize;
+
+		CryptoCore cryptoCore;
+
+		SecureRandom random;
+
+		SecretKeySpec secretKey;
+
+		KeyPair keyPair;
+
+		byte[] payload;
+
+		byte[] symmetricKey;
+
+		byte[] encrypted;
+
+		@Setup
+		public void setup() throws Exception {
+			random = new SecureRandom();
+			cryptoCore = new CryptoCore();
+			set("symmetricAlgorithm", SYMMETRIC_ALGORITHM);
+			set("asymmetricAlgorithm", ASYMMETRIC_ALGORITHM);
+			set("signAlgorithm", SIGN_ALGORITHM);
+			set("tagLength", TAG_LENGTH);
+			set("asymmetricKeyLength", 2048);
+			cryptoCore.init();
+			byte[] keyBytes = new byte[32];
+			random.nextBytes(keyBytes);
+			secretKey = new SecretKeySpec(keyBytes, "AES");
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048, random);
+			keyPair = generator.generateKeyPair();
+			payload = new byte[payloadSize];
+			random.nextBytes(payload);
+			symmetricKey = new byte[32];
+			random.nextBytes(symmetricKey);
+			encrypted = cryptoCore.symmetricEncrypt(secretKey, payload, null);
+		}
+
+		private void set(String name, Object value) throws ReflectiveOperationException {
+			Field field = CryptoCore.class.getDeclaredField(name);
+			field.setAccessible(true);
+			field.set(cryptoCore, value);
+		}
+	}
+
+	/**
+	 * AES-GCM encryption with a new cipher, as done before the engine cache
+	 *
+	 * @param keys
+	 *            the shared keys
+	 * @return the cipher text
+	 * @throws GeneralSecurityException
+	 *             if AES-GCM is not available
+	 */
+	@Benchmark
+	public byte[] aesGcmEncryptNewCipher(Keys keys) throws GeneralSecurityException {
+		Cipher cipher = Cipher.getInstance(SYMMETRIC_ALGORITHM);
+		byte[] iv = new byte[cipher.getBlockSize()];
+		keys.random.nextBytes(iv);
+		cipher.init(Cipher.ENCRYPT_MODE, keys.secretKey, new GCMParameterSpec(TAG_LENGTH, iv));
+		return cipher.doFinal(keys.payload);
+	}
+
+	@Benchmark
+	public byte[] aesGcmEncrypt(Keys keys) {
+		return keys.cryptoCore.symmetricEncrypt(keys.secretKey, keys.payload, null);
+	}
+
+	@Benchmark
+	public byte[] aesGcmDecrypt(Keys keys) {
+		return keys.cryptoCore.symmetricDecrypt(keys.secretKey, keys.encrypted, null);
+	}
+
+	/**
+	 * RSA-OAEP encryption with a new cipher, as done before the engine cache
+	 *
+	 * @param keys
+	 *            the shared keys
+	 * @return the cipher text
+	 * @throws GeneralSecurityException
+	 *             if RSA-OAEP is not available
+	 */
+	@Benchmark
+	public byte[] rsaOaepEncryptNewCipher(Keys keys) throws GeneralSecurityException {
+		Cipher cipher = Cipher.getInstance(ASYMMETRIC_ALGORITHM);
+		cipher.init(Cipher.ENCRYPT_MODE, keys.keyPair.getPublic(),
+				new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSpecified.DEFAULT));
+		return cipher.doFinal(keys.symmetricKey);
+	}
+
+	@Benchmark
+	public byte[] rsaOaepEncrypt(Keys keys) {
+		return keys.cryptoCore.asymmetricEncrypt(keys.keyPair.getPublic(), keys.symmetricKey);
+	}
+
+	/**
+	 * Signature with a new engine, as done before the engine cache
+	 *
+	 * @param keys
+	 *            the shared keys
+	 * @return the signature
+	 * @throws GeneralSecurityException
+	 *             if the signature algorithm is not available
+	 */
+	@Benchmark
+	public byte[] signNewSignature(Keys keys) throws GeneralSecurityException {
+		Signature signature = Signature.getInstance(SIGN_ALGORITHM);
+		signature.initSign(keys.keyPair.getPrivate());
+		signature.update(keys.payload);
+		return signature.sign();
+	}
+
+	@Benchmark
+	public String sign(Keys keys) {
+		return keys.cryptoCore.sign(keys.payload, keys.keyPair.getPrivate());
+	}
+}
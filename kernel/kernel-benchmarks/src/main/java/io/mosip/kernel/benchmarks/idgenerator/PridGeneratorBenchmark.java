@@ -0,0 +1,142 @@
+package io.mosip.kernel.benchmarks.idgenerator;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.core.util.ChecksumUtils;
+import io.mosip.kernel.idgenerator.prid.util.PridBlockGenerator;
+
+/**
+ * Measures prids per second, checksum included, with a new cipher per prid as
+ * the prid generator used to and with the counter block generator. Run with
+ * <code>-t</code> to measure how the block generator scales with threads.
+ *
+ * @since 1.0.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PridGeneratorBenchmark {
+
+	/**
+	 * Length of the prid, as in the default prid generator configuration
+	 */
+	private static final int PRID_LENGTH = 14;
+
+	/**
+	 * Per thread state of the generator as it was, one counter per instance
+	 */
+	@State(Scope.Thread)
+	public static class Legacy {
+
+		SecureRandom random;
+
+		String randomSeed;
+
+		String counter;
+
+		@Setup
+		public void setup() {
+			random = new SecureRandom();
+			randomSeed = RandomStringUtils.random(32, "1234567890");
+			counter = RandomStringUtils.random(32, "123456789");
+		}
+	}
+
+	/**
+	 * Generator shared by all the benchmark threads
+	 */
+	@State(Scope.Benchmark)
+	public static class Shared {
+
+		PridBlockGenerator generator;
+
+		@Setup
+		public void setup() {
+			SecureRandom random = new SecureRandom();
+			byte[] key = new byte[32];
+			random.nextBytes(key);
+			generator = new PridBlockGenerator(PRID_LENGTH - 1, key, random.nextLong() >>> 2, 1000);
+		}
+	}
+
+	/**
+	 * Per thread digit buffer
+	 */
+	@State(Scope.Thread)
+	public static class Worker {
+
+		byte[] digits;
+
+		@Setup
+		public void setup() {
+			digits = new byte[PRID_LENGTH];
+		}
+	}
+
+	/**
+	 * Prid generation as done before the block generator: big integer counter, a
+	 * new key and GCM cipher per prid, and the digits of the cipher text
+	 *
+	 * @param legacy
+	 *            the legacy state
+	 * @return the prid
+	 * @throws GeneralSecurityException
+	 *             if AES/GCM is not available
+	 */
+	@Benchmark
+	public String cipherPerPrid(Legacy legacy) throws GeneralSecurityException {
+		legacy.counter = new BigInteger(legacy.counter).add(BigInteger.ONE).toString();
+		SecretKeySpec key = new SecretKeySpec(legacy.counter.getBytes(), "AES");
+		byte[] iv = new byte[12];
+		legacy.random.nextBytes(iv);
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+		byte[] encryptedData = cipher.doFinal(legacy.randomSeed.getBytes());
+		String prid = new BigInteger(encryptedData).abs().toString().substring(0, PRID_LENGTH - 1);
+		return prid + ChecksumUtils.generateChecksumDigit(prid);
+	}
+
+	/**
+	 * Prid generation from a counter block and a per thread cipher
+	 *
+	 * @param shared
+	 *            the shared generator
+	 * @param worker
+	 *            the worker state
+	 * @return the prid
+	 */
+	@Benchmark
+	public String counterBlock(Shared shared, Worker worker) {
+		byte[] digits = worker.digits;
+		int bodyLength = PRID_LENGTH - 1;
+		shared.generator.nextBody(digits);
+		digits[bodyLength] = (byte) ChecksumUtils.checksumDigit(digits, 0, bodyLength);
+		char[] chars = new char[PRID_LENGTH];
+		for (int i = 0; i < PRID_LENGTH; i++) {
+			chars[i] = (char) ('0' + digits[i]);
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,111 @@
+package io.mosip.kernel.benchmarks.uingenerator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.core.util.ChecksumUtils;
+import io.mosip.kernel.core.util.IdFilter;
+
+/**
+ * Measures uin candidates per second through the checksum and the filters, the
+ * way the uin generator produces them. Run with <code>-t</code> to measure how
+ * the worker pipeline scales with threads.
+ * 
+ * @since 1.0.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UinCandidateBenchmark {
+
+	/**
+	 * Length of the uin, as in the default uin generator configuration
+	 */
+	private static final int UIN_LENGTH = 10;
+
+	/**
+	 * Filter configured with the default uin generator properties, built as
+	 * UinFilterUtil builds it. The uin generator is a repackaged Spring Boot jar,
+	 * so only the cyclic numbers can be shared through kernel-core
+	 */
+	static final IdFilter UIN_FILTER = IdFilter.builder().length(UIN_LENGTH).sequenceLimit(3, true)
+			.repeatingLimit(2).repeatingBlockLimit(2).conjugativeEvenDigitsLimit(3).digitsGroupLimit(5)
+			.reverseDigitsGroupLimit(5).notStartWith(Arrays.asList("0", "1"))
+			.restrictedNumbers(Arrays.asList("786", "666")).restrictedNumbers(IdFilter.CYCLIC_NUMBERS).build();
+
+	/**
+	 * Per thread state of a generator worker
+	 */
+	@State(Scope.Thread)
+	public static class Worker {
+
+		SplittableRandom random;
+
+		byte[] digits;
+
+		char[] chars;
+
+		@Setup
+		public void setup() {
+			random = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+			digits = new byte[UIN_LENGTH];
+			chars = new char[UIN_LENGTH];
+		}
+	}
+
+	/**
+	 * Candidate generation as done before the pipeline: random string, checksum
+	 * appended through a string builder and string based filtering
+	 * 
+	 * @return the candidate if valid, null otherwise
+	 */
+	@Benchmark
+	public String sequentialCandidate() {
+		String generatedID = RandomStringUtils.random(UIN_LENGTH - 1, "1234567890");
+		String verhoeffDigit = ChecksumUtils.generateChecksumDigit(generatedID);
+		String uin = new StringBuilder(UIN_LENGTH).append(generatedID).append(verhoeffDigit).toString();
+		return UIN_FILTER.isValidId(uin) ? uin : null;
+	}
+
+	/**
+	 * Candidate generation as done by a pipeline worker
+	 * 
+	 * @param worker
+	 *            the worker state
+	 * @return the candidate if valid, null otherwise
+	 */
+	@Benchmark
+	public String workerCandidate(Worker worker) {
+		int generatedIdLength = UIN_LENGTH - 1;
+		byte[] digits = worker.digits;
+		char[] chars = worker.chars;
+		for (int i = 0; i < generatedIdLength; i++) {
+			digits[i] = (byte) worker.random.nextInt(10);
+		}
+		digits[generatedIdLength] = (byte) ChecksumUtils.checksumDigit(digits, 0, generatedIdLength);
+		if (!UIN_FILTER.isValidId(digits, 0, UIN_LENGTH)) {
+			return null;
+		}
+		for (int i = 0; i < UIN_LENGTH; i++) {
+			chars[i] = (char) ('0' + digits[i]);
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,152 @@
+package io.mosip.kernel.benchmarks.uingenerator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures persisted uins per second for the batched insert used to populate
+ * the uin pool. Runs against an in-memory H2 database by default, pass
+ * <code>-p url=jdbc:postgresql://host:port/db -p user=.. -p password=..</code>
+ * to run against Postgres, in which case the <code>kernel.uin</code> table must
+ * exist and duplicates are skipped with <code>ON CONFLICT DO NOTHING</code>.
+ * The <code>ids</code> counter in the results is the number of persisted uins
+ * per second.
+ * 
+ * @since 1.0.0
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+public class UinPersistBenchmark {
+
+	/**
+	 * The single row insert of UinWriter, which the benchmarks cannot link
+	 * against as the uin generator is a repackaged Spring Boot jar
+	 */
+	private static final String INSERT_UIN_QUERY = "INSERT INTO kernel.uin(uin, uin_status, cr_by, cr_dtimes, is_deleted) VALUES (?, ?, ?, ?, ?)";
+
+	private static final String CREATE_UIN_TABLE = "CREATE TABLE IF NOT EXISTS kernel.uin (uin varchar(28) NOT NULL, uin_status varchar(16), cr_by varchar(256) NOT NULL, cr_dtimes timestamp NOT NULL, upd_by varchar(256), upd_dtimes timestamp, is_deleted boolean, del_dtimes timestamp, CONSTRAINT pk_uin_id PRIMARY KEY (uin))";
+
+	private static final String CREATED_BY = "uinbenchmark";
+
+	private static final String DELETE_UINS = "DELETE FROM kernel.uin WHERE cr_by = '" + CREATED_BY + "'";
+
+	@Param({ "jdbc:h2:mem:uinbenchmark;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS KERNEL" })
+	public String url;
+
+	@Param({ "sa" })
+	public String user;
+
+	@Param({ "" })
+	public String password;
+
+	@Param({ "1", "100", "1000" })
+	public int batchSize;
+
+	private Connection connection;
+
+	private PreparedStatement statement;
+
+	private long nextUin;
+
+	/**
+	 * Persisted uins, reported as a rate next to the batch rate
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class PersistedIds {
+
+		public long ids;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			ids = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws SQLException {
+		connection = DriverManager.getConnection(url, user, password);
+		connection.setAutoCommit(false);
+		boolean postgres = url.startsWith("jdbc:postgresql");
+		try (Statement ddl = connection.createStatement()) {
+			if (!postgres) {
+				ddl.execute(CREATE_UIN_TABLE);
+			}
+			ddl.execute(DELETE_UINS);
+		}
+		connection.commit();
+		statement = connection
+				.prepareStatement(postgres ? INSERT_UIN_QUERY + " ON CONFLICT DO NOTHING" : INSERT_UIN_QUERY);
+		nextUin = 1000000000L;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		statement.close();
+		try (Statement ddl = connection.createStatement()) {
+			ddl.execute(DELETE_UINS);
+		}
+		connection.commit();
+		connection.close();
+	}
+
+	/**
+	 * Persists one batch of uins in its own transaction, as the uin writer does
+	 * 
+	 * @param persisted
+	 *            the persisted uin counter
+	 * @return the number of uins persisted
+	 * @throws SQLException
+	 *             if the insert fails
+	 */
+	@Benchmark
+	public int persistBatch(PersistedIds persisted) throws SQLException {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneId.of("UTC")));
+		for (int i = 0; i < batchSize; i++) {
+			statement.setString(1, Long.toString(nextUin++));
+			statement.setString(2, "UNUSED");
+			statement.setString(3, CREATED_BY);
+			statement.setTimestamp(4, now);
+			statement.setBoolean(5, false);
+			statement.addBatch();
+		}
+		int inserted = 0;
+		for (int count : statement.executeBatch()) {
+			if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+				inserted++;
+			}
+		}
+		connection.commit();
+		persisted.ids += inserted;
+		return inserted;
+	}
+}
@@ -306,6 +306,20 @@ public interface CryptoCoreSpec<R, D, S, P, K, T> {
 	 */
 	T sign(D data, K privateKey);
 
+	/**
+	 * This method is responsible for core <b> Digital Signature </b>.
+	 *
+	 * This method is for signing the hash of data, computed with the digest of the
+	 * signature algorithm. The signature is the same as the one given by
+	 * {@link #sign(Object, Object)} for the data, so that the data can be hashed
+	 * as it is produced instead of being kept in memory to be signed.
+	 *
+	 * @param hash       hash of the data to sign
+	 * @param privateKey privateKey of owner
+	 * @return signed data
+	 */
+	T signHash(D hash, K privateKey);
+
 	/**
 	 * This method is responsible for core <b> Digital Signature </b>.
 	 * 
@@ -15,6 +15,17 @@ public interface SignatureUtil {
 	
 	public SignatureResponse sign(String data, String timestamp);
 
+	/**
+	 * Sign the hash of data, computed with the digest of the signature algorithm,
+	 * so that data produced as a stream can be signed without keeping it in
+	 * memory. The signature is the same as the one of the data.
+	 *
+	 * @param hash      the hash of the response body
+	 * @param timestamp the sign timestamp
+	 * @return the signature response
+	 */
+	public SignatureResponse signHash(byte[] hash, String timestamp);
+
 	/**
 	 * Validate with public key.
 	 *
@@ -2,7 +2,9 @@ package io.mosip.kernel.core.util;
 
 /**
  * This class provides functions to generate Verhoeff's checksum and validate
- * Verhoeff's checksum compliance
+ * Verhoeff's checksum compliance. Besides the string functions, it offers
+ * primitive overloads for {@link CharSequence}, <code>long</code> and digit
+ * arrays which do not allocate, and bulk functions working on arrays of ids.
  * 
  * @author Dharmesh Khandelwal
  * @since 1.0.0
@@ -19,7 +21,7 @@ public final class ChecksumUtils {
 	/**
 	 * The multiplication table.
 	 */
-	private static int[][] d = new int[][] { { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, { 1, 2, 3, 4, 0, 6, 7, 8, 9, 5 },
+	private static final int[][] d = new int[][] { { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, { 1, 2, 3, 4, 0, 6, 7, 8, 9, 5 },
 			{ 2, 3, 4, 0, 1, 7, 8, 9, 5, 6 }, { 3, 4, 0, 1, 2, 8, 9, 5, 6, 7 }, { 4, 0, 1, 2, 3, 9, 5, 6, 7, 8 },
 			{ 5, 9, 8, 7, 6, 0, 4, 3, 2, 1 }, { 6, 5, 9, 8, 7, 1, 0, 4, 3, 2 }, { 7, 6, 5, 9, 8, 2, 1, 0, 4, 3 },
 			{ 8, 7, 6, 5, 9, 3, 2, 1, 0, 4 }, { 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 } };
@@ -27,14 +29,31 @@ public final class ChecksumUtils {
 	/**
 	 * The permutation table.
 	 */
-	private static int[][] p = new int[][] { { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, { 1, 5, 7, 6, 2, 8, 3, 0, 9, 4 },
+	private static final int[][] p = new int[][] { { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, { 1, 5, 7, 6, 2, 8, 3, 0, 9, 4 },
 			{ 5, 8, 0, 3, 7, 9, 6, 1, 4, 2 }, { 8, 9, 1, 6, 0, 4, 3, 5, 2, 7 }, { 9, 4, 5, 3, 1, 2, 6, 8, 7, 0 },
 			{ 4, 2, 8, 6, 5, 7, 3, 9, 0, 1 }, { 2, 7, 9, 3, 8, 0, 6, 4, 1, 5 }, { 7, 0, 4, 6, 9, 1, 3, 2, 5, 8 } };
 
 	/**
 	 * The inverse table.
 	 */
-	private static int[] inv = { 0, 4, 3, 2, 1, 5, 6, 7, 8, 9 };
+	private static final int[] INV = { 0, 4, 3, 2, 1, 5, 6, 7, 8, 9 };
+
+	/**
+	 * The multiplication table flattened, <code>D[c * 10 + x] == d[c][x]</code>.
+	 */
+	private static final int[] D = flatten(d);
+
+	/**
+	 * The permutation table flattened,
+	 * <code>P[(i % 8) * 10 + x] == p[i % 8][x]</code>.
+	 */
+	private static final int[] P = flatten(p);
+
+	/**
+	 * Upper bound (exclusive) of an id a checksum digit can be appended to in a
+	 * <code>long</code>.
+	 */
+	private static final long MAX_ID_WITHOUT_CHECKSUM = Long.MAX_VALUE / 10;
 
 	/**
 	 * Generates the Verhoeff checksum digit for the provided numeric string.
@@ -44,12 +63,7 @@ public final class ChecksumUtils {
 	 *         string.
 	 */
 	public static String generateChecksumDigit(String num) {
-		int c = 0;
-		int[] myArray = stringToReversedIntArray(num);
-		for (int i = 0; i < myArray.length; i++) {
-			c = d[c][p[((i + 1) % 8)][myArray[i]]];
-		}
-		return Integer.toString(inv[c]);
+		return Integer.toString(checksumDigit(num));
 	}
 
 	/**
@@ -60,41 +74,253 @@ public final class ChecksumUtils {
 	 * @return true if the provided number is Verhoeff checksum compliant.
 	 */
 	public static boolean validateChecksum(String num) {
-		int c = 0;
-		int[] myArray = stringToReversedIntArray(num);
-		for (int i = 0; i < myArray.length; i++) {
-			c = d[c][p[(i % 8)][myArray[i]]];
+		return validateChecksum((CharSequence) num);
+	}
+
+	/**
+	 * Generates the Verhoeff checksum digit for the provided digits.
+	 * 
+	 * @param num The digits
+	 * @return The Verhoeff checksum digit, between 0 and 9.
+	 * @throws NumberFormatException if the input contains a non digit character
+	 */
+	public static int checksumDigit(CharSequence num) {
+		return INV[verhoeff(num, 1)];
+	}
+
+	/**
+	 * Generates the Verhoeff checksum digit for the provided number. Leading zeros
+	 * change the checksum, so ids starting with zero must use the
+	 * {@link CharSequence} or digit array overloads.
+	 * 
+	 * @param num The non negative number
+	 * @return The Verhoeff checksum digit, between 0 and 9.
+	 * @throws IllegalArgumentException if the number is negative
+	 */
+	public static int checksumDigit(long num) {
+		return INV[verhoeff(num, 1)];
+	}
+
+	/**
+	 * Generates the Verhoeff checksum digit for the provided digits.
+	 * 
+	 * @param digits The digits, each between 0 and 9
+	 * @param offset The index of the first digit
+	 * @param length The number of digits
+	 * @return The Verhoeff checksum digit, between 0 and 9.
+	 * @throws IllegalArgumentException if an element is not between 0 and 9
+	 */
+	public static int checksumDigit(byte[] digits, int offset, int length) {
+		return INV[verhoeff(digits, offset, length, 1)];
+	}
+
+	/**
+	 * Validates that the provided digits are Verhoeff checksum compliant, the
+	 * check digit being the last one.
+	 * 
+	 * @param num The digits
+	 * @return true if the digits are Verhoeff checksum compliant.
+	 * @throws NumberFormatException if the input contains a non digit character
+	 */
+	public static boolean validateChecksum(CharSequence num) {
+		return verhoeff(num, 0) == 0;
+	}
+
+	/**
+	 * Validates that the provided number is Verhoeff checksum compliant, the check
+	 * digit being the last one. See {@link #checksumDigit(long)} for leading
+	 * zeros.
+	 * 
+	 * @param num The non negative number
+	 * @return true if the number is Verhoeff checksum compliant.
+	 * @throws IllegalArgumentException if the number is negative
+	 */
+	public static boolean validateChecksum(long num) {
+		return verhoeff(num, 0) == 0;
+	}
+
+	/**
+	 * Validates that the provided digits are Verhoeff checksum compliant, the
+	 * check digit being the last one.
+	 * 
+	 * @param digits The digits, each between 0 and 9
+	 * @param offset The index of the first digit
+	 * @param length The number of digits, including the check digit
+	 * @return true if the digits are Verhoeff checksum compliant.
+	 * @throws IllegalArgumentException if an element is not between 0 and 9
+	 */
+	public static boolean validateChecksum(byte[] digits, int offset, int length) {
+		return verhoeff(digits, offset, length, 0) == 0;
+	}
+
+	/**
+	 * Appends the Verhoeff checksum digit to each of the provided numbers.
+	 * 
+	 * @param ids     The non negative numbers, without checksum
+	 * @param results The array receiving <code>ids[i] * 10 + checksum</code>, can
+	 *                be <code>ids</code> itself
+	 * @throws IllegalArgumentException if a number is negative or too large to
+	 *                                  append a digit
+	 */
+	public static void appendChecksums(long[] ids, long[] results) {
+		checkBulkLength(ids.length, results.length);
+		for (int i = 0; i < ids.length; i++) {
+			long id = ids[i];
+			if (id >= MAX_ID_WITHOUT_CHECKSUM) {
+				throw new IllegalArgumentException("Id too large to append a checksum: " + id);
+			}
+			results[i] = id * 10 + checksumDigit(id);
+		}
+	}
+
+	/**
+	 * Fills the check digit of ids packed in a digit array. Each id occupies
+	 * <code>idLength + 1</code> consecutive elements starting at
+	 * <code>offset</code>, the last one receiving its checksum.
+	 * 
+	 * @param digits   The packed ids, each digit between 0 and 9
+	 * @param offset   The index of the first digit of the first id
+	 * @param idLength The number of digits of an id, without checksum
+	 * @param count    The number of ids
+	 * @throws IllegalArgumentException if an element is not between 0 and 9
+	 */
+	public static void appendChecksumDigits(byte[] digits, int offset, int idLength, int count) {
+		int stride = idLength + 1;
+		checkBulkRange(digits.length, offset, stride, count);
+		for (int i = 0, start = offset; i < count; i++, start += stride) {
+			digits[start + idLength] = (byte) checksumDigit(digits, start, idLength);
+		}
+	}
+
+	/**
+	 * Validates the Verhoeff checksum of each of the provided ids.
+	 * 
+	 * @param ids     The ids, check digit last
+	 * @param results The array receiving the validity of each id
+	 * @return the number of valid ids
+	 * @throws NumberFormatException if an id contains a non digit character
+	 */
+	public static int validateChecksums(CharSequence[] ids, boolean[] results) {
+		checkBulkLength(ids.length, results.length);
+		int valid = 0;
+		for (int i = 0; i < ids.length; i++) {
+			results[i] = validateChecksum(ids[i]);
+			if (results[i]) {
+				valid++;
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * Validates the Verhoeff checksum of each of the provided numbers.
+	 * 
+	 * @param ids     The non negative numbers, check digit last
+	 * @param results The array receiving the validity of each number
+	 * @return the number of valid ids
+	 * @throws IllegalArgumentException if a number is negative
+	 */
+	public static int validateChecksums(long[] ids, boolean[] results) {
+		checkBulkLength(ids.length, results.length);
+		int valid = 0;
+		for (int i = 0; i < ids.length; i++) {
+			results[i] = validateChecksum(ids[i]);
+			if (results[i]) {
+				valid++;
+			}
 		}
-		return (c == 0);
+		return valid;
 	}
 
 	/**
-	 * Converts a string to a reversed integer array.
+	 * Validates the Verhoeff checksum of ids packed in a digit array. Each id
+	 * occupies <code>idLength</code> consecutive elements starting at
+	 * <code>offset</code>, its check digit last.
 	 * 
-	 * @param num The numeric string data converted to reversed int array.
-	 * @return Integer array containing the digits in the numeric string provided in
-	 *         reverse.
-	 */
-	private static int[] stringToReversedIntArray(String num) {
-		int[] myArray = new int[num.length()];
-		for (int i = 0; i < num.length(); i++) {
-			myArray[i] = Integer.parseInt(num.substring(i, i + 1));
+	 * @param digits   The packed ids, each digit between 0 and 9
+	 * @param offset   The index of the first digit of the first id
+	 * @param idLength The number of digits of an id, including the check digit
+	 * @param count    The number of ids
+	 * @param results  The array receiving the validity of each id
+	 * @return the number of valid ids
+	 * @throws IllegalArgumentException if an element is not between 0 and 9
+	 */
+	public static int validateChecksums(byte[] digits, int offset, int idLength, int count, boolean[] results) {
+		checkBulkRange(digits.length, offset, idLength, count);
+		checkBulkLength(count, results.length);
+		int valid = 0;
+		for (int i = 0, start = offset; i < count; i++, start += idLength) {
+			results[i] = validateChecksum(digits, start, idLength);
+			if (results[i]) {
+				valid++;
+			}
 		}
-		myArray = reverse(myArray);
-		return myArray;
+		return valid;
 	}
 
 	/**
-	 * Reverses an int array.
+	 * Runs the Verhoeff algorithm over the digits, starting with the rightmost
+	 * digit at position <code>position</code>.
 	 * 
-	 * @param myArray The input array which needs to be reversed
-	 * @return The array provided in reverse order.
+	 * @param num      The digits
+	 * @param position 1 to generate a checksum, 0 to validate one
+	 * @return the final state, an index into the inverse table
 	 */
-	private static int[] reverse(int[] myArray) {
-		int[] reversed = new int[myArray.length];
-		for (int i = 0; i < myArray.length; i++) {
-			reversed[i] = myArray[myArray.length - (i + 1)];
+	private static int verhoeff(CharSequence num, int position) {
+		int c = 0;
+		for (int i = num.length() - 1; i >= 0; i--, position++) {
+			int digit = num.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				throw new NumberFormatException("For input string: \"" + num + "\"");
+			}
+			c = D[c * 10 + P[(position & 7) * 10 + digit]];
+		}
+		return c;
+	}
+
+	private static int verhoeff(long num, int position) {
+		if (num < 0) {
+			throw new IllegalArgumentException("Negative number: " + num);
+		}
+		int c = 0;
+		do {
+			c = D[c * 10 + P[(position & 7) * 10 + (int) (num % 10)]];
+			num /= 10;
+			position++;
+		} while (num != 0);
+		return c;
+	}
+
+	private static int verhoeff(byte[] digits, int offset, int length, int position) {
+		int c = 0;
+		for (int i = offset + length - 1; i >= offset; i--, position++) {
+			int digit = digits[i];
+			if (digit < 0 || digit > 9) {
+				throw new IllegalArgumentException("Not a digit at index " + i + ": " + digit);
+			}
+			c = D[c * 10 + P[(position & 7) * 10 + digit]];
+		}
+		return c;
+	}
+
+	private static void checkBulkLength(int count, int resultsLength) {
+		if (resultsLength < count) {
+			throw new IllegalArgumentException("Results array too small: " + resultsLength + " < " + count);
+		}
+	}
+
+	private static void checkBulkRange(int length, int offset, int stride, int count) {
+		if (offset < 0 || stride <= 0 || count < 0 || offset + (long) stride * count > length) {
+			throw new IndexOutOfBoundsException(
+					"offset " + offset + ", " + count + " ids of " + stride + " digits, array length " + length);
+		}
+	}
+
+	private static int[] flatten(int[][] table) {
+		int[] flat = new int[table.length * 10];
+		for (int i = 0; i < table.length; i++) {
+			System.arraycopy(table[i], 0, flat, i * 10, 10);
 		}
-		return reversed;
+		return flat;
 	}
-}
\ No newline at end of file
+}
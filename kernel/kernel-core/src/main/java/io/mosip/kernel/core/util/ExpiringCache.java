@@ -0,0 +1,285 @@
+package io.mosip.kernel.core.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Concurrent local cache bounded in size and, optionally, in time. Reads go to
+ * a {@link ConcurrentHashMap} without waiting on any lock, so concurrent
+ * readers do not wait on each other.
+ * <p>
+ * Entries expire <code>ttlMillis</code> after they are put, or after the time
+ * given for the entry, and are dropped when read after their expiry. The keys
+ * are spread over up to 16 segments, which share the <code>maxItems</code>
+ * limit and keep their entries in access order. A put locks its segment only,
+ * and when the segment is full evicts its least recently used entry, so that
+ * each put costs constant time. A read records the access if its segment is
+ * not locked at the time, and otherwise skips it, as the eviction only needs
+ * an approximate order.
+ * <p>
+ * The eviction listener, if any, is called with the entries which expire or
+ * are evicted, not with the ones removed or replaced.
+ *
+ * @since 1.0.0
+ *
+ * @param <K>
+ *            type of key
+ * @param <V>
+ *            type of value
+ */
+public class ExpiringCache<K, V> {
+
+	/**
+	 * Expiry of the entries which do not expire
+	 */
+	private static final long NEVER = Long.MIN_VALUE;
+
+	private static final int MAX_SEGMENTS = 16;
+
+	private final long ttlMillis;
+
+	private final BiConsumer<K, V> evictionListener;
+
+	private final Map<K, CacheObject<V>> cacheMap = new ConcurrentHashMap<>();
+
+	private final List<Segment<K, V>> segments;
+
+	private final int segmentMask;
+
+	protected static class CacheObject<V> {
+
+		/**
+		 * Expiry in {@link System#nanoTime()}, or {@link ExpiringCache#NEVER}
+		 */
+		private final long expiresAt;
+
+		private final V value;
+
+		protected CacheObject(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return expiresAt != NEVER && now - expiresAt >= 0;
+		}
+	}
+
+	/**
+	 * Share of the cache, whose entries are written under its lock
+	 */
+	private static final class Segment<K, V> {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final int capacity;
+
+		/**
+		 * Entries of the segment, least recently used first
+		 */
+		private final LinkedHashMap<K, CacheObject<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		private Segment(int capacity) {
+			this.capacity = capacity;
+		}
+	}
+
+	/**
+	 * Creates a cache whose entries do not expire
+	 *
+	 * @param maxItems
+	 *            number of entries cached at most
+	 */
+	public ExpiringCache(int maxItems) {
+		this(maxItems, 0, null);
+	}
+
+	/**
+	 * Creates a cache whose entries expire after ttlMillis
+	 *
+	 * @param maxItems
+	 *            number of entries cached at most
+	 * @param ttlMillis
+	 *            milliseconds an entry is cached for, zero or negative for no
+	 *            expiry
+	 */
+	public ExpiringCache(int maxItems, long ttlMillis) {
+		this(maxItems, ttlMillis, null);
+	}
+
+	/**
+	 * Creates a cache whose entries expire after ttlMillis
+	 *
+	 * @param maxItems
+	 *            number of entries cached at most
+	 * @param ttlMillis
+	 *            milliseconds an entry is cached for, zero or negative for no
+	 *            expiry
+	 * @param evictionListener
+	 *            called with the key and value of the entries which expire or are
+	 *            evicted, or null
+	 */
+	public ExpiringCache(int maxItems, long ttlMillis, BiConsumer<K, V> evictionListener) {
+		if (maxItems <= 0) {
+			throw new IllegalArgumentException("maxItems must be positive");
+		}
+		this.ttlMillis = ttlMillis;
+		this.evictionListener = evictionListener;
+		// a power of two, with at least one entry per segment
+		int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maxItems));
+		segments = new ArrayList<>(segmentCount);
+		for (int i = 0; i < segmentCount; i++) {
+			segments.add(new Segment<>(maxItems / segmentCount + (i < maxItems % segmentCount ? 1 : 0)));
+		}
+		segmentMask = segmentCount - 1;
+	}
+
+	/**
+	 * Caches the value, for the ttl of the cache
+	 *
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 */
+	public void put(K key, V value) {
+		put(key, value, ttlMillis);
+	}
+
+	/**
+	 * Caches the value for the given time
+	 *
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 * @param ttlMillis
+	 *            milliseconds the value is cached for, zero or negative for no
+	 *            expiry
+	 */
+	public void put(K key, V value, long ttlMillis) {
+		long expiresAt = ttlMillis > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMillis) : NEVER;
+		CacheObject<V> c = new CacheObject<>(value, expiresAt);
+		Segment<K, V> segment = segmentFor(key);
+		Map.Entry<K, CacheObject<V>> evicted = null;
+		segment.lock.lock();
+		try {
+			segment.entries.put(key, c);
+			cacheMap.put(key, c);
+			if (segment.entries.size() > segment.capacity) {
+				Iterator<Map.Entry<K, CacheObject<V>>> eldest = segment.entries.entrySet().iterator();
+				evicted = eldest.next();
+				eldest.remove();
+				cacheMap.remove(evicted.getKey(), evicted.getValue());
+			}
+		} finally {
+			segment.lock.unlock();
+		}
+		if (evicted != null) {
+			notifyEviction(evicted.getKey(), evicted.getValue());
+		}
+	}
+
+	/**
+	 * Gets the cached value
+	 *
+	 * @param key
+	 *            the key
+	 * @return the value, or null if it is not cached or expired
+	 */
+	public V get(K key) {
+		CacheObject<V> c = cacheMap.get(key);
+		if (c == null) {
+			return null;
+		}
+		Segment<K, V> segment = segmentFor(key);
+		if (c.expiresAt != NEVER && c.isExpired(System.nanoTime())) {
+			boolean expired;
+			segment.lock.lock();
+			try {
+				expired = segment.entries.remove(key, c);
+				if (expired) {
+					cacheMap.remove(key, c);
+				}
+			} finally {
+				segment.lock.unlock();
+			}
+			if (expired) {
+				notifyEviction(key, c);
+			}
+			return null;
+		}
+		// the order of a single entry segment needs no update
+		if (segment.capacity > 1 && segment.lock.tryLock()) {
+			try {
+				segment.entries.get(key);
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+		return c.value;
+	}
+
+	public void remove(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			segment.entries.remove(key);
+			cacheMap.remove(key);
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of entries, including the expired ones not dropped yet
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		return cacheMap.size();
+	}
+
+	/**
+	 * Drops the expired entries
+	 */
+	public void cleanUp() {
+		long now = System.nanoTime();
+		for (Segment<K, V> segment : segments) {
+			List<Map.Entry<K, CacheObject<V>>> expired = new ArrayList<>();
+			segment.lock.lock();
+			try {
+				Iterator<Map.Entry<K, CacheObject<V>>> entries = segment.entries.entrySet().iterator();
+				while (entries.hasNext()) {
+					Map.Entry<K, CacheObject<V>> entry = entries.next();
+					if (entry.getValue().isExpired(now)) {
+						entries.remove();
+						cacheMap.remove(entry.getKey(), entry.getValue());
+						expired.add(entry);
+					}
+				}
+			} finally {
+				segment.lock.unlock();
+			}
+			expired.forEach(entry -> notifyEviction(entry.getKey(), entry.getValue()));
+		}
+	}
+
+	private Segment<K, V> segmentFor(K key) {
+		int hash = key.hashCode();
+		return segments.get((hash ^ (hash >>> 16)) & segmentMask);
+	}
+
+	private void notifyEviction(K key, CacheObject<V> c) {
+		if (evictionListener != null) {
+			evictionListener.accept(key, c.value);
+		}
+	}
+}
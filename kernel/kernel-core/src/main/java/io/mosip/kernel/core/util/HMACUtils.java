@@ -10,7 +10,6 @@ import java.security.spec.KeySpec;
 
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
-import javax.xml.bind.DatatypeConverter;
 
 import org.apache.commons.codec.binary.Base64;
 
@@ -33,11 +32,25 @@ public final class HMACUtils {
 	 */
 	private static final String HMAC_ALGORITHM_NAME = "SHA-256";
 
+	/**
+	 * Upper case hexadecimal digits used to print digests
+	 */
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
 	/**
 	 * Message digests are secure one-way hash functions that take arbitrary-sized
-	 * data and output a fixed-length hash value
+	 * data and output a fixed-length hash value. A digest is not thread safe, so
+	 * each thread uses its own instance for one shot hashing instead of sharing
+	 * one behind a lock.
+	 */
+	private static final ThreadLocal<MessageDigest> MESSAGE_DIGEST = ThreadLocal.withInitial(HMACUtils::newDigest);
+
+	/**
+	 * Digest accumulating {@link #update(byte[])} calls of the current thread
+	 * until {@link #updatedHash()}, kept apart from {@link #MESSAGE_DIGEST} so
+	 * that hashing in between does not consume the pending updates.
 	 */
-	private static MessageDigest messageDigest;
+	private static final ThreadLocal<MessageDigest> UPDATE_DIGEST = ThreadLocal.withInitial(HMACUtils::newDigest);
 
 	/**
 	 * Performs a digest using the specified array of bytes.
@@ -45,26 +58,28 @@ public final class HMACUtils {
 	 * @param bytes bytes to be hash generation
 	 * @return byte[] generated hash bytes
 	 */
-	public static synchronized byte[] generateHash(final byte[] bytes) {
-		return messageDigest.digest(bytes);
+	public static byte[] generateHash(final byte[] bytes) {
+		return MESSAGE_DIGEST.get().digest(bytes);
 	}
 
 	/**
-	 * Updates the digest using the specified byte
+	 * Updates the digest using the specified byte. Updates are accumulated per
+	 * thread, so the whole sequence of {@link #update(byte[])} calls and the
+	 * closing {@link #updatedHash()} must happen on the same thread.
 	 * 
 	 * @param bytes updates the digest using the specified byte
 	 */
 	public static void update(final byte[] bytes) {
-		messageDigest.update(bytes);
+		UPDATE_DIGEST.get().update(bytes);
 	}
 
 	/**
-	 * Return the whole update digest
+	 * Return the whole update digest of the current thread and resets it
 	 * 
 	 * @return byte[] updated hash bytes
 	 */
 	public static byte[] updatedHash() {
-		return messageDigest.digest();
+		return UPDATE_DIGEST.get().digest();
 	}
 
 	/**
@@ -74,10 +89,17 @@ public final class HMACUtils {
 	 * @param salt  digest bytes
 	 * @return String converted digest as plain text
 	 */
-	public static synchronized String digestAsPlainTextWithSalt(final byte[] password, final byte[] salt) {
-		messageDigest.update(password);
-		messageDigest.update(salt);
-		return DatatypeConverter.printHexBinary(messageDigest.digest());
+	public static String digestAsPlainTextWithSalt(final byte[] password, final byte[] salt) {
+		MessageDigest messageDigest = MESSAGE_DIGEST.get();
+		try {
+			messageDigest.update(password);
+			messageDigest.update(salt);
+		} catch (RuntimeException e) {
+			// do not leave a partial update in the digest of this thread
+			messageDigest.reset();
+			throw e;
+		}
+		return toHex(messageDigest.digest());
 //		KeySpec spec = null;
 //        try {
 //        	spec = new PBEKeySpec(new String(password,"UTF-8").toCharArray(), salt, 27500, 512);
@@ -98,27 +120,40 @@ public final class HMACUtils {
 	 * @param bytes digest bytes
 	 * @return String converted digest as plain text
 	 */
-	public static synchronized String digestAsPlainText(final byte[] bytes) {
-		return DatatypeConverter.printHexBinary(bytes).toUpperCase();
+	public static String digestAsPlainText(final byte[] bytes) {
+		return toHex(bytes);
 	}
 
 	/**
 	 * Creates a message digest with the specified algorithm name.
 	 *
-	 * @param algorithm the standard name of the digest algorithm.
-	 * 
+	 * @return the message digest
 	 * @throws NoSuchAlgorithmException if specified algorithm went wrong
-	 * @description loaded messageDigest with specified algorithm
 	 */
-	static {
+	private static MessageDigest newDigest() {
 		try {
-			messageDigest = messageDigest != null ? messageDigest : MessageDigest.getInstance(HMAC_ALGORITHM_NAME);
+			return MessageDigest.getInstance(HMAC_ALGORITHM_NAME);
 		} catch (java.security.NoSuchAlgorithmException exception) {
 			throw new NoSuchAlgorithmException(HMACUtilConstants.MOSIP_NO_SUCH_ALGORITHM_ERROR_CODE.getErrorCode(),
 					HMACUtilConstants.MOSIP_NO_SUCH_ALGORITHM_ERROR_CODE.getErrorMessage(), exception.getCause());
 		}
 	}
 
+	/**
+	 * Prints bytes as upper case hexadecimal
+	 * 
+	 * @param bytes the bytes
+	 * @return the hexadecimal string
+	 */
+	private static String toHex(final byte[] bytes) {
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0, j = 0; i < bytes.length; i++) {
+			hex[j++] = HEX_DIGITS[(bytes[i] >> 4) & 0x0F];
+			hex[j++] = HEX_DIGITS[bytes[i] & 0x0F];
+		}
+		return new String(hex);
+	}
+
 	/**
 	 * Generate Random Salt (with default 16 bytes of length).
 	 * 
@@ -0,0 +1,481 @@
+package io.mosip.kernel.core.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Single pass filter for numeric ids like UIN, VID and PRID. All the rules are
+ * checked on the digits of the id without any allocation per id, so an
+ * instance can be shared by generators and validators.
+ * <p>
+ * Instances are immutable and thread safe and are created through
+ * {@link #builder()}. A limit of zero or a negative value disables the
+ * corresponding rule.
+ *
+ * @since 1.0.0
+ *
+ */
+public final class IdFilter {
+
+	/**
+	 * Number of distinct digits
+	 */
+	private static final int RADIX = 10;
+
+	/**
+	 * Reusable digit buffer for {@link #isValidId(CharSequence)}
+	 */
+	private static final ThreadLocal<byte[]> DIGITS = ThreadLocal.withInitial(() -> new byte[32]);
+
+	/**
+	 * Even digits, zero excluded
+	 */
+	private static final boolean[] EVEN = { false, false, true, false, true, false, true, false, true, false };
+
+	/**
+	 * Cyclic numbers, the repetends of 1/7, 1/17, 1/19, 1/23, 1/29, 1/47, 1/59,
+	 * 1/61 and 1/97, which are restricted in generated ids
+	 */
+	public static final List<String> CYCLIC_NUMBERS = Collections.unmodifiableList(Arrays.asList("142857",
+			"0588235294117647", "052631578947368421", "0434782608695652173913", "0344827586206896551724137931",
+			"0212765957446808510638297872340425531914893617",
+			"0169491525423728813559322033898305084745762711864406779661",
+			"016393442622950819672131147540983606557377049180327868852459",
+			"010309278350515463917525773195876288659793814432989690721649484536082474226804123711340206185567"));
+
+	private final int length;
+
+	private final int sequenceLimit;
+
+	private final boolean sequenceWrapAround;
+
+	private final int repeatingLimit;
+
+	private final int repeatingBlockLimit;
+
+	private final int conjugativeEvenDigitsLimit;
+
+	private final int digitsGroupLimit;
+
+	private final int reverseDigitsGroupLimit;
+
+	private final byte[][] notStartWith;
+
+	/**
+	 * Aho-Corasick automaton over the restricted numbers, indexed by
+	 * <code>state * RADIX + digit</code>, or null if there are no restricted
+	 * numbers
+	 */
+	private final int[] restrictedTransitions;
+
+	/**
+	 * Whether reaching a state means a restricted number was found
+	 */
+	private final boolean[] restrictedMatches;
+
+	private IdFilter(Builder builder) {
+		this.length = builder.length;
+		this.sequenceLimit = builder.sequenceLimit;
+		this.sequenceWrapAround = builder.sequenceWrapAround;
+		this.repeatingLimit = builder.repeatingLimit;
+		this.repeatingBlockLimit = builder.repeatingBlockLimit;
+		this.conjugativeEvenDigitsLimit = builder.conjugativeEvenDigitsLimit;
+		this.digitsGroupLimit = builder.digitsGroupLimit;
+		this.reverseDigitsGroupLimit = builder.reverseDigitsGroupLimit;
+		this.notStartWith = toDigits(builder.notStartWith);
+		byte[][] restricted = toDigits(builder.restrictedNumbers);
+		if (restricted.length == 0) {
+			this.restrictedTransitions = null;
+			this.restrictedMatches = null;
+		} else {
+			Automaton automaton = new Automaton(restricted);
+			this.restrictedTransitions = automaton.transitions;
+			this.restrictedMatches = automaton.matches;
+		}
+	}
+
+	/**
+	 * Creates a new {@link Builder}
+	 *
+	 * @return the builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Checks if the input id passes all the configured rules. Ids having any
+	 * character other than a digit are not valid.
+	 *
+	 * @param id The input id to validate
+	 * @return true if the input id is valid
+	 */
+	public boolean isValidId(CharSequence id) {
+		int idLength = id.length();
+		byte[] digits = DIGITS.get();
+		if (digits.length < idLength) {
+			digits = new byte[Math.max(idLength, digits.length * 2)];
+			DIGITS.set(digits);
+		}
+		for (int i = 0; i < idLength; i++) {
+			int digit = id.charAt(i) - '0';
+			if (digit < 0 || digit >= RADIX) {
+				return false;
+			}
+			digits[i] = (byte) digit;
+		}
+		return isValidId(digits, 0, idLength);
+	}
+
+	/**
+	 * Checks if the input id passes all the configured rules
+	 *
+	 * @param digits The digits of the id, each between 0 and 9
+	 * @param offset The index of the first digit of the id
+	 * @param idLength The number of digits in the id
+	 * @return true if the input id is valid
+	 */
+	public boolean isValidId(byte[] digits, int offset, int idLength) {
+		return !(lengthFilter(idLength) || notStartWithFilter(digits, offset, idLength)
+				|| digitsFilter(digits, offset, idLength) || repeatingBlockFilter(digits, offset, idLength)
+				|| firstAndLastDigitsFilter(digits, offset, idLength)
+				|| firstAndLastDigitsReverseFilter(digits, offset, idLength));
+	}
+
+	private boolean lengthFilter(int idLength) {
+		return length > 0 && idLength != length;
+	}
+
+	private boolean notStartWithFilter(byte[] digits, int offset, int idLength) {
+		for (byte[] prefix : notStartWith) {
+			if (prefix.length <= idLength && regionMatches(digits, offset, prefix, 0, prefix.length)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks sequence, repeating digits, adjacent even digits and restricted
+	 * numbers in one pass over the digits
+	 */
+	private boolean digitsFilter(byte[] digits, int offset, int idLength) {
+		int ascendingRun = 0;
+		int descendingRun = 0;
+		int evenRun = 0;
+		int state = 0;
+		int previous = -1;
+		for (int i = 0; i < idLength; i++) {
+			int digit = digits[offset + i];
+			if (sequenceLimit > 0) {
+				ascendingRun = previous >= 0 && isNext(previous, digit) ? ascendingRun + 1 : 1;
+				descendingRun = previous >= 0 && isNext(digit, previous) ? descendingRun + 1 : 1;
+				if (ascendingRun >= sequenceLimit || descendingRun >= sequenceLimit) {
+					return true;
+				}
+			}
+			if (repeatingLimit > 0) {
+				int from = Math.max(0, i - repeatingLimit);
+				for (int j = from; j < i; j++) {
+					if (digits[offset + j] == digit) {
+						return true;
+					}
+				}
+			}
+			if (conjugativeEvenDigitsLimit > 0) {
+				evenRun = EVEN[digit] ? evenRun + 1 : 0;
+				if (evenRun >= conjugativeEvenDigitsLimit) {
+					return true;
+				}
+			}
+			if (restrictedTransitions != null) {
+				state = restrictedTransitions[state * RADIX + digit];
+				if (restrictedMatches[state]) {
+					return true;
+				}
+			}
+			previous = digit;
+		}
+		return false;
+	}
+
+	private boolean isNext(int digit, int next) {
+		return sequenceWrapAround ? next == (digit + 1) % RADIX : next == digit + 1;
+	}
+
+	/**
+	 * Checks for a block of {@link #repeatingBlockLimit} digits which appears again
+	 * later in the id without overlapping
+	 */
+	private boolean repeatingBlockFilter(byte[] digits, int offset, int idLength) {
+		if (repeatingBlockLimit <= 0) {
+			return false;
+		}
+		for (int i = 0; i + 2 * repeatingBlockLimit <= idLength; i++) {
+			for (int j = i + repeatingBlockLimit; j + repeatingBlockLimit <= idLength; j++) {
+				if (regionMatches(digits, offset + i, digits, offset + j, repeatingBlockLimit)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean firstAndLastDigitsFilter(byte[] digits, int offset, int idLength) {
+		if (digitsGroupLimit <= 0 || digitsGroupLimit > idLength) {
+			return false;
+		}
+		return regionMatches(digits, offset, digits, offset + idLength - digitsGroupLimit, digitsGroupLimit);
+	}
+
+	private boolean firstAndLastDigitsReverseFilter(byte[] digits, int offset, int idLength) {
+		if (reverseDigitsGroupLimit <= 0 || reverseDigitsGroupLimit > idLength) {
+			return false;
+		}
+		int last = offset + idLength - 1;
+		for (int i = 0; i < reverseDigitsGroupLimit; i++) {
+			if (digits[offset + i] != digits[last - i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean regionMatches(byte[] digits, int offset, byte[] other, int otherOffset, int count) {
+		for (int i = 0; i < count; i++) {
+			if (digits[offset + i] != other[otherOffset + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Converts numbers to digit arrays, skipping empty and non numeric values
+	 */
+	private static byte[][] toDigits(Collection<String> numbers) {
+		List<byte[]> converted = new ArrayList<>();
+		for (String number : numbers) {
+			if (number == null) {
+				continue;
+			}
+			String trimmed = number.trim();
+			if (trimmed.isEmpty() || !trimmed.chars().allMatch(Character::isDigit)) {
+				continue;
+			}
+			byte[] digits = new byte[trimmed.length()];
+			for (int i = 0; i < digits.length; i++) {
+				digits[i] = (byte) (trimmed.charAt(i) - '0');
+			}
+			converted.add(digits);
+		}
+		return converted.toArray(new byte[converted.size()][]);
+	}
+
+	/**
+	 * Deterministic Aho-Corasick automaton over the digits
+	 */
+	private static final class Automaton {
+
+		private int[] transitions;
+
+		private boolean[] matches;
+
+		private int states = 1;
+
+		private Automaton(byte[][] patterns) {
+			int capacity = 1;
+			for (byte[] pattern : patterns) {
+				capacity += pattern.length;
+			}
+			transitions = new int[capacity * RADIX];
+			Arrays.fill(transitions, -1);
+			matches = new boolean[capacity];
+			for (byte[] pattern : patterns) {
+				int state = 0;
+				for (byte digit : pattern) {
+					int index = state * RADIX + digit;
+					if (transitions[index] < 0) {
+						transitions[index] = states++;
+					}
+					state = transitions[index];
+				}
+				matches[state] = true;
+			}
+			int[] failure = new int[states];
+			Queue<Integer> queue = new ArrayDeque<>();
+			for (int digit = 0; digit < RADIX; digit++) {
+				int next = transitions[digit];
+				if (next < 0) {
+					transitions[digit] = 0;
+				} else {
+					failure[next] = 0;
+					queue.add(next);
+				}
+			}
+			while (!queue.isEmpty()) {
+				int state = queue.poll();
+				matches[state] |= matches[failure[state]];
+				for (int digit = 0; digit < RADIX; digit++) {
+					int index = state * RADIX + digit;
+					int next = transitions[index];
+					int fallback = transitions[failure[state] * RADIX + digit];
+					if (next < 0) {
+						transitions[index] = fallback;
+					} else {
+						failure[next] = fallback;
+						queue.add(next);
+					}
+				}
+			}
+			transitions = Arrays.copyOf(transitions, states * RADIX);
+			matches = Arrays.copyOf(matches, states);
+		}
+	}
+
+	/**
+	 * Builder for {@link IdFilter}
+	 */
+	public static final class Builder {
+
+		private int length = -1;
+
+		private int sequenceLimit = -1;
+
+		private boolean sequenceWrapAround;
+
+		private int repeatingLimit = -1;
+
+		private int repeatingBlockLimit = -1;
+
+		private int conjugativeEvenDigitsLimit = -1;
+
+		private int digitsGroupLimit = -1;
+
+		private int reverseDigitsGroupLimit = -1;
+
+		private final List<String> notStartWith = new ArrayList<>();
+
+		private final List<String> restrictedNumbers = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * @param length Exact length of the id
+		 * @return this builder
+		 */
+		public Builder length(int length) {
+			this.length = length;
+			return this;
+		}
+
+		/**
+		 * Upper bound of number of digits in sequence allowed in id. For example if
+		 * limit is 3, then 12 is allowed but 123 is not allowed in id (in both
+		 * ascending and descending order)
+		 *
+		 * @param sequenceLimit      the limit
+		 * @param sequenceWrapAround whether 9 followed by 0 continues a sequence
+		 * @return this builder
+		 */
+		public Builder sequenceLimit(int sequenceLimit, boolean sequenceWrapAround) {
+			this.sequenceLimit = sequenceLimit;
+			this.sequenceWrapAround = sequenceWrapAround;
+			return this;
+		}
+
+		/**
+		 * Lower bound of number of digits allowed in between two repeating digits in
+		 * id. For example if limit is 2, then 11 and 1x1 is not allowed in id (x is
+		 * any digit)
+		 *
+		 * @param repeatingLimit the limit
+		 * @return this builder
+		 */
+		public Builder repeatingLimit(int repeatingLimit) {
+			this.repeatingLimit = repeatingLimit;
+			return this;
+		}
+
+		/**
+		 * Number of digits in repeating block allowed in id. For example if limit is
+		 * 2, then 4xxx4 is allowed but 48xxx48 is not allowed in id (x is any digit)
+		 *
+		 * @param repeatingBlockLimit the limit
+		 * @return this builder
+		 */
+		public Builder repeatingBlockLimit(int repeatingBlockLimit) {
+			this.repeatingBlockLimit = repeatingBlockLimit;
+			return this;
+		}
+
+		/**
+		 * Number of adjacent even digits (2, 4, 6, 8) not allowed in id
+		 *
+		 * @param conjugativeEvenDigitsLimit the limit
+		 * @return this builder
+		 */
+		public Builder conjugativeEvenDigitsLimit(int conjugativeEvenDigitsLimit) {
+			this.conjugativeEvenDigitsLimit = conjugativeEvenDigitsLimit;
+			return this;
+		}
+
+		/**
+		 * Number of first digits which must differ from the last digits
+		 *
+		 * @param digitsGroupLimit the limit
+		 * @return this builder
+		 */
+		public Builder digitsGroupLimit(int digitsGroupLimit) {
+			this.digitsGroupLimit = digitsGroupLimit;
+			return this;
+		}
+
+		/**
+		 * Number of first digits which must differ from the last digits reversed
+		 *
+		 * @param reverseDigitsGroupLimit the limit
+		 * @return this builder
+		 */
+		public Builder reverseDigitsGroupLimit(int reverseDigitsGroupLimit) {
+			this.reverseDigitsGroupLimit = reverseDigitsGroupLimit;
+			return this;
+		}
+
+		/**
+		 * @param notStartWith Prefixes not allowed in id
+		 * @return this builder
+		 */
+		public Builder notStartWith(Collection<String> notStartWith) {
+			if (notStartWith != null) {
+				this.notStartWith.addAll(notStartWith);
+			}
+			return this;
+		}
+
+		/**
+		 * @param restrictedNumbers Numbers not allowed anywhere in id, can be called
+		 *                          more than once
+		 * @return this builder
+		 */
+		public Builder restrictedNumbers(Collection<String> restrictedNumbers) {
+			if (restrictedNumbers != null) {
+				this.restrictedNumbers.addAll(restrictedNumbers);
+			}
+			return this;
+		}
+
+		/**
+		 * @return the filter
+		 */
+		public IdFilter build() {
+			return new IdFilter(this);
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package io.mosip.kernel.core.util;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Number of free ids in a pool, like the unused uins or the available vids,
+ * kept in memory so that the pool checks do not count the table on every
+ * request.
+ * <p>
+ * The count is adjusted as the instance persists, hands out and releases ids,
+ * and is recounted with the given supplier on the first read and then, once
+ * {@link #start(long)} is called, periodically on a background thread, which
+ * picks up the changes made by other instances and corrects any drift.
+ *
+ * @since 1.0.0
+ *
+ */
+public class PoolCounter implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PoolCounter.class);
+
+	private final String name;
+
+	private final LongSupplier counter;
+
+	private final AtomicLong count = new AtomicLong();
+
+	/**
+	 * Whether the pool was counted at least once
+	 */
+	private volatile boolean reconciled;
+
+	private ScheduledExecutorService reconciler;
+
+	/**
+	 * @param name
+	 *            name of the pool, for the logs and the recount thread
+	 * @param counter
+	 *            counts the free ids in the database
+	 */
+	public PoolCounter(String name, LongSupplier counter) {
+		this.name = name;
+		this.counter = counter;
+	}
+
+	/**
+	 * Starts recounting the pool periodically
+	 *
+	 * @param reconcileIntervalSeconds
+	 *            seconds between two recounts
+	 */
+	public synchronized void start(long reconcileIntervalSeconds) {
+		if (reconciler != null) {
+			return;
+		}
+		reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, name + "-pool-reconciler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		reconciler.scheduleWithFixedDelay(this::reconcile, reconcileIntervalSeconds, reconcileIntervalSeconds,
+				TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Number of free ids; only the first call goes to the database.
+	 *
+	 * @return the number of free ids
+	 */
+	public long getCount() {
+		if (!reconciled) {
+			reconcile();
+		}
+		return Math.max(0, count.get());
+	}
+
+	/**
+	 * @param count
+	 *            the number of ids made free
+	 */
+	public void added(long count) {
+		this.count.addAndGet(count);
+	}
+
+	/**
+	 * @param count
+	 *            the number of ids handed out or reserved
+	 */
+	public void removed(long count) {
+		this.count.addAndGet(-count);
+	}
+
+	/**
+	 * Recounts the free ids from the database
+	 */
+	public synchronized void reconcile() {
+		try {
+			long current = counter.getAsLong();
+			long previous = count.getAndSet(current);
+			if (reconciled && previous != current) {
+				LOGGER.info("{} pool count corrected from {} to {}", name, previous, current);
+			}
+			reconciled = true;
+		} catch (Exception exception) {
+			LOGGER.error("{} pool count failed", name, exception);
+		}
+	}
+
+	/**
+	 * Stops the recount thread
+	 */
+	@Override
+	public synchronized void close() {
+		if (reconciler != null) {
+			reconciler.shutdownNow();
+			reconciler = null;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package io.mosip.kernel.core.test.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.mosip.kernel.core.util.ExpiringCache;
+
+/**
+ * @since 1.0.0
+ *
+ */
+public class ExpiringCacheTest {
+
+	@Test
+	public void putGetRemoveTest() {
+		ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+		cache.put("key", "value");
+		assertThat(cache.get("key"), is("value"));
+		assertThat(cache.size(), is(1));
+		cache.remove("key");
+		assertThat(cache.get("key"), is(nullValue()));
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void replaceWithSingleItemTest() {
+		ExpiringCache<String, String> cache = new ExpiringCache<>(1);
+		cache.put("adminToken", "first");
+		cache.put("adminToken", "second");
+		assertThat(cache.get("adminToken"), is("second"));
+		cache.put("otherToken", "third");
+		assertThat(cache.size(), is(1));
+		assertThat(cache.get("otherToken"), is("third"));
+	}
+
+	@Test
+	public void expiryTest() throws InterruptedException {
+		List<String> evicted = new ArrayList<>();
+		ExpiringCache<String, String> cache = new ExpiringCache<>(10, 20, (key, value) -> evicted.add(key));
+		cache.put("key", "value");
+		cache.put("longLived", "value", TimeUnit.MINUTES.toMillis(1));
+		Thread.sleep(50);
+		assertThat(cache.get("key"), is(nullValue()));
+		assertThat(cache.get("longLived"), is("value"));
+		assertThat(evicted.size(), is(1));
+		assertThat(evicted.get(0), is("key"));
+	}
+
+	@Test
+	public void cleanUpTest() throws InterruptedException {
+		ExpiringCache<String, String> cache = new ExpiringCache<>(10, 20);
+		cache.put("first", "value");
+		cache.put("second", "value");
+		Thread.sleep(50);
+		cache.cleanUp();
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void evictLeastRecentlyAccessedTest() {
+		List<Integer> evicted = new ArrayList<>();
+		// eight segments, of two entries for the first two
+		ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(10, 0, (key, value) -> evicted.add(key));
+		cache.put(0, 0);
+		cache.put(8, 8);
+		cache.get(0);
+		cache.put(16, 16);
+		assertThat(evicted, is(Arrays.asList(8)));
+		assertThat(cache.get(0), is(0));
+		assertThat(cache.get(16), is(16));
+		assertThat(cache.size(), is(2));
+	}
+
+	@Test
+	public void boundedSizeTest() {
+		List<Integer> evicted = new ArrayList<>();
+		ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(100, 0, (key, value) -> evicted.add(key));
+		for (int i = 0; i < 1000; i++) {
+			cache.put(i, i);
+		}
+		assertThat(cache.size(), is(100));
+		assertThat(evicted.size(), is(900));
+		// the latest puts are kept
+		assertThat(cache.get(999), is(999));
+	}
+
+	@Test
+	public void concurrentAccessTest() throws InterruptedException {
+		ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(100);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch done = new CountDownLatch(8);
+		for (int t = 0; t < 8; t++) {
+			int offset = t * 1000;
+			executor.execute(() -> {
+				for (int i = 0; i < 1000; i++) {
+					cache.put(offset + i, i);
+					cache.get(offset + i / 2);
+				}
+				done.countDown();
+			});
+		}
+		assertThat(done.await(30, TimeUnit.SECONDS), is(true));
+		executor.shutdown();
+		assertThat(cache.size() <= 100, is(true));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidMaxItemsTest() {
+		new ExpiringCache<String, String>(0);
+	}
+}
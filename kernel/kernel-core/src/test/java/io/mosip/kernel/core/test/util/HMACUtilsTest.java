@@ -1,9 +1,18 @@
 package io.mosip.kernel.core.test.util;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Test;
 
 import io.mosip.kernel.core.util.HMACUtils;
@@ -42,4 +51,57 @@ public class HMACUtilsTest {
 		assertThat(HMACUtils.generateSalt(16),isA(byte[].class));
 	}
 
+	@Test
+	public void testGenerateHashMatchesSha256() throws Exception {
+		byte[] data = "Bal Vikash Sharma".getBytes();
+		assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(data), HMACUtils.generateHash(data));
+	}
+
+	@Test
+	public void testDigestAsPlainTextUpperCaseHex() {
+		assertThat(HMACUtils.digestAsPlainText(new byte[] { 0, 15, -1, 42 }), is("000FFF2A"));
+	}
+
+	@Test
+	public void testDigestAsPlainTextWithSalt() {
+		assertThat(HMACUtils.digestAsPlainTextWithSalt("Bal Vikash".getBytes(), " Sharma".getBytes()),
+				is(HMACUtils.digestAsPlainText(HMACUtils.generateHash("Bal Vikash Sharma".getBytes()))));
+	}
+
+	@Test
+	public void testUpdateNotConsumedByGenerateHash() {
+		// drop updates left over by other tests on this thread
+		HMACUtils.updatedHash();
+		HMACUtils.update("Bal Vikash".getBytes());
+		HMACUtils.generateHash("other".getBytes());
+		HMACUtils.update(" Sharma".getBytes());
+		assertArrayEquals(HMACUtils.generateHash("Bal Vikash Sharma".getBytes()), HMACUtils.updatedHash());
+	}
+
+	@Test
+	public void testConcurrentUpdates() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				String value = "value" + i;
+				results.add(executor.submit(() -> {
+					boolean matches = true;
+					for (int j = 0; j < 200; j++) {
+						HMACUtils.update(value.getBytes());
+						HMACUtils.update(Integer.toString(j).getBytes());
+						matches &= MessageDigest.isEqual(HMACUtils.generateHash((value + j).getBytes()),
+								HMACUtils.updatedHash());
+					}
+					return matches;
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertThat(result.get(), is(true));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 }
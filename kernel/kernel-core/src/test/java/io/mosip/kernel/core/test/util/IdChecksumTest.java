@@ -33,4 +33,72 @@ public class IdChecksumTest {
 		assertThat(res, is(false));
 	}
 
+	@Test
+	public void checksumDigitCharSequenceTest() {
+		StringBuilder id = new StringBuilder("1234567890");
+		int checkSum = ChecksumUtils.checksumDigit(id);
+		assertThat(Integer.toString(checkSum), is(ChecksumUtils.generateChecksumDigit(id.toString())));
+		assertThat(ChecksumUtils.validateChecksum(id.append(checkSum)), is(true));
+	}
+
+	@Test
+	public void checksumDigitLongTest() {
+		long id = 1234567890L;
+		int checkSum = ChecksumUtils.checksumDigit(id);
+		assertThat(Integer.toString(checkSum), is(ChecksumUtils.generateChecksumDigit("1234567890")));
+		assertThat(ChecksumUtils.validateChecksum(id * 10 + checkSum), is(true));
+		assertThat(ChecksumUtils.validateChecksum(1234567891L), is(false));
+	}
+
+	@Test
+	public void checksumDigitByteArrayTest() {
+		byte[] digits = { 9, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 0, 9 };
+		int checkSum = ChecksumUtils.checksumDigit(digits, 1, 10);
+		assertThat(Integer.toString(checkSum), is(ChecksumUtils.generateChecksumDigit("1234567890")));
+		digits[11] = (byte) checkSum;
+		assertThat(ChecksumUtils.validateChecksum(digits, 1, 11), is(true));
+		assertThat(ChecksumUtils.validateChecksum(digits, 1, 12), is(false));
+	}
+
+	@Test
+	public void appendChecksumsLongTest() {
+		long[] ids = { 123456789L, 987654321L };
+		long[] results = new long[ids.length];
+		ChecksumUtils.appendChecksums(ids, results);
+		assertThat(Long.toString(results[0]), is("123456789" + ChecksumUtils.generateChecksumDigit("123456789")));
+		assertThat(Long.toString(results[1]), is("987654321" + ChecksumUtils.generateChecksumDigit("987654321")));
+		boolean[] valid = new boolean[results.length];
+		assertThat(ChecksumUtils.validateChecksums(results, valid), is(2));
+	}
+
+	@Test
+	public void appendChecksumDigitsTest() {
+		byte[] digits = { 1, 2, 3, 0, 4, 5, 6, 0 };
+		ChecksumUtils.appendChecksumDigits(digits, 0, 3, 2);
+		assertThat(Byte.toString(digits[3]), is(ChecksumUtils.generateChecksumDigit("123")));
+		assertThat(Byte.toString(digits[7]), is(ChecksumUtils.generateChecksumDigit("456")));
+		boolean[] valid = new boolean[2];
+		assertThat(ChecksumUtils.validateChecksums(digits, 0, 4, 2, valid), is(2));
+	}
+
+	@Test
+	public void validateChecksumsTest() {
+		String id = "1234567890";
+		CharSequence[] ids = { id + ChecksumUtils.generateChecksumDigit(id), "1234567891" };
+		boolean[] valid = new boolean[ids.length];
+		assertThat(ChecksumUtils.validateChecksums(ids, valid), is(1));
+		assertThat(valid[0], is(true));
+		assertThat(valid[1], is(false));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void checksumNonDigitTest() {
+		ChecksumUtils.validateChecksum("12345a7890");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void checksumNegativeLongTest() {
+		ChecksumUtils.checksumDigit(-1L);
+	}
+
 }
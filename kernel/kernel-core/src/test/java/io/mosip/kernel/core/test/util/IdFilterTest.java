@@ -0,0 +1,107 @@
+package io.mosip.kernel.core.test.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.mosip.kernel.core.util.IdFilter;
+
+/**
+ * @since 1.0.0
+ *
+ */
+public class IdFilterTest {
+
+	private IdFilter idFilter = IdFilter.builder().length(10).sequenceLimit(3, true).repeatingLimit(2)
+			.repeatingBlockLimit(2).conjugativeEvenDigitsLimit(3).digitsGroupLimit(5).reverseDigitsGroupLimit(5)
+			.notStartWith(Arrays.asList("0", "1")).restrictedNumbers(Arrays.asList("786", "666"))
+			.restrictedNumbers(Arrays.asList("142857")).build();
+
+	@Test
+	public void validIdTest() {
+		assertThat(idFilter.isValidId("3029384756"), is(true));
+	}
+
+	@Test
+	public void digitArrayTest() {
+		byte[] digits = { 9, 3, 0, 2, 9, 3, 8, 4, 7, 5, 6, 9 };
+		assertThat(idFilter.isValidId(digits, 1, 10), is(true));
+		assertThat(idFilter.isValidId(digits, 0, 10), is(false));
+	}
+
+	@Test
+	public void lengthTest() {
+		assertThat(idFilter.isValidId("302938475"), is(false));
+	}
+
+	@Test
+	public void nonNumericTest() {
+		assertThat(idFilter.isValidId("30293847a6"), is(false));
+	}
+
+	@Test
+	public void notStartWithTest() {
+		assertThat(idFilter.isValidId("1029384756"), is(false));
+	}
+
+	@Test
+	public void sequenceTest() {
+		assertThat(idFilter.isValidId("3029345756"), is(false));
+		assertThat(idFilter.isValidId("3029387656"), is(false));
+	}
+
+	@Test
+	public void sequenceWrapAroundTest() {
+		assertThat(idFilter.isValidId("3029384901"), is(false));
+		IdFilter noWrapAround = IdFilter.builder().sequenceLimit(3, false).build();
+		assertThat(noWrapAround.isValidId("3029384901"), is(true));
+	}
+
+	@Test
+	public void repeatingTest() {
+		assertThat(idFilter.isValidId("3029384776"), is(false));
+	}
+
+	@Test
+	public void repeatingBlockTest() {
+		assertThat(idFilter.isValidId("3029384730"), is(false));
+	}
+
+	@Test
+	public void conjugativeEvenDigitsTest() {
+		assertThat(idFilter.isValidId("3029248756"), is(false));
+	}
+
+	@Test
+	public void firstAndLastDigitsTest() {
+		IdFilter groupFilter = IdFilter.builder().digitsGroupLimit(5).build();
+		assertThat(groupFilter.isValidId("267919926791"), is(false));
+	}
+
+	@Test
+	public void firstAndLastDigitsReverseTest() {
+		IdFilter groupFilter = IdFilter.builder().reverseDigitsGroupLimit(5).build();
+		assertThat(groupFilter.isValidId("267919919762"), is(false));
+	}
+
+	@Test
+	public void restrictedNumbersTest() {
+		assertThat(idFilter.isValidId("3029786475"), is(false));
+		assertThat(idFilter.isValidId("3142857029"), is(false));
+	}
+
+	@Test
+	public void overlappingRestrictedNumbersTest() {
+		IdFilter restrictedFilter = IdFilter.builder().restrictedNumbers(Arrays.asList("2123", "12", "")).build();
+		assertThat(restrictedFilter.isValidId("30212"), is(false));
+		assertThat(restrictedFilter.isValidId("3021"), is(true));
+	}
+
+	@Test
+	public void disabledRulesTest() {
+		assertThat(IdFilter.builder().build().isValidId("1111111111"), is(true));
+	}
+}
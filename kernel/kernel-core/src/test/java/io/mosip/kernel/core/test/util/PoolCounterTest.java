@@ -0,0 +1,74 @@
+package io.mosip.kernel.core.test.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.mosip.kernel.core.util.PoolCounter;
+
+/**
+ * @since 1.0.0
+ *
+ */
+public class PoolCounterTest {
+
+	@Test
+	public void countedOnceThenAdjustedTest() {
+		AtomicInteger counts = new AtomicInteger();
+		PoolCounter poolCounter = new PoolCounter("test", () -> {
+			counts.incrementAndGet();
+			return 10L;
+		});
+		assertThat(poolCounter.getCount(), is(10L));
+		poolCounter.removed(3);
+		poolCounter.added(1);
+		assertThat(poolCounter.getCount(), is(8L));
+		assertThat(counts.get(), is(1));
+	}
+
+	@Test
+	public void reconcileCorrectsDriftTest() {
+		long[] counts = { 10L, 4L };
+		AtomicInteger calls = new AtomicInteger();
+		PoolCounter poolCounter = new PoolCounter("test", () -> counts[calls.getAndIncrement()]);
+		assertThat(poolCounter.getCount(), is(10L));
+		poolCounter.removed(20);
+		assertThat(poolCounter.getCount(), is(0L));
+		poolCounter.reconcile();
+		assertThat(poolCounter.getCount(), is(4L));
+	}
+
+	@Test
+	public void countFailureRetriedTest() {
+		AtomicInteger calls = new AtomicInteger();
+		PoolCounter poolCounter = new PoolCounter("test", () -> {
+			if (calls.getAndIncrement() == 0) {
+				throw new IllegalStateException("DataBase error occur");
+			}
+			return 5L;
+		});
+		assertThat(poolCounter.getCount(), is(0L));
+		assertThat(poolCounter.getCount(), is(5L));
+	}
+
+	@Test
+	public void periodicReconcileTest() throws InterruptedException {
+		CountDownLatch recounted = new CountDownLatch(2);
+		PoolCounter poolCounter = new PoolCounter("test", () -> {
+			recounted.countDown();
+			return 7L;
+		});
+		try {
+			poolCounter.start(1);
+			assertThat(recounted.await(10, TimeUnit.SECONDS), is(true));
+			assertThat(poolCounter.getCount(), is(7L));
+		} finally {
+			poolCounter.close();
+		}
+	}
+}
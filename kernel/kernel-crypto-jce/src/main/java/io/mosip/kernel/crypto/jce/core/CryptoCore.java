@@ -8,6 +8,9 @@ import java.security.Signature;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.MGF1ParameterSpec;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.annotation.PostConstruct;
@@ -16,7 +19,6 @@ import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
-import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.OAEPParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
@@ -37,6 +39,7 @@ import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.EmptyCheckUtils;
 import io.mosip.kernel.crypto.jce.constant.SecurityExceptionCodeConstant;
 import io.mosip.kernel.crypto.jce.util.CryptoUtils;
+import io.mosip.kernel.crypto.jce.util.JceEngineCache;
 
 /**
  * This class provided <b> Basic and Core Cryptographic functionalities </b>.
@@ -73,6 +76,23 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 
 	private static final String AES = "AES";
 
+	private static final String RSA_NO_DIGEST = "NONEwithRSA";
+
+	/**
+	 * DER encoded DigestInfo prefixes of the hashes signed with RSA, by digest
+	 * part of the signature algorithm name (RFC 8017, section 9.2)
+	 */
+	private static final Map<String, byte[]> DIGEST_INFO_PREFIXES = new HashMap<>();
+
+	static {
+		DIGEST_INFO_PREFIXES.put("SHA256", new byte[] { 0x30, 0x31, 0x30, 0x0d, 0x06, 0x09, 0x60, (byte) 0x86, 0x48,
+				0x01, 0x65, 0x03, 0x04, 0x02, 0x01, 0x05, 0x00, 0x04, 0x20 });
+		DIGEST_INFO_PREFIXES.put("SHA384", new byte[] { 0x30, 0x41, 0x30, 0x0d, 0x06, 0x09, 0x60, (byte) 0x86, 0x48,
+				0x01, 0x65, 0x03, 0x04, 0x02, 0x02, 0x05, 0x00, 0x04, 0x30 });
+		DIGEST_INFO_PREFIXES.put("SHA512", new byte[] { 0x30, 0x51, 0x30, 0x0d, 0x06, 0x09, 0x60, (byte) 0x86, 0x48,
+				0x01, 0x65, 0x03, 0x04, 0x02, 0x03, 0x05, 0x00, 0x04, 0x40 });
+	}
+
 	@Value("${mosip.kernel.crypto.gcm-tag-length:128}")
 	private int tagLength;
 
@@ -96,10 +116,6 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 
 	private SecureRandom secureRandom;
 
-	private SecretKeyFactory secretKeyFactory;
-
-	private Signature signature;
-
 	@PostConstruct
 	public void init() {
 		secureRandom = new SecureRandom();
@@ -112,7 +128,7 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		CryptoUtils.verifyData(data);
 		Cipher cipher;
 		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
+			cipher = JceEngineCache.cipher(symmetricAlgorithm);
 		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
 			throw new NoSuchAlgorithmException(
 					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
@@ -151,7 +167,7 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		}
 		Cipher cipher;
 		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
+			cipher = JceEngineCache.cipher(symmetricAlgorithm);
 		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
 			throw new NoSuchAlgorithmException(
 					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
@@ -160,7 +176,13 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		try {
 			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES);
 			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, iv);
-			cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
+			try {
+				cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
+			} catch (InvalidAlgorithmParameterException e) {
+				// a reused cipher refuses the key and iv of its last encryption
+				cipher = newCipher(symmetricAlgorithm);
+				cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
+			}
 			if (aad != null && aad.length != 0) {
 				cipher.updateAAD(aad);
 			}
@@ -181,7 +203,7 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		CryptoUtils.verifyData(data);
 		Cipher cipher;
 		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
+			cipher = JceEngineCache.cipher(symmetricAlgorithm);
 		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
 			throw new NoSuchAlgorithmException(
 					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
@@ -221,7 +243,7 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		}
 		Cipher cipher;
 		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
+			cipher = JceEngineCache.cipher(symmetricAlgorithm);
 		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
 			throw new NoSuchAlgorithmException(
 					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
@@ -251,7 +273,7 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		CryptoUtils.verifyData(data);
 		Cipher cipher;
 		try {
-			cipher = Cipher.getInstance(asymmetricAlgorithm);
+			cipher = JceEngineCache.cipher(asymmetricAlgorithm);
 		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
 			throw new NoSuchAlgorithmException(
 					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
@@ -278,7 +300,7 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		CryptoUtils.verifyData(data);
 		Cipher cipher;
 		try {
-			cipher = Cipher.getInstance(RSA_ECB_NO_PADDING);
+			cipher = JceEngineCache.cipher(RSA_ECB_NO_PADDING);
 		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
 			throw new NoSuchAlgorithmException(
 					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
@@ -294,7 +316,12 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		 * This is a hack of removing OEAP padding after decryption with NO Padding as
 		 * SoftHSM does not support it.Will be removed after HSM implementation
 		 */
-		byte[] paddedPlainText = doFinal(data, cipher);
+		byte[] paddedPlainText;
+		try {
+			paddedPlainText = doFinal(data, cipher);
+		} finally {
+			JceEngineCache.clearKey(RSA_ECB_NO_PADDING, cipher);
+		}
 		if (paddedPlainText.length < asymmetricKeyLength / 8) {
 			byte[] tempPipe = new byte[asymmetricKeyLength / 8];
 			System.arraycopy(paddedPlainText, 0, tempPipe, tempPipe.length - paddedPlainText.length,
@@ -316,7 +343,7 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		byte[] unpaddedData = null;
 		try {
 			sun.security.rsa.RSAPadding padding = sun.security.rsa.RSAPadding.getInstance(
-					sun.security.rsa.RSAPadding.PAD_OAEP_MGF1, asymmetricKeyLength / 8, new SecureRandom(), paramSpec);
+					sun.security.rsa.RSAPadding.PAD_OAEP_MGF1, asymmetricKeyLength / 8, secureRandom, paramSpec);
 			unpaddedData = padding.unpad(paddedPlainText);
 		} catch (java.security.InvalidKeyException e) {
 			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
@@ -341,8 +368,7 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		PBEKeySpec pbeKeySpec = new PBEKeySpec(convertedData, salt, iterations, symmetricKeyLength);
 		SecretKey key;
 		try {
-			secretKeyFactory = SecretKeyFactory.getInstance(passwordAlgorithm);
-			key = secretKeyFactory.generateSecret(pbeKeySpec);
+			key = JceEngineCache.secretKeyFactory(passwordAlgorithm).generateSecret(pbeKeySpec);
 		} catch (InvalidKeySpecException e) {
 			throw new InvalidParamSpecException(
 					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(), e.getMessage(), e);
@@ -360,10 +386,57 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		Objects.requireNonNull(privateKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
 		CryptoUtils.verifyData(data);
 		try {
-			signature = Signature.getInstance(signAlgorithm);
-			signature.initSign(privateKey);
-			signature.update(data);
-			return CryptoUtil.encodeBase64String(signature.sign());
+			Signature signature = JceEngineCache.signature(signAlgorithm);
+			try {
+				signature.initSign(privateKey);
+				signature.update(data);
+				return CryptoUtil.encodeBase64String(signature.sign());
+			} finally {
+				JceEngineCache.clearKey(signAlgorithm, signature);
+			}
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		} catch (java.security.SignatureException e) {
+			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		} catch (java.security.NoSuchAlgorithmException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
+	@Override
+	public String signHash(byte[] hash, PrivateKey privateKey) {
+		Objects.requireNonNull(privateKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(hash);
+		String algorithm = signAlgorithm.toUpperCase(Locale.ROOT);
+		byte[] prefix = algorithm.endsWith("WITHRSA")
+				? DIGEST_INFO_PREFIXES.get(algorithm.substring(0, algorithm.length() - "WITHRSA".length()))
+				: null;
+		if (prefix == null) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage());
+		}
+		// the hash length is the last byte of the prefix
+		if (hash.length != prefix[prefix.length - 1]) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorMessage());
+		}
+		byte[] digestInfo = Arrays.copyOf(prefix, prefix.length + hash.length);
+		System.arraycopy(hash, 0, digestInfo, prefix.length, hash.length);
+		try {
+			Signature hashSignature = JceEngineCache.signature(RSA_NO_DIGEST);
+			try {
+				hashSignature.initSign(privateKey);
+				hashSignature.update(digestInfo);
+				return CryptoUtil.encodeBase64String(hashSignature.sign());
+			} finally {
+				JceEngineCache.clearKey(RSA_NO_DIGEST, hashSignature);
+			}
 		} catch (java.security.InvalidKeyException e) {
 			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
 					e.getMessage(), e);
@@ -386,7 +459,7 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		Objects.requireNonNull(publicKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
 		CryptoUtils.verifyData(data);
 		try {
-			signature = Signature.getInstance(signAlgorithm);
+			Signature signature = JceEngineCache.signature(signAlgorithm);
 			signature.initVerify(publicKey);
 			signature.update(data);
 			return signature.verify(CryptoUtil.decodeBase64(sign));
@@ -423,6 +496,16 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		return byteIV;
 	}
 
+	private Cipher newCipher(String transformation) {
+		try {
+			return JceEngineCache.newCipher(transformation);
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
 	private byte[] doFinal(byte[] data, Cipher cipher) {
 		try {
 			return cipher.doFinal(data);
@@ -0,0 +1,180 @@
+package io.mosip.kernel.crypto.jce.util;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKeyFactory;
+
+/**
+ * Per thread cache of JCE engines, by algorithm.
+ * <p>
+ * Looking an engine up through the providers costs more than most operations
+ * on small payloads, and engines are not thread-safe. Each thread therefore
+ * keeps one instance per algorithm, which callers initialize again for every
+ * operation. An engine must not be used again before the operation it is used
+ * for is complete.
+ * <p>
+ * An engine keeps a reference to the key it was last initialized with. Callers
+ * that use a private key hand the engine to {@link #clearKey(String, Cipher)}
+ * or {@link #clearKey(String, Signature)} once done, so that the thread does not
+ * hold on to the key after the operation. Symmetric engines keep their last key
+ * until the next operation of the thread, as those are per message keys.
+ *
+ * @since 1.0.0
+ */
+public class JceEngineCache {
+
+	private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
+	private static final ThreadLocal<Map<String, Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+
+	private static final ThreadLocal<Map<String, SecretKeyFactory>> SECRET_KEY_FACTORIES = ThreadLocal
+			.withInitial(HashMap::new);
+
+	/**
+	 * Constructor for this class
+	 */
+	private JceEngineCache() {
+
+	}
+
+	/**
+	 * Cipher of the calling thread for a transformation
+	 *
+	 * @param transformation the transformation, as for
+	 *                       {@link Cipher#getInstance(String)}
+	 * @return the cipher, to be initialized
+	 * @throws NoSuchAlgorithmException if no provider supports the transformation
+	 * @throws NoSuchPaddingException   if no provider supports the padding
+	 */
+	public static Cipher cipher(String transformation) throws NoSuchAlgorithmException, NoSuchPaddingException {
+		Map<String, Cipher> ciphers = CIPHERS.get();
+		Cipher cipher = ciphers.get(transformation);
+		if (cipher == null) {
+			cipher = Cipher.getInstance(transformation);
+			ciphers.put(transformation, cipher);
+		}
+		return cipher;
+	}
+
+	/**
+	 * Replaces the cipher of the calling thread for a transformation, for when the
+	 * cached one keeps state across initializations, like the last key and iv
+	 * used for AES/GCM encryption
+	 *
+	 * @param transformation the transformation, as for
+	 *                       {@link Cipher#getInstance(String)}
+	 * @return the new cipher, to be initialized
+	 * @throws NoSuchAlgorithmException if no provider supports the transformation
+	 * @throws NoSuchPaddingException   if no provider supports the padding
+	 */
+	public static Cipher newCipher(String transformation) throws NoSuchAlgorithmException, NoSuchPaddingException {
+		Cipher cipher = Cipher.getInstance(transformation);
+		CIPHERS.get().put(transformation, cipher);
+		return cipher;
+	}
+
+	/**
+	 * Signature of the calling thread for an algorithm
+	 *
+	 * @param algorithm the algorithm, as for {@link Signature#getInstance(String)}
+	 * @return the signature, to be initialized
+	 * @throws NoSuchAlgorithmException if no provider supports the algorithm
+	 */
+	public static Signature signature(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, Signature> signatures = SIGNATURES.get();
+		Signature signature = signatures.get(algorithm);
+		if (signature == null) {
+			signature = Signature.getInstance(algorithm);
+			signatures.put(algorithm, signature);
+		}
+		return signature;
+	}
+
+	/**
+	 * Secret key factory of the calling thread for an algorithm
+	 *
+	 * @param algorithm the algorithm, as for
+	 *                  {@link SecretKeyFactory#getInstance(String)}
+	 * @return the secret key factory
+	 * @throws NoSuchAlgorithmException if no provider supports the algorithm
+	 */
+	public static SecretKeyFactory secretKeyFactory(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, SecretKeyFactory> factories = SECRET_KEY_FACTORIES.get();
+		SecretKeyFactory factory = factories.get(algorithm);
+		if (factory == null) {
+			factory = SecretKeyFactory.getInstance(algorithm);
+			factories.put(algorithm, factory);
+		}
+		return factory;
+	}
+
+	/**
+	 * Initializes the cipher of the calling thread again with a throwaway public
+	 * key, so that it no longer references the key of the last operation, or drops
+	 * it from the cache if it does not accept the key
+	 *
+	 * @param transformation the transformation the cipher was looked up with
+	 * @param cipher         the cipher
+	 */
+	public static void clearKey(String transformation, Cipher cipher) {
+		try {
+			cipher.init(Cipher.ENCRYPT_MODE, ThrowawayKey.get());
+		} catch (GeneralSecurityException | RuntimeException e) {
+			CIPHERS.get().remove(transformation, cipher);
+		}
+	}
+
+	/**
+	 * Initializes the signature of the calling thread again for verification with
+	 * a throwaway public key, so that it no longer references the private key of
+	 * the last operation, or drops it from the cache if it does not accept the key
+	 *
+	 * @param algorithm the algorithm the signature was looked up with
+	 * @param signature the signature
+	 */
+	public static void clearKey(String algorithm, Signature signature) {
+		try {
+			signature.initVerify(ThrowawayKey.get());
+		} catch (GeneralSecurityException | RuntimeException e) {
+			SIGNATURES.get().remove(algorithm, signature);
+		}
+	}
+
+	/**
+	 * RSA public key the engines are initialized with once done with a private key,
+	 * generated on first use
+	 */
+	private static final class ThrowawayKey {
+
+		private static final PublicKey KEY = generate();
+
+		private ThrowawayKey() {
+
+		}
+
+		private static PublicKey generate() {
+			try {
+				KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+				generator.initialize(1024);
+				return generator.generateKeyPair().getPublic();
+			} catch (NoSuchAlgorithmException e) {
+				return null;
+			}
+		}
+
+		static PublicKey get() throws NoSuchAlgorithmException {
+			if (KEY == null) {
+				throw new NoSuchAlgorithmException("RSA");
+			}
+			return KEY;
+		}
+	}
+}
@@ -6,12 +6,21 @@ import static org.junit.Assert.assertThat;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SecureRandom;
+import java.security.Signature;
 import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 
@@ -26,6 +35,7 @@ import io.mosip.kernel.core.crypto.exception.InvalidDataException;
 import io.mosip.kernel.core.crypto.exception.InvalidKeyException;
 import io.mosip.kernel.core.crypto.exception.SignatureException;
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.crypto.jce.util.JceEngineCache;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -81,6 +91,32 @@ public class CryptoCoreTest {
 				isA(byte[].class));
 	}
 
+	@Test
+	public void testAESSymmetricSaltEncryptRepeated() throws java.security.NoSuchAlgorithmException {
+		SecretKeySpec secretKeySpec = setSymmetricUp(32, "AES");
+		byte[] first = cryptoCore.symmetricEncrypt(secretKeySpec, data, keyBytes, MOCKAAD.getBytes());
+		byte[] second = cryptoCore.symmetricEncrypt(secretKeySpec, data, keyBytes, MOCKAAD.getBytes());
+		assertThat(Arrays.equals(first, second), is(true));
+	}
+
+	@Test
+	public void testSignAndVerifyConcurrently() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				byte[] message = ("test" + i).getBytes();
+				results.add(executor.submit(() -> cryptoCore.verifySignature(message,
+						cryptoCore.sign(message, rsaPair.getPrivate()), rsaPair.getPublic())));
+			}
+			for (Future<Boolean> result : results) {
+				assertThat(result.get(), is(true));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test(expected = NullPointerException.class)
 	public void testAESSymmetricEncryptNullKey() throws java.security.NoSuchAlgorithmException {
 		cryptoCore.symmetricEncrypt(null, data, MOCKAAD.getBytes());
@@ -134,6 +170,38 @@ public class CryptoCoreTest {
 		assertThat(cryptoCore.verifySignature(data, signature, rsaPair.getPublic()), is(true));
 	}
 	
+	@Test
+	public void testSignHash() throws NoSuchAlgorithmException, InvalidKeySpecException {
+		byte[] hash = MessageDigest.getInstance("SHA-512").digest(data);
+		String signature = cryptoCore.signHash(hash, rsaPair.getPrivate());
+		assertThat(signature, is(cryptoCore.sign(data, rsaPair.getPrivate())));
+		assertThat(cryptoCore.verifySignature(data, signature, rsaPair.getPublic()), is(true));
+	}
+
+	@Test(expected = java.security.SignatureException.class)
+	public void testSignHashDoesNotKeepPrivateKey() throws Exception {
+		byte[] hash = MessageDigest.getInstance("SHA-512").digest(data);
+		cryptoCore.signHash(hash, rsaPair.getPrivate());
+		Signature signature = JceEngineCache.signature("NONEwithRSA");
+		signature.update(hash);
+		signature.sign();
+	}
+
+	@Test
+	public void testAsymmetricDecryptKeepsCachedCipher() throws Exception {
+		byte[] encryptedData = cryptoCore.asymmetricEncrypt(rsaPair.getPublic(), data);
+		Cipher cipher = JceEngineCache.cipher("RSA/ECB/NoPadding");
+		cryptoCore.asymmetricDecrypt(rsaPair.getPrivate(), encryptedData);
+		assertThat(JceEngineCache.cipher("RSA/ECB/NoPadding") == cipher, is(true));
+		assertThat(Arrays.equals(cryptoCore.asymmetricDecrypt(rsaPair.getPrivate(), encryptedData), data), is(true));
+	}
+
+	@Test(expected = InvalidDataException.class)
+	public void testSignHashInvalidLength() throws NoSuchAlgorithmException, InvalidKeySpecException {
+		byte[] hash = MessageDigest.getInstance("SHA-256").digest(data);
+		cryptoCore.signHash(hash, rsaPair.getPrivate());
+	}
+
 	@Test(expected = SignatureException.class)
 	public void testVerifySignatureException() throws NoSuchAlgorithmException, InvalidKeySpecException {
 		assertThat(cryptoCore.verifySignature(data, "Invaliddata", rsaPair.getPublic()), is(true));
@@ -9,7 +9,8 @@ public enum SigningDataErrorCode {
 
 	RESPONSE_PARSE_EXCEPTION("KER-SGN-100", "Error occured while parsing data"),
 	REST_CRYPTO_CLIENT_EXCEPTION("KER-SGN-101","Error occured while calling an Sign API"),
-	REST_KM_CLIENT_EXCEPTION("KER-SGN-102","Error occured while fetching Public Key");
+	REST_KM_CLIENT_EXCEPTION("KER-SGN-102","Error occured while fetching Public Key"),
+	HASH_ALGORITHM_NOT_SUPPORTED("KER-SGN-103","Hash algorithm of the sign algorithm is not supported");
 
 	private final String errorCode;
 	private final String errorMessage;
@@ -66,6 +66,10 @@ public class SignatureUtilImpl implements SignatureUtil {
 	@Value("${mosip.kernel.keymanager-service-sign-url}")
 	private String signUrl;
 
+	/** The sign hash url, next to the sign url by default. */
+	@Value("${mosip.kernel.keymanager-service-signhash-url:${mosip.kernel.keymanager-service-sign-url}hash}")
+	private String signHashUrl;
+
 	/** The get public key url. */
 	@Value("${mosip.kernel.keymanager-service-publickey-url}")
 	private String getPublicKeyUrl;
@@ -114,6 +118,15 @@ public class SignatureUtilImpl implements SignatureUtil {
 
 	@Override
 	public SignatureResponse sign(String response, String timestamp) {
+		return sign(signUrl, response, timestamp);
+	}
+
+	@Override
+	public SignatureResponse signHash(byte[] hash, String timestamp) {
+		return sign(signHashUrl, CryptoUtil.encodeBase64(hash), timestamp);
+	}
+
+	private SignatureResponse sign(String url, String response, String timestamp) {
 		SignatureRequestDto signatureRequestDto = new SignatureRequestDto();
 		signatureRequestDto.setApplicationId(signApplicationid);
 		signatureRequestDto.setReferenceId(signRefid);
@@ -126,7 +139,7 @@ public class SignatureUtilImpl implements SignatureUtil {
 		ResponseEntity<String> responseEntity = null;
 
 		try {
-			responseEntity = restTemplate.postForEntity(signUrl, requestWrapper, String.class);
+			responseEntity = restTemplate.postForEntity(url, requestWrapper, String.class);
 		} catch (HttpClientErrorException | HttpServerErrorException ex) {
 			List<ServiceError> validationErrorsList = ExceptionUtils.getServiceErrorList(ex.getResponseBodyAsString());
 
@@ -1,5 +1,6 @@
 package io.mosip.kernel.cryptosignature.test.impl;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withBadRequest;
@@ -66,6 +67,9 @@ public class SignatureUtilImplTest {
 	@Value("${mosip.kernel.keymanager-service-sign-url}")
 	private String encryptUrl;
 
+	@Value("${mosip.kernel.keymanager-service-signhash-url:${mosip.kernel.keymanager-service-sign-url}hash}")
+	private String signHashUrl;
+
 	@Value("${mosip.kernel.keymanager-service-publickey-url}")
 	private String getPublicKeyUrl;
 
@@ -137,6 +141,20 @@ public class SignatureUtilImplTest {
 		signingUtil.sign("MOSIP", DateUtils.getUTCCurrentDateTimeString());
 	}
 
+	@Test
+	public void signHashResponseData() throws JsonProcessingException {
+		SignatureResponse signatureResponse = new SignatureResponse();
+		signatureResponse.setData("MOCKEDSIGNATURE");
+		ResponseWrapper<SignatureResponse> responseWrapper = new ResponseWrapper<>();
+		responseWrapper.setResponse(signatureResponse);
+		String response = objectMapper.writeValueAsString(responseWrapper);
+		server.expect(requestTo(signHashUrl))
+				.andRespond(withSuccess().body(response).contentType(MediaType.APPLICATION_JSON));
+
+		assertEquals("MOCKEDSIGNATURE",
+				signingUtil.signHash(new byte[64], DateUtils.getUTCCurrentDateTimeString()).getData());
+	}
+
 	@Test(expected = SignatureUtilClientException.class)
 	public void signResponseDataErrorTest() throws JsonProcessingException {
 
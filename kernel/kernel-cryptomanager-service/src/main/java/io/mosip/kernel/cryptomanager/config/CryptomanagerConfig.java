@@ -1,7 +1,12 @@
 package io.mosip.kernel.cryptomanager.config;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import io.mosip.kernel.core.datamapper.spi.DataMapper;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
@@ -46,4 +51,27 @@ public class CryptomanagerConfig {
 		return new DataMapperBuilderImpl<>(CryptomanagerRequestDto.class, KeymanagerSymmetricKeyRequestDto.class)
 				.build();
 	}
+
+	/**
+	 * Creating bean of TaskExecutor running the symmetric encryption and
+	 * decryption of batch requests. When its queue is full, the request thread
+	 * runs the task itself.
+	 * 
+	 * @param parallelism number of threads, the number of processors if not
+	 *                    positive
+	 * @return {@link Executor}
+	 */
+	@Bean
+	public Executor cryptomanagerBatchExecutor(
+			@Value("${mosip.kernel.cryptomanager.batch.parallelism:0}") int parallelism) {
+		int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(threads * 64);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setThreadNamePrefix("CRYPTOMANAGER-Batch-Thread-");
+		executor.initialize();
+		return executor;
+	}
 }
@@ -18,6 +18,8 @@ import org.springframework.web.bind.annotation.RestController;
 import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseFilter;
 import io.mosip.kernel.core.http.ResponseWrapper;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 import io.mosip.kernel.cryptomanager.service.CryptomanagerService;
@@ -74,4 +76,40 @@ public class CryptomanagerController {
 		response.setResponse(cryptomanagerService.decrypt(cryptomanagerRequestDto.getRequest()));
 		return response;
 	}
+
+	/**
+	 * Controller for Encrypt a batch of data
+	 * 
+	 * @param cryptomanagerBatchRequestDto {@link CryptomanagerBatchRequestDto}
+	 *                                     request
+	 * @return {@link CryptomanagerBatchResponseDto} encrypted Data, in the order
+	 *         of the requests
+	 */
+	@PreAuthorize("hasAnyRole('INDIVIDUAL','ID_AUTHENTICATION','TEST', 'REGISTRATION_ADMIN', 'REGISTRATION_SUPERVISOR', 'REGISTRATION_OFFICER', 'REGISTRATION_PROCESSOR','PRE_REGISTRATION_ADMIN','RESIDENT')")
+	@ResponseFilter
+	@PostMapping(value = "/encrypt/batch", produces = "application/json")
+	public ResponseWrapper<CryptomanagerBatchResponseDto> encryptBatch(
+			@ApiParam("Salts and Data to encrypt in BASE64 encoding with meta-data") @RequestBody @Valid RequestWrapper<CryptomanagerBatchRequestDto> cryptomanagerBatchRequestDto) {
+		ResponseWrapper<CryptomanagerBatchResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(cryptomanagerService.encryptBatch(cryptomanagerBatchRequestDto.getRequest()));
+		return response;
+	}
+
+	/**
+	 * Controller for Decrypt a batch of data
+	 * 
+	 * @param cryptomanagerBatchRequestDto {@link CryptomanagerBatchRequestDto}
+	 *                                     request
+	 * @return {@link CryptomanagerBatchResponseDto} decrypted Data, in the order
+	 *         of the requests
+	 */
+	@PreAuthorize("hasAnyRole('INDIVIDUAL','ID_AUTHENTICATION', 'TEST', 'REGISTRATION_ADMIN', 'REGISTRATION_SUPERVISOR', 'REGISTRATION_OFFICER', 'REGISTRATION_PROCESSOR','PRE_REGISTRATION_ADMIN','RESIDENT')")
+	@ResponseFilter
+	@PostMapping(value = "/decrypt/batch", produces = "application/json")
+	public ResponseWrapper<CryptomanagerBatchResponseDto> decryptBatch(
+			@ApiParam("Salts and Data to decrypt in BASE64 encoding with meta-data") @RequestBody @Valid RequestWrapper<CryptomanagerBatchRequestDto> cryptomanagerBatchRequestDto) {
+		ResponseWrapper<CryptomanagerBatchResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(cryptomanagerService.decryptBatch(cryptomanagerBatchRequestDto.getRequest()));
+		return response;
+	}
 }
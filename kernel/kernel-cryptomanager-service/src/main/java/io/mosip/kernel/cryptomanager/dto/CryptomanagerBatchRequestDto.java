@@ -0,0 +1,32 @@
+package io.mosip.kernel.cryptomanager.dto;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+
+import io.mosip.kernel.cryptomanager.constant.CryptomanagerConstant;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Crypto-Manager-Batch-Request model
+ *
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a Crypto-Manager-Service Batch Request")
+public class CryptomanagerBatchRequestDto {
+	/**
+	 * Requests to encrypt/decrypt, each with its own metadata
+	 */
+	@ApiModelProperty(notes = "Requests to encrypt/decrypt, each with its own metadata", required = true)
+	@NotEmpty(message = CryptomanagerConstant.INVALID_REQUEST)
+	@Valid
+	private List<CryptomanagerRequestDto> requests;
+}
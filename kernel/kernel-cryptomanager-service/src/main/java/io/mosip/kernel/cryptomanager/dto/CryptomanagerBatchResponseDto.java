@@ -0,0 +1,26 @@
+package io.mosip.kernel.cryptomanager.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Crypto-Manager-Batch-Response model
+ *
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a Crypto-Manager-Service Batch Response")
+public class CryptomanagerBatchResponseDto {
+	/**
+	 * Responses in the order of the requests
+	 */
+	@ApiModelProperty(notes = "Data encrypted/decrypted in BASE64 encoding, in the order of the requests")
+	private List<CryptomanagerResponseDto> responses;
+}
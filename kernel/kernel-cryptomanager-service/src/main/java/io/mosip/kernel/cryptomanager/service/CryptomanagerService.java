@@ -8,6 +8,8 @@ package io.mosip.kernel.cryptomanager.service;
 
 import org.springframework.stereotype.Service;
 
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 
@@ -38,4 +40,20 @@ public interface CryptomanagerService {
 	 */
 	public CryptomanagerResponseDto decrypt(CryptomanagerRequestDto cryptoRequestDto);
 
+	/**
+	 * Encrypt each data requested with its metadata.
+	 *
+	 * @param cryptoBatchRequestDto {@link CryptomanagerBatchRequestDto} instance
+	 * @return encrypted data, in the order of the requests
+	 */
+	public CryptomanagerBatchResponseDto encryptBatch(CryptomanagerBatchRequestDto cryptoBatchRequestDto);
+
+	/**
+	 * Decrypt each data requested with its metadata.
+	 *
+	 * @param cryptoBatchRequestDto {@link CryptomanagerBatchRequestDto} instance
+	 * @return decrypted data, in the order of the requests
+	 */
+	public CryptomanagerBatchResponseDto decryptBatch(CryptomanagerBatchRequestDto cryptoBatchRequestDto);
+
 }
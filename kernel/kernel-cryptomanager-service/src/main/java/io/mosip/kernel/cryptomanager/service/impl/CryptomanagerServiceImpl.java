@@ -10,17 +10,29 @@ import static java.util.Arrays.copyOfRange;
 
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
 import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.cryptomanager.constant.CryptomanagerErrorCode;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
+import io.mosip.kernel.cryptomanager.exception.CryptoManagerSerivceException;
 import io.mosip.kernel.cryptomanager.service.CryptomanagerService;
 import io.mosip.kernel.cryptomanager.util.CryptomanagerUtils;
 import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
@@ -60,6 +72,19 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 	@Autowired
 	private CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> cryptoCore;
 
+	/**
+	 * Maximum number of requests of a batch
+	 */
+	@Value("${mosip.kernel.cryptomanager.batch.max-requests:100}")
+	private int maxBatchRequests;
+
+	/**
+	 * Executor of the symmetric encryption and decryption of batch requests
+	 */
+	@Autowired
+	@Qualifier("cryptomanagerBatchExecutor")
+	private Executor batchExecutor;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -69,6 +94,82 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 	 */
 	@Override
 	public CryptomanagerResponseDto encrypt(CryptomanagerRequestDto cryptoRequestDto) {
+		return encrypt(cryptoRequestDto, cryptomanagerUtil.getPublicKey(cryptoRequestDto));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.cryptography.service.CryptographyService#decrypt(io.mosip.
+	 * kernel.cryptography.dto.CryptographyRequestDto)
+	 */
+	@Override
+	public CryptomanagerResponseDto decrypt(CryptomanagerRequestDto cryptoRequestDto) {
+		HybridData hybridData = splitHybridData(cryptoRequestDto.getData());
+		cryptoRequestDto.setData(hybridData.encodedKey);
+		SecretKey decryptedSymmetricKey = cryptomanagerUtil.getDecryptedSymmetricKey(cryptoRequestDto);
+		return decrypt(cryptoRequestDto, decryptedSymmetricKey, hybridData);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.cryptomanager.service.CryptomanagerService#encryptBatch(
+	 * io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto)
+	 */
+	@Override
+	public CryptomanagerBatchResponseDto encryptBatch(CryptomanagerBatchRequestDto cryptoBatchRequestDto) {
+		List<CryptomanagerRequestDto> requests = getBatchRequests(cryptoBatchRequestDto);
+		// keymanager is called from the request thread, which holds the auth token
+		Map<String, PublicKey> publicKeys = new HashMap<>();
+		List<CompletableFuture<CryptomanagerResponseDto>> responses = new ArrayList<>(requests.size());
+		for (CryptomanagerRequestDto request : requests) {
+			PublicKey publicKey = publicKeys.computeIfAbsent(getKeyGroup(request),
+					group -> cryptomanagerUtil.getPublicKey(request));
+			responses.add(CompletableFuture.supplyAsync(() -> encrypt(request, publicKey), batchExecutor));
+		}
+		return new CryptomanagerBatchResponseDto(joinAll(responses));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.cryptomanager.service.CryptomanagerService#decryptBatch(
+	 * io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto)
+	 */
+	@Override
+	public CryptomanagerBatchResponseDto decryptBatch(CryptomanagerBatchRequestDto cryptoBatchRequestDto) {
+		List<CryptomanagerRequestDto> requests = getBatchRequests(cryptoBatchRequestDto);
+		List<CompletableFuture<HybridData>> splits = new ArrayList<>(requests.size());
+		for (CryptomanagerRequestDto request : requests) {
+			splits.add(CompletableFuture.supplyAsync(() -> splitHybridData(request.getData()), batchExecutor));
+		}
+		List<HybridData> hybridData = joinAll(splits);
+		// each distinct encrypted key is decrypted once, from the request thread
+		Map<String, SecretKey> symmetricKeys = new HashMap<>();
+		List<CompletableFuture<CryptomanagerResponseDto>> responses = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			CryptomanagerRequestDto request = requests.get(i);
+			HybridData data = hybridData.get(i);
+			SecretKey symmetricKey = symmetricKeys.computeIfAbsent(getKeyGroup(request) + '|' + data.encodedKey,
+					group -> cryptomanagerUtil.getDecryptedSymmetricKey(
+							new CryptomanagerRequestDto(request.getApplicationId(), request.getReferenceId(),
+									request.getTimeStamp(), data.encodedKey, request.getSalt(), request.getAad())));
+			responses.add(CompletableFuture.supplyAsync(() -> decrypt(request, symmetricKey, data), batchExecutor));
+		}
+		return new CryptomanagerBatchResponseDto(joinAll(responses));
+	}
+
+	/**
+	 * Encrypts the data of a request with a new symmetric key, itself encrypted
+	 * with the public key
+	 * 
+	 * @param cryptoRequestDto {@link CryptomanagerRequestDto} instance
+	 * @param publicKey        public key of the application
+	 * @return encrypted data and symmetric key
+	 */
+	private CryptomanagerResponseDto encrypt(CryptomanagerRequestDto cryptoRequestDto, PublicKey publicKey) {
 		SecretKey secretKey = keyGenerator.getSymmetricKey();
 		final byte[] encryptedData;
 		if (cryptomanagerUtil.isValidSalt(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt()))) {
@@ -81,7 +182,6 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 					CryptoUtil.decodeBase64(cryptoRequestDto.getData()),
 					CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())));
 		}
-		PublicKey publicKey = cryptomanagerUtil.getPublicKey(cryptoRequestDto);
 		final byte[] encryptedSymmetricKey = cryptoCore.asymmetricEncrypt(publicKey, secretKey.getEncoded());
 		CryptomanagerResponseDto cryptoResponseDto = new CryptomanagerResponseDto();
 		cryptoResponseDto.setData(CryptoUtil
@@ -89,23 +189,18 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 		return cryptoResponseDto;
 	}
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * Decrypts the data of a request with its decrypted symmetric key
 	 * 
-	 * @see
-	 * io.mosip.kernel.cryptography.service.CryptographyService#decrypt(io.mosip.
-	 * kernel.cryptography.dto.CryptographyRequestDto)
+	 * @param cryptoRequestDto      {@link CryptomanagerRequestDto} instance
+	 * @param decryptedSymmetricKey symmetric key
+	 * @param hybridData            encrypted data and symmetric key
+	 * @return decrypted data
 	 */
-	@Override
-	public CryptomanagerResponseDto decrypt(CryptomanagerRequestDto cryptoRequestDto) {
-		int keyDemiliterIndex = 0;
-		byte[] encryptedHybridData = CryptoUtil.decodeBase64(cryptoRequestDto.getData());
-		keyDemiliterIndex = CryptoUtil.getSplitterIndex(encryptedHybridData, keyDemiliterIndex, keySplitter);
-		byte[] encryptedKey = copyOfRange(encryptedHybridData, 0, keyDemiliterIndex);
-		byte[] encryptedData = copyOfRange(encryptedHybridData, keyDemiliterIndex + keySplitter.length(),
-				encryptedHybridData.length);
-		cryptoRequestDto.setData(CryptoUtil.encodeBase64(encryptedKey));
-		SecretKey decryptedSymmetricKey = cryptomanagerUtil.getDecryptedSymmetricKey(cryptoRequestDto);
+	private CryptomanagerResponseDto decrypt(CryptomanagerRequestDto cryptoRequestDto,
+			SecretKey decryptedSymmetricKey, HybridData hybridData) {
+		byte[] encryptedData = copyOfRange(hybridData.data, hybridData.keyDemiliterIndex + keySplitter.length(),
+				hybridData.data.length);
 		final byte[] decryptedData;
 		if (cryptomanagerUtil.isValidSalt(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt()))) {
 			decryptedData = cryptoCore.symmetricDecrypt(decryptedSymmetricKey, encryptedData,
@@ -120,4 +215,79 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 		return cryptoResponseDto;
 	}
 
+	/**
+	 * Splits BASE64 encoded hybrid data in encrypted symmetric key and encrypted
+	 * data
+	 * 
+	 * @param data BASE64 encoded hybrid data
+	 * @return {@link HybridData} instance
+	 */
+	private HybridData splitHybridData(String data) {
+		byte[] encryptedHybridData = CryptoUtil.decodeBase64(data);
+		int keyDemiliterIndex = CryptoUtil.getSplitterIndex(encryptedHybridData, 0, keySplitter);
+		String encodedKey = CryptoUtil.encodeBase64(copyOfRange(encryptedHybridData, 0, keyDemiliterIndex));
+		return new HybridData(encryptedHybridData, keyDemiliterIndex, encodedKey);
+	}
+
+	/**
+	 * Function to check the number of requests of a batch
+	 * 
+	 * @param cryptoBatchRequestDto {@link CryptomanagerBatchRequestDto} instance
+	 * @return requests of the batch
+	 */
+	private List<CryptomanagerRequestDto> getBatchRequests(CryptomanagerBatchRequestDto cryptoBatchRequestDto) {
+		List<CryptomanagerRequestDto> requests = cryptoBatchRequestDto.getRequests();
+		if (requests.size() > maxBatchRequests) {
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.BATCH_SIZE_EXCEEDED.getErrorCode(),
+					CryptomanagerErrorCode.BATCH_SIZE_EXCEEDED.getErrorMessage() + maxBatchRequests);
+		}
+		return requests;
+	}
+
+	/**
+	 * Requests of a group share their public key
+	 */
+	private static String getKeyGroup(CryptomanagerRequestDto cryptoRequestDto) {
+		return cryptoRequestDto.getApplicationId() + '|' + cryptoRequestDto.getReferenceId() + '|'
+				+ cryptoRequestDto.getTimeStamp();
+	}
+
+	/**
+	 * Waits for all the tasks of a batch, throwing the failure of the first failed
+	 * task
+	 */
+	private static <T> List<T> joinAll(List<CompletableFuture<T>> futures) {
+		List<T> results = new ArrayList<>(futures.size());
+		for (CompletableFuture<T> future : futures) {
+			try {
+				results.add(future.join());
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw e;
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Decoded hybrid data, with the index of the key splitter and the BASE64
+	 * encoded encrypted symmetric key
+	 */
+	private static final class HybridData {
+
+		private final byte[] data;
+
+		private final int keyDemiliterIndex;
+
+		private final String encodedKey;
+
+		private HybridData(byte[] data, int keyDemiliterIndex, String encodedKey) {
+			this.data = data;
+			this.keyDemiliterIndex = keyDemiliterIndex;
+			this.encodedKey = encodedKey;
+		}
+	}
+
 }
@@ -1,5 +1,6 @@
 package io.mosip.kernel.cryptomanager.test.integration;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.when;
@@ -13,7 +14,9 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.crypto.SecretKey;
@@ -44,6 +47,8 @@ import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 import io.mosip.kernel.cryptomanager.dto.KeymanagerPublicKeyResponseDto;
@@ -180,4 +185,72 @@ public class CryptographicServiceIntegrationTest {
 		assertThat(cryptomanagerResponseDto.getData(), isA(String.class));
 	}
 
+	@WithUserDetails("reg-processor")
+	@Test
+	public void testEncryptBatch() throws Exception {
+		KeymanagerPublicKeyResponseDto keymanagerPublicKeyResponseDto = new KeymanagerPublicKeyResponseDto(
+				CryptoUtil.encodeBase64(keyPair.getPublic().getEncoded()), LocalDateTime.now(),
+				LocalDateTime.now().plusDays(100));
+		ResponseWrapper<KeymanagerPublicKeyResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(keymanagerPublicKeyResponseDto);
+		server.expect(requestTo(builder.buildAndExpand(uriParams).toUriString()))
+				.andRespond(withSuccess(objectMapper.writeValueAsString(response), MediaType.APPLICATION_JSON));
+		when(cryptoCore.symmetricEncrypt(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn("MOCKENCRYPTEDDATA".getBytes());
+		when(cryptoCore.asymmetricEncrypt(Mockito.any(), Mockito.any())).thenReturn("MOCKENCRYPTEDSESSIONKEY".getBytes());
+		RequestWrapper<CryptomanagerBatchRequestDto> batchRequestWrapper = getBatchRequestWrapper("dXJ2aWw");
+
+		String requestBody = objectMapper.writeValueAsString(batchRequestWrapper);
+		MvcResult result = mockMvc
+				.perform(post("/encrypt/batch").contentType(MediaType.APPLICATION_JSON).content(requestBody))
+				.andExpect(status().isOk()).andReturn();
+		ResponseWrapper<?> responseWrapper = objectMapper.readValue(result.getResponse().getContentAsString(),
+				ResponseWrapper.class);
+		CryptomanagerBatchResponseDto cryptomanagerBatchResponseDto = objectMapper.readValue(
+				objectMapper.writeValueAsString(responseWrapper.getResponse()), CryptomanagerBatchResponseDto.class);
+
+		assertThat(cryptomanagerBatchResponseDto.getResponses().size(), is(3));
+		server.verify();
+	}
+
+	@WithUserDetails("reg-processor")
+	@Test
+	public void testDecryptBatch() throws Exception {
+		KeymanagerSymmetricKeyResponseDto keymanagerSymmetricKeyResponseDto = new KeymanagerSymmetricKeyResponseDto(
+				CryptoUtil.encodeBase64(generator.getSymmetricKey().getEncoded()));
+		ResponseWrapper<KeymanagerSymmetricKeyResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(keymanagerSymmetricKeyResponseDto);
+		server.expect(requestTo(symmetricKeyUrl))
+				.andRespond(withSuccess(objectMapper.writeValueAsString(response), MediaType.APPLICATION_JSON));
+		when(cryptoCore.symmetricDecrypt(Mockito.any(), Mockito.any(),Mockito.any())).thenReturn("dXJ2aWw".getBytes());
+		RequestWrapper<CryptomanagerBatchRequestDto> batchRequestWrapper = getBatchRequestWrapper(
+				"dXJ2aWwjS0VZX1NQTElUVEVSI3Vydmls");
+
+		String requestBody = objectMapper.writeValueAsString(batchRequestWrapper);
+		MvcResult result = mockMvc
+				.perform(post("/decrypt/batch").contentType(MediaType.APPLICATION_JSON).content(requestBody))
+				.andExpect(status().isOk()).andReturn();
+		ResponseWrapper<?> responseWrapper = objectMapper.readValue(result.getResponse().getContentAsString(),
+				ResponseWrapper.class);
+		CryptomanagerBatchResponseDto cryptomanagerBatchResponseDto = objectMapper.readValue(
+				objectMapper.writeValueAsString(responseWrapper.getResponse()), CryptomanagerBatchResponseDto.class);
+
+		assertThat(cryptomanagerBatchResponseDto.getResponses().size(), is(3));
+		assertThat(cryptomanagerBatchResponseDto.getResponses().get(2).getData(), is(CryptoUtil.encodeBase64("dXJ2aWw".getBytes())));
+		server.verify();
+	}
+
+	private RequestWrapper<CryptomanagerBatchRequestDto> getBatchRequestWrapper(String data) {
+		List<CryptomanagerRequestDto> requests = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			requests.add(new CryptomanagerRequestDto("REGISTRATION", "ref123",
+					DateUtils.parseToLocalDateTime("2018-12-06T12:07:44.403Z"), data, null, null));
+		}
+		RequestWrapper<CryptomanagerBatchRequestDto> batchRequestWrapper = new RequestWrapper<>();
+		batchRequestWrapper.setId(ID);
+		batchRequestWrapper.setVersion(VERSION);
+		batchRequestWrapper.setRequesttime(LocalDateTime.now(ZoneId.of("UTC")));
+		batchRequestWrapper.setRequest(new CryptomanagerBatchRequestDto(requests));
+		return batchRequestWrapper;
+	}
+
 }
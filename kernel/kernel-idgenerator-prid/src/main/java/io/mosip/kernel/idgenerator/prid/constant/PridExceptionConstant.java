@@ -10,7 +10,8 @@ package io.mosip.kernel.idgenerator.prid.constant;
  */
 public enum PridExceptionConstant {
 	PRID_FETCH_EXCEPTION("KER-PIG-001", "Error occur while fetching counter and value details"),
-	PRID_INSERTION_EXCEPTION("KER-PIG-002", "Error occur while updating counter details");
+	PRID_INSERTION_EXCEPTION("KER-PIG-002", "Error occur while updating counter details"),
+	PRID_CIPHER_EXCEPTION("KER-PIG-003", "Error occur while encrypting the prid counter");
 
 	/**
 	 * The error code.
@@ -1,22 +1,18 @@
 package io.mosip.kernel.idgenerator.prid.impl;
 
-import java.math.BigInteger;
-import java.security.PrivateKey;
-import java.security.PublicKey;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 
 import javax.annotation.PostConstruct;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 
-import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
 import io.mosip.kernel.core.idgenerator.spi.PridGenerator;
 import io.mosip.kernel.core.util.ChecksumUtils;
 import io.mosip.kernel.idgenerator.prid.constant.PridPropertyConstant;
+import io.mosip.kernel.idgenerator.prid.util.PridBlockGenerator;
 import io.mosip.kernel.idgenerator.prid.util.PridFilterUtils;
 
 /**
@@ -32,15 +28,6 @@ import io.mosip.kernel.idgenerator.prid.util.PridFilterUtils;
 @Component
 public class PridGeneratorImpl implements PridGenerator<String> {
 
-	@Autowired
-	private CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> cryptoCore;
-
-	boolean init = true;
-
-	private String randomSeed;
-
-	private String counter;
-
 	/**
 	 * Field to hold PridFilterUtils object
 	 */
@@ -54,59 +41,39 @@ public class PridGeneratorImpl implements PridGenerator<String> {
 	@Value("${mosip.kernel.prid.length}")
 	private int pridLength;
 
+	/**
+	 * Number of counters a thread takes from the shared counter at a time
+	 */
+	@Value("${mosip.kernel.prid.counter-block-size:1000}")
+	private int counterBlockSize;
+
+	/**
+	 * Source of the prids without their checksum digit
+	 */
+	private PridBlockGenerator blockGenerator;
+
 	@PostConstruct
 	private void init() {
-		randomSeed = RandomStringUtils.random(Integer.parseInt(PridPropertyConstant.RANDOM_NUMBER_SIZE.getProperty()),
-				PridPropertyConstant.ZERO_TO_NINE.getProperty());
-
-		do {
-			counter = RandomStringUtils.random(Integer.parseInt(PridPropertyConstant.RANDOM_NUMBER_SIZE.getProperty()),
-					PridPropertyConstant.ZERO_TO_NINE.getProperty());
-		} while (counter.charAt(0) == '0');
+		SecureRandom random = new SecureRandom();
+		byte[] key = new byte[Integer.parseInt(PridPropertyConstant.RANDOM_NUMBER_SIZE.getProperty())];
+		random.nextBytes(key);
+		// random start, with room left for the counter to grow
+		long firstCounter = random.nextLong() >>> 2;
+		blockGenerator = new PridBlockGenerator(pridLength - 1, key, firstCounter, counterBlockSize);
 	}
 
 	@Override
 	public String generateId() {
-		String generatedVid = generateRandomId();
-		while (!pridFilterUtils.isValidId(generatedVid) || generatedVid.contains(" ")) {
-			generatedVid = generateRandomId();
+		int bodyLength = pridLength - 1;
+		byte[] digits = new byte[pridLength];
+		do {
+			blockGenerator.nextBody(digits);
+			digits[bodyLength] = (byte) ChecksumUtils.checksumDigit(digits, 0, bodyLength);
+		} while (!pridFilterUtils.isValidId(digits, 0, pridLength));
+		for (int i = 0; i < pridLength; i++) {
+			digits[i] += '0';
 		}
-		return generatedVid;
-	}
-
-	/**
-	 * Generates a id and then generate checksum
-	 * 
-	 * @param generatedIdLength The length of id to generate
-	 * @return the VId with checksum
-	 */
-	private String generateRandomId() {
-		String prid = null;
-		counter = init ? counter : new BigInteger(counter).add(BigInteger.ONE).toString();
-		init = false;
-		SecretKey secretKey = new SecretKeySpec(counter.getBytes(),
-				PridPropertyConstant.ENCRYPTION_ALGORITHM.getProperty());
-		byte[] encryptedData = cryptoCore.symmetricEncrypt(secretKey, randomSeed.getBytes(), null);
-		BigInteger bigInteger = new BigInteger(encryptedData);
-		prid = String.valueOf(bigInteger.abs());
-		prid = prid.substring(0, pridLength - 1);
-		String verhoeffDigit = ChecksumUtils.generateChecksumDigit(prid);
-		return appendChecksum(prid, verhoeffDigit);
-	}
-
-	/**
-	 * Appends a checksum to generated id
-	 * 
-	 * @param generatedIdLength The length of id
-	 * @param generatedID       The generated id
-	 * @param verhoeffDigit     The checksum to append
-	 * @return PRID with checksum
-	 */
-	private String appendChecksum(String generatedPrid, String verhoeffDigit) {
-		StringBuilder pridStringbuilder = new StringBuilder();
-		pridStringbuilder.setLength(pridLength);
-		return pridStringbuilder.insert(0, generatedPrid).insert(generatedPrid.length(), verhoeffDigit).toString()
-				.trim();
+		return new String(digits, StandardCharsets.US_ASCII);
 	}
 
 }
@@ -0,0 +1,233 @@
+package io.mosip.kernel.idgenerator.prid.util;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.mosip.kernel.idgenerator.prid.constant.PridExceptionConstant;
+import io.mosip.kernel.idgenerator.prid.constant.PridPropertyConstant;
+import io.mosip.kernel.idgenerator.prid.exception.PridException;
+
+/**
+ * Thread-safe source of prid bodies, the digits of a prid without its checksum.
+ * <p>
+ * A body is a counter encrypted under a secret key. Each thread claims a block
+ * of <code>blockSize</code> counters from a shared atomic counter and walks it
+ * with its own cipher, so threads never share a counter and only touch shared
+ * state once per block. When the body fits in a long, the counter is encrypted
+ * with a Feistel network over the digit space and cycle walking, which is a
+ * permutation: distinct counters always give distinct bodies. Longer bodies are
+ * cut from the decimal digits of the encrypted counter.
+ *
+ * @since 1.0.0
+ *
+ */
+public class PridBlockGenerator {
+
+	/**
+	 * Longest body encrypted with long arithmetic
+	 */
+	public static final int MAX_PRIMITIVE_LENGTH = 18;
+
+	private static final String CIPHER_ALGORITHM = "AES/ECB/NoPadding";
+
+	private static final int CIPHER_BLOCK_SIZE = 16;
+
+	private static final int FEISTEL_ROUNDS = 10;
+
+	private final int bodyLength;
+
+	private final int blockSize;
+
+	private final SecretKeySpec key;
+
+	/**
+	 * Whether bodies are encrypted with long arithmetic
+	 */
+	private final boolean primitive;
+
+	/**
+	 * Number of bodies of {@link #bodyLength} digits, leading zeros included
+	 */
+	private final long domain;
+
+	/**
+	 * Smallest body without a leading zero
+	 */
+	private final long lowest;
+
+	/**
+	 * Bits of each half of the Feistel network, which covers {@link #domain}
+	 */
+	private final int halfBits;
+
+	private final long halfMask;
+
+	private final AtomicLong nextBlock;
+
+	private final ThreadLocal<CounterBlock> blocks = ThreadLocal.withInitial(CounterBlock::new);
+
+	/**
+	 * @param bodyLength   the number of digits of a body
+	 * @param key          the AES key encrypting the counters
+	 * @param firstCounter the counter of the first block
+	 * @param blockSize    the number of counters claimed by a thread at a time
+	 */
+	public PridBlockGenerator(int bodyLength, byte[] key, long firstCounter, int blockSize) {
+		if (bodyLength <= 0 || blockSize <= 0) {
+			throw new IllegalArgumentException("body length and block size must be positive");
+		}
+		this.bodyLength = bodyLength;
+		this.blockSize = blockSize;
+		this.key = new SecretKeySpec(key, PridPropertyConstant.ENCRYPTION_ALGORITHM.getProperty());
+		this.primitive = bodyLength <= MAX_PRIMITIVE_LENGTH;
+		if (primitive) {
+			long size = 1;
+			for (int i = 0; i < bodyLength; i++) {
+				size *= 10;
+			}
+			domain = size;
+			lowest = size / 10;
+			halfBits = (64 - Long.numberOfLeadingZeros(size - 1) + 1) / 2;
+			halfMask = (1L << halfBits) - 1;
+		} else {
+			domain = 0;
+			lowest = 0;
+			halfBits = 0;
+			halfMask = 0;
+		}
+		this.nextBlock = new AtomicLong(firstCounter);
+		// fail on a bad key now rather than on the first prid
+		newCipher();
+	}
+
+	/**
+	 * @return the number of digits of a body
+	 */
+	public int getBodyLength() {
+		return bodyLength;
+	}
+
+	/**
+	 * @return whether bodies are encrypted with long arithmetic, and so are
+	 *         unique
+	 */
+	public boolean isPrimitive() {
+		return primitive;
+	}
+
+	/**
+	 * Writes the next body of the calling thread. The body never starts with a
+	 * zero.
+	 *
+	 * @param digits the array receiving the digits of the body, from index zero
+	 */
+	public void nextBody(byte[] digits) {
+		CounterBlock block = blocks.get();
+		if (primitive) {
+			long body;
+			do {
+				body = permute(block, Math.floorMod(block.next(), domain));
+			} while (body < lowest);
+			for (int i = bodyLength - 1; i >= 0; i--) {
+				digits[i] = (byte) (body % 10);
+				body /= 10;
+			}
+		} else {
+			long counter = block.next();
+			int filled = 0;
+			for (byte chunk = 0; filled < bodyLength; chunk++) {
+				String chunkDigits = new BigInteger(1, block.encrypt(chunk, counter)).toString();
+				int length = Math.min(chunkDigits.length(), bodyLength - filled);
+				for (int i = 0; i < length; i++) {
+					digits[filled + i] = (byte) (chunkDigits.charAt(i) - '0');
+				}
+				filled += length;
+			}
+		}
+	}
+
+	/**
+	 * Encrypts a value of the digit space, walking the Feistel network until its
+	 * output falls back in the digit space
+	 */
+	private long permute(CounterBlock block, long value) {
+		long result = value;
+		do {
+			long left = result >>> halfBits;
+			long right = result & halfMask;
+			for (byte round = 0; round < FEISTEL_ROUNDS; round++) {
+				long mixed = left ^ (toLong(block.encrypt(round, right)) & halfMask);
+				left = right;
+				right = mixed;
+			}
+			result = (left << halfBits) | right;
+		} while (result >= domain);
+		return result;
+	}
+
+	private static long toLong(byte[] bytes) {
+		long value = 0;
+		for (int i = 0; i < Long.BYTES; i++) {
+			value = (value << 8) | (bytes[i] & 0xFF);
+		}
+		return value;
+	}
+
+	private Cipher newCipher() {
+		try {
+			Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+			cipher.init(Cipher.ENCRYPT_MODE, key);
+			return cipher;
+		} catch (GeneralSecurityException e) {
+			throw new PridException(PridExceptionConstant.PRID_CIPHER_EXCEPTION.getErrorCode(),
+					PridExceptionConstant.PRID_CIPHER_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
+	/**
+	 * Counters claimed by a thread, with the cipher and buffers of that thread
+	 */
+	private final class CounterBlock {
+
+		private final Cipher cipher = newCipher();
+
+		private final byte[] input = new byte[CIPHER_BLOCK_SIZE];
+
+		private final byte[] output = new byte[CIPHER_BLOCK_SIZE];
+
+		private long next;
+
+		private long end;
+
+		private long next() {
+			if (next == end) {
+				next = nextBlock.getAndAdd(blockSize);
+				end = next + blockSize;
+			}
+			return next++;
+		}
+
+		/**
+		 * Encrypts a tagged value, the tag telling apart the uses of a value
+		 *
+		 * @return the encrypted block, overwritten by the next call
+		 */
+		private byte[] encrypt(byte tag, long value) {
+			input[0] = tag;
+			for (int i = 0; i < Long.BYTES; i++) {
+				input[CIPHER_BLOCK_SIZE - 1 - i] = (byte) (value >>> (8 * i));
+			}
+			try {
+				cipher.doFinal(input, 0, CIPHER_BLOCK_SIZE, output, 0);
+			} catch (GeneralSecurityException e) {
+				throw new PridException(PridExceptionConstant.PRID_CIPHER_EXCEPTION.getErrorCode(),
+						PridExceptionConstant.PRID_CIPHER_EXCEPTION.getErrorMessage(), e);
+			}
+			return output;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package io.mosip.kernel.idgenerator.prid.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import io.mosip.kernel.idgenerator.prid.util.PridBlockGenerator;
+
+public class PridBlockGeneratorTest {
+
+	private static final byte[] KEY = "45454545454545454545454545454545".getBytes();
+
+	@Test
+	public void uniqueAcrossThreadsTest() throws Exception {
+		int threads = 8;
+		int perThread = 20000;
+		PridBlockGenerator generator = new PridBlockGenerator(13, KEY, 0, 100);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<List<Long>>> results = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				Callable<List<Long>> task = () -> {
+					byte[] digits = new byte[13];
+					List<Long> bodies = new ArrayList<>(perThread);
+					for (int i = 0; i < perThread; i++) {
+						generator.nextBody(digits);
+						bodies.add(toLong(digits));
+					}
+					return bodies;
+				};
+				results.add(executor.submit(task));
+			}
+			Set<Long> unique = new HashSet<>();
+			for (Future<List<Long>> result : results) {
+				unique.addAll(result.get());
+			}
+			assertEquals(threads * perThread, unique.size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void coversShortDigitSpaceTest() {
+		PridBlockGenerator generator = new PridBlockGenerator(3, KEY, 0, 7);
+		byte[] digits = new byte[3];
+		Set<Long> unique = new HashSet<>();
+		for (int i = 0; i < 900; i++) {
+			generator.nextBody(digits);
+			assertNotEquals(0, digits[0]);
+			unique.add(toLong(digits));
+		}
+		assertEquals(900, unique.size());
+	}
+
+	@Test
+	public void sameCounterSameBodyTest() {
+		byte[] first = new byte[13];
+		byte[] second = new byte[13];
+		new PridBlockGenerator(13, KEY, 42, 10).nextBody(first);
+		new PridBlockGenerator(13, KEY, 42, 10).nextBody(second);
+		assertEquals(toLong(first), toLong(second));
+	}
+
+	@Test
+	public void longBodyTest() {
+		PridBlockGenerator generator = new PridBlockGenerator(45, KEY, 0, 10);
+		assertFalse(generator.isPrimitive());
+		byte[] digits = new byte[45];
+		generator.nextBody(digits);
+		assertNotEquals(0, digits[0]);
+		for (byte digit : digits) {
+			assertTrue(digit >= 0 && digit <= 9);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidBlockSizeTest() {
+		new PridBlockGenerator(13, KEY, 0, 0);
+	}
+
+	private static long toLong(byte[] digits) {
+		long value = 0;
+		for (byte digit : digits) {
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+}
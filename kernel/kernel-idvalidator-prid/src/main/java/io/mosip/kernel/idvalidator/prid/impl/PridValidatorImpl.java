@@ -3,7 +3,8 @@ package io.mosip.kernel.idvalidator.prid.impl;
 
 import java.util.List;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
+
+import javax.annotation.PostConstruct;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 import io.mosip.kernel.core.idvalidator.exception.InvalidIDException;
 import io.mosip.kernel.core.idvalidator.spi.PridValidator;
 import io.mosip.kernel.core.util.ChecksumUtils;
+import io.mosip.kernel.core.util.IdFilter;
 import io.mosip.kernel.core.util.StringUtils;
 import io.mosip.kernel.idvalidator.prid.constant.PridExceptionConstant;
 
@@ -65,24 +67,17 @@ public class PridValidatorImpl implements PridValidator<String> {
 	private List<String> notStartWith;
 
 	/**
-	 * Ascending digits which will be checked for sequence in id
-	 */
-	private static final String SEQ_ASC = "0123456789";
-
-	/**
-	 * Descending digits which will be checked for sequence in id
-	 */
-	private static final String SEQ_DEC = "9876543210";
-
-	/**
-	 * Compiled regex pattern for
+	 * Filter for the configured limits
 	 */
-	private Pattern repeatingPattern = null;
+	private IdFilter idFilter = null;
 
 	/**
-	 * Compiled regex pattern of {@link #repeatingBlockRegex}
+	 * Builds {@link #idFilter} from the configured limits
 	 */
-	private Pattern repeatingBlockpattern = null;
+	@PostConstruct
+	public void initializeFilter() {
+		idFilter = buildFilter(sequenceLimit, repeatLimit, blockLimit);
+	}
 
 	/**
 	 * Method used to validate PRID against acceptance Criteria
@@ -216,53 +211,6 @@ public class PridValidatorImpl implements PridValidator<String> {
 		}
 	}
 
-	public void initializeRegEx(int repeatingLimit, int repeatingBlockLimit) {
-
-		/**
-		 * Regex for matching repeating digits like 11, 1x1, 1xx1, 1xxx1, etc.<br/>
-		 * If repeating digit limit is 2, then <b>Regex:</b> (\d)\d{0,2}\1<br/>
-		 * <b>Explanation:</b><br/>
-		 * <b>1st Capturing Group (\d)</b><br/>
-		 * <b>\d</b> matches a digit (equal to [0-9])<br/>
-		 * <b>{0,2} Quantifier</b> — Matches between 0 and 2 times, as many times as
-		 * possible, giving back as needed (greedy)<br/>
-		 * <b>\1</b> matches the same text as most recently matched by the 1st capturing
-		 * group<br/>
-		 */
-		if (repeatingLimit > 0) {
-			String repeatingRegEx = "(\\d)\\d{0," + (repeatingLimit - 1) + "}\\1";
-			/**
-			 * Compiled regex pattern of {@link #repeatingRegEx}
-			 */
-			repeatingPattern = Pattern.compile(repeatingRegEx);
-		}
-
-		/**
-		 * Regex for matching repeating block of digits like 482xx482, 4827xx4827 (x is
-		 * any digit).<br/>
-		 * If repeating block limit is 3, then <b>Regex:</b> (\d{3,}).*?\1<br/>
-		 * <b>Explanation:</b><br/>
-		 * <b>1st Capturing Group (\d{3,})</b><br/>
-		 * <b>\d{3,}</b> matches a digit (equal to [0-9])<br/>
-		 * <b>{3,}</b> Quantifier — Matches between 3 and unlimited times, as many times
-		 * as possible, giving back as needed (greedy)<br/>
-		 * <b>.*?</b> matches any character (except for line terminators)<br/>
-		 * <b>*?</b> Quantifier — Matches between zero and unlimited times, as few times
-		 * as possible, expanding as needed (lazy)<br/>
-		 * <b>\1</b> matches the same text as most recently matched by the 1st capturing
-		 * group<br/>
-		 */
-
-		if (repeatingBlockLimit > 0) {
-			String repeatingBlockRegex = "(\\d{" + repeatingBlockLimit + ",}).*?\\1";
-
-			/**
-			 * Compiled regex pattern of {@link #repeatingBlockRegex}
-			 */
-			repeatingBlockpattern = Pattern.compile(repeatingBlockRegex);
-		}
-	}
-
 	/**
 	 * Checks if the input id is valid by passing the id through
 	 * {@link #sequenceLimit} filter, {@link #repeatLimit} filter and
@@ -276,37 +224,27 @@ public class PridValidatorImpl implements PridValidator<String> {
 	 * @return true if the input id is valid
 	 */
 	private boolean isValidId(String id, int sequenceLimit, int repeatingLimit, int repeatingBlockLimit) {
-		initializeRegEx(repeatingLimit, repeatingBlockLimit);
-		return !(sequenceFilter(id, sequenceLimit) || regexFilter(id, repeatingPattern)
-				|| regexFilter(id, repeatingBlockpattern) || validateNotStartWith(id) || restrictedAdminFilter(id));
-	}
-
-	/**
-	 * Checks the input id for {@link #sequenceLimit} filter
-	 * 
-	 * @param id The input id to validate
-	 * @return true if the id matches the filter
-	 */
-	private boolean sequenceFilter(String id, int sequenceLimit) {
-		if (sequenceLimit > 0)
-			return IntStream.rangeClosed(0, id.length() - sequenceLimit).parallel()
-					.mapToObj(index -> id.subSequence(index, index + sequenceLimit))
-					.anyMatch(idSubSequence -> SEQ_ASC.contains(idSubSequence) || SEQ_DEC.contains(idSubSequence));
-		return false;
+		IdFilter filter = idFilter;
+		if (filter == null || sequenceLimit != this.sequenceLimit || repeatingLimit != repeatLimit
+				|| repeatingBlockLimit != blockLimit) {
+			filter = buildFilter(sequenceLimit, repeatingLimit, repeatingBlockLimit);
+		}
+		return filter.isValidId(id);
 	}
 
 	/**
-	 * Checks the input id if it matched the given regex pattern
-	 * ({@link #REPEATING_PATTERN}, {@link #repeatingBlockpattern})
+	 * Builds a filter for the given limits along with {@link #notStartWith} and
+	 * {@link #restrictedAdminDigits}
 	 * 
-	 * @param id      The input id to validate
-	 * @param pattern The input regex Pattern
-	 * @return true if the id matches the given regex pattern
+	 * @param sequenceLimit       sequence in prid to limit
+	 * @param repeatingLimit      repeating limit
+	 * @param repeatingBlockLimit repeating block limit
+	 * @return the filter
 	 */
-	private boolean regexFilter(String id, Pattern pattern) {
-		if (pattern != null)
-			return pattern.matcher(id).find();
-		return false;
+	private IdFilter buildFilter(int sequenceLimit, int repeatingLimit, int repeatingBlockLimit) {
+		return IdFilter.builder().sequenceLimit(sequenceLimit, false).repeatingLimit(repeatingLimit)
+				.repeatingBlockLimit(repeatingBlockLimit).notStartWith(notStartWith)
+				.restrictedNumbers(restrictedAdminDigits).build();
 	}
 
 	/**
@@ -321,31 +259,4 @@ public class PridValidatorImpl implements PridValidator<String> {
 	 * ), PridExceptionConstant.PRID_VAL_INVALID_VALUE.getErrorMessage()); } }
 	 */
 
-	/**
-	 * Method to validate that the prid should not contains the specified digit at
-	 * first index
-	 * 
-	 * @param id The input id to validate
-	 * @return true if found otherwise false
-	 */
-	private boolean validateNotStartWith(String id) {
-		if (notStartWith != null && !notStartWith.isEmpty()) {
-			for (String str : notStartWith) {
-				if (id.startsWith(str))
-					return true;
-			}
-		}
-		return false;
-	}
-
-	/**
-	 * Checks the input id for {@link #restrictedNumbers} filter
-	 * 
-	 * @param id The input id to validate
-	 * @return true if the id matches the filter
-	 */
-	private boolean restrictedAdminFilter(String id) {
-		return restrictedAdminDigits.parallelStream().anyMatch(id::contains);
-	}
-
 }
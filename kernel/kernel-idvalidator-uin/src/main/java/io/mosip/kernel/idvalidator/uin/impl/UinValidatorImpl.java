@@ -6,7 +6,6 @@ package io.mosip.kernel.idvalidator.uin.impl;
 
 import java.util.List;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 import javax.annotation.PostConstruct;
 
@@ -16,6 +15,7 @@ import org.springframework.stereotype.Component;
 import io.mosip.kernel.core.idvalidator.exception.InvalidIDException;
 import io.mosip.kernel.core.idvalidator.spi.UinValidator;
 import io.mosip.kernel.core.util.ChecksumUtils;
+import io.mosip.kernel.core.util.IdFilter;
 import io.mosip.kernel.core.util.StringUtils;
 import io.mosip.kernel.idvalidator.uin.constant.UinExceptionConstant;
 
@@ -93,29 +93,11 @@ public class UinValidatorImpl implements UinValidator<String> {
 	private List<String> restrictedAdminDigits;
 
 	/**
-	 * Ascending digits which will be checked for sequence in id
+	 * Filter for {@link #sequenceLimit}, {@link #repeatingLimit},
+	 * {@link #repeatingBlockLimit}, {@link #conjugativeEvenDigitsLimit} and
+	 * restricted numbers
 	 */
-	private static final String SEQ_ASC = "0123456789";
-
-	/**
-	 * Descending digits which will be checked for sequence in id
-	 */
-	private static final String SEQ_DEC = "9876543210";
-
-	/**
-	 * Compiled regex pattern of {@link #repeatingRegEx}
-	 */
-	private Pattern repeatingPattern = null;
-
-	/**
-	 * Compiled regex pattern of {@link #repeatingBlockRegEx}
-	 */
-	private Pattern repeatingBlockPattern = null;
-
-	/**
-	 * Compiled regex pattern of {@link #conjugativeEvenDigitsLimitRegEx}
-	 */
-	private Pattern conjugativeEvenDigitsLimitPattern = null;
+	private IdFilter idFilter = null;
 
 	/**
 	 * Method to prepare regular expressions for checking UIN has only digits.
@@ -124,40 +106,9 @@ public class UinValidatorImpl implements UinValidator<String> {
 	private void uinValidatorImplnumaricRegEx() {
 		numaricRegEx = "\\d{" + uinLength + "}";
 
-		/**
-		 * Regex for matching repeating digits like 11, 1x1, 1xx1, 1xxx1, etc.<br/>
-		 * If repeating digit limit is 2, then <b>Regex:</b> (\d)\d{0,2}\1<br/>
-		 * <b>Explanation:</b><br/>
-		 * <b>1st Capturing Group (\d)</b><br/>
-		 * <b>\d</b> matches a digit (equal to [0-9])<br/>
-		 * <b>{0,2} Quantifier</b> — Matches between 0 and 2 times, as many times as
-		 * possible, giving back as needed (greedy)<br/>
-		 * <b>\1</b> matches the same text as most recently matched by the 1st capturing
-		 * group<br/>
-		 */
-		String repeatingRegEx = "(\\d)\\d{0," + (repeatingLimit - 1) + "}\\1";
-		/**
-		 * Regex for matching repeating block of digits like 482xx482, 4827xx4827 (x is
-		 * any digit).<br/>
-		 * If repeating block limit is 3, then <b>Regex:</b> (\d{3,}).*?\1<br/>
-		 * <b>Explanation:</b><br/>
-		 * <b>1st Capturing Group (\d{3,})</b><br/>
-		 * <b>\d{3,}</b> matches a digit (equal to [0-9])<br/>
-		 * <b>{3,}</b> Quantifier — Matches between 3 and unlimited times, as many times
-		 * as possible, giving back as needed (greedy)<br/>
-		 * <b>.*?</b> matches any character (except for line terminators)<br/>
-		 * <b>*?</b> Quantifier — Matches between zero and unlimited times, as few times
-		 * as possible, expanding as needed (lazy)<br/>
-		 * <b>\1</b> matches the same text as most recently matched by the 1st capturing
-		 * group<br/>
-		 */
-		String repeatingBlockRegEx = "(\\d{" + repeatingBlockLimit + ",}).*?\\1";
-
-		String conjugativeEvenDigitsLimitRegEx = "[2468]{" + conjugativeEvenDigitsLimit + "}";
-
-		repeatingPattern = Pattern.compile(repeatingRegEx);
-		repeatingBlockPattern = Pattern.compile(repeatingBlockRegEx);
-		conjugativeEvenDigitsLimitPattern = Pattern.compile(conjugativeEvenDigitsLimitRegEx);
+		idFilter = IdFilter.builder().sequenceLimit(sequenceLimit, false).repeatingLimit(repeatingLimit)
+				.repeatingBlockLimit(repeatingBlockLimit).conjugativeEvenDigitsLimit(conjugativeEvenDigitsLimit)
+				.restrictedNumbers(restrictedAdminDigits).build();
 	}
 
 	/**
@@ -303,33 +254,7 @@ public class UinValidatorImpl implements UinValidator<String> {
 	 * @return true if the input id is valid
 	 */
 	private boolean isValidId(String id) {
-
-		return !(sequenceFilter(id) || regexFilter(id, repeatingPattern) || regexFilter(id, repeatingBlockPattern)
-				|| regexFilter(id, conjugativeEvenDigitsLimitPattern) || restrictedAdminFilter(id));
-	}
-
-	/**
-	 * Checks the input id for {@link #SEQUENCE_LIMIT} filter
-	 * 
-	 * @param id The input id to validate
-	 * @return true if the id matches the filter
-	 */
-	private boolean sequenceFilter(String id) {
-		return IntStream.rangeClosed(0, id.length() - sequenceLimit).parallel()
-				.mapToObj(index -> id.subSequence(index, index + sequenceLimit))
-				.anyMatch(idSubSequence -> SEQ_ASC.contains(idSubSequence) || SEQ_DEC.contains(idSubSequence));
-	}
-
-	/**
-	 * Checks the input id if it matched the given regex pattern
-	 * ({@link #repeatingPattern}, {@link #repeatingBlockPattern})
-	 * 
-	 * @param id      The input id to validate
-	 * @param pattern The input regex Pattern
-	 * @return true if the id matches the given regex pattern
-	 */
-	private boolean regexFilter(String id, Pattern pattern) {
-		return pattern.matcher(id).find();
+		return idFilter.isValidId(id);
 	}
 
 	/**
@@ -373,14 +298,4 @@ public class UinValidatorImpl implements UinValidator<String> {
 
 	}
 
-	/**
-	 * Checks the input id for {@link #restrictedNumbers} filter
-	 * 
-	 * @param id The input id to validate
-	 * @return true if the id matches the filter
-	 */
-	private boolean restrictedAdminFilter(String id) {
-		return restrictedAdminDigits.parallelStream().anyMatch(id::contains);
-	}
-
 }
@@ -0,0 +1,245 @@
+package io.mosip.kernel.keymanagerservice.cache;
+
+import java.security.PrivateKey;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.security.auth.DestroyFailedException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+
+/**
+ * Cache of the key aliases of an application and reference id, and of the
+ * private keys decrypted from the DB store, so that decrypting a symmetric key
+ * does not read the key alias and key store tables and decrypt the private key
+ * with the master key every time.
+ * <p>
+ * Private keys are cached by alias, which stands for a single application id,
+ * reference id and validity window. Entries expire
+ * <code>ttlSeconds</code> after they are loaded; when more than
+ * <code>maxPrivateKeys</code> private keys are cached, the oldest is evicted.
+ * Evicted and expired private keys are destroyed where the key supports it, and
+ * only dropped otherwise, as the RSA keys of the default JDK providers do not
+ * support it. The key aliases of an application and reference id are dropped
+ * when a key is generated for them.
+ *
+ * @since 1.0.0
+ *
+ */
+@Component
+public class PrivateKeyCache {
+
+	/**
+	 * Seconds a cached entry is used for, zero or negative to disable the cache
+	 */
+	@Value("${mosip.kernel.keymanager.cache.ttl-seconds:300}")
+	private long ttlSeconds;
+
+	/**
+	 * Number of decrypted private keys kept at most
+	 */
+	@Value("${mosip.kernel.keymanager.cache.max-private-keys:100}")
+	private int maxPrivateKeys;
+
+	/**
+	 * Key aliases by application id and reference id
+	 */
+	private final Map<String, Entry<List<KeyAlias>>> keyAliases = new ConcurrentHashMap<>();
+
+	/**
+	 * Decrypted private keys by alias
+	 */
+	private final Map<String, Entry<PrivateKey>> privateKeys = new ConcurrentHashMap<>();
+
+	private Counter aliasHits;
+
+	private Counter aliasMisses;
+
+	private Counter privateKeyHits;
+
+	private Counter privateKeyMisses;
+
+	private Counter privateKeyEvictions;
+
+	@PostConstruct
+	public void init() {
+		aliasHits = counter("mosip.kernel.keymanager.cache.requests", "alias", "hit");
+		aliasMisses = counter("mosip.kernel.keymanager.cache.requests", "alias", "miss");
+		privateKeyHits = counter("mosip.kernel.keymanager.cache.requests", "privatekey", "hit");
+		privateKeyMisses = counter("mosip.kernel.keymanager.cache.requests", "privatekey", "miss");
+		privateKeyEvictions = Counter.builder("mosip.kernel.keymanager.cache.evictions").tag("cache", "privatekey")
+				.description("Private keys evicted from the cache").register(Metrics.globalRegistry);
+		Gauge.builder("mosip.kernel.keymanager.cache.size", privateKeys, Map::size).tag("cache", "privatekey")
+				.description("Private keys in the cache").register(Metrics.globalRegistry);
+	}
+
+	private static Counter counter(String name, String cache, String result) {
+		return Counter.builder(name).tag("cache", cache).tag("result", result)
+				.description("Key manager cache requests").register(Metrics.globalRegistry);
+	}
+
+	/**
+	 * Gets the key aliases of an application id and reference id, from the cache
+	 * or through the loader
+	 *
+	 * @param applicationId the application id
+	 * @param referenceId   the reference id, null for the master keys
+	 * @param loader        the loader of the key aliases
+	 * @return the key aliases, shared between requests and not to be modified
+	 */
+	public List<KeyAlias> getKeyAliases(String applicationId, String referenceId, Supplier<List<KeyAlias>> loader) {
+		if (ttlSeconds <= 0) {
+			return loader.get();
+		}
+		String key = aliasKey(applicationId, referenceId);
+		Entry<List<KeyAlias>> entry = keyAliases.get(key);
+		if (entry != null && !entry.isExpired()) {
+			aliasHits.increment();
+			return entry.value;
+		}
+		aliasMisses.increment();
+		List<KeyAlias> aliases = Collections.unmodifiableList(loader.get());
+		keyAliases.put(key, new Entry<>(aliases, expiry()));
+		return aliases;
+	}
+
+	/**
+	 * Drops the key aliases of an application id and reference id, for when a key
+	 * is generated for them
+	 *
+	 * @param applicationId the application id
+	 * @param referenceId   the reference id, null for the master keys
+	 */
+	public void invalidateKeyAliases(String applicationId, String referenceId) {
+		keyAliases.remove(aliasKey(applicationId, referenceId));
+	}
+
+	/**
+	 * Gets the private key of an alias, from the cache or through the loader. Keys
+	 * of an alias are loaded once at a time. The key is to be used right away and
+	 * not kept, as it is destroyed once evicted.
+	 *
+	 * @param alias  the alias of the key
+	 * @param loader the loader decrypting the private key
+	 * @return the private key
+	 */
+	public PrivateKey getPrivateKey(String alias, Supplier<PrivateKey> loader) {
+		if (ttlSeconds <= 0) {
+			return loader.get();
+		}
+		Entry<PrivateKey> entry = privateKeys.get(alias);
+		if (entry != null && !entry.isExpired()) {
+			privateKeyHits.increment();
+			return entry.value;
+		}
+		Entry<PrivateKey> loaded = privateKeys.compute(alias, (key, existing) -> {
+			if (existing != null && !existing.isExpired()) {
+				return existing;
+			}
+			if (existing != null) {
+				destroy(existing.value);
+			}
+			privateKeyMisses.increment();
+			return new Entry<>(loader.get(), expiry());
+		});
+		if (privateKeys.size() > maxPrivateKeys) {
+			evict();
+		}
+		return loaded.value;
+	}
+
+	/**
+	 * Drops and destroys every cached private key, and drops the key aliases
+	 */
+	@PreDestroy
+	public void invalidateAll() {
+		keyAliases.clear();
+		privateKeys.keySet().forEach(this::remove);
+	}
+
+	/**
+	 * Evicts the expired private keys, then the oldest ones above the limit
+	 */
+	private void evict() {
+		privateKeys.forEach((alias, entry) -> {
+			if (entry.isExpired()) {
+				remove(alias);
+			}
+		});
+		while (privateKeys.size() > maxPrivateKeys) {
+			String oldest = null;
+			long oldestExpiry = Long.MAX_VALUE;
+			for (Map.Entry<String, Entry<PrivateKey>> entry : privateKeys.entrySet()) {
+				if (entry.getValue().expiresAt - oldestExpiry < 0 || oldest == null) {
+					oldest = entry.getKey();
+					oldestExpiry = entry.getValue().expiresAt;
+				}
+			}
+			if (oldest == null) {
+				return;
+			}
+			remove(oldest);
+		}
+	}
+
+	private void remove(String alias) {
+		Entry<PrivateKey> removed = privateKeys.remove(alias);
+		if (removed != null) {
+			privateKeyEvictions.increment();
+			destroy(removed.value);
+		}
+	}
+
+	/**
+	 * Wipes the key material where the key supports it; the other keys are only
+	 * dropped, and left to the garbage collector.
+	 */
+	private static void destroy(PrivateKey privateKey) {
+		if (privateKey != null && !privateKey.isDestroyed()) {
+			try {
+				privateKey.destroy();
+			} catch (DestroyFailedException e) {
+				// not supported by the key
+			}
+		}
+	}
+
+	private long expiry() {
+		return System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds);
+	}
+
+	private static String aliasKey(String applicationId, String referenceId) {
+		return applicationId + '|' + referenceId;
+	}
+
+	/**
+	 * Cached value and its expiry, in {@link System#nanoTime()}
+	 */
+	private static final class Entry<T> {
+
+		private final T value;
+
+		private final long expiresAt;
+
+		private Entry(T value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired() {
+			return System.nanoTime() - expiresAt >= 0;
+		}
+	}
+}
@@ -105,6 +105,16 @@ public class KeymanagerController {
 		return response;
 	}
 
+	@PreAuthorize("hasAnyRole('INDIVIDUAL','ID_AUTHENTICATION', 'REGISTRATION_ADMIN', 'REGISTRATION_SUPERVISOR', 'REGISTRATION_OFFICER', 'REGISTRATION_PROCESSOR','PRE_REGISTRATION_ADMIN','RESIDENT')")
+	@ResponseFilter
+	@PostMapping("/signhash")
+	public ResponseWrapper<SignatureResponseDto> signHash(
+			@RequestBody RequestWrapper<SignatureRequestDto> signatureRequestDto) {
+		ResponseWrapper<SignatureResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(keymanagerService.signHash(signatureRequestDto.getRequest()));
+		return response;
+	}
+
 /*	
 	@PreAuthorize("hasAnyRole('INDIVIDUAL','REGISTRATION_PROCESSOR','REGISTRATION_ADMIN','REGISTRATION_SUPERVISOR','REGISTRATION_OFFICER','ID_AUTHENTICATION','TEST','PRE_REGISTRATION_ADMIN')")
 	@ResponseFilter
@@ -39,5 +39,14 @@ public interface KeymanagerService {
 
 	public SignatureResponseDto sign(SignatureRequestDto signatureRequestDto);
 
+	/**
+	 * Function to sign the hash of data, given in BASE64 encoding as data of the
+	 * request. The signature is the same as the one of the data.
+	 * 
+	 * @param signatureRequestDto {@link SignatureRequestDto} with the hash as data
+	 * @return {@link SignatureResponseDto} instance
+	 */
+	public SignatureResponseDto signHash(SignatureRequestDto signatureRequestDto);
+
 	public PublicKeyResponse<String> getSignPublicKey(String applicationId, String timeStamp, Optional<String> referenceId);
 }
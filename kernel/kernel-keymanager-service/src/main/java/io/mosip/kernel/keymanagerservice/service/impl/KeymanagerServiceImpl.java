@@ -42,6 +42,7 @@ import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
 import io.mosip.kernel.keymanager.softhsm.constant.KeymanagerErrorCode;
+import io.mosip.kernel.keymanagerservice.cache.PrivateKeyCache;
 import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
 import io.mosip.kernel.keymanagerservice.constant.KeymanagerErrorConstant;
 import io.mosip.kernel.keymanagerservice.dto.CertificateEntry;
@@ -132,6 +133,12 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 	@Autowired
 	KeyStoreRepository keyStoreRepository;
 
+	/**
+	 * Cache of key aliases and decrypted private keys
+	 */
+	@Autowired
+	private PrivateKeyCache privateKeyCache;
+
 	/**
 	 * Utility to generate Metadata
 	 */
@@ -330,11 +337,32 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 			LocalDateTime timeStamp) {
 		LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
 				KeymanagerConstant.GETALIAS);
-		Map<String, List<KeyAlias>> hashmap = new HashMap<>();
-		List<KeyAlias> keyAliases = keyAliasRepository.findByApplicationIdAndReferenceId(applicationId, referenceId)
-				.stream()
+		return toKeyAliasMap(findKeyAliases(applicationId, referenceId), timeStamp);
+	}
+
+	/**
+	 * Function to get keyalias from keyalias table, sorted by generation time
+	 * 
+	 * @param applicationId applicationId
+	 * @param referenceId   referenceId
+	 * @return all keyalias matching applicationId and referenceId
+	 */
+	private List<KeyAlias> findKeyAliases(String applicationId, String referenceId) {
+		return keyAliasRepository.findByApplicationIdAndReferenceId(applicationId, referenceId).stream()
 				.sorted((alias1, alias2) -> alias1.getKeyGenerationTime().compareTo(alias2.getKeyGenerationTime()))
 				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Function to split keyalias by timestamp
+	 * 
+	 * @param keyAliases keyAliases
+	 * @param timeStamp  timeStamp
+	 * @return a map containing keyAliases with key "keyAlias"; and a list of all
+	 *         keyalias with matching timestamp with key "currentKeyAlias"
+	 */
+	private Map<String, List<KeyAlias>> toKeyAliasMap(List<KeyAlias> keyAliases, LocalDateTime timeStamp) {
+		Map<String, List<KeyAlias>> hashmap = new HashMap<>();
 		List<KeyAlias> currentKeyAliases = keyAliases.stream()
 				.filter(keyAlias -> keymanagerUtil.isValidTimestamp(timeStamp, keyAlias)).collect(Collectors.toList());
 		LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.KEYALIAS, Arrays.toString(keyAliases.toArray()),
@@ -425,28 +453,44 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 		} else {
 			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
 					"Valid reference Id. Getting private key from DB Store");
-			Optional<io.mosip.kernel.keymanagerservice.entity.KeyStore> dbKeyStore = keyStoreRepository
-					.findByAlias(fetchedKeyAlias.getAlias());
-			if (!dbKeyStore.isPresent()) {
-				LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.DBKEYSTORE, dbKeyStore.toString(),
-						"Key in DB Store does not exists. Throwing exception");
-				throw new NoUniqueAliasException(KeymanagerErrorConstant.NO_UNIQUE_ALIAS.getErrorCode(),
-						KeymanagerErrorConstant.NO_UNIQUE_ALIAS.getErrorMessage());
-			}
-			PrivateKey masterPrivateKey = keyStore.getPrivateKey(dbKeyStore.get().getMasterAlias());			
-			/**
-			 * If the private key is in dbstore, then it will be first decrypted with
-			 * application's master private key from softhsm's keystore
-			 */
-			try {
-				byte[] decryptedPrivateKey = keymanagerUtil.decryptKey(dbKeyStore.get().getPrivateKey(),
-						masterPrivateKey);
-				return KeyFactory.getInstance(KeymanagerConstant.RSA)
-						.generatePrivate(new PKCS8EncodedKeySpec(decryptedPrivateKey));
-			} catch (InvalidDataException | InvalidKeyException | NullDataException | NullKeyException
-					| NullMethodException | InvalidKeySpecException | NoSuchAlgorithmException e) {
-				throw new CryptoException(KeymanagerErrorConstant.CRYPTO_EXCEPTION.getErrorCode(),
-						KeymanagerErrorConstant.CRYPTO_EXCEPTION.getErrorMessage()+e.getMessage());
+			return privateKeyCache.getPrivateKey(fetchedKeyAlias.getAlias(),
+					() -> getPrivateKeyFromDBStore(fetchedKeyAlias));
+		}
+	}
+
+	/**
+	 * Function to get a Private Key from DB store, decrypted with application's
+	 * master private key
+	 * 
+	 * @param fetchedKeyAlias fetchedKeyAlias
+	 * @return Private key
+	 */
+	private PrivateKey getPrivateKeyFromDBStore(KeyAlias fetchedKeyAlias) {
+		Optional<io.mosip.kernel.keymanagerservice.entity.KeyStore> dbKeyStore = keyStoreRepository
+				.findByAlias(fetchedKeyAlias.getAlias());
+		if (!dbKeyStore.isPresent()) {
+			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.DBKEYSTORE, dbKeyStore.toString(),
+					"Key in DB Store does not exists. Throwing exception");
+			throw new NoUniqueAliasException(KeymanagerErrorConstant.NO_UNIQUE_ALIAS.getErrorCode(),
+					KeymanagerErrorConstant.NO_UNIQUE_ALIAS.getErrorMessage());
+		}
+		PrivateKey masterPrivateKey = keyStore.getPrivateKey(dbKeyStore.get().getMasterAlias());
+		/**
+		 * If the private key is in dbstore, then it will be first decrypted with
+		 * application's master private key from softhsm's keystore
+		 */
+		byte[] decryptedPrivateKey = null;
+		try {
+			decryptedPrivateKey = keymanagerUtil.decryptKey(dbKeyStore.get().getPrivateKey(), masterPrivateKey);
+			return KeyFactory.getInstance(KeymanagerConstant.RSA)
+					.generatePrivate(new PKCS8EncodedKeySpec(decryptedPrivateKey));
+		} catch (InvalidDataException | InvalidKeyException | NullDataException | NullKeyException
+				| NullMethodException | InvalidKeySpecException | NoSuchAlgorithmException e) {
+			throw new CryptoException(KeymanagerErrorConstant.CRYPTO_EXCEPTION.getErrorCode(),
+					KeymanagerErrorConstant.CRYPTO_EXCEPTION.getErrorMessage()+e.getMessage());
+		} finally {
+			if (decryptedPrivateKey != null) {
+				Arrays.fill(decryptedPrivateKey, (byte) 0);
 			}
 		}
 	}
@@ -471,6 +515,7 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 		keyAlias.setKeyGenerationTime(timeStamp);
 		keyAlias.setKeyExpiryTime(expiryDateTime);
 		keyAliasRepository.save(keymanagerUtil.setMetaData(keyAlias));
+		privateKeyCache.invalidateKeyAliases(applicationId, referenceId);
 	}
 
 	/**
@@ -503,14 +548,23 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 
 		PrivateKey privateKey = null;
 
+		String aliasReferenceId;
 		if (!keymanagerUtil.isValidReferenceId(referenceId)) {
 			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
 					NOT_A_VALID_REFERENCE_ID_GETTING_KEY_ALIAS_WITHOUT_REFERENCE_ID);
-			currentKeyAlias = getKeyAliases(applicationId, null, timeStamp).get(KeymanagerConstant.CURRENTKEYALIAS);
+			aliasReferenceId = null;
 		} else {
 			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
 					VALID_REFERENCE_ID_GETTING_KEY_ALIAS_WITH_REFERENCE_ID);
-			currentKeyAlias = getKeyAliases(applicationId, referenceId, timeStamp)
+			aliasReferenceId = referenceId;
+		}
+		currentKeyAlias = toKeyAliasMap(privateKeyCache.getKeyAliases(applicationId, aliasReferenceId,
+				() -> findKeyAliases(applicationId, aliasReferenceId)), timeStamp)
+						.get(KeymanagerConstant.CURRENTKEYALIAS);
+		if (currentKeyAlias.size() != 1) {
+			// the key may have been generated by another instance since the aliases were cached
+			privateKeyCache.invalidateKeyAliases(applicationId, aliasReferenceId);
+			currentKeyAlias = getKeyAliases(applicationId, aliasReferenceId, timeStamp)
 					.get(KeymanagerConstant.CURRENTKEYALIAS);
 		}
 
@@ -565,6 +619,20 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 		return new SignatureResponseDto(encryptedSignedData);
 	}
 
+	@Override
+	public SignatureResponseDto signHash(SignatureRequestDto signatureRequestDto) {
+		SignatureCertificate certificateResponse = getSigningCertificate(signatureRequestDto.getApplicationId(),
+				Optional.of(signatureRequestDto.getReferenceId()), signatureRequestDto.getTimeStamp());
+		keymanagerUtil.isCertificateValid(certificateResponse.getCertificateEntry(),
+				DateUtils.parseUTCToDate(signatureRequestDto.getTimeStamp()));
+		String encryptedSignedData = null;
+		if (certificateResponse.getCertificateEntry() != null) {
+			encryptedSignedData = cryptoCore.signHash(CryptoUtil.decodeBase64(signatureRequestDto.getData()),
+					certificateResponse.getCertificateEntry().getPrivateKey());
+		}
+		return new SignatureResponseDto(encryptedSignedData);
+	}
+
 	// TODO: To Be Removed once upload certificate functionality is implemented
 	@PostConstruct
 	private void loadCertificateIfNotExist() {
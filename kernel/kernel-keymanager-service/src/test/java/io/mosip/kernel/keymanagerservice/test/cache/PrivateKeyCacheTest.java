@@ -0,0 +1,105 @@
+package io.mosip.kernel.keymanagerservice.test.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.security.PrivateKey;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.security.auth.DestroyFailedException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.keymanagerservice.cache.PrivateKeyCache;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+
+public class PrivateKeyCacheTest {
+
+	private PrivateKeyCache privateKeyCache;
+
+	@Before
+	public void init() {
+		privateKeyCache = new PrivateKeyCache();
+		ReflectionTestUtils.setField(privateKeyCache, "ttlSeconds", 300L);
+		ReflectionTestUtils.setField(privateKeyCache, "maxPrivateKeys", 2);
+		privateKeyCache.init();
+	}
+
+	@Test
+	public void privateKeyLoadedOnceTest() {
+		PrivateKey privateKey = Mockito.mock(PrivateKey.class);
+		AtomicInteger loads = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			assertSame(privateKey, privateKeyCache.getPrivateKey("alias", () -> {
+				loads.incrementAndGet();
+				return privateKey;
+			}));
+		}
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void oldestPrivateKeyEvictedAndDestroyedTest() throws Exception {
+		PrivateKey first = Mockito.mock(PrivateKey.class);
+		privateKeyCache.getPrivateKey("first", () -> first);
+		Thread.sleep(1);
+		privateKeyCache.getPrivateKey("second", () -> Mockito.mock(PrivateKey.class));
+		Thread.sleep(1);
+		privateKeyCache.getPrivateKey("third", () -> Mockito.mock(PrivateKey.class));
+		Mockito.verify(first).destroy();
+		PrivateKey reloaded = Mockito.mock(PrivateKey.class);
+		assertSame(reloaded, privateKeyCache.getPrivateKey("first", () -> reloaded));
+	}
+
+	@Test
+	public void undestroyablePrivateKeyDroppedTest() throws Exception {
+		PrivateKey first = Mockito.mock(PrivateKey.class);
+		Mockito.doThrow(new DestroyFailedException()).when(first).destroy();
+		privateKeyCache.getPrivateKey("first", () -> first);
+		privateKeyCache.invalidateAll();
+		Mockito.verify(first).destroy();
+		PrivateKey reloaded = Mockito.mock(PrivateKey.class);
+		assertSame(reloaded, privateKeyCache.getPrivateKey("first", () -> reloaded));
+	}
+
+	@Test
+	public void keyAliasesInvalidatedTest() {
+		AtomicInteger loads = new AtomicInteger();
+		List<KeyAlias> keyAliases = Collections.singletonList(new KeyAlias());
+		privateKeyCache.getKeyAliases("REGISTRATION", "1001", () -> {
+			loads.incrementAndGet();
+			return keyAliases;
+		});
+		privateKeyCache.getKeyAliases("REGISTRATION", "1001", () -> {
+			loads.incrementAndGet();
+			return keyAliases;
+		});
+		assertEquals(1, loads.get());
+		privateKeyCache.invalidateKeyAliases("REGISTRATION", "1001");
+		privateKeyCache.getKeyAliases("REGISTRATION", "1001", () -> {
+			loads.incrementAndGet();
+			return keyAliases;
+		});
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void disabledCacheTest() {
+		ReflectionTestUtils.setField(privateKeyCache, "ttlSeconds", 0L);
+		AtomicInteger loads = new AtomicInteger();
+		privateKeyCache.getPrivateKey("alias", () -> {
+			loads.incrementAndGet();
+			return Mockito.mock(PrivateKey.class);
+		});
+		privateKeyCache.getPrivateKey("alias", () -> {
+			loads.incrementAndGet();
+			return Mockito.mock(PrivateKey.class);
+		});
+		assertEquals(2, loads.get());
+	}
+}
@@ -51,6 +51,7 @@ import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.keymanager.spi.KeyStore;
 import io.mosip.kernel.keymanager.softhsm.util.CertificateUtility;
+import io.mosip.kernel.keymanagerservice.cache.PrivateKeyCache;
 import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
 import io.mosip.kernel.keymanagerservice.dto.PublicKeyResponse;
 import io.mosip.kernel.keymanagerservice.dto.SignatureRequestDto;
@@ -109,6 +110,9 @@ public class KeymanagerIntegrationTest {
 	@SpyBean
 	private KeymanagerUtil keymanagerUtil;
 
+	@Autowired
+	private PrivateKeyCache privateKeyCache;
+
 	private KeyPair key;
 	private ObjectMapper mapper;
 	private List<KeyAlias> keyalias;
@@ -122,6 +126,7 @@ public class KeymanagerIntegrationTest {
 
 	@Before
 	public void init() {
+		privateKeyCache.invalidateAll();
 		mapper = new ObjectMapper();
 		keyalias = new ArrayList<>();
 		keyPolicy = Optional.empty();
@@ -456,7 +461,41 @@ public class KeymanagerIntegrationTest {
 
 		assertThat(signatureResponseDto.getData(), isA(String.class));
 	}
-	
+
+	@WithUserDetails("reg-processor")
+	@Test
+	public void signHashWithReferenceId() throws Exception {
+
+		setupDBKeyStore();
+		setupSingleKeyAlias();
+		setupKey();
+		when(keyAliasRepository.findByApplicationIdAndReferenceId(Mockito.any(), Mockito.any())).thenReturn(keyalias);
+		when(cryptoCore.signHash(Mockito.any(), Mockito.any())).thenReturn("");
+		when(keyStore.getAsymmetricKey(Mockito.any())).thenReturn(privateKeyEntry);
+
+		doReturn(key.getPrivate().getEncoded()).when(keymanagerUtil).decryptKey(Mockito.any(), Mockito.any());
+		SignatureRequestDto signatureRequestDto = new SignatureRequestDto();
+		signatureRequestDto.setApplicationId("applicationId");
+		signatureRequestDto.setData("AMert334-edrtda");
+		signatureRequestDto.setReferenceId("referenceId");
+		signatureRequestDto.setTimeStamp("2010-05-01T12:00:00.00Z");
+		RequestWrapper<SignatureRequestDto> signatureRequestWrapper = new RequestWrapper<>();
+		signatureRequestWrapper.setId(ID);
+		signatureRequestWrapper.setVersion(VERSION);
+		signatureRequestWrapper.setRequest(signatureRequestDto);
+
+		String content = mapper.writeValueAsString(signatureRequestWrapper);
+		MvcResult result = mockMvc.perform(post("/signhash").contentType(MediaType.APPLICATION_JSON).content(content))
+				.andExpect(status().is(200)).andReturn();
+
+		ResponseWrapper<?> responseWrapper = objectMapper.readValue(result.getResponse().getContentAsString(),
+				ResponseWrapper.class);
+		SignatureResponseDto signatureResponseDto = objectMapper.readValue(
+				objectMapper.writeValueAsString(responseWrapper.getResponse()), SignatureResponseDto.class);
+
+		assertThat(signatureResponseDto.getData(), isA(String.class));
+	}
+
 	@WithUserDetails("reg-processor")
 	@Test
 	public void getSignPublicKeyFromHSMMultipleAliasReference() throws Exception {
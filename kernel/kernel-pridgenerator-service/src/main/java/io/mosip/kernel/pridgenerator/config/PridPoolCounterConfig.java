@@ -0,0 +1,44 @@
+package io.mosip.kernel.pridgenerator.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.kernel.core.util.PoolCounter;
+import io.mosip.kernel.pridgenerator.constant.PridLifecycleStatus;
+import io.mosip.kernel.pridgenerator.repository.PridRepository;
+
+/**
+ * Configuration of the in-memory count of the available prids.
+ *
+ * @since 1.0.0
+ *
+ */
+@Configuration
+public class PridPoolCounterConfig {
+
+	/**
+	 * Seconds between two recounts of the pool
+	 */
+	@Value("${mosip.kernel.prid.pool.reconcile-interval-seconds:60}")
+	private long reconcileIntervalSeconds;
+
+	/**
+	 * Counter of the available prids, exported as the <code>mosip.kernel.prid.pool</code>
+	 * gauge and recounted every <code>reconcileIntervalSeconds</code>
+	 *
+	 * @param pridRepository the repository counting the pool
+	 * @return the counter
+	 */
+	@Bean(destroyMethod = "close")
+	public PoolCounter pridPoolCounter(PridRepository pridRepository) {
+		PoolCounter poolCounter = new PoolCounter("prid",
+				() -> pridRepository.countByStatusAndIsDeletedFalse(PridLifecycleStatus.AVAILABLE));
+		Gauge.builder("mosip.kernel.prid.pool", poolCounter, PoolCounter::getCount)
+				.tag("status", PridLifecycleStatus.AVAILABLE).description("Available prids in the pool").register(Metrics.globalRegistry);
+		poolCounter.start(reconcileIntervalSeconds);
+		return poolCounter;
+	}
+}
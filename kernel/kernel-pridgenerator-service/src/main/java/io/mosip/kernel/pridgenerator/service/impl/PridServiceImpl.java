@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.core.util.PoolCounter;
 import io.mosip.kernel.pridgenerator.constant.PRIDGeneratorConstant;
 import io.mosip.kernel.pridgenerator.constant.PRIDGeneratorErrorCode;
 import io.mosip.kernel.pridgenerator.constant.PridLifecycleStatus;
@@ -26,6 +27,9 @@ public class PridServiceImpl implements PridService {
 	@Autowired
 	private PridRepository pridRepository;
 
+	@Autowired
+	private PoolCounter pridPoolCounter;
+
 	@Override
 	@Transactional
 	public PridFetchResponseDto fetchPrid() {
@@ -47,6 +51,7 @@ public class PridServiceImpl implements PridService {
 			try {
 				pridRepository.updatePrid(PridLifecycleStatus.ASSIGNED, PRIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO,
 						DateUtils.getUTCCurrentDateTime(), pridEntity.getPrid());
+				pridPoolCounter.removed(1);
 			} catch (DataAccessException exception) {
 				LOGGER.error(ExceptionUtils.parseException(exception));
 				throw new PridGeneratorServiceException(PRIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
@@ -84,6 +89,7 @@ public class PridServiceImpl implements PridService {
 		if (!this.pridRepository.existsById(prid.getPrid())) {
 			try {
 				this.pridRepository.saveAndFlush(prid);
+				pridPoolCounter.added(1);
 			} catch (DataAccessException exception) {
 				LOGGER.error(ExceptionUtils.parseException(exception));
 				return false;
@@ -5,9 +5,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 
+import io.mosip.kernel.core.util.PoolCounter;
 import io.mosip.kernel.pridgenerator.constant.EventType;
-import io.mosip.kernel.pridgenerator.constant.PridLifecycleStatus;
-import io.mosip.kernel.pridgenerator.service.PridService;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
@@ -22,7 +21,7 @@ public class PridPoolCheckerVerticle extends AbstractVerticle {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(PridPoolCheckerVerticle.class);
 
-	private PridService PridService;
+	private PoolCounter pridPoolCounter;
 
 	private Environment environment;
 
@@ -32,7 +31,7 @@ public class PridPoolCheckerVerticle extends AbstractVerticle {
 
 	public PridPoolCheckerVerticle(final ApplicationContext context) {
 		this.context = context;
-		this.PridService = this.context.getBean(PridService.class);
+		this.pridPoolCounter = this.context.getBean(PoolCounter.class);
 		this.environment = this.context.getBean(Environment.class);
 		this.threshold = environment.getProperty("mosip.kernel.prid.min-unused-threshold", Long.class);
 	}
@@ -46,7 +45,7 @@ public class PridPoolCheckerVerticle extends AbstractVerticle {
 		DeliveryOptions deliveryOptions = new DeliveryOptions();
 		deliveryOptions.setSendTimeout(environment.getProperty("mosip.kernel.prid.pool-population-timeout", Long.class));
 		checkPoolConsumer.handler(handler -> {
-			long noOfFreeprids = PridService.fetchPridCount(PridLifecycleStatus.AVAILABLE);
+			long noOfFreeprids = pridPoolCounter.getCount();
 			LOGGER.info("no of prid free present are {}", noOfFreeprids);
 			if (noOfFreeprids < threshold && !locked.get()) {
 				locked.set(true);
@@ -68,7 +67,7 @@ public class PridPoolCheckerVerticle extends AbstractVerticle {
 		MessageConsumer<String> initPoolConsumer = eventBus.consumer(EventType.INITPOOL);
 		initPoolConsumer.handler(initPoolHandler -> {
 			long start =System.currentTimeMillis();
-			long noOfFreeprids = PridService.fetchPridCount(PridLifecycleStatus.AVAILABLE);
+			long noOfFreeprids = pridPoolCounter.getCount();
 			LOGGER.info("no of prid free present are {}", noOfFreeprids);
 			LOGGER.info("value of threshold is {} and lock is {}", threshold, locked.get());
 			boolean isEligibleForPool = noOfFreeprids < threshold && !locked.get();
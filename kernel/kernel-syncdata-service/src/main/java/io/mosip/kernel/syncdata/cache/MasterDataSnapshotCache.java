@@ -0,0 +1,259 @@
+package io.mosip.kernel.syncdata.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.syncdata.entity.BaseEntity;
+
+/**
+ * Cache of the master data which is the same for every machine, such as
+ * languages, genders or templates.
+ * <p>
+ * Sync requests are aligned on windows of
+ * <code>mosip.kernel.syncdata.snapshot.window-seconds</code>: a request made at
+ * any time in a window syncs up to the start of the window, which is also
+ * returned as last sync time. The last updated time of the client is floored to
+ * <code>mosip.kernel.syncdata.snapshot.last-updated-bucket-seconds</code>, so
+ * that a client may receive a few records it already has but never misses one.
+ * Every request of a window with the same last updated bucket is then served
+ * from the same snapshot, loaded once per entity.
+ * <p>
+ * When a new window starts, a snapshot is carried over if the latest created,
+ * updated or deleted time of its entity is not after the end of the snapshot,
+ * otherwise it is loaded again.
+ * 
+ * @since 1.0.0
+ *
+ */
+@Component
+public class MasterDataSnapshotCache {
+
+	private static final String LATEST_CHANGE_QUERY = "SELECT MAX(e.createdDateTime), MAX(e.updatedDateTime), MAX(e.deletedDateTime) FROM %s e";
+
+	/**
+	 * Length of a sync window in seconds, zero or negative to disable the cache
+	 */
+	@Value("${mosip.kernel.syncdata.snapshot.window-seconds:60}")
+	private long windowSeconds;
+
+	/**
+	 * Granularity in seconds of the last updated time of the snapshots
+	 */
+	@Value("${mosip.kernel.syncdata.snapshot.last-updated-bucket-seconds:3600}")
+	private long bucketSeconds;
+
+	/**
+	 * Number of snapshots above which the snapshots of past windows are dropped
+	 */
+	@Value("${mosip.kernel.syncdata.snapshot.max-entries:2000}")
+	private int maxEntries;
+
+	@Autowired
+	@Qualifier("syncDataEntityManager")
+	private EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Snapshots by entity and last updated bucket
+	 */
+	private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+	/**
+	 * Latest change time of each entity, probed once per window
+	 */
+	private final Map<Class<?>, LatestChange> latestChanges = new ConcurrentHashMap<>();
+
+	/**
+	 * Gives the time up to which a sync made at the given time is served, that is
+	 * the start of its window
+	 * 
+	 * @param currentTimeStamp
+	 *            the time of the sync request
+	 * @return the sync time, also the last sync time to return to the client
+	 */
+	public LocalDateTime getSyncTime(LocalDateTime currentTimeStamp) {
+		if (!isEnabled()) {
+			return currentTimeStamp;
+		}
+		long epochSecond = currentTimeStamp.toEpochSecond(ZoneOffset.UTC);
+		return LocalDateTime.ofEpochSecond(epochSecond - Math.floorMod(epochSecond, windowSeconds), 0,
+				ZoneOffset.UTC);
+	}
+
+	/**
+	 * Gets the records of an entity created, updated or deleted since the last
+	 * update of the client, from the snapshot of the window or through the
+	 * loader.
+	 * 
+	 * @param entity
+	 *            the entity class, used as key and to probe for changes
+	 * @param lastUpdated
+	 *            the last updated time of the client, null for a first sync
+	 * @param syncTime
+	 *            the sync time given by {@link #getSyncTime(LocalDateTime)}
+	 * @param loader
+	 *            the function loading the records changed in between two times
+	 * @param <T>
+	 *            the dto type
+	 * @return the records, shared between requests and not to be modified
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<List<T>> get(Class<? extends BaseEntity> entity, LocalDateTime lastUpdated,
+			LocalDateTime syncTime, BiFunction<LocalDateTime, LocalDateTime, CompletableFuture<List<T>>> loader) {
+		if (!isEnabled() || !syncTime.equals(getSyncTime(syncTime))) {
+			return loader.apply(lastUpdated, syncTime);
+		}
+		LocalDateTime from = getBucket(lastUpdated);
+		String key = entity.getName() + '|' + from;
+		Snapshot current = snapshots.get(key);
+		boolean unchanged = current != null && current.syncTime.isBefore(syncTime) && current.isLoaded()
+				&& !hasChanged(entity, current.syncTime, syncTime);
+		CompletableFuture<?>[] loaded = new CompletableFuture<?>[1];
+		Snapshot snapshot = snapshots.compute(key, (k, existing) -> {
+			if (existing != null && !existing.syncTime.isBefore(syncTime)) {
+				return existing;
+			}
+			if (unchanged && existing == current) {
+				return new Snapshot(syncTime, existing.records);
+			}
+			CompletableFuture<List<T>> records = loader.apply(from, syncTime)
+					.thenApply(result -> result == null ? null : Collections.unmodifiableList(result));
+			loaded[0] = records;
+			return new Snapshot(syncTime, records);
+		});
+		if (loaded[0] != null) {
+			// a failed load is not kept, the next request loads again
+			CompletableFuture<?> records = loaded[0];
+			records.whenComplete((result, error) -> {
+				if (error != null) {
+					snapshots.computeIfPresent(key, (k, existing) -> existing.records == records ? null : existing);
+				}
+			});
+			evictPastWindows(syncTime);
+		}
+		if (!snapshot.syncTime.equals(syncTime)) {
+			// request of a past window, served directly
+			return loader.apply(lastUpdated, syncTime);
+		}
+		return (CompletableFuture<List<T>>) snapshot.records;
+	}
+
+	/**
+	 * Drops all the snapshots
+	 */
+	public void clear() {
+		snapshots.clear();
+		latestChanges.clear();
+	}
+
+	private boolean isEnabled() {
+		return windowSeconds > 0;
+	}
+
+	private LocalDateTime getBucket(LocalDateTime lastUpdated) {
+		if (lastUpdated == null || bucketSeconds <= 0) {
+			return lastUpdated == null ? LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC) : lastUpdated;
+		}
+		long epochSecond = lastUpdated.toEpochSecond(ZoneOffset.UTC);
+		return LocalDateTime.ofEpochSecond(epochSecond - Math.floorMod(epochSecond, bucketSeconds), 0,
+				ZoneOffset.UTC);
+	}
+
+	/**
+	 * Checks if an entity has records created, updated or deleted after a
+	 * snapshot
+	 * 
+	 * @param entity
+	 *            the entity class
+	 * @param since
+	 *            the sync time of the snapshot
+	 * @param syncTime
+	 *            the current sync time
+	 * @return true if the snapshot may be stale
+	 */
+	private boolean hasChanged(Class<? extends BaseEntity> entity, LocalDateTime since, LocalDateTime syncTime) {
+		LatestChange latestChange = latestChanges.get(entity);
+		if (latestChange == null || !latestChange.syncTime.equals(syncTime)) {
+			try {
+				latestChange = new LatestChange(syncTime, probeLatestChange(entity));
+			} catch (DataAccessException | PersistenceException e) {
+				return true;
+			}
+			latestChanges.put(entity, latestChange);
+		}
+		return latestChange.time != null && latestChange.time.isAfter(since);
+	}
+
+	private LocalDateTime probeLatestChange(Class<? extends BaseEntity> entity) {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			String entityName = entityManagerFactory.getMetamodel().entity(entity).getName();
+			Object[] times = (Object[]) entityManager.createQuery(String.format(LATEST_CHANGE_QUERY, entityName))
+					.getSingleResult();
+			LocalDateTime latest = null;
+			for (Object time : times) {
+				if (time != null && (latest == null || ((LocalDateTime) time).isAfter(latest))) {
+					latest = (LocalDateTime) time;
+				}
+			}
+			return latest;
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	private void evictPastWindows(LocalDateTime syncTime) {
+		if (snapshots.size() > maxEntries) {
+			snapshots.values().removeIf(snapshot -> snapshot.syncTime.isBefore(syncTime));
+		}
+	}
+
+	/**
+	 * Records of an entity changed between a last updated bucket and a sync time
+	 */
+	private static final class Snapshot {
+
+		private final LocalDateTime syncTime;
+
+		private final CompletableFuture<?> records;
+
+		private Snapshot(LocalDateTime syncTime, CompletableFuture<?> records) {
+			this.syncTime = syncTime;
+			this.records = records;
+		}
+
+		private boolean isLoaded() {
+			return records.isDone() && !records.isCompletedExceptionally();
+		}
+	}
+
+	/**
+	 * Latest change time of an entity as probed for a sync time
+	 */
+	private static final class LatestChange {
+
+		private final LocalDateTime syncTime;
+
+		private final LocalDateTime time;
+
+		private LatestChange(LocalDateTime syncTime, LocalDateTime time) {
+			this.syncTime = syncTime;
+			this.time = time;
+		}
+	}
+}
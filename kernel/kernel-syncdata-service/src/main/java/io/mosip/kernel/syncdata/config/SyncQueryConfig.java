@@ -0,0 +1,45 @@
+package io.mosip.kernel.syncdata.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.mosip.kernel.syncdata.executor.SyncQueryExecutor;
+
+/**
+ * Configuration of the executor of the sync queries
+ * 
+ * @since 1.0.0
+ *
+ */
+@Configuration
+public class SyncQueryConfig {
+
+	/**
+	 * Number of queries run at once, 0 for twice the number of cores capped to
+	 * the connection pool size
+	 */
+	@Value("${mosip.kernel.syncdata.query.parallelism:0}")
+	private int parallelism;
+
+	@Value("${mosip.kernel.syncdata.query.fan-out:8}")
+	private int fanOut;
+
+	@Value("${mosip.kernel.syncdata.query.queue-capacity:5000}")
+	private int queueCapacity;
+
+	@Value("${hikari.maximumPoolSize:100}")
+	private int maximumPoolSize;
+
+	/**
+	 * Creating bean of the executor of the {@code @Async} sync queries
+	 * 
+	 * @return {@link SyncQueryExecutor}
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public SyncQueryExecutor syncQueryExecutor() {
+		int workers = parallelism > 0 ? parallelism
+				: Math.min(Runtime.getRuntime().availableProcessors() * 2, maximumPoolSize);
+		return new SyncQueryExecutor(workers, Math.min(fanOut, workers), queueCapacity);
+	}
+}
@@ -67,7 +67,8 @@ public enum MasterDataErrorCode {
 	REGISTERED_DEVICE_FETCH_EXCEPTION("KER-SNC-159","Error while fetching registered devices"),
 	DEVICE_TYPE_FETCH_FETCH_EXCEPTION("KER-SNC-160","Error while fetching device type"),
 	DEVICE_SUB_TYPE_FETCH_EXCEPTION("KER-SNC-161","Error while fetching device sub type"),
-	FOUNDATIONAL_TRUST_RPOVIDER_FETCH_EXCEPTION("KER-SNC-162","Error while fetching foundation trust provider");
+	FOUNDATIONAL_TRUST_RPOVIDER_FETCH_EXCEPTION("KER-SNC-162","Error while fetching foundation trust provider"),
+	REG_CENTER_MAPPING_FETCH_EXCEPTION("KER-SNC-163","Error occurred while fetching Registration Center mappings");
 	
 	
 	private final String errorCode;
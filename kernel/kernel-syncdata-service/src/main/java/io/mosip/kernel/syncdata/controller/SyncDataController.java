@@ -1,9 +1,12 @@
 package io.mosip.kernel.syncdata.controller;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.concurrent.ExecutionException;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +22,7 @@ import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseFilter;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.syncdata.cache.MasterDataSnapshotCache;
 import io.mosip.kernel.syncdata.dto.ConfigDto;
 import io.mosip.kernel.syncdata.dto.PublicKeyResponse;
 import io.mosip.kernel.syncdata.dto.SyncUserDetailDto;
@@ -31,6 +35,7 @@ import io.mosip.kernel.syncdata.service.SyncMasterDataService;
 import io.mosip.kernel.syncdata.service.SyncRolesService;
 import io.mosip.kernel.syncdata.service.SyncUserDetailsService;
 import io.mosip.kernel.syncdata.utils.LocalDateTimeUtil;
+import io.mosip.kernel.syncdata.utils.SignedResponseWriter;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import net.minidev.json.JSONObject;
@@ -73,6 +78,12 @@ public class SyncDataController {
 	@Autowired
 	LocalDateTimeUtil localDateTimeUtil;
 
+	@Autowired
+	MasterDataSnapshotCache snapshotCache;
+
+	@Autowired
+	SignedResponseWriter signedResponseWriter;
+
 	/**
 	 * This API method would fetch all synced global config details from server
 	 * 
@@ -156,19 +167,37 @@ public class SyncDataController {
 			@RequestParam(value="keyindex",required=false)String keyIndex)
 			throws InterruptedException, ExecutionException {
 
-		LocalDateTime currentTimeStamp = LocalDateTime.now(ZoneOffset.UTC);
-		LocalDateTime timestamp = localDateTimeUtil.getLocalDateTimeFromTimeStamp(currentTimeStamp, lastUpdated);
-		String regCenterId = null;
-		MasterDataResponseDto masterDataResponseDto = masterDataService.syncData(regCenterId, macId, serialNumber,
-				timestamp, currentTimeStamp,keyIndex);
-
-		masterDataResponseDto.setLastSyncTime(DateUtils.formatToISOString(currentTimeStamp));
-
 		ResponseWrapper<MasterDataResponseDto> response = new ResponseWrapper<>();
-		response.setResponse(masterDataResponseDto);
+		response.setResponse(getMasterData(null, macId, serialNumber, lastUpdated, keyIndex));
 		return response;
 	}
 
+	/**
+	 * Streaming variant of {@link #syncMasterData(String, String, String, String)},
+	 * selected with the <code>stream=true</code> parameter. The signed response is
+	 * written straight to the client, gzipped if accepted.
+	 * 
+	 * @param macId        - MAC address of the machine
+	 * @param serialNumber - Serial number of the machine
+	 * @param lastUpdated  - last updated time stamp
+	 * @param request      - the servlet request
+	 * @param response     - the servlet response
+	 * @throws InterruptedException - this method will throw interrupted Exception
+	 * @throws ExecutionException   - this method will throw exeution exception
+	 * @throws IOException          - if the response cannot be written
+	 */
+	@PreAuthorize("hasAnyRole('REGISTRATION_SUPERVISOR','REGISTRATION_OFFICER','REGISTRATION_ADMIN')")
+	@GetMapping(value = "/masterdata", params = "stream=true")
+	public void streamMasterData(@RequestParam(value = "macaddress", required = false) String macId,
+			@RequestParam(value = "serialnumber", required = false) String serialNumber,
+			@RequestParam(value = "lastupdated", required = false) String lastUpdated,
+			@RequestParam(value = "keyindex", required = false) String keyIndex, HttpServletRequest request,
+			HttpServletResponse response) throws InterruptedException, ExecutionException, IOException {
+		ResponseWrapper<MasterDataResponseDto> responseWrapper = new ResponseWrapper<>();
+		responseWrapper.setResponse(getMasterData(null, macId, serialNumber, lastUpdated, keyIndex));
+		signedResponseWriter.write(responseWrapper, request, response);
+	}
+
 	/**
 	 * 
 	 * @param macId        - MAC address of the machine
@@ -190,16 +219,50 @@ public class SyncDataController {
 			@RequestParam(value="keyindex",required=false)String keyIndex)
 			throws InterruptedException, ExecutionException {
 
-		LocalDateTime currentTimeStamp = LocalDateTime.now(ZoneOffset.UTC);
-		LocalDateTime timestamp = localDateTimeUtil.getLocalDateTimeFromTimeStamp(currentTimeStamp, lastUpdated);
+		ResponseWrapper<MasterDataResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(getMasterData(regCenterId, macId, serialNumber, lastUpdated, keyIndex));
+		return response;
+	}
+
+	/**
+	 * Streaming variant of
+	 * {@link #syncMasterDataWithRegCenterId(String, String, String, String, String)},
+	 * selected with the <code>stream=true</code> parameter. The signed response is
+	 * written straight to the client, gzipped if accepted.
+	 * 
+	 * @param regCenterId  - reg Center Id
+	 * @param macId        - MAC address of the machine
+	 * @param serialNumber - Serial number of the machine
+	 * @param lastUpdated  - last updated time stamp
+	 * @param request      - the servlet request
+	 * @param response     - the servlet response
+	 * @throws InterruptedException - this method will throw interrupted Exception
+	 * @throws ExecutionException   - this method will throw exeution exception
+	 * @throws IOException          - if the response cannot be written
+	 */
+	@PreAuthorize("hasAnyRole('REGISTRATION_SUPERVISOR','REGISTRATION_OFFICER','REGISTRATION_ADMIN')")
+	@GetMapping(value = "/masterdata/{regcenterId}", params = "stream=true")
+	public void streamMasterDataWithRegCenterId(@PathVariable("regcenterId") String regCenterId,
+			@RequestParam(value = "macaddress", required = false) String macId,
+			@RequestParam(value = "serialnumber", required = false) String serialNumber,
+			@RequestParam(value = "lastupdated", required = false) String lastUpdated,
+			@RequestParam(value = "keyindex", required = false) String keyIndex, HttpServletRequest request,
+			HttpServletResponse response) throws InterruptedException, ExecutionException, IOException {
+		ResponseWrapper<MasterDataResponseDto> responseWrapper = new ResponseWrapper<>();
+		responseWrapper.setResponse(getMasterData(regCenterId, macId, serialNumber, lastUpdated, keyIndex));
+		signedResponseWriter.write(responseWrapper, request, response);
+	}
+
+	private MasterDataResponseDto getMasterData(String regCenterId, String macId, String serialNumber,
+			String lastUpdated, String keyIndex) throws InterruptedException, ExecutionException {
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		LocalDateTime timestamp = localDateTimeUtil.getLocalDateTimeFromTimeStamp(now, lastUpdated);
+		LocalDateTime currentTimeStamp = snapshotCache.getSyncTime(now);
 		MasterDataResponseDto masterDataResponseDto = masterDataService.syncData(regCenterId, macId, serialNumber,
-				timestamp, currentTimeStamp,keyIndex);
+				timestamp, currentTimeStamp, keyIndex);
 
 		masterDataResponseDto.setLastSyncTime(DateUtils.formatToISOString(currentTimeStamp));
-
-		ResponseWrapper<MasterDataResponseDto> response = new ResponseWrapper<>();
-		response.setResponse(masterDataResponseDto);
-		return response;
+		return masterDataResponseDto;
 	}
 
 	/**
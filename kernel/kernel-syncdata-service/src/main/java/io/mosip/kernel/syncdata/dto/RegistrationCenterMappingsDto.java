@@ -0,0 +1,37 @@
+package io.mosip.kernel.syncdata.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Machine, device and user mappings of a registration center, with their
+ * history, fetched together. A list is null when the center has no record of
+ * that kind.
+ *
+ * @since 1.0.0
+ *
+ */
+@Data
+public class RegistrationCenterMappingsDto {
+
+	private List<RegistrationCenterMachineDto> registrationCenterMachines;
+
+	private List<RegistrationCenterDeviceDto> registrationCenterDevices;
+
+	private List<RegistrationCenterMachineDeviceDto> registrationCenterMachineDevices;
+
+	private List<RegistrationCenterUserMachineMappingDto> registrationCenterUserMachines;
+
+	private List<RegistrationCenterUserDto> registrationCenterUsers;
+
+	private List<RegistrationCenterUserHistoryDto> registrationCenterUserHistory;
+
+	private List<RegistrationCenterUserMachineMappingHistoryDto> registrationCenterUserMachineMappingHistory;
+
+	private List<RegistrationCenterMachineDeviceHistoryDto> registrationCenterMachineDeviceHistory;
+
+	private List<RegistrationCenterDeviceHistoryDto> registrationCenterDeviceHistory;
+
+	private List<RegistrationCenterMachineHistoryDto> registrationCenterMachineHistory;
+}
@@ -0,0 +1,257 @@
+package io.mosip.kernel.syncdata.executor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.syncdata.config.LoggerConfiguration;
+
+/**
+ * Executor of the sync queries, shared fairly between the sync requests.
+ * <p>
+ * At most <code>parallelism</code> queries run at once, so that concurrent
+ * syncs cannot exhaust the connection pool, and at most <code>fanOut</code>
+ * of them for the same request. The queries of a request are the tasks
+ * submitted by its thread; the pending requests are served in turn, one query
+ * at a time, so that a large sync does not hold back the smaller ones started
+ * after it.
+ *
+ * @since 1.0.0
+ *
+ */
+public class SyncQueryExecutor implements Executor, MeterBinder {
+
+	private static final Logger LOGGER = LoggerConfiguration.logConfig(SyncQueryExecutor.class);
+
+	private static final String THREAD_NAME_PREFIX = "SYNCDATA-Query-Thread-";
+
+	private final int fanOut;
+
+	private final int capacity;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition available = lock.newCondition();
+
+	/**
+	 * Requests with queued or running queries, by submitting thread
+	 */
+	private final Map<Thread, RequestQueue> requests = new HashMap<>();
+
+	/**
+	 * Requests with queued queries and less than fanOut running, in turn
+	 */
+	private final Deque<RequestQueue> ready = new ArrayDeque<>();
+
+	private int queued;
+
+	private int active;
+
+	private boolean shutdown;
+
+	private volatile Timer waitTimer;
+
+	/**
+	 * @param parallelism
+	 *            the number of queries run at once
+	 * @param fanOut
+	 *            the number of queries of a request run at once
+	 * @param capacity
+	 *            the number of queued queries above which queries are rejected
+	 */
+	public SyncQueryExecutor(int parallelism, int fanOut, int capacity) {
+		if (parallelism <= 0 || fanOut <= 0 || capacity <= 0) {
+			throw new IllegalArgumentException("parallelism, fan out and capacity must be positive");
+		}
+		this.fanOut = fanOut;
+		this.capacity = capacity;
+		for (int i = 1; i <= parallelism; i++) {
+			Thread worker = new Thread(this::work, THREAD_NAME_PREFIX + i);
+			worker.setDaemon(true);
+			worker.start();
+		}
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		Objects.requireNonNull(command);
+		lock.lock();
+		try {
+			if (shutdown) {
+				throw new RejectedExecutionException("sync query executor is shut down");
+			}
+			if (queued >= capacity) {
+				throw new RejectedExecutionException("sync query queue is full (" + capacity + ")");
+			}
+			RequestQueue request = requests.computeIfAbsent(Thread.currentThread(), RequestQueue::new);
+			request.tasks.addLast(new QueuedTask(command));
+			queued++;
+			if (!request.ready && request.running < fanOut) {
+				request.ready = true;
+				ready.addLast(request);
+				available.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops accepting queries, the queued ones are still run
+	 */
+	public void shutdown() {
+		lock.lock();
+		try {
+			shutdown = true;
+			available.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of queued queries
+	 */
+	public int getQueueSize() {
+		lock.lock();
+		try {
+			return queued;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of running queries
+	 */
+	public int getActiveCount() {
+		lock.lock();
+		try {
+			return active;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of requests with queued or running queries
+	 */
+	public int getRequestCount() {
+		lock.lock();
+		try {
+			return requests.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("syncdata.query.queued", this, SyncQueryExecutor::getQueueSize)
+				.description("Sync queries waiting for a worker").register(registry);
+		Gauge.builder("syncdata.query.active", this, SyncQueryExecutor::getActiveCount)
+				.description("Sync queries running").register(registry);
+		Gauge.builder("syncdata.query.requests", this, SyncQueryExecutor::getRequestCount)
+				.description("Sync requests with queued or running queries").register(registry);
+		waitTimer = Timer.builder("syncdata.query.wait").description("Time spent by sync queries in the queue")
+				.register(registry);
+	}
+
+	private void work() {
+		while (true) {
+			RequestQueue request;
+			QueuedTask task;
+			lock.lock();
+			try {
+				while (ready.isEmpty()) {
+					if (shutdown) {
+						return;
+					}
+					available.awaitUninterruptibly();
+				}
+				request = ready.pollFirst();
+				task = request.tasks.pollFirst();
+				queued--;
+				active++;
+				request.running++;
+				if (!request.tasks.isEmpty() && request.running < fanOut) {
+					ready.addLast(request);
+				} else {
+					request.ready = false;
+				}
+			} finally {
+				lock.unlock();
+			}
+			run(task);
+			lock.lock();
+			try {
+				active--;
+				request.running--;
+				if (!request.tasks.isEmpty()) {
+					if (!request.ready) {
+						request.ready = true;
+						ready.addLast(request);
+						available.signal();
+					}
+				} else if (request.running == 0) {
+					requests.remove(request.caller);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void run(QueuedTask task) {
+		Timer timer = waitTimer;
+		if (timer != null) {
+			timer.record(System.nanoTime() - task.queuedAt, TimeUnit.NANOSECONDS);
+		}
+		try {
+			task.command.run();
+		} catch (RuntimeException e) {
+			LOGGER.error("", "", "", "Sync query failed: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Queries of a request
+	 */
+	private static final class RequestQueue {
+
+		private final Thread caller;
+
+		private final Deque<QueuedTask> tasks = new ArrayDeque<>();
+
+		private int running;
+
+		private boolean ready;
+
+		private RequestQueue(Thread caller) {
+			this.caller = caller;
+		}
+	}
+
+	private static final class QueuedTask {
+
+		private final Runnable command;
+
+		private final long queuedAt = System.nanoTime();
+
+		private QueuedTask(Runnable command) {
+			this.command = command;
+		}
+	}
+}
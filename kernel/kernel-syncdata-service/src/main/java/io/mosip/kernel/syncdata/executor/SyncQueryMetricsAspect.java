@@ -0,0 +1,42 @@
+package io.mosip.kernel.syncdata.executor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records the latency of each sync query, tagged with the name of the query
+ * method. The queries are asynchronous, so the time is measured on the worker,
+ * without the time spent in the queue.
+ * 
+ * @since 1.0.0
+ *
+ */
+@Aspect
+@Component
+public class SyncQueryMetricsAspect {
+
+	private static final String QUERY_TIMER = "syncdata.query";
+
+	private static final String QUERY_TAG = "query";
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Around("within(io.mosip.kernel.syncdata.utils.SyncMasterDataServiceHelper) && @annotation(org.springframework.scheduling.annotation.Async)")
+	public Object recordLatency(ProceedingJoinPoint joinPoint) throws Throwable {
+		long start = System.nanoTime();
+		try {
+			return joinPoint.proceed();
+		} finally {
+			meterRegistry.timer(QUERY_TIMER, QUERY_TAG, joinPoint.getSignature().getName())
+					.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+}
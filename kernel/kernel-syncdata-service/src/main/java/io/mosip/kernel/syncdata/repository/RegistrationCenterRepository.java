@@ -47,4 +47,39 @@ public interface RegistrationCenterRepository extends JpaRepository<Registration
 	 * @return list of {@link RegistrationCenter} - list of registration center
 	 */
 	List<RegistrationCenter> findRegistrationCenterByIdAndIsActiveIsTrue(String regCenterId);
+
+	/**
+	 * Method to fetch the latest machine, device, user mappings of a registration
+	 * center and their history in a single round trip. Each row is tagged with
+	 * the table it comes from and has the columns regcntr_id, machine_id,
+	 * device_id, usr_id, lang_code, is_active, is_deleted and eff_dtimes, the ones
+	 * the table does not have being null.
+	 * 
+	 * @param regCenterId      - registration center id
+	 * @param lastUpdated      - last updated time
+	 * @param currentTimeStamp - current timestamp
+	 * @return list of tagged mapping rows
+	 */
+	@Query(value = "SELECT 1, regcntr_id, machine_id, CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR), lang_code, is_active, is_deleted, CAST(NULL AS TIMESTAMP) FROM master.reg_center_machine WHERE regcntr_id=?1 AND "
+			+ "((cr_dtimes > ?2 AND cr_dtimes <= ?3) OR (upd_dtimes > ?2 AND upd_dtimes <= ?3) OR (del_dtimes > ?2 AND del_dtimes <= ?3)) UNION ALL "
+			+ "SELECT 2, regcntr_id, CAST(NULL AS VARCHAR), device_id, CAST(NULL AS VARCHAR), lang_code, is_active, is_deleted, CAST(NULL AS TIMESTAMP) FROM master.reg_center_device WHERE regcntr_id=?1 AND "
+			+ "((cr_dtimes > ?2 AND cr_dtimes <= ?3) OR (upd_dtimes > ?2 AND upd_dtimes <= ?3) OR (del_dtimes > ?2 AND del_dtimes <= ?3)) UNION ALL "
+			+ "SELECT 3, regcntr_id, machine_id, device_id, CAST(NULL AS VARCHAR), lang_code, is_active, is_deleted, CAST(NULL AS TIMESTAMP) FROM master.reg_center_machine_device WHERE regcntr_id=?1 AND "
+			+ "((cr_dtimes > ?2 AND cr_dtimes <= ?3) OR (upd_dtimes > ?2 AND upd_dtimes <= ?3) OR (del_dtimes > ?2 AND del_dtimes <= ?3)) UNION ALL "
+			+ "SELECT 4, regcntr_id, machine_id, CAST(NULL AS VARCHAR), usr_id, lang_code, is_active, is_deleted, CAST(NULL AS TIMESTAMP) FROM master.reg_center_user_machine WHERE regcntr_id=?1 AND "
+			+ "((cr_dtimes > ?2 AND cr_dtimes <= ?3) OR (upd_dtimes > ?2 AND upd_dtimes <= ?3) OR (del_dtimes > ?2 AND del_dtimes <= ?3)) UNION ALL "
+			+ "SELECT 5, regcntr_id, CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR), usr_id, lang_code, is_active, is_deleted, CAST(NULL AS TIMESTAMP) FROM master.reg_center_user WHERE regcntr_id=?1 AND "
+			+ "((cr_dtimes > ?2 AND cr_dtimes <= ?3) OR (upd_dtimes > ?2 AND upd_dtimes <= ?3) OR (del_dtimes > ?2 AND del_dtimes <= ?3)) UNION ALL "
+			+ "SELECT 6, regcntr_id, CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR), usr_id, lang_code, is_active, is_deleted, eff_dtimes FROM master.reg_center_user_h WHERE regcntr_id=?1 AND "
+			+ "((cr_dtimes > ?2 AND cr_dtimes <= ?3) OR (upd_dtimes > ?2 AND upd_dtimes <= ?3) OR (del_dtimes > ?2 AND del_dtimes <= ?3)) UNION ALL "
+			+ "SELECT 7, regcntr_id, machine_id, CAST(NULL AS VARCHAR), usr_id, lang_code, is_active, is_deleted, eff_dtimes FROM master.reg_center_user_machine_h WHERE regcntr_id=?1 AND "
+			+ "((cr_dtimes > ?2 AND cr_dtimes <= ?3) OR (upd_dtimes > ?2 AND upd_dtimes <= ?3) OR (del_dtimes > ?2 AND del_dtimes <= ?3)) UNION ALL "
+			+ "SELECT 8, regcntr_id, machine_id, device_id, CAST(NULL AS VARCHAR), lang_code, is_active, is_deleted, eff_dtimes FROM master.reg_center_machine_device_h WHERE regcntr_id=?1 AND "
+			+ "((cr_dtimes > ?2 AND cr_dtimes <= ?3) OR (upd_dtimes > ?2 AND upd_dtimes <= ?3) OR (del_dtimes > ?2 AND del_dtimes <= ?3)) UNION ALL "
+			+ "SELECT 9, regcntr_id, CAST(NULL AS VARCHAR), device_id, CAST(NULL AS VARCHAR), lang_code, is_active, is_deleted, eff_dtimes FROM master.reg_center_device_h WHERE regcntr_id=?1 AND "
+			+ "((cr_dtimes > ?2 AND cr_dtimes <= ?3) OR (upd_dtimes > ?2 AND upd_dtimes <= ?3) OR (del_dtimes > ?2 AND del_dtimes <= ?3)) UNION ALL "
+			+ "SELECT 10, regcntr_id, machine_id, CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR), lang_code, is_active, is_deleted, eff_dtimes FROM master.reg_center_machine_h WHERE regcntr_id=?1 AND "
+			+ "((cr_dtimes > ?2 AND cr_dtimes <= ?3) OR (upd_dtimes > ?2 AND upd_dtimes <= ?3) OR (del_dtimes > ?2 AND del_dtimes <= ?3))", nativeQuery = true)
+	List<Object[]> findLatestMappingsByRegCenterId(String regCenterId, LocalDateTime lastUpdated,
+			LocalDateTime currentTimeStamp);
 }
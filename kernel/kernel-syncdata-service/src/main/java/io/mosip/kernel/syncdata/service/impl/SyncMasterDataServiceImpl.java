@@ -11,12 +11,14 @@ import java.util.concurrent.ExecutionException;
 import javax.persistence.PersistenceException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
 import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.syncdata.cache.MasterDataSnapshotCache;
 import io.mosip.kernel.syncdata.constant.MasterDataErrorCode;
 import io.mosip.kernel.syncdata.dto.AppAuthenticationMethodDto;
 import io.mosip.kernel.syncdata.dto.AppDetailDto;
@@ -56,6 +58,7 @@ import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineDeviceDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineDeviceHistoryDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineHistoryDto;
+import io.mosip.kernel.syncdata.dto.RegistrationCenterMappingsDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterTypeDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterUserDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterUserHistoryDto;
@@ -72,10 +75,40 @@ import io.mosip.kernel.syncdata.dto.UploadPublicKeyRequestDto;
 import io.mosip.kernel.syncdata.dto.UploadPublicKeyResponseDto;
 import io.mosip.kernel.syncdata.dto.ValidDocumentDto;
 import io.mosip.kernel.syncdata.dto.response.MasterDataResponseDto;
+import io.mosip.kernel.syncdata.entity.AppAuthenticationMethod;
+import io.mosip.kernel.syncdata.entity.AppDetail;
+import io.mosip.kernel.syncdata.entity.AppRolePriority;
+import io.mosip.kernel.syncdata.entity.ApplicantValidDocument;
+import io.mosip.kernel.syncdata.entity.Application;
+import io.mosip.kernel.syncdata.entity.BiometricAttribute;
+import io.mosip.kernel.syncdata.entity.BiometricType;
+import io.mosip.kernel.syncdata.entity.BlacklistedWords;
+import io.mosip.kernel.syncdata.entity.DeviceProvider;
+import io.mosip.kernel.syncdata.entity.DeviceService;
+import io.mosip.kernel.syncdata.entity.DeviceSubTypeDPM;
+import io.mosip.kernel.syncdata.entity.DeviceTypeDPM;
+import io.mosip.kernel.syncdata.entity.DocumentCategory;
+import io.mosip.kernel.syncdata.entity.DocumentType;
+import io.mosip.kernel.syncdata.entity.FoundationalTrustProvider;
+import io.mosip.kernel.syncdata.entity.Gender;
+import io.mosip.kernel.syncdata.entity.IdType;
+import io.mosip.kernel.syncdata.entity.IndividualType;
+import io.mosip.kernel.syncdata.entity.Language;
+import io.mosip.kernel.syncdata.entity.Location;
 import io.mosip.kernel.syncdata.entity.Machine;
 import io.mosip.kernel.syncdata.entity.MachineHistory;
+import io.mosip.kernel.syncdata.entity.ProcessList;
+import io.mosip.kernel.syncdata.entity.ReasonCategory;
+import io.mosip.kernel.syncdata.entity.ReasonList;
 import io.mosip.kernel.syncdata.entity.RegistrationCenter;
 import io.mosip.kernel.syncdata.entity.RegistrationCenterMachine;
+import io.mosip.kernel.syncdata.entity.ScreenAuthorization;
+import io.mosip.kernel.syncdata.entity.ScreenDetail;
+import io.mosip.kernel.syncdata.entity.Template;
+import io.mosip.kernel.syncdata.entity.TemplateFileFormat;
+import io.mosip.kernel.syncdata.entity.TemplateType;
+import io.mosip.kernel.syncdata.entity.Title;
+import io.mosip.kernel.syncdata.entity.ValidDocument;
 import io.mosip.kernel.syncdata.exception.ParseResponseException;
 import io.mosip.kernel.syncdata.exception.RequestException;
 import io.mosip.kernel.syncdata.exception.SyncDataServiceException;
@@ -105,6 +138,9 @@ public class SyncMasterDataServiceImpl implements SyncMasterDataService {
 	@Autowired
 	SyncMasterDataServiceHelper serviceHelper;
 
+	@Autowired
+	MasterDataSnapshotCache snapshotCache;
+
 	@Autowired
 	RegistrationCenterMachineRepository registrationCenterMachineRepository;
 
@@ -117,6 +153,13 @@ public class SyncMasterDataServiceImpl implements SyncMasterDataService {
 	@Autowired
 	private MachineHistoryRepository machineHistoryRepo;
 
+	/**
+	 * Fetch the machine, device and user mappings of the center and their history
+	 * with a single query instead of one per table
+	 */
+	@Value("${mosip.kernel.syncdata.consolidated-center-mappings:false}")
+	private boolean consolidatedCenterMappings;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -195,67 +238,112 @@ public class SyncMasterDataServiceImpl implements SyncMasterDataService {
 		CompletableFuture<List<SyncJobDefDto>> syncJobDefDtos;
 		CompletableFuture<List<ScreenDetailDto>> screenDetails;
 
-		applications = serviceHelper.getApplications(lastUpdated, currentTimeStamp);
+		applications = snapshotCache.get(Application.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getApplications);
 		machineDetails = serviceHelper.getMachines(regCenterId, lastUpdated, currentTimeStamp);
 		registrationCenters = serviceHelper.getRegistrationCenter(machineId, lastUpdated, currentTimeStamp);
 		registrationCenterTypes = serviceHelper.getRegistrationCenterType(machineId, lastUpdated, currentTimeStamp);
-		templates = serviceHelper.getTemplates(lastUpdated, currentTimeStamp);
-		templateFileFormats = serviceHelper.getTemplateFileFormats(lastUpdated, currentTimeStamp);
-		reasonCategory = serviceHelper.getReasonCategory(lastUpdated, currentTimeStamp);
+		templates = snapshotCache.get(Template.class, lastUpdated, currentTimeStamp, serviceHelper::getTemplates);
+		templateFileFormats = snapshotCache.get(TemplateFileFormat.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getTemplateFileFormats);
+		reasonCategory = snapshotCache.get(ReasonCategory.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getReasonCategory);
 		holidays = serviceHelper.getHolidays(lastUpdated, machineId, currentTimeStamp);
-		blacklistedWords = serviceHelper.getBlackListedWords(lastUpdated, currentTimeStamp);
-		biometricTypes = serviceHelper.getBiometricTypes(lastUpdated, currentTimeStamp);
-		biometricAttributes = serviceHelper.getBiometricAttributes(lastUpdated, currentTimeStamp);
-		titles = serviceHelper.getTitles(lastUpdated, currentTimeStamp);
-		languages = serviceHelper.getLanguages(lastUpdated, currentTimeStamp);
-		genders = serviceHelper.getGenders(lastUpdated, currentTimeStamp);
+		blacklistedWords = snapshotCache.get(BlacklistedWords.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getBlackListedWords);
+		biometricTypes = snapshotCache.get(BiometricType.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getBiometricTypes);
+		biometricAttributes = snapshotCache.get(BiometricAttribute.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getBiometricAttributes);
+		titles = snapshotCache.get(Title.class, lastUpdated, currentTimeStamp, serviceHelper::getTitles);
+		languages = snapshotCache.get(Language.class, lastUpdated, currentTimeStamp, serviceHelper::getLanguages);
+		genders = snapshotCache.get(Gender.class, lastUpdated, currentTimeStamp, serviceHelper::getGenders);
 		devices = serviceHelper.getDevices(regCenterId, lastUpdated, currentTimeStamp);
-		documentCategories = serviceHelper.getDocumentCategories(lastUpdated, currentTimeStamp);
-		documentTypes = serviceHelper.getDocumentTypes(lastUpdated, currentTimeStamp);
-		idTypes = serviceHelper.getIdTypes(lastUpdated, currentTimeStamp);
+		documentCategories = snapshotCache.get(DocumentCategory.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getDocumentCategories);
+		documentTypes = snapshotCache.get(DocumentType.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getDocumentTypes);
+		idTypes = snapshotCache.get(IdType.class, lastUpdated, currentTimeStamp, serviceHelper::getIdTypes);
 		deviceSpecifications = serviceHelper.getDeviceSpecifications(regCenterId, lastUpdated, currentTimeStamp);
-		locationHierarchy = serviceHelper.getLocationHierarchy(lastUpdated, currentTimeStamp);
+		locationHierarchy = snapshotCache.get(Location.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getLocationHierarchy);
 		machineSpecification = serviceHelper.getMachineSpecification(regCenterId, lastUpdated, currentTimeStamp);
 		machineType = serviceHelper.getMachineType(regCenterId, lastUpdated, currentTimeStamp);
-		templateTypes = serviceHelper.getTemplateTypes(lastUpdated, currentTimeStamp);
+		templateTypes = snapshotCache.get(TemplateType.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getTemplateTypes);
 		deviceTypes = serviceHelper.getDeviceType(regCenterId, lastUpdated, currentTimeStamp);
-		reasonList = serviceHelper.getReasonList(lastUpdated, currentTimeStamp);
-		applicantValidDocumentList = serviceHelper.getApplicantValidDocument(lastUpdated, currentTimeStamp);
-		individualTypeList = serviceHelper.getIndividualType(lastUpdated, currentTimeStamp);
-		validDocumentsMapping = serviceHelper.getValidDocuments(lastUpdated, currentTimeStamp);
-		appAuthenticationMethods = serviceHelper.getAppAuthenticationMethodDetails(lastUpdated, currentTimeStamp);
-		appDetails = serviceHelper.getAppDetails(lastUpdated, currentTimeStamp);
-		appRolePriorities = serviceHelper.getAppRolePriorityDetails(lastUpdated, currentTimeStamp);
-		processList = serviceHelper.getProcessList(lastUpdated, currentTimeStamp);
-		screenAuthorizations = serviceHelper.getScreenAuthorizationDetails(lastUpdated, currentTimeStamp);
-		registrationCenterMachines = serviceHelper.getRegistrationCenterMachines(regCenterId, lastUpdated,
-				currentTimeStamp);
-		registrationCenterDevices = serviceHelper.getRegistrationCenterDevices(regCenterId, lastUpdated,
-				currentTimeStamp);
-		registrationCenterMachineDevices = serviceHelper.getRegistrationCenterMachineDevices(regCenterId, lastUpdated,
-				currentTimeStamp);
-		registrationCenterUserMachines = serviceHelper.getRegistrationCenterUserMachines(regCenterId, lastUpdated,
-				currentTimeStamp);
-		registrationCenterUsers = serviceHelper.getRegistrationCenterUsers(regCenterId, lastUpdated, currentTimeStamp);
-		registrationCenterUserHistoryList = serviceHelper.getRegistrationCenterUserHistory(regCenterId, lastUpdated,
-				currentTimeStamp);
-		registrationCenterUserMachineMappingHistoryList = serviceHelper
-				.getRegistrationCenterUserMachineMapping(regCenterId, lastUpdated, currentTimeStamp);
-		registrationCenterMachineDeviceHistoryList = serviceHelper
-				.getRegistrationCenterMachineDeviceHistoryDetails(regCenterId, lastUpdated, currentTimeStamp);
-		registrationCenterDeviceHistoryList = serviceHelper.getRegistrationCenterDeviceHistoryDetails(regCenterId,
-				lastUpdated, currentTimeStamp);
-		registrationCenterMachineHistoryList = serviceHelper.getRegistrationCenterMachineHistoryDetails(regCenterId,
-				lastUpdated, currentTimeStamp);
+		reasonList = snapshotCache.get(ReasonList.class, lastUpdated, currentTimeStamp, serviceHelper::getReasonList);
+		applicantValidDocumentList = snapshotCache.get(ApplicantValidDocument.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getApplicantValidDocument);
+		individualTypeList = snapshotCache.get(IndividualType.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getIndividualType);
+		validDocumentsMapping = snapshotCache.get(ValidDocument.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getValidDocuments);
+		appAuthenticationMethods = snapshotCache.get(AppAuthenticationMethod.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getAppAuthenticationMethodDetails);
+		appDetails = snapshotCache.get(AppDetail.class, lastUpdated, currentTimeStamp, serviceHelper::getAppDetails);
+		appRolePriorities = snapshotCache.get(AppRolePriority.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getAppRolePriorityDetails);
+		processList = snapshotCache.get(ProcessList.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getProcessList);
+		screenAuthorizations = snapshotCache.get(ScreenAuthorization.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getScreenAuthorizationDetails);
+		if (consolidatedCenterMappings) {
+			CompletableFuture<RegistrationCenterMappingsDto> mappings = serviceHelper
+					.getRegistrationCenterMappings(regCenterId, lastUpdated, currentTimeStamp);
+			registrationCenterMachines = mappings.thenApply(RegistrationCenterMappingsDto::getRegistrationCenterMachines);
+			registrationCenterDevices = mappings.thenApply(RegistrationCenterMappingsDto::getRegistrationCenterDevices);
+			registrationCenterMachineDevices = mappings
+					.thenApply(RegistrationCenterMappingsDto::getRegistrationCenterMachineDevices);
+			registrationCenterUserMachines = mappings
+					.thenApply(RegistrationCenterMappingsDto::getRegistrationCenterUserMachines);
+			registrationCenterUsers = mappings.thenApply(RegistrationCenterMappingsDto::getRegistrationCenterUsers);
+			registrationCenterUserHistoryList = mappings
+					.thenApply(RegistrationCenterMappingsDto::getRegistrationCenterUserHistory);
+			registrationCenterUserMachineMappingHistoryList = mappings
+					.thenApply(RegistrationCenterMappingsDto::getRegistrationCenterUserMachineMappingHistory);
+			registrationCenterMachineDeviceHistoryList = mappings
+					.thenApply(RegistrationCenterMappingsDto::getRegistrationCenterMachineDeviceHistory);
+			registrationCenterDeviceHistoryList = mappings
+					.thenApply(RegistrationCenterMappingsDto::getRegistrationCenterDeviceHistory);
+			registrationCenterMachineHistoryList = mappings
+					.thenApply(RegistrationCenterMappingsDto::getRegistrationCenterMachineHistory);
+		} else {
+			registrationCenterMachines = serviceHelper.getRegistrationCenterMachines(regCenterId, lastUpdated,
+					currentTimeStamp);
+			registrationCenterDevices = serviceHelper.getRegistrationCenterDevices(regCenterId, lastUpdated,
+					currentTimeStamp);
+			registrationCenterMachineDevices = serviceHelper.getRegistrationCenterMachineDevices(regCenterId, lastUpdated,
+					currentTimeStamp);
+			registrationCenterUserMachines = serviceHelper.getRegistrationCenterUserMachines(regCenterId, lastUpdated,
+					currentTimeStamp);
+			registrationCenterUsers = serviceHelper.getRegistrationCenterUsers(regCenterId, lastUpdated, currentTimeStamp);
+			registrationCenterUserHistoryList = serviceHelper.getRegistrationCenterUserHistory(regCenterId, lastUpdated,
+					currentTimeStamp);
+			registrationCenterUserMachineMappingHistoryList = serviceHelper
+					.getRegistrationCenterUserMachineMapping(regCenterId, lastUpdated, currentTimeStamp);
+			registrationCenterMachineDeviceHistoryList = serviceHelper
+					.getRegistrationCenterMachineDeviceHistoryDetails(regCenterId, lastUpdated, currentTimeStamp);
+			registrationCenterDeviceHistoryList = serviceHelper.getRegistrationCenterDeviceHistoryDetails(regCenterId,
+					lastUpdated, currentTimeStamp);
+			registrationCenterMachineHistoryList = serviceHelper.getRegistrationCenterMachineHistoryDetails(regCenterId,
+					lastUpdated, currentTimeStamp);
+		}
 		//
 		syncJobDefDtos = serviceHelper.getSyncJobDefDetails(lastUpdated, currentTimeStamp);
-		screenDetails = serviceHelper.getScreenDetails(lastUpdated, currentTimeStamp);
+		screenDetails = snapshotCache.get(ScreenDetail.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getScreenDetails);
 		registeredDevices = serviceHelper.getRegisteredDeviceDetails(regCenterId, lastUpdated, currentTimeStamp);
-		deviceProviders = serviceHelper.getDeviceProviderDetails(lastUpdated, currentTimeStamp);
-		deviceServices = serviceHelper.getDeviceServiceDetails(lastUpdated, currentTimeStamp);
-		ftps = serviceHelper.getFPDetails(lastUpdated, currentTimeStamp);
-		deviceTypeDPMs = serviceHelper.getDeviceTypeDetails(lastUpdated, currentTimeStamp);
-		deviceSubTypeDPMs = serviceHelper.getDeviceSubTypeDetails(lastUpdated, currentTimeStamp);
+		deviceProviders = snapshotCache.get(DeviceProvider.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getDeviceProviderDetails);
+		deviceServices = snapshotCache.get(DeviceService.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getDeviceServiceDetails);
+		ftps = snapshotCache.get(FoundationalTrustProvider.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getFPDetails);
+		deviceTypeDPMs = snapshotCache.get(DeviceTypeDPM.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getDeviceTypeDetails);
+		deviceSubTypeDPMs = snapshotCache.get(DeviceSubTypeDPM.class, lastUpdated, currentTimeStamp,
+				serviceHelper::getDeviceSubTypeDetails);
 		CompletableFuture<Void> future = CompletableFuture.allOf(machineDetails, applications, registrationCenterTypes,
 				registrationCenters, templates, templateFileFormats, reasonCategory, reasonList, holidays,
 				blacklistedWords, biometricTypes, biometricAttributes, titles, languages, devices, documentCategories,
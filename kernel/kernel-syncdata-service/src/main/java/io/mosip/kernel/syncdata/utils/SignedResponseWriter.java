@@ -0,0 +1,168 @@
+package io.mosip.kernel.syncdata.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.mosip.kernel.core.exception.NoSuchAlgorithmException;
+import io.mosip.kernel.core.http.ResponseWrapper;
+import io.mosip.kernel.core.signatureutil.exception.ParseResponseException;
+import io.mosip.kernel.core.signatureutil.model.SignatureResponse;
+import io.mosip.kernel.core.signatureutil.spi.SignatureUtil;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.cryptosignature.constant.SigningDataErrorCode;
+
+/**
+ * Writes a signed response straight to the servlet response, without building
+ * it as a String.
+ * <p>
+ * Only the serialization is streamed: the response object is already in
+ * memory. It is serialized twice with the Jackson streaming generator, once
+ * into the digest, since the signature header has to be sent before the body,
+ * and then to the client, gzipped if it accepts it. The signature is the same
+ * as the one of the response filter, which signs the whole serialized body.
+ * <p>
+ * The key manager signs the hash with the configured sign algorithm, so the
+ * digest is derived from the same property and checked at startup.
+ *
+ * @since 1.0.0
+ *
+ */
+@Component
+public class SignedResponseWriter {
+
+	private static final String RESPONSE_SIGNATURE = "response-signature";
+
+	private static final String GZIP = "gzip";
+
+	private static final String WITH_RSA = "WITHRSA";
+
+	/**
+	 * Sign algorithm of the key manager, e.g. SHA512withRSA
+	 */
+	@Value("${mosip.kernel.crypto.sign-algorithm-name:SHA512withRSA}")
+	private String signAlgorithm;
+
+	/**
+	 * Digest of {@link #signAlgorithm}, e.g. SHA-512
+	 */
+	private String hashAlgorithm;
+
+	@Value("${mosip.kernel.syncdata.stream.gzip-enabled:true}")
+	private boolean gzipEnabled;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private SignatureUtil signatureUtil;
+
+	/**
+	 * Derives the digest of the sign algorithm and checks that it is available
+	 */
+	@PostConstruct
+	public void init() {
+		hashAlgorithm = hashAlgorithmOf(signAlgorithm);
+		newDigest();
+	}
+
+	/**
+	 * Signs and writes a response
+	 *
+	 * @param body     the response
+	 * @param request  the servlet request, for the accepted encodings
+	 * @param response the servlet response
+	 * @throws IOException if the response cannot be written
+	 */
+	public void write(ResponseWrapper<?> body, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		String timestamp = DateUtils.getUTCCurrentDateTimeString();
+		body.setResponsetime(DateUtils.convertUTCToLocalDateTime(timestamp));
+		body.setErrors(null);
+		ObjectWriter writer = objectMapper.writer();
+
+		MessageDigest messageDigest = newDigest();
+		try (OutputStream digestStream = new DigestOutputStream(new DiscardingOutputStream(), messageDigest)) {
+			writer.writeValue(digestStream, body);
+		} catch (JsonProcessingException e) {
+			throw new ParseResponseException(SigningDataErrorCode.RESPONSE_PARSE_EXCEPTION.getErrorCode(),
+					SigningDataErrorCode.RESPONSE_PARSE_EXCEPTION.getErrorMessage());
+		}
+		SignatureResponse signatureResponse = signatureUtil.signHash(messageDigest.digest(), timestamp);
+
+		response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+		response.setHeader(RESPONSE_SIGNATURE, signatureResponse.getData());
+		response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		OutputStream outputStream = response.getOutputStream();
+		if (acceptsGzip(request)) {
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+			outputStream = new GZIPOutputStream(outputStream);
+		}
+		try (OutputStream bodyStream = outputStream) {
+			writer.writeValue(bodyStream, body);
+		}
+	}
+
+	private boolean acceptsGzip(HttpServletRequest request) {
+		String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		return gzipEnabled && acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+	}
+
+	private MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(hashAlgorithm);
+		} catch (java.security.NoSuchAlgorithmException e) {
+			throw new NoSuchAlgorithmException(SigningDataErrorCode.HASH_ALGORITHM_NOT_SUPPORTED.getErrorCode(),
+					SigningDataErrorCode.HASH_ALGORITHM_NOT_SUPPORTED.getErrorMessage() + ": " + hashAlgorithm, e);
+		}
+	}
+
+	/**
+	 * Gets the digest of an RSA sign algorithm, SHA-512 for SHA512withRSA
+	 * 
+	 * @param signAlgorithm the sign algorithm
+	 * @return the name of the digest
+	 */
+	private static String hashAlgorithmOf(String signAlgorithm) {
+		String algorithm = signAlgorithm.toUpperCase(Locale.ROOT);
+		if (!algorithm.endsWith(WITH_RSA) || algorithm.length() == WITH_RSA.length()) {
+			throw new NoSuchAlgorithmException(SigningDataErrorCode.HASH_ALGORITHM_NOT_SUPPORTED.getErrorCode(),
+					SigningDataErrorCode.HASH_ALGORITHM_NOT_SUPPORTED.getErrorMessage() + ": " + signAlgorithm);
+		}
+		String digest = algorithm.substring(0, algorithm.length() - WITH_RSA.length());
+		return digest.startsWith("SHA") && !digest.startsWith("SHA-") ? "SHA-" + digest.substring(3) : digest;
+	}
+
+	/**
+	 * Output of the hashing pass, the bytes are only seen by the digest
+	 */
+	private static final class DiscardingOutputStream extends OutputStream {
+
+		@Override
+		public void write(int b) {
+			// discarded
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			// discarded
+		}
+	}
+}
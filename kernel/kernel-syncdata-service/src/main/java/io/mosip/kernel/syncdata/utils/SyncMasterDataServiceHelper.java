@@ -1,5 +1,6 @@
 package io.mosip.kernel.syncdata.utils;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
@@ -19,6 +20,7 @@ import io.mosip.kernel.syncdata.dto.AppDetailDto;
 import io.mosip.kernel.syncdata.dto.AppRolePriorityDto;
 import io.mosip.kernel.syncdata.dto.ApplicantValidDocumentDto;
 import io.mosip.kernel.syncdata.dto.ApplicationDto;
+import io.mosip.kernel.syncdata.dto.BaseDto;
 import io.mosip.kernel.syncdata.dto.BiometricAttributeDto;
 import io.mosip.kernel.syncdata.dto.BiometricTypeDto;
 import io.mosip.kernel.syncdata.dto.BlacklistedWordsDto;
@@ -52,6 +54,7 @@ import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineDeviceDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineDeviceHistoryDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineHistoryDto;
+import io.mosip.kernel.syncdata.dto.RegistrationCenterMappingsDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterTypeDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterUserDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterUserHistoryDto;
@@ -295,7 +298,7 @@ public class SyncMasterDataServiceHelper {
 	 * 
 	 * @return list of {@link MachineDto} list of machine dto
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<MachineDto>> getMachines(String regCenterId, LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<Machine> machineDetailList = new ArrayList<>();
@@ -348,7 +351,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link MachineType}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<MachineTypeDto>> getMachineType(String regCenterId, LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<MachineTypeDto> machineTypeList = null;
@@ -384,7 +387,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link MachineSpecificationDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<MachineSpecificationDto>> getMachineSpecification(String regCenterId,
 			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<MachineSpecification> machineSpecification = null;
@@ -422,7 +425,7 @@ public class SyncMasterDataServiceHelper {
 	 *            the current time stamp
 	 * @return list of {@link RegistrationCenterDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterDto>> getRegistrationCenter(String machineId,
 			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterDto> registrationCenterList = null;
@@ -456,7 +459,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link RegistrationCenterTypeDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterTypeDto>> getRegistrationCenterType(String machineId,
 			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterTypeDto> registrationCenterTypes = null;
@@ -488,7 +491,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link ApplicationDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<ApplicationDto>> getApplications(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<ApplicationDto> applications = null;
@@ -518,7 +521,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link TemplateDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<TemplateDto>> getTemplates(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<TemplateDto> templates = null;
@@ -549,7 +552,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link TemplateFileFormatDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<TemplateFileFormatDto>> getTemplateFileFormats(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<TemplateFileFormatDto> templateFormats = null;
@@ -578,7 +581,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link PostReasonCategoryDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<PostReasonCategoryDto>> getReasonCategory(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<PostReasonCategoryDto> reasonCategories = null;
@@ -608,7 +611,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link ReasonListDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<ReasonListDto>> getReasonList(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<ReasonListDto> reasonList = null;
@@ -641,7 +644,7 @@ public class SyncMasterDataServiceHelper {
 	 *            machine id
 	 * @return list of {@link HolidayDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<HolidayDto>> getHolidays(LocalDateTime lastUpdated, String machineId,
 			LocalDateTime currentTimeStamp) {
 		List<HolidayDto> holidayList = null;
@@ -673,7 +676,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link BlacklistedWordsDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<BlacklistedWordsDto>> getBlackListedWords(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<BlacklistedWordsDto> blacklistedWords = null;
@@ -705,7 +708,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link BiometricTypeDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<BiometricTypeDto>> getBiometricTypes(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<BiometricTypeDto> biometricTypeDtoList = null;
@@ -736,7 +739,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link BiometricAttributeDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<BiometricAttributeDto>> getBiometricAttributes(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<BiometricAttributeDto> biometricAttrList = null;
@@ -768,7 +771,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link TitleDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<TitleDto>> getTitles(LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<TitleDto> titleList = null;
 		List<Title> titles = null;
@@ -799,7 +802,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link LanguageDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<LanguageDto>> getLanguages(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<LanguageDto> languageList = null;
@@ -829,7 +832,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link GenderDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<GenderDto>> getGenders(LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<GenderDto> genderDto = null;
 		List<Gender> genderType = null;
@@ -861,7 +864,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link DeviceDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<DeviceDto>> getDevices(String regCenterId, LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<Device> devices = null;
@@ -891,7 +894,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link DocumentCategoryDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<DocumentCategoryDto>> getDocumentCategories(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<DocumentCategoryDto> documentCategoryList = null;
@@ -923,7 +926,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link DocumentTypeDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<DocumentTypeDto>> getDocumentTypes(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<DocumentTypeDto> documentTypeList = null;
@@ -954,7 +957,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link IdTypeDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<IdTypeDto>> getIdTypes(LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<IdTypeDto> idTypeList = null;
 		List<IdType> idTypes = null;
@@ -984,7 +987,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link DeviceSpecificationDto}}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<DeviceSpecificationDto>> getDeviceSpecifications(String regCenterId,
 			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<DeviceSpecification> deviceSpecificationList = null;
@@ -1014,7 +1017,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link LocationDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<LocationDto>> getLocationHierarchy(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<LocationDto> responseList = null;
@@ -1045,7 +1048,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link TemplateTypeDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<TemplateTypeDto>> getTemplateTypes(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<TemplateTypeDto> templateTypeList = null;
@@ -1078,7 +1081,7 @@ public class SyncMasterDataServiceHelper {
 	 *            the current time stamp
 	 * @return {@link DeviceTypeDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<DeviceTypeDto>> getDeviceType(String regCenterId, LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<DeviceTypeDto> deviceTypeList = null;
@@ -1110,7 +1113,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link ValidDocumentDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<ValidDocumentDto>> getValidDocuments(LocalDateTime lastUpdated,
 			LocalDateTime currentTimeStamp) {
 		List<ValidDocumentDto> validDocumentList = null;
@@ -1142,7 +1145,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link RegistrationCenterMachineDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterMachineDto>> getRegistrationCenterMachines(String machineId,
 			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterMachineDto> registrationCenterMachineDtos = null;
@@ -1175,7 +1178,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link RegistrationCenterDeviceDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterDeviceDto>> getRegistrationCenterDevices(String regId,
 			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterDeviceDto> registrationCenterDeviceDtos = null;
@@ -1209,7 +1212,7 @@ public class SyncMasterDataServiceHelper {
 	 * @return list of {@link RegistrationCenterMachineDeviceDto} - list of
 	 *         registration center machine device dto
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterMachineDeviceDto>> getRegistrationCenterMachineDevices(String regId,
 			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterMachineDeviceDto> registrationCenterMachineDeviceDtos = null;
@@ -1243,7 +1246,7 @@ public class SyncMasterDataServiceHelper {
 	 * @return list of {@link RegistrationCenterUserMachineMappingDto} - list of
 	 *         RegistrationCenterUserMachineMappingDto
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterUserMachineMappingDto>> getRegistrationCenterUserMachines(
 			String regId, LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterUserMachineMappingDto> registrationCenterUserMachineMappingDtos = null;
@@ -1278,7 +1281,7 @@ public class SyncMasterDataServiceHelper {
 	 * @return list of {@link RegistrationCenterUserDto} - list of
 	 *         RegistrationCenterUserDto
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterUserDto>> getRegistrationCenterUsers(String regId,
 			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterUserDto> registrationCenterUserDtos = null;
@@ -1311,7 +1314,7 @@ public class SyncMasterDataServiceHelper {
 	 * @return list of {@link RegistrationCenterUserHistoryDto} - list of
 	 *         RegistrationCenterUserHistoryDto
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterUserHistoryDto>> getRegistrationCenterUserHistory(String regId,
 			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterUserHistoryDto> registrationCenterUserHistoryDtos = null;
@@ -1349,7 +1352,7 @@ public class SyncMasterDataServiceHelper {
 	 * @return list of {@link RegistrationCenterUserMachineMappingHistoryDto} - list
 	 *         of RegistrationCenterUserMachineMappingHistoryDto
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterUserMachineMappingHistoryDto>> getRegistrationCenterUserMachineMapping(
 			String regId, LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterUserMachineMappingHistoryDto> registrationCenterUserMachineMappingHistoryDtos = null;
@@ -1387,7 +1390,7 @@ public class SyncMasterDataServiceHelper {
 	 * @return list of {@link RegistrationCenterMachineDeviceHistoryDto} - list of
 	 *         RegistrationCenterMachineDeviceHistoryDto
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterMachineDeviceHistoryDto>> getRegistrationCenterMachineDeviceHistoryDetails(
 			String regId, LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterMachineDeviceHistoryDto> registrationCenterMachineDeviceHistoryDtos = null;
@@ -1426,7 +1429,7 @@ public class SyncMasterDataServiceHelper {
 	 * @return list of {@link RegistrationCenterDeviceHistoryDto} - list of
 	 *         RegistrationCenterDeviceHistoryDto
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterDeviceHistoryDto>> getRegistrationCenterDeviceHistoryDetails(
 			String regId, LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterDeviceHistoryDto> registrationCenterDeviceHistoryDtos = null;
@@ -1464,7 +1467,7 @@ public class SyncMasterDataServiceHelper {
 	 * @return list of {@link RegistrationCenterMachineHistoryDto} - list of
 	 *         RegistrationCenterMachineHistoryDto
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegistrationCenterMachineHistoryDto>> getRegistrationCenterMachineHistoryDetails(
 			String regId, LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
 		List<RegistrationCenterMachineHistoryDto> registrationCenterMachineHistoryDtos = null;
@@ -1491,6 +1494,136 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(registrationCenterMachineHistoryDtos);
 	}
 
+	/**
+	 * Fetches the machine, device and user mappings of a registration center and
+	 * their history with a single query, mapping the rows straight to the DTOs.
+	 * 
+	 * @param regId
+	 *            - registration center id
+	 * @param lastUpdated
+	 *            - last updated time
+	 * @param currentTimeStamp
+	 *            - current time stamp
+	 * @return {@link RegistrationCenterMappingsDto}
+	 */
+	@Async("syncQueryExecutor")
+	public CompletableFuture<RegistrationCenterMappingsDto> getRegistrationCenterMappings(String regId,
+			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
+		List<Object[]> rows = null;
+		try {
+			if (lastUpdated == null) {
+				lastUpdated = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+			}
+			rows = registrationCenterRepository.findLatestMappingsByRegCenterId(regId, lastUpdated,
+					currentTimeStamp);
+		} catch (DataAccessException e) {
+			throw new SyncDataServiceException(MasterDataErrorCode.REG_CENTER_MAPPING_FETCH_EXCEPTION.getErrorCode(),
+					MasterDataErrorCode.REG_CENTER_MAPPING_FETCH_EXCEPTION.getErrorMessage() + " " + e.getMessage(),
+					e);
+		}
+		RegistrationCenterMappingsDto mappings = new RegistrationCenterMappingsDto();
+		if (rows != null) {
+			rows.forEach(row -> addMapping(mappings, row));
+		}
+		return CompletableFuture.completedFuture(mappings);
+	}
+
+	/**
+	 * Adds a row of
+	 * {@link RegistrationCenterRepository#findLatestMappingsByRegCenterId} to the
+	 * list of its table
+	 */
+	private static void addMapping(RegistrationCenterMappingsDto mappings, Object[] row) {
+		String regCenterId = (String) row[1];
+		String machineId = (String) row[2];
+		String deviceId = (String) row[3];
+		String userId = (String) row[4];
+		LocalDateTime effectiveTimes = row[8] == null ? null : ((Timestamp) row[8]).toLocalDateTime();
+		switch (((Number) row[0]).intValue()) {
+		case 1:
+			mappings.setRegistrationCenterMachines(add(mappings.getRegistrationCenterMachines(),
+					setBaseFields(new RegistrationCenterMachineDto(regCenterId, machineId), row)));
+			break;
+		case 2:
+			mappings.setRegistrationCenterDevices(add(mappings.getRegistrationCenterDevices(),
+					setBaseFields(new RegistrationCenterDeviceDto(regCenterId, deviceId), row)));
+			break;
+		case 3:
+			mappings.setRegistrationCenterMachineDevices(add(mappings.getRegistrationCenterMachineDevices(),
+					setBaseFields(new RegistrationCenterMachineDeviceDto(regCenterId, machineId, deviceId), row)));
+			break;
+		case 4:
+			RegistrationCenterUserMachineMappingDto userMachine = new RegistrationCenterUserMachineMappingDto();
+			userMachine.setCntrId(regCenterId);
+			userMachine.setMachineId(machineId);
+			userMachine.setUsrId(userId);
+			mappings.setRegistrationCenterUserMachines(
+					add(mappings.getRegistrationCenterUserMachines(), setBaseFields(userMachine, row)));
+			break;
+		case 5:
+			mappings.setRegistrationCenterUsers(add(mappings.getRegistrationCenterUsers(),
+					setBaseFields(new RegistrationCenterUserDto(regCenterId, userId), row)));
+			break;
+		case 6:
+			RegistrationCenterUserHistoryDto userHistory = new RegistrationCenterUserHistoryDto();
+			userHistory.setRegCntrId(regCenterId);
+			userHistory.setUserId(userId);
+			userHistory.setEffectDateTimes(effectiveTimes);
+			mappings.setRegistrationCenterUserHistory(
+					add(mappings.getRegistrationCenterUserHistory(), setBaseFields(userHistory, row)));
+			break;
+		case 7:
+			RegistrationCenterUserMachineMappingHistoryDto userMachineHistory = new RegistrationCenterUserMachineMappingHistoryDto();
+			userMachineHistory.setCntrId(regCenterId);
+			userMachineHistory.setMachineId(machineId);
+			userMachineHistory.setUsrId(userId);
+			userMachineHistory.setEffectivetimes(effectiveTimes);
+			mappings.setRegistrationCenterUserMachineMappingHistory(
+					add(mappings.getRegistrationCenterUserMachineMappingHistory(), userMachineHistory));
+			break;
+		case 8:
+			RegistrationCenterMachineDeviceHistoryDto machineDeviceHistory = new RegistrationCenterMachineDeviceHistoryDto();
+			machineDeviceHistory.setRegCenterId(regCenterId);
+			machineDeviceHistory.setMachineId(machineId);
+			machineDeviceHistory.setDeviceId(deviceId);
+			machineDeviceHistory.setEffectivetimes(effectiveTimes);
+			mappings.setRegistrationCenterMachineDeviceHistory(add(mappings.getRegistrationCenterMachineDeviceHistory(),
+					setBaseFields(machineDeviceHistory, row)));
+			break;
+		case 9:
+			RegistrationCenterDeviceHistoryDto deviceHistory = new RegistrationCenterDeviceHistoryDto();
+			deviceHistory.setRegCenterId(regCenterId);
+			deviceHistory.setDeviceId(deviceId);
+			deviceHistory.setEffectivetimes(effectiveTimes);
+			mappings.setRegistrationCenterDeviceHistory(
+					add(mappings.getRegistrationCenterDeviceHistory(), setBaseFields(deviceHistory, row)));
+			break;
+		case 10:
+			RegistrationCenterMachineHistoryDto machineHistory = new RegistrationCenterMachineHistoryDto();
+			machineHistory.setRegCenterId(regCenterId);
+			machineHistory.setMachineId(machineId);
+			machineHistory.setEffectivetimes(effectiveTimes);
+			mappings.setRegistrationCenterMachineHistory(
+					add(mappings.getRegistrationCenterMachineHistory(), setBaseFields(machineHistory, row)));
+			break;
+		default:
+			break;
+		}
+	}
+
+	private static <T extends BaseDto> T setBaseFields(T dto, Object[] row) {
+		dto.setLangCode((String) row[5]);
+		dto.setIsActive((Boolean) row[6]);
+		dto.setIsDeleted((Boolean) row[7]);
+		return dto;
+	}
+
+	private static <T> List<T> add(List<T> list, T element) {
+		List<T> result = list == null ? new ArrayList<>() : list;
+		result.add(element);
+		return result;
+	}
+
 	/**
 	 * 
 	 * @param lastUpdatedTime
@@ -1499,7 +1632,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link ApplicantValidDocumentDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<ApplicantValidDocumentDto>> getApplicantValidDocument(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<ApplicantValidDocumentDto> applicantValidDocumentDtos = null;
@@ -1529,7 +1662,7 @@ public class SyncMasterDataServiceHelper {
 	 *            - current time stamp
 	 * @return list of {@link IndividualTypeDto}
 	 */
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<IndividualTypeDto>> getIndividualType(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<IndividualType> individualTypes = null;
@@ -1551,7 +1684,7 @@ public class SyncMasterDataServiceHelper {
 
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<AppAuthenticationMethodDto>> getAppAuthenticationMethodDetails(
 			LocalDateTime lastUpdatedTime, LocalDateTime currentTimeStamp) {
 		List<AppAuthenticationMethod> appAuthenticationMethods = null;
@@ -1575,7 +1708,7 @@ public class SyncMasterDataServiceHelper {
 
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<AppDetailDto>> getAppDetails(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<AppDetail> appDetails = null;
@@ -1596,7 +1729,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(appDetailDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<AppRolePriorityDto>> getAppRolePriorityDetails(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<AppRolePriority> appRolePriorities = null;
@@ -1617,7 +1750,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(appRolePriorityDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<ScreenAuthorizationDto>> getScreenAuthorizationDetails(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<ScreenAuthorization> screenAuthorizationList = null;
@@ -1638,7 +1771,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(screenAuthorizationDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<ProcessListDto>> getProcessList(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<ProcessList> processList = null;
@@ -1659,7 +1792,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(processListDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<SyncJobDefDto>> getSyncJobDefDetails(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 
@@ -1670,7 +1803,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(syncJobDefDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<ScreenDetailDto>> getScreenDetails(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<ScreenDetail> screenDetails = null;
@@ -1691,7 +1824,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(screenDetailDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<DeviceProviderDto>> getDeviceProviderDetails(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<DeviceProvider> deviceProviders = null;
@@ -1712,7 +1845,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(deviceProviderDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<DeviceServiceDto>> getDeviceServiceDetails(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<DeviceService> deviceServices = null;
@@ -1739,7 +1872,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(deviceServiceDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<RegisteredDeviceDto>> getRegisteredDeviceDetails(String regId,
 			LocalDateTime lastUpdatedTime, LocalDateTime currentTimeStamp) {
 		List<RegisteredDevice> registeredDevices = null;
@@ -1768,7 +1901,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(registeredDeviceDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<FoundationalTrustProviderDto>> getFPDetails(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<FoundationalTrustProvider> foundationalTrustProviders = null;
@@ -1790,7 +1923,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(foundationalTrustProviderDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<DeviceTypeDPMDto>> getDeviceTypeDetails(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<DeviceTypeDPM> deviceTypeDPMs = null;
@@ -1811,7 +1944,7 @@ public class SyncMasterDataServiceHelper {
 		return CompletableFuture.completedFuture(deviceTypeDPMDtos);
 	}
 
-	@Async
+	@Async("syncQueryExecutor")
 	public CompletableFuture<List<DeviceSubTypeDPMDto>> getDeviceSubTypeDetails(LocalDateTime lastUpdatedTime,
 			LocalDateTime currentTimeStamp) {
 		List<DeviceSubTypeDPM> deviceSubTypeDPMs = null;
@@ -0,0 +1,146 @@
+package io.mosip.kernel.syncdata.test.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Query;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.syncdata.cache.MasterDataSnapshotCache;
+import io.mosip.kernel.syncdata.entity.Language;
+
+public class MasterDataSnapshotCacheTest {
+
+	private MasterDataSnapshotCache snapshotCache;
+
+	private Query latestChangeQuery;
+
+	private AtomicInteger loads;
+
+	private BiFunction<LocalDateTime, LocalDateTime, CompletableFuture<List<String>>> loader;
+
+	private LocalDateTime now = LocalDateTime.of(2019, 6, 1, 10, 0, 37);
+
+	@SuppressWarnings("unchecked")
+	@Before
+	public void setup() {
+		snapshotCache = new MasterDataSnapshotCache();
+		ReflectionTestUtils.setField(snapshotCache, "windowSeconds", 60L);
+		ReflectionTestUtils.setField(snapshotCache, "bucketSeconds", 3600L);
+		ReflectionTestUtils.setField(snapshotCache, "maxEntries", 2000);
+
+		EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+		EntityManager entityManager = mock(EntityManager.class);
+		Metamodel metamodel = mock(Metamodel.class);
+		EntityType<Language> entityType = mock(EntityType.class);
+		latestChangeQuery = mock(Query.class);
+		when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+		when(entityManagerFactory.getMetamodel()).thenReturn(metamodel);
+		when(metamodel.entity(Language.class)).thenReturn(entityType);
+		when(entityType.getName()).thenReturn("Language");
+		when(entityManager.createQuery(anyString())).thenReturn(latestChangeQuery);
+		latestChange(LocalDateTime.of(2019, 1, 1, 0, 0));
+		ReflectionTestUtils.setField(snapshotCache, "entityManagerFactory", entityManagerFactory);
+
+		loads = new AtomicInteger();
+		loader = (lastUpdated, syncTime) -> {
+			loads.incrementAndGet();
+			return CompletableFuture.completedFuture(Arrays.asList(lastUpdated + "/" + syncTime));
+		};
+	}
+
+	@Test
+	public void getSyncTimeTest() {
+		assertEquals(LocalDateTime.of(2019, 6, 1, 10, 0), snapshotCache.getSyncTime(now));
+	}
+
+	@Test
+	public void getSyncTimeDisabledTest() {
+		ReflectionTestUtils.setField(snapshotCache, "windowSeconds", 0L);
+		assertEquals(now, snapshotCache.getSyncTime(now));
+	}
+
+	@Test
+	public void getSameBucketTest() throws InterruptedException, ExecutionException {
+		LocalDateTime syncTime = snapshotCache.getSyncTime(now);
+		List<String> first = snapshotCache.get(Language.class, LocalDateTime.of(2019, 5, 31, 9, 15), syncTime, loader)
+				.get();
+		List<String> second = snapshotCache.get(Language.class, LocalDateTime.of(2019, 5, 31, 9, 45), syncTime, loader)
+				.get();
+		assertSame(first, second);
+		assertEquals("2019-05-31T09:00/2019-06-01T10:00", first.get(0));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void getUnchangedNextWindowTest() throws InterruptedException, ExecutionException {
+		LocalDateTime lastUpdated = LocalDateTime.of(2019, 5, 31, 9, 15);
+		List<String> first = snapshotCache.get(Language.class, lastUpdated, snapshotCache.getSyncTime(now), loader)
+				.get();
+		List<String> second = snapshotCache
+				.get(Language.class, lastUpdated, snapshotCache.getSyncTime(now.plusMinutes(1)), loader).get();
+		assertSame(first, second);
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void getChangedNextWindowTest() throws InterruptedException, ExecutionException {
+		LocalDateTime lastUpdated = LocalDateTime.of(2019, 5, 31, 9, 15);
+		snapshotCache.get(Language.class, lastUpdated, snapshotCache.getSyncTime(now), loader).get();
+		latestChange(now.plusSeconds(30));
+		List<String> records = snapshotCache
+				.get(Language.class, lastUpdated, snapshotCache.getSyncTime(now.plusMinutes(1)), loader).get();
+		assertEquals("2019-05-31T09:00/2019-06-01T10:01", records.get(0));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void getPastWindowTest() throws InterruptedException, ExecutionException {
+		snapshotCache.get(Language.class, null, snapshotCache.getSyncTime(now.plusMinutes(1)), loader).get();
+		List<String> records = snapshotCache.get(Language.class, null, snapshotCache.getSyncTime(now), loader).get();
+		assertEquals("null/2019-06-01T10:00", records.get(0));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void getAfterFailedLoadTest() throws InterruptedException, ExecutionException {
+		LocalDateTime syncTime = snapshotCache.getSyncTime(now);
+		CompletableFuture<List<String>> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new IllegalStateException());
+		try {
+			snapshotCache.get(Language.class, null, syncTime, (lastUpdated, time) -> failed).get();
+		} catch (ExecutionException e) {
+			// expected, the snapshot is not kept
+		}
+		List<String> records = snapshotCache.get(Language.class, null, syncTime, loader).get();
+		assertEquals("1970-01-01T00:00/2019-06-01T10:00", records.get(0));
+		assertEquals(1, loads.get());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void getUnmodifiableTest() throws InterruptedException, ExecutionException {
+		snapshotCache.get(Language.class, null, snapshotCache.getSyncTime(now), loader).get().clear();
+	}
+
+	private void latestChange(LocalDateTime time) {
+		when(latestChangeQuery.getSingleResult()).thenReturn(new Object[] { time, null, null });
+	}
+}
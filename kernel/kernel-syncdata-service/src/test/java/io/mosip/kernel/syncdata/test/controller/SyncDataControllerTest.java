@@ -1,25 +1,38 @@
 package io.mosip.kernel.syncdata.test.controller;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.kernel.core.signatureutil.model.SignatureResponse;
 import io.mosip.kernel.core.signatureutil.spi.SignatureUtil;
@@ -50,6 +63,9 @@ public class SyncDataControllerTest {
 	@Autowired
 	private MockMvc mockMvc;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
 	@MockBean
 	private SyncMasterDataService masterDataService;
 
@@ -218,6 +234,43 @@ public class SyncDataControllerTest {
 
 	}
 
+	@Test
+	@WithUserDetails(value = "reg-officer")
+	public void streamMasterData() throws Exception {
+		when(signingUtil.signHash(Mockito.any(), Mockito.anyString())).thenReturn(signResponse);
+		when(masterDataService.syncData(Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.any(),
+				Mockito.any(), Mockito.any())).thenReturn(masterDataResponseDto);
+		MvcResult result = mockMvc
+				.perform(get("/masterdata").param("macaddress", "36:b8:2c:6c:0a:c1")
+						.param("serialnumber", "NM5328114630").param("stream", "true"))
+				.andExpect(status().isOk()).andExpect(header().string("response-signature", "asdasdsadf4e"))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING)).andReturn();
+
+		ArgumentCaptor<byte[]> hash = ArgumentCaptor.forClass(byte[].class);
+		verify(signingUtil).signHash(hash.capture(), Mockito.anyString());
+		assertArrayEquals(MessageDigest.getInstance("SHA-512").digest(result.getResponse().getContentAsByteArray()),
+				hash.getValue());
+	}
+
+	@Test
+	@WithUserDetails(value = "reg-officer")
+	public void streamMasterDataWithRegCenterIdGzip() throws Exception {
+		when(signingUtil.signHash(Mockito.any(), Mockito.anyString())).thenReturn(signResponse);
+		when(masterDataService.syncData(Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any(),
+				Mockito.any(), Mockito.any())).thenReturn(masterDataResponseDto);
+		MvcResult result = mockMvc
+				.perform(get("/masterdata/{regcenterId}", "10001").param("macaddress", "36:b8:2c:6c:0a:c1")
+						.param("serialnumber", "NM5328114630").param("stream", "true")
+						.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+				.andExpect(status().isOk()).andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andReturn();
+
+		try (InputStream body = new GZIPInputStream(
+				new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+			assertEquals("REG FORM", objectMapper.readTree(body).at("/response/applications/0/name").asText());
+		}
+	}
+
 	// -----------------------public key-------------------------------------//
 
 	@Test
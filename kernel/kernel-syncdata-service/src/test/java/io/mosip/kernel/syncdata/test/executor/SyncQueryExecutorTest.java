@@ -0,0 +1,131 @@
+package io.mosip.kernel.syncdata.test.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.kernel.syncdata.executor.SyncQueryExecutor;
+
+public class SyncQueryExecutorTest {
+
+	private SyncQueryExecutor executor;
+
+	@After
+	public void tearDown() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void fanOutLimitTest() {
+		executor = new SyncQueryExecutor(4, 2, 100);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<CompletableFuture<Void>> queries = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			queries.add(CompletableFuture.runAsync(() -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				sleep(20);
+				running.decrementAndGet();
+			}, executor));
+		}
+		CompletableFuture.allOf(queries.toArray(new CompletableFuture[0])).join();
+		assertEquals(2, maxRunning.get());
+		assertEquals(0, executor.getRequestCount());
+	}
+
+	@Test
+	public void fairnessTest() throws InterruptedException {
+		executor = new SyncQueryExecutor(1, 1, 100);
+		CountDownLatch largeSubmitted = new CountDownLatch(1);
+		List<CompletableFuture<Void>> largeQueries = new ArrayList<>();
+		Thread largeRequest = new Thread(() -> {
+			for (int i = 0; i < 20; i++) {
+				largeQueries.add(CompletableFuture.runAsync(() -> sleep(10), executor));
+			}
+			largeSubmitted.countDown();
+		});
+		largeRequest.start();
+		largeSubmitted.await();
+
+		CompletableFuture.runAsync(() -> {
+		}, executor).join();
+		long pending = largeQueries.stream().filter(query -> !query.isDone()).count();
+		assertTrue("small request waited for the large one", pending > 10);
+		CompletableFuture.allOf(largeQueries.toArray(new CompletableFuture[0])).join();
+	}
+
+	@Test(expected = RejectedExecutionException.class)
+	public void queueFullTest() throws InterruptedException {
+		executor = new SyncQueryExecutor(1, 1, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> await(release));
+		try {
+			executor.execute(() -> {
+			});
+			executor.execute(() -> {
+			});
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test(expected = RejectedExecutionException.class)
+	public void shutdownTest() {
+		executor = new SyncQueryExecutor(1, 1, 10);
+		executor.shutdown();
+		executor.execute(() -> {
+		});
+	}
+
+	@Test
+	public void metricsTest() {
+		executor = new SyncQueryExecutor(1, 1, 10);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		executor.bindTo(registry);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			await(release);
+		});
+		executor.execute(() -> {
+		});
+		await(started);
+		assertEquals(1.0, registry.get("syncdata.query.active").gauge().value(), 0);
+		assertEquals(1.0, registry.get("syncdata.query.queued").gauge().value(), 0);
+		assertEquals(1.0, registry.get("syncdata.query.requests").gauge().value(), 0);
+		release.countDown();
+		CompletableFuture.runAsync(() -> {
+		}, executor).join();
+		assertEquals(3, registry.get("syncdata.query.wait").timer().count());
+	}
+
+	private static void sleep(long millis) {
+		try {
+			TimeUnit.MILLISECONDS.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
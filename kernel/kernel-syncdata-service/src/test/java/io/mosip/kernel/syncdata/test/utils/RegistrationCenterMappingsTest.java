@@ -0,0 +1,82 @@
+package io.mosip.kernel.syncdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataRetrievalFailureException;
+
+import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineHistoryDto;
+import io.mosip.kernel.syncdata.dto.RegistrationCenterMappingsDto;
+import io.mosip.kernel.syncdata.dto.RegistrationCenterUserMachineMappingDto;
+import io.mosip.kernel.syncdata.exception.SyncDataServiceException;
+import io.mosip.kernel.syncdata.repository.RegistrationCenterRepository;
+import io.mosip.kernel.syncdata.utils.SyncMasterDataServiceHelper;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RegistrationCenterMappingsTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2019, 6, 1, 10, 0);
+
+	@Mock
+	private RegistrationCenterRepository registrationCenterRepository;
+
+	@InjectMocks
+	private SyncMasterDataServiceHelper serviceHelper;
+
+	@Test
+	public void mapsRowsByTableTest() throws InterruptedException, ExecutionException {
+		LocalDateTime effective = NOW.minusHours(1);
+		when(registrationCenterRepository.findLatestMappingsByRegCenterId(eq("10001"), any(), eq(NOW)))
+				.thenReturn(Arrays.asList(row(1, "10001", "10011", null, null, null),
+						row(1, "10001", "10012", null, null, null), row(4, "10001", "10011", null, "110001", null),
+						row(10, "10001", "10011", null, null, effective)));
+
+		RegistrationCenterMappingsDto mappings = serviceHelper.getRegistrationCenterMappings("10001", null, NOW)
+				.get();
+
+		assertEquals(2, mappings.getRegistrationCenterMachines().size());
+		assertEquals("10012", mappings.getRegistrationCenterMachines().get(1).getMachineId());
+		assertEquals("eng", mappings.getRegistrationCenterMachines().get(0).getLangCode());
+		assertTrue(mappings.getRegistrationCenterMachines().get(0).getIsActive());
+
+		RegistrationCenterUserMachineMappingDto userMachine = mappings.getRegistrationCenterUserMachines().get(0);
+		assertEquals("10001", userMachine.getCntrId());
+		assertEquals("10011", userMachine.getMachineId());
+		assertEquals("110001", userMachine.getUsrId());
+
+		RegistrationCenterMachineHistoryDto machineHistory = mappings.getRegistrationCenterMachineHistory().get(0);
+		assertEquals(effective, machineHistory.getEffectivetimes());
+		assertEquals("10011", machineHistory.getMachineId());
+
+		assertNull(mappings.getRegistrationCenterDevices());
+		assertNull(mappings.getRegistrationCenterUsers());
+		assertNull(mappings.getRegistrationCenterUserHistory());
+	}
+
+	@Test(expected = SyncDataServiceException.class)
+	public void fetchExceptionTest() {
+		when(registrationCenterRepository.findLatestMappingsByRegCenterId(any(), any(), any()))
+				.thenThrow(DataRetrievalFailureException.class);
+		serviceHelper.getRegistrationCenterMappings("10001", null, NOW);
+	}
+
+	private static Object[] row(int table, String regCenterId, String machineId, String deviceId, String userId,
+			LocalDateTime effectiveTimes) {
+		return new Object[] { table, regCenterId, machineId, deviceId, userId, "eng", Boolean.TRUE, Boolean.FALSE,
+				effectiveTimes == null ? null : Timestamp.valueOf(effectiveTimes) };
+	}
+}
@@ -0,0 +1,44 @@
+package io.mosip.kernel.uingenerator.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.kernel.core.util.PoolCounter;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
+import io.mosip.kernel.uingenerator.repository.UinRepository;
+
+/**
+ * Configuration of the in-memory count of the unused uins.
+ *
+ * @since 1.0.0
+ *
+ */
+@Configuration
+public class UinPoolCounterConfig {
+
+	/**
+	 * Seconds between two recounts of the pool
+	 */
+	@Value("${mosip.kernel.uin.pool.reconcile-interval-seconds:60}")
+	private long reconcileIntervalSeconds;
+
+	/**
+	 * Counter of the unused uins, exported as the <code>mosip.kernel.uin.pool</code>
+	 * gauge and recounted every <code>reconcileIntervalSeconds</code>
+	 *
+	 * @param uinRepository the repository counting the pool
+	 * @return the counter
+	 */
+	@Bean(destroyMethod = "close")
+	public PoolCounter uinPoolCounter(UinRepository uinRepository) {
+		PoolCounter poolCounter = new PoolCounter("uin",
+				() -> uinRepository.countByStatus(UinGeneratorConstant.UNUSED));
+		Gauge.builder("mosip.kernel.uin.pool", poolCounter, PoolCounter::getCount)
+				.tag("status", UinGeneratorConstant.UNUSED).description("Unused uins in the pool").register(Metrics.globalRegistry);
+		poolCounter.start(reconcileIntervalSeconds);
+		return poolCounter;
+	}
+}
@@ -31,6 +31,7 @@ public final class UinGeneratorConstant {
 
 	public static final String UNUSED = "UNUSED";
 	public static final String ISSUED = "ISSUED";
+	public static final String RESERVED = "RESERVED";
 	public static final String ASSIGNED = "ASSIGNED";
 	public static final String UNASSIGNED = "UNASSIGNED";
 	/**
@@ -183,4 +184,9 @@ public final class UinGeneratorConstant {
 	public static final String SIGNING_ENABLE = "mosip.kernel.uin.response-signing-enable";
 	
 	public static final String GET_EXECUTOR_POOL_ENABLE ="mosip.kernel.uin.get_executor_pool";
+
+	/**
+	 * Prefix of the upd_by value set on uins reserved by the prefetcher
+	 */
+	public static final String PREFETCH_OWNER_PREFIX = "uinprefetch-";
 }
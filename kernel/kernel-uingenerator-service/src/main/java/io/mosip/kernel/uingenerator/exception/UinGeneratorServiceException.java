@@ -28,4 +28,19 @@ public class UinGeneratorServiceException extends BaseUncheckedException {
 	public UinGeneratorServiceException(String errorCode, String errorMessage) {
 		super(errorCode, errorMessage);
 	}
+
+	/**
+	 * Constructor for the exception class with errorCode, errorMessage and the
+	 * root cause as the argument.
+	 * 
+	 * @param errorCode
+	 *            the error code.
+	 * @param errorMessage
+	 *            the error message.
+	 * @param rootCause
+	 *            the cause of the exception.
+	 */
+	public UinGeneratorServiceException(String errorCode, String errorMessage, Throwable rootCause) {
+		super(errorCode, errorMessage, rootCause);
+	}
 }
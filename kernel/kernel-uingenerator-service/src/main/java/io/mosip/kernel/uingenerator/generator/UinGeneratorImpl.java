@@ -1,8 +1,19 @@
 package io.mosip.kernel.uingenerator.generator;
 
-import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.math3.random.RandomDataGenerator;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -10,14 +21,18 @@ import org.springframework.stereotype.Component;
 import io.mosip.kernel.core.idgenerator.spi.UinGenerator;
 import io.mosip.kernel.core.util.ChecksumUtils;
 import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorErrorCode;
 import io.mosip.kernel.uingenerator.entity.UinEntity;
+import io.mosip.kernel.uingenerator.exception.UinGeneratorServiceException;
 import io.mosip.kernel.uingenerator.util.MetaDataUtil;
 import io.mosip.kernel.uingenerator.util.UinFilterUtil;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
- * This class generates a list of uins
+ * This class generates a list of uins. Candidates are generated and filtered by
+ * a pool of worker threads, each drawing from its own random stream, and handed
+ * over a bounded queue to the calling thread which persists them in batches.
  * 
  * @author Dharmesh Khandelwal
  * @since 1.0.0
@@ -63,22 +78,55 @@ public class UinGeneratorImpl implements UinGenerator {
 	 */
 	private final String uinDefaultStatus;
 
+	/**
+	 * The number of uins written to database in one batch
+	 */
+	private final int batchSize;
+
+	/**
+	 * The number of threads generating and filtering candidates
+	 */
+	private final int workerCount;
+
+	/**
+	 * The number of filtered candidates buffered between the workers and the
+	 * writer
+	 */
+	private final int queueSize;
+
+	/**
+	 * Time to wait on the candidate queue before checking the workers again
+	 */
+	private static final long QUEUE_TIMEOUT_MILLIS = 100;
+
+	/**
+	 * Source of the seeds for the random streams of the workers
+	 */
+	private static final SecureRandom SEED_GENERATOR = new SecureRandom();
+
 	/**
 	 * Constructor to set {@link #uinsCount} and {@link #uinLength}
 	 * 
 	 * @param uinsCount        The number of uins to generate
 	 * @param uinLength        The length of the uin
-	 * @param uinDefaultStatus The Default value of the uin
+	 * @param batchSize        The number of uins to persist in one batch
+	 * @param workerCount      The number of worker threads, zero or negative to
+	 *                         use one per available processor
+	 * @param queueSize        The number of candidates buffered for the writer
 	 */
 	public UinGeneratorImpl(@Value("${mosip.kernel.uin.uins-to-generate}") long uinsCount,
-			@Value("${mosip.kernel.uin.length}") int uinLength) {
+			@Value("${mosip.kernel.uin.length}") int uinLength,
+			@Value("${mosip.kernel.uin.batch-insert-size:1000}") int batchSize,
+			@Value("${mosip.kernel.uin.generator.worker-threads:0}") int workerCount,
+			@Value("${mosip.kernel.uin.generator.queue-size:10000}") int queueSize) {
 		this.uinsCount = uinsCount;
 		this.uinLength = uinLength;
 		this.uinDefaultStatus = UinGeneratorConstant.UNUSED;
+		this.batchSize = Math.max(1, batchSize);
+		this.workerCount = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+		this.queueSize = Math.max(this.batchSize, queueSize);
 	}
 
-	private static final RandomDataGenerator RANDOM_DATA_GENERATOR = new RandomDataGenerator();
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -86,54 +134,140 @@ public class UinGeneratorImpl implements UinGenerator {
 	 */
 	@Override
 	public void generateId() {
-		int generatedIdLength = uinLength - 1;
+		BlockingQueue<String> candidates = new ArrayBlockingQueue<>(queueSize);
+		AtomicBoolean done = new AtomicBoolean(false);
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+			Thread thread = new Thread(runnable, "uin-generator-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		SplittableRandom seeds = new SplittableRandom(SEED_GENERATOR.nextLong());
+		List<Future<?>> futures = new ArrayList<>(workerCount);
+		long uinCount;
+		try {
+			for (int i = 0; i < workerCount; i++) {
+				futures.add(workers.submit(new CandidateWorker(seeds.split(), candidates, done)));
+			}
+			uinCount = writeCandidates(candidates, futures);
+		} finally {
+			done.set(true);
+			workers.shutdownNow();
+		}
+		if (uinCount < uinsCount) {
+			LOGGER.warn("UIN generation interrupted after {} of {} uins", uinCount, uinsCount);
+		} else {
+			LOGGER.info("Generated {} uins", uinCount);
+		}
+	}
+
+	/**
+	 * Drains the candidate queue into batches and persists them until
+	 * {@link #uinsCount} uins are inserted, or the thread is interrupted, in
+	 * which case the interrupt status is kept
+	 * 
+	 * @param candidates the queue filled by the workers
+	 * @param futures    the futures of the workers
+	 * @return the number of uins inserted
+	 */
+	private long writeCandidates(BlockingQueue<String> candidates, List<Future<?>> futures) {
 		long uinCount = 0;
-		long upperBound = Long.parseLong(StringUtils.repeat(UinGeneratorConstant.NINE, generatedIdLength));
-		long lowerBound = Long.parseLong(StringUtils.repeat(UinGeneratorConstant.ZERO, generatedIdLength));
+		List<UinEntity> batch = new ArrayList<>(batchSize);
+		List<String> drained = new ArrayList<>(batchSize);
 		uinWriter.setSession();
-		while (uinCount < uinsCount) {
-			String generatedUIN = generateSingleId(generatedIdLength, lowerBound, upperBound);
-			if (uinFilterUtils.isValidId(generatedUIN)) {
-				UinEntity uinBean = new UinEntity(generatedUIN, uinDefaultStatus);
-				metaDataUtil.setCreateMetaData(uinBean);
-				// try {
-				uinWriter.persistUin(uinBean);
-				uinCount++;
-				/*
-				 * } catch (Exception e) { //Skinping on PK violation e.printStackTrace(); }
-				 */
+		try {
+			while (uinCount < uinsCount) {
+				int limit = (int) Math.min(batchSize, uinsCount - uinCount);
+				String uin = candidates.poll(QUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				if (uin == null) {
+					checkWorkers(futures);
+					continue;
+				}
+				drained.add(uin);
+				candidates.drainTo(drained, limit - batch.size() - 1);
+				for (String generatedUIN : drained) {
+					UinEntity uinBean = new UinEntity(generatedUIN, uinDefaultStatus);
+					metaDataUtil.setCreateMetaData(uinBean);
+					batch.add(uinBean);
+				}
+				drained.clear();
+				if (batch.size() >= limit) {
+					// duplicates are skipped by the writer, so only inserted uins are counted
+					uinCount += uinWriter.persistUins(batch);
+					batch.clear();
+				}
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			uinWriter.closeSession();
 		}
-		uinWriter.closeSession();
-		//LOGGER.info("Generated {} uins ", uinsCount);
+		return uinCount;
 	}
 
 	/**
-	 * Generates a id and then generate checksum
+	 * Workers only stop once the writer is done, so a finished worker has failed
 	 * 
-	 * @param generatedIdLength The length of id to generate
-	 * @param lowerBound        The lowerbound for generating id
-	 * @param upperBound        The upperbound for generating id
-	 * @return the uin with checksum
-	 */
-	private String generateSingleId(int generatedIdLength, long lowerBound, long upperBound) {
-		String generatedID = RandomStringUtils.random(generatedIdLength, UinGeneratorConstant.ZERO_TO_NINE);
-		String verhoeffDigit = ChecksumUtils.generateChecksumDigit(String.valueOf(generatedID));
-		return appendChecksum(generatedIdLength, generatedID, verhoeffDigit);
+	 * @param futures the futures of the workers
+	 * @throws InterruptedException if interrupted while reading the failure
+	 */
+	private void checkWorkers(List<Future<?>> futures) throws InterruptedException {
+		for (Future<?> future : futures) {
+			if (future.isDone()) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					LOGGER.error("UIN generation worker failed", e.getCause());
+				}
+				throw new UinGeneratorServiceException(UinGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+						UinGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorMessage());
+			}
+		}
 	}
 
 	/**
-	 * Appends a checksum to generated id
-	 * 
-	 * @param generatedIdLength The length of id
-	 * @param generatedID       The generated id
-	 * @param verhoeffDigit     The checksum to append
-	 * @return uin with checksum
-	 */
-	private String appendChecksum(int generatedIdLength, String generatedID, String verhoeffDigit) {
-		StringBuilder uinStringBuilder = new StringBuilder();
-		uinStringBuilder.setLength(uinLength);
-		return uinStringBuilder.insert(0, generatedID).insert(generatedID.length(), verhoeffDigit).toString().trim();
+	 * Generates random ids with checksum on its own random stream and queues the
+	 * ones passing the filters
+	 */
+	private final class CandidateWorker implements Runnable {
+
+		private final SplittableRandom random;
+
+		private final BlockingQueue<String> candidates;
+
+		private final AtomicBoolean done;
+
+		private CandidateWorker(SplittableRandom random, BlockingQueue<String> candidates, AtomicBoolean done) {
+			this.random = random;
+			this.candidates = candidates;
+			this.done = done;
+		}
+
+		@Override
+		public void run() {
+			int generatedIdLength = uinLength - 1;
+			byte[] digits = new byte[uinLength];
+			char[] chars = new char[uinLength];
+			try {
+				while (!done.get()) {
+					for (int i = 0; i < generatedIdLength; i++) {
+						digits[i] = (byte) random.nextInt(10);
+					}
+					digits[generatedIdLength] = (byte) ChecksumUtils.checksumDigit(digits, 0, generatedIdLength);
+					if (uinFilterUtils.isValidId(digits, 0, uinLength)) {
+						for (int i = 0; i < uinLength; i++) {
+							chars[i] = (char) ('0' + digits[i]);
+						}
+						String uin = new String(chars);
+						while (!done.get() && !candidates.offer(uin, QUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+							// writer is behind, wait for room in the queue
+						}
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
 	}
 
 }
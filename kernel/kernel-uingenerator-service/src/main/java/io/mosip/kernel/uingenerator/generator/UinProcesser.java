@@ -5,8 +5,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.mosip.kernel.core.idgenerator.spi.UinGenerator;
-import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
-import io.mosip.kernel.uingenerator.repository.UinRepository;
+import io.mosip.kernel.core.util.PoolCounter;
 
 @Component
 public class UinProcesser {
@@ -14,10 +13,10 @@ public class UinProcesser {
 	// LoggerFactory.getLogger(UinProcesser.class);
 
 	/**
-	 * Field for uinRepository
+	 * Field for uinPoolCounter
 	 */
 	@Autowired
-	private UinRepository uinRepository;
+	private PoolCounter uinPoolCounter;
 
 	/**
 	 * Field for uinGeneratorImpl
@@ -38,7 +37,7 @@ public class UinProcesser {
 	 */
 	public boolean shouldGenerateUins() {
 		// LOGGER.info("Uin threshold is {}", thresholdUinCount);
-		long freeUinsCount = uinRepository.countByStatus(UinGeneratorConstant.UNUSED);
+		long freeUinsCount = uinPoolCounter.getCount();
 		// LOGGER.info("Number of free UINs in database is {}", freeUinsCount);
 		return freeUinsCount < thresholdUinCount;
 	}
@@ -1,13 +1,25 @@
 package io.mosip.kernel.uingenerator.generator;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.util.List;
+
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceException;
 
 import org.hibernate.Session;
+import org.hibernate.Transaction;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.mosip.kernel.core.util.PoolCounter;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorErrorCode;
 import io.mosip.kernel.uingenerator.entity.UinEntity;
+import io.mosip.kernel.uingenerator.exception.UinGeneratorServiceException;
 
 /**
  * This class have functionality to persists the list of uins in database
@@ -25,12 +37,52 @@ public class UinWriter {
 	// private static final Logger LOGGER =
 	// LoggerFactory.getLogger(UinWriter.class);
 
+	/**
+	 * Insert of one uin
+	 */
+	private static final String INSERT_UIN_QUERY = "INSERT INTO kernel.uin(uin, uin_status, cr_by, cr_dtimes, is_deleted) VALUES (?, ?, ?, ?, ?)";
+
+	/**
+	 * Values of one more row of a multi-row insert
+	 */
+	private static final String INSERT_UIN_VALUES = ", (?, ?, ?, ?, ?)";
+
+	/**
+	 * Clause appended to the multi-row insert to skip duplicate uins inside a
+	 * batch
+	 */
+	private static final String ON_CONFLICT_DO_NOTHING = " ON CONFLICT DO NOTHING";
+
+	/**
+	 * Rows inserted by one statement at most, well below the 32767 bind
+	 * parameters accepted by Postgres
+	 */
+	private static final int MAX_ROWS_PER_INSERT = 1000;
+
+	/**
+	 * SQL state of a unique violation
+	 */
+	private static final String UNIQUE_VIOLATION = "23505";
+
 	/**
 	 * Interface used to interact with the persistence context.
 	 */
 	@Autowired
 	private EntityManager entityManager;
 
+	/**
+	 * Count of the unused uins, increased by the uins persisted
+	 */
+	@Autowired
+	private PoolCounter uinPoolCounter;
+
+	/**
+	 * Whether the database supports <code>ON CONFLICT DO NOTHING</code>. When
+	 * disabled, a batch hitting a duplicate uin is replayed row by row.
+	 */
+	@Value("${mosip.kernel.uin.batch-insert-skip-conflict:true}")
+	private boolean skipConflict;
+
 	/**
 	 * The main runtime interface between a Java application and Hibernate.
 	 */
@@ -51,6 +103,7 @@ public class UinWriter {
 		try {
 			currentSession.flush();
 			currentSession.getTransaction().commit();
+			uinPoolCounter.added(1);
 		} catch (PersistenceException e) {
 			currentSession.getTransaction().rollback();
 		} finally {
@@ -58,6 +111,132 @@ public class UinWriter {
 		}
 	}
 
+	/**
+	 * Persist a batch of uins in a single transaction using multi-row inserts.
+	 * Uins which already exist in database are skipped without rolling back the
+	 * rest of the batch.
+	 * 
+	 * @param items
+	 *            the items
+	 * @return the number of uins inserted
+	 * @throws UinGeneratorServiceException
+	 *             if the uins could not be persisted
+	 */
+	public int persistUins(List<UinEntity> items) {
+		if (items.isEmpty()) {
+			return 0;
+		}
+		Session currentSession = getSession();
+		Transaction transaction = currentSession.getTransaction();
+		try {
+			if (!transaction.isActive()) {
+				transaction.begin();
+			}
+			int inserted = currentSession.doReturningWork(connection -> insertBatch(connection, items));
+			transaction.commit();
+			uinPoolCounter.added(inserted);
+			return inserted;
+		} catch (PersistenceException e) {
+			if (transaction.isActive()) {
+				transaction.rollback();
+			}
+			return persistUinsSkippingDuplicates(currentSession, items);
+		} finally {
+			currentSession.clear();
+		}
+	}
+
+	/**
+	 * Replays a failed batch row by row, rolling back to a savepoint for every uin
+	 * which already exists
+	 * 
+	 * @param currentSession
+	 *            the session
+	 * @param items
+	 *            the items
+	 * @return the number of uins inserted
+	 * @throws UinGeneratorServiceException
+	 *             if a row fails for another reason than a duplicate uin
+	 */
+	private int persistUinsSkippingDuplicates(Session currentSession, List<UinEntity> items) {
+		Transaction transaction = currentSession.getTransaction();
+		try {
+			transaction.begin();
+			int inserted = currentSession.doReturningWork(connection -> insertRowByRow(connection, items));
+			transaction.commit();
+			uinPoolCounter.added(inserted);
+			return inserted;
+		} catch (PersistenceException e) {
+			if (transaction.isActive()) {
+				transaction.rollback();
+			}
+			throw new UinGeneratorServiceException(UinGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					UinGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorMessage(), e);
+		}
+	}
+
+	/**
+	 * Inserts the items with multi-row inserts of {@link #MAX_ROWS_PER_INSERT}
+	 * rows, whose update counts are the number of rows actually inserted
+	 */
+	private int insertBatch(Connection connection, List<UinEntity> items) throws SQLException {
+		int inserted = 0;
+		for (int from = 0; from < items.size(); from += MAX_ROWS_PER_INSERT) {
+			List<UinEntity> rows = items.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, items.size()));
+			try (PreparedStatement statement = connection.prepareStatement(multiRowInsert(rows.size()))) {
+				int index = 0;
+				for (UinEntity row : rows) {
+					bind(statement, index, row);
+					index += 5;
+				}
+				inserted += statement.executeUpdate();
+			}
+		}
+		return inserted;
+	}
+
+	private String multiRowInsert(int rows) {
+		StringBuilder query = new StringBuilder(INSERT_UIN_QUERY.length() + rows * INSERT_UIN_VALUES.length()
+				+ ON_CONFLICT_DO_NOTHING.length());
+		query.append(INSERT_UIN_QUERY);
+		for (int i = 1; i < rows; i++) {
+			query.append(INSERT_UIN_VALUES);
+		}
+		if (skipConflict) {
+			query.append(ON_CONFLICT_DO_NOTHING);
+		}
+		return query.toString();
+	}
+
+	private int insertRowByRow(Connection connection, List<UinEntity> items) throws SQLException {
+		int inserted = 0;
+		try (PreparedStatement statement = connection.prepareStatement(INSERT_UIN_QUERY)) {
+			for (UinEntity item : items) {
+				Savepoint savepoint = connection.setSavepoint();
+				try {
+					bind(statement, 0, item);
+					inserted += statement.executeUpdate();
+					connection.releaseSavepoint(savepoint);
+				} catch (SQLException e) {
+					connection.rollback(savepoint);
+					// Skipping on PK violation only
+					if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+						throw e;
+					}
+				}
+			}
+		}
+		return inserted;
+	}
+
+	private void bind(PreparedStatement statement, int offset, UinEntity item) throws SQLException {
+		statement.setString(offset + 1, item.getUin());
+		statement.setString(offset + 2, item.getStatus());
+		statement.setString(offset + 3, item.getCreatedBy());
+		statement.setTimestamp(offset + 4, Timestamp.valueOf(item.getCreatedtimes()));
+		statement.setBoolean(offset + 5, Boolean.TRUE.equals(item.getIsDeleted()));
+	}
+
 	/**
 	 * Function to set {@link #session} from {@link #entityManager}
 	 */
@@ -83,4 +262,4 @@ public class UinWriter {
 			session.clear();
 		}
 	}
-}
\ No newline at end of file
+}
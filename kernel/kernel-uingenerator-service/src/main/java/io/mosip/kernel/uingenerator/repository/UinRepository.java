@@ -1,6 +1,7 @@
 package io.mosip.kernel.uingenerator.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import javax.persistence.Column;
 
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.uingenerator.entity.UinEntity;
 
@@ -54,4 +56,94 @@ public interface UinRepository extends JpaRepository<UinEntity, String> {
 	@Modifying
 	@Query(value="UPDATE kernel.uin SET uin_status=:status, upd_by=:contextUser, upd_dtimes=:uptimes where uin=:uin",nativeQuery = true)
 	public void updateStatus(@Param("status") String status, @Param("contextUser") String contextUser, @Param("uptimes") LocalDateTime uptimes,@Param("uin")  String uin);
+
+	/**
+	 * Claims a block of uins in a single statement, skipping rows locked by other
+	 * callers, and marks them with the given status and claim
+	 * 
+	 * @param fromStatus  status of the uins to claim
+	 * @param toStatus    status to set on the claimed uins
+	 * @param claim       claim stored in upd_by, unique to this reservation and
+	 *                    starting with the reservation owner
+	 * @param uptimes     update time
+	 * @param blockSize   maximum number of uins to claim
+	 * 
+	 * @return the number of claimed uins
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.uin SET uin_status=:toStatus, upd_by=:claim, upd_dtimes=:uptimes where uin in (select uu.uin from kernel.uin uu where uu.uin_status=:fromStatus limit :blockSize for update skip locked)", nativeQuery = true)
+	public int reserveUins(@Param("fromStatus") String fromStatus, @Param("toStatus") String toStatus,
+			@Param("claim") String claim, @Param("uptimes") LocalDateTime uptimes,
+			@Param("blockSize") int blockSize);
+
+	/**
+	 * Finds the uins of a claim made by {@link #reserveUins}
+	 * 
+	 * @param status status of the claimed uins
+	 * @param claim  claim stored in upd_by
+	 * 
+	 * @return the claimed uins
+	 */
+	@Query(value = "select uu.uin from kernel.uin uu where uu.uin_status=:status and uu.upd_by=:claim", nativeQuery = true)
+	public List<String> findClaimedUins(@Param("status") String status, @Param("claim") String claim);
+
+	/**
+	 * Moves a reserved uin to the given status when it is handed out, unless the
+	 * reservation was released in the meantime
+	 * 
+	 * @param fromStatus  status of the reserved uin
+	 * @param toStatus    status to set on the uin
+	 * @param owner       reservation owner, prefix of the claim stored in upd_by
+	 * @param contextUser user to set in upd_by
+	 * @param uptimes     update time
+	 * @param uin         the uin
+	 * 
+	 * @return 1 if the uin was still reserved by the owner, otherwise 0
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.uin SET uin_status=:toStatus, upd_by=:contextUser, upd_dtimes=:uptimes where uin=:uin and uin_status=:fromStatus and upd_by like concat(:owner, '%')", nativeQuery = true)
+	public int issueReservedUin(@Param("fromStatus") String fromStatus, @Param("toStatus") String toStatus,
+			@Param("owner") String owner, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("uin") String uin);
+
+	/**
+	 * Moves reserved uins which were never handed out back to the given status
+	 * 
+	 * @param fromStatus  status of the reserved uins
+	 * @param toStatus    status to set on the released uins
+	 * @param owner       reservation owner, prefix of the claims stored in upd_by
+	 * @param contextUser user to set in upd_by
+	 * @param uptimes     update time
+	 * @param uins        the uins to release
+	 * 
+	 * @return the number of released uins
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.uin SET uin_status=:toStatus, upd_by=:contextUser, upd_dtimes=:uptimes where uin_status=:fromStatus and upd_by like concat(:owner, '%') and uin in (:uins)", nativeQuery = true)
+	public int releaseUins(@Param("fromStatus") String fromStatus, @Param("toStatus") String toStatus,
+			@Param("owner") String owner, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("uins") List<String> uins);
+
+	/**
+	 * Moves uins reserved before the given time by any owner matching the prefix
+	 * back to the given status
+	 * 
+	 * @param fromStatus  status of the reserved uins
+	 * @param toStatus    status to set on the released uins
+	 * @param ownerPrefix prefix of the reservation owner stored in upd_by
+	 * @param contextUser user to set in upd_by
+	 * @param uptimes     update time
+	 * @param reservedBefore reservations older than this time are released
+	 * 
+	 * @return the number of released uins
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.uin SET uin_status=:toStatus, upd_by=:contextUser, upd_dtimes=:uptimes where uin_status=:fromStatus and upd_by like concat(:ownerPrefix, '%') and upd_dtimes < :reservedBefore", nativeQuery = true)
+	public int releaseStaleReservations(@Param("fromStatus") String fromStatus, @Param("toStatus") String toStatus,
+			@Param("ownerPrefix") String ownerPrefix, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("reservedBefore") LocalDateTime reservedBefore);
 }
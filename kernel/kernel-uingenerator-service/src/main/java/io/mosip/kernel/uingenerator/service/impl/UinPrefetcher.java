@@ -0,0 +1,243 @@
+package io.mosip.kernel.uingenerator.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.core.util.PoolCounter;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
+import io.mosip.kernel.uingenerator.repository.UinRepository;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Serves uins from an in-memory queue which is refilled with blocks of
+ * reserved uins. A block is claimed with a single statement which marks all of
+ * its uins RESERVED, so callers do not contend for the unused rows. A uin is
+ * marked ISSUED by primary key when it is handed out, and only RESERVED uins
+ * are ever released back to the pool, so a uin handed out before a crash is
+ * never issued again.
+ * 
+ * @since 1.0.0
+ *
+ */
+@Component
+public class UinPrefetcher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(UinPrefetcher.class);
+
+	/**
+	 * Field for {@link #uinRepository}
+	 */
+	@Autowired
+	private UinRepository uinRepository;
+
+	/**
+	 * Count of the unused uins, adjusted by the reservations
+	 */
+	@Autowired
+	private PoolCounter uinPoolCounter;
+
+	/**
+	 * Whether uins are served from the prefetch queue
+	 */
+	@Value("${mosip.kernel.uin.prefetch.enabled:false}")
+	private boolean enabled;
+
+	/**
+	 * Number of uins claimed in one reservation
+	 */
+	@Value("${mosip.kernel.uin.prefetch.block-size:1000}")
+	private int blockSize;
+
+	/**
+	 * Queue size below which an asynchronous refill is triggered
+	 */
+	@Value("${mosip.kernel.uin.prefetch.low-water-mark:200}")
+	private int lowWaterMark;
+
+	/**
+	 * Age in minutes after which uins reserved by a crashed instance and never
+	 * handed out are released back to the pool, zero or negative to disable
+	 */
+	@Value("${mosip.kernel.uin.prefetch.recovery-age-minutes:1440}")
+	private long recoveryAgeMinutes;
+
+	/**
+	 * Reservation owner of this instance, prefix of the claims stored in upd_by
+	 * of the reserved uins
+	 */
+	private final String owner = UinGeneratorConstant.PREFETCH_OWNER_PREFIX + UUID.randomUUID();
+
+	/**
+	 * Number of blocks claimed by this instance, guarded by {@link #refill()}
+	 */
+	private long claims;
+
+	private final Queue<String> uins = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Size of {@link #uins}, kept separately as the queue size is not constant
+	 * time
+	 */
+	private final AtomicInteger size = new AtomicInteger();
+
+	/**
+	 * Whether an asynchronous refill is already queued
+	 */
+	private final AtomicBoolean refillScheduled = new AtomicBoolean();
+
+	private ExecutorService refillExecutor;
+
+	/**
+	 * Releases reservations left behind by crashed instances and starts the
+	 * refill thread
+	 */
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			return;
+		}
+		refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "uin-prefetch");
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (recoveryAgeMinutes > 0) {
+			int recovered = uinRepository.releaseStaleReservations(UinGeneratorConstant.RESERVED,
+					UinGeneratorConstant.UNUSED, UinGeneratorConstant.PREFETCH_OWNER_PREFIX,
+					UinGeneratorConstant.DEFAULTADMIN_MOSIP_IO, DateUtils.getUTCCurrentDateTime(),
+					DateUtils.getUTCCurrentDateTime().minusMinutes(recoveryAgeMinutes));
+			uinPoolCounter.added(recovered);
+			LOGGER.info("Released {} stale uin reservations", recovered);
+		}
+		triggerRefill();
+	}
+
+	/**
+	 * Whether uins should be served through this prefetcher
+	 * 
+	 * @return true if enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Takes a reserved uin from the queue, claiming a block synchronously if the
+	 * queue is empty, and marks it ISSUED
+	 * 
+	 * @return an issued uin or null if the pool is exhausted
+	 */
+	public String next() {
+		String uin;
+		do {
+			uin = poll();
+			if (uin == null) {
+				refill();
+				uin = poll();
+			}
+			if (size.get() < lowWaterMark) {
+				triggerRefill();
+			}
+		} while (uin != null && !issue(uin));
+		return uin;
+	}
+
+	/**
+	 * Marks a reserved uin ISSUED
+	 * 
+	 * @param uin the uin
+	 * @return false if the reservation was released by another instance, in
+	 *         which case the uin must not be handed out
+	 */
+	private boolean issue(String uin) {
+		int issued = uinRepository.issueReservedUin(UinGeneratorConstant.RESERVED, UinGeneratorConstant.ISSUED,
+				owner, UinGeneratorConstant.DEFAULTADMIN_MOSIP_IO, DateUtils.getUTCCurrentDateTime(), uin);
+		if (issued == 0) {
+			LOGGER.warn("Reservation of uin {} was released, skipping it", uin);
+			return false;
+		}
+		return true;
+	}
+
+	private String poll() {
+		String uin = uins.poll();
+		if (uin != null) {
+			size.decrementAndGet();
+		}
+		return uin;
+	}
+
+	private void triggerRefill() {
+		if (refillScheduled.compareAndSet(false, true)) {
+			refillExecutor.execute(() -> {
+				try {
+					refill();
+				} finally {
+					refillScheduled.set(false);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Claims a block of uins unless the queue was already refilled by a
+	 * concurrent caller, and reads back the uins stamped with the claim
+	 */
+	private synchronized void refill() {
+		int current = size.get();
+		if (current > 0 && current >= lowWaterMark) {
+			return;
+		}
+		try {
+			String claim = owner + '-' + ++claims;
+			int claimed = uinRepository.reserveUins(UinGeneratorConstant.UNUSED, UinGeneratorConstant.RESERVED,
+					claim, DateUtils.getUTCCurrentDateTime(), blockSize);
+			if (claimed == 0) {
+				return;
+			}
+			uinPoolCounter.removed(claimed);
+			List<String> reserved = uinRepository.findClaimedUins(UinGeneratorConstant.RESERVED, claim);
+			uins.addAll(reserved);
+			size.addAndGet(reserved.size());
+		} catch (Exception e) {
+			LOGGER.error("Uin reservation failed", e);
+		}
+	}
+
+	/**
+	 * Releases the uins which were reserved but not handed out
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (!enabled) {
+			return;
+		}
+		refillExecutor.shutdown();
+		List<String> unused = new ArrayList<>();
+		String uin;
+		while ((uin = poll()) != null) {
+			unused.add(uin);
+		}
+		if (!unused.isEmpty()) {
+			int released = uinRepository.releaseUins(UinGeneratorConstant.RESERVED, UinGeneratorConstant.UNUSED,
+					owner, UinGeneratorConstant.DEFAULTADMIN_MOSIP_IO, DateUtils.getUTCCurrentDateTime(), unused);
+			uinPoolCounter.added(released);
+		}
+	}
+}
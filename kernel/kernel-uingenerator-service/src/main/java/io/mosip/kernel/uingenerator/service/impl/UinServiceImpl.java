@@ -5,9 +5,11 @@ package io.mosip.kernel.uingenerator.service.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.core.util.PoolCounter;
 import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
 import io.mosip.kernel.uingenerator.constant.UinGeneratorErrorCode;
 import io.mosip.kernel.uingenerator.dto.UinResponseDto;
@@ -46,14 +48,59 @@ public class UinServiceImpl implements UinService {
 	@Autowired
 	private MetaDataUtil metaDataUtil;
 
+	/**
+	 * instance of {@link UinPrefetcher}
+	 */
+	@Autowired
+	private UinPrefetcher uinPrefetcher;
+
+	/**
+	 * instance of {@link PoolCounter}
+	 */
+	@Autowired
+	private PoolCounter uinPoolCounter;
+
+	/**
+	 * Transaction template for issuing a uin directly from database
+	 */
+	private TransactionTemplate transactionTemplate;
+
+	/**
+	 * Constructor to set {@link #transactionTemplate}
+	 * 
+	 * @param transactionManager the transaction manager
+	 */
+	@Autowired
+	public UinServiceImpl(PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see io.mosip.kernel.core.uingenerator.service.UinGeneratorService#getId()
 	 */
-	@Transactional
 	@Override
 	public UinResponseDto getUin() {
+		if (uinPrefetcher.isEnabled()) {
+			String uin = uinPrefetcher.next();
+			if (uin == null) {
+				throw new UinNotFoundException(UinGeneratorErrorCode.UIN_NOT_FOUND.getErrorCode(),
+						UinGeneratorErrorCode.UIN_NOT_FOUND.getErrorMessage());
+			}
+			UinResponseDto uinResponseDto = new UinResponseDto();
+			uinResponseDto.setUin(uin);
+			return uinResponseDto;
+		}
+		return transactionTemplate.execute(status -> issueUin());
+	}
+
+	/**
+	 * Issues the first unused uin from database
+	 * 
+	 * @return UinResponseDto
+	 */
+	private UinResponseDto issueUin() {
 		UinResponseDto uinResponseDto = new UinResponseDto();
 		//long getStart= System.currentTimeMillis();
 		UinEntity uinBean = uinRepository.findFirstByStatus(UinGeneratorConstant.UNUSED);
@@ -64,6 +111,7 @@ public class UinServiceImpl implements UinService {
 			//long saveStart=System.currentTimeMillis();
 			//uinRepository.save(uinBean);
 			uinRepository.updateStatus(UinGeneratorConstant.ISSUED,UinGeneratorConstant.DEFAULTADMIN_MOSIP_IO,DateUtils.getUTCCurrentDateTime(),uinBean.getUin());
+			uinPoolCounter.removed(1);
 			//LOGGER.info("saveStart {}",(System.currentTimeMillis()-saveStart));
 			uinResponseDto.setUin(uinBean.getUin());
 		} else {
@@ -93,6 +141,7 @@ public class UinServiceImpl implements UinService {
 				} else if (UinGeneratorConstant.UNASSIGNED.equals(uinAck.getStatus())) {
 					existingUin.setStatus(UinGeneratorConstant.UNUSED);
 					uinRepository.save(existingUin);
+					uinPoolCounter.added(1);
 				} else {
 					throw new UinStatusNotFoundException(UinGeneratorErrorCode.UIN_STATUS_NOT_FOUND.getErrorCode(),
 							UinGeneratorErrorCode.UIN_STATUS_NOT_FOUND.getErrorMessage());
@@ -0,0 +1,159 @@
+package io.mosip.kernel.uingenerator.test.generator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.util.ChecksumUtils;
+import io.mosip.kernel.uingenerator.entity.UinEntity;
+import io.mosip.kernel.uingenerator.exception.UinGeneratorServiceException;
+import io.mosip.kernel.uingenerator.generator.UinGeneratorImpl;
+import io.mosip.kernel.uingenerator.generator.UinWriter;
+import io.mosip.kernel.uingenerator.util.MetaDataUtil;
+import io.mosip.kernel.uingenerator.util.UinFilterUtil;
+
+/**
+ * Runs the generator pipeline with mocked filters and writer.
+ *
+ * @since 1.0.0
+ *
+ */
+public class UinGeneratorImplTest {
+
+	private static final String WORKER_THREAD_PREFIX = "uin-generator-";
+
+	private UinFilterUtil uinFilterUtil;
+
+	private UinWriter uinWriter;
+
+	private final List<List<String>> batches = new ArrayList<>();
+
+	@Before
+	public void setup() {
+		uinFilterUtil = Mockito.mock(UinFilterUtil.class);
+		Mockito.when(uinFilterUtil.isValidId(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+				ArgumentMatchers.anyInt())).thenReturn(true);
+		uinWriter = Mockito.mock(UinWriter.class);
+		Mockito.when(uinWriter.persistUins(ArgumentMatchers.anyList())).thenAnswer(invocation -> {
+			List<UinEntity> batch = invocation.getArgument(0);
+			List<String> uins = new ArrayList<>(batch.size());
+			batch.forEach(entity -> uins.add(entity.getUin()));
+			batches.add(uins);
+			return batch.size();
+		});
+	}
+
+	@Test
+	public void generateIdTest() throws InterruptedException {
+		generator(50, 10, 4, 20).generateId();
+		Set<String> uins = new HashSet<>();
+		for (List<String> batch : batches) {
+			assertThat(batch.size(), is(10));
+			uins.addAll(batch);
+		}
+		assertThat(uins.size(), is(50));
+		for (String uin : uins) {
+			assertThat(uin.length(), is(10));
+			assertThat(ChecksumUtils.validateChecksum(uin), is(true));
+		}
+		Mockito.verify(uinWriter).setSession();
+		Mockito.verify(uinWriter).closeSession();
+		assertWorkersStopped();
+	}
+
+	@Test
+	public void generateIdLastBatchTest() {
+		generator(25, 10, 2, 10).generateId();
+		assertThat(batches.size(), is(3));
+		assertThat(batches.get(2).size(), is(5));
+	}
+
+	@Test
+	public void generateIdSkippedDuplicatesTest() {
+		Mockito.when(uinWriter.persistUins(ArgumentMatchers.anyList())).thenAnswer(invocation -> {
+			List<UinEntity> batch = invocation.getArgument(0);
+			batches.add(new ArrayList<>());
+			// one uin of the first batch is a duplicate
+			return batches.size() == 1 ? batch.size() - 1 : batch.size();
+		});
+		generator(20, 5, 2, 10).generateId();
+		// the missing uin is generated in one more batch
+		assertThat(batches.size(), is(5));
+	}
+
+	@Test
+	public void workerFailureTest() throws InterruptedException {
+		Mockito.when(uinFilterUtil.isValidId(ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt(),
+				ArgumentMatchers.anyInt())).thenThrow(new IllegalStateException("filter failed"));
+		try {
+			generator(10, 5, 2, 10).generateId();
+		} catch (UinGeneratorServiceException e) {
+			Mockito.verify(uinWriter, Mockito.never()).persistUins(ArgumentMatchers.anyList());
+			Mockito.verify(uinWriter).closeSession();
+			assertWorkersStopped();
+			return;
+		}
+		throw new AssertionError("expected UinGeneratorServiceException");
+	}
+
+	@Test
+	public void writerFailureStopsWorkersTest() throws InterruptedException {
+		Mockito.when(uinWriter.persistUins(ArgumentMatchers.anyList()))
+				.thenThrow(new UinGeneratorServiceException("KER-UIG-010", "persist failed"));
+		try {
+			generator(10, 5, 2, 5).generateId();
+		} catch (UinGeneratorServiceException e) {
+			Mockito.verify(uinWriter).closeSession();
+			assertWorkersStopped();
+			return;
+		}
+		throw new AssertionError("expected UinGeneratorServiceException");
+	}
+
+	@Test
+	public void interruptedGenerationTest() throws InterruptedException {
+		Thread.currentThread().interrupt();
+		generator(10, 5, 2, 10).generateId();
+		// the interruption is passed on to the caller
+		assertThat(Thread.interrupted(), is(true));
+		Mockito.verify(uinWriter, Mockito.never()).persistUins(ArgumentMatchers.anyList());
+		Mockito.verify(uinWriter).closeSession();
+		assertWorkersStopped();
+	}
+
+	private UinGeneratorImpl generator(long uinsCount, int batchSize, int workerCount, int queueSize) {
+		UinGeneratorImpl generator = new UinGeneratorImpl(uinsCount, 10, batchSize, workerCount, queueSize);
+		ReflectionTestUtils.setField(generator, "uinFilterUtils", uinFilterUtil);
+		ReflectionTestUtils.setField(generator, "metaDataUtil", new MetaDataUtil());
+		ReflectionTestUtils.setField(generator, "uinWriter", uinWriter);
+		return generator;
+	}
+
+	/**
+	 * Waits for the worker threads, which are interrupted when the generator
+	 * returns or fails, to end
+	 */
+	private void assertWorkersStopped() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (workersAlive() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(workersAlive(), is(false));
+	}
+
+	private boolean workersAlive() {
+		return Thread.getAllStackTraces().keySet().stream()
+				.anyMatch(thread -> thread.getName().startsWith(WORKER_THREAD_PREFIX) && thread.isAlive());
+	}
+}
@@ -0,0 +1,108 @@
+package io.mosip.kernel.uingenerator.test.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+
+import io.mosip.kernel.core.util.PoolCounter;
+import io.mosip.kernel.uingenerator.config.HibernateDaoConfig;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
+import io.mosip.kernel.uingenerator.entity.UinEntity;
+import io.mosip.kernel.uingenerator.exception.UinGeneratorServiceException;
+import io.mosip.kernel.uingenerator.generator.UinWriter;
+import io.mosip.kernel.uingenerator.repository.UinRepository;
+
+/**
+ * Persists uins in the in memory database. H2 does not support
+ * <code>ON CONFLICT DO NOTHING</code>, so batches with a duplicate uin are
+ * replayed row by row.
+ *
+ * @since 1.0.0
+ *
+ */
+@SpringBootTest
+@TestPropertySource({ "classpath:application-test.properties", "classpath:bootstrap.properties" })
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = HibernateDaoConfig.class, loader = AnnotationConfigContextLoader.class)
+@DirtiesContext(classMode = ClassMode.AFTER_CLASS)
+public class UinWriterTest {
+
+	@Autowired
+	private UinWriter uinWriter;
+
+	@Autowired
+	private UinRepository uinRepository;
+
+	@MockBean
+	private PoolCounter uinPoolCounter;
+
+	@Test
+	public void persistUinsBatchTest() {
+		int inserted = uinWriter.persistUins(uins("3029384756", "3029384757", "3029384758"));
+		assertEquals(3, inserted);
+		assertNotNull(uinRepository.findByUin("3029384756"));
+		assertNotNull(uinRepository.findByUin("3029384758"));
+		Mockito.verify(uinPoolCounter).added(3);
+	}
+
+	@Test
+	public void persistUinsSkipsDuplicatesTest() {
+		assertEquals(1, uinWriter.persistUins(uins("4029384756")));
+		int inserted = uinWriter.persistUins(uins("4029384756", "4029384757", "4029384756"));
+		assertEquals(1, inserted);
+		assertNotNull(uinRepository.findByUin("4029384757"));
+		Mockito.verify(uinPoolCounter, Mockito.times(2)).added(1);
+	}
+
+	@Test
+	public void persistUinsReplaysRowsAfterDuplicateTest() {
+		assertEquals(1, uinWriter.persistUins(uins("5029384757")));
+		int inserted = uinWriter.persistUins(uins("5029384756", "5029384757", "5029384758"));
+		assertEquals(2, inserted);
+		assertNotNull(uinRepository.findByUin("5029384756"));
+		assertNotNull(uinRepository.findByUin("5029384758"));
+	}
+
+	@Test
+	public void persistUinsFailureTest() {
+		List<UinEntity> items = uins("6029384756", "6029384757");
+		items.get(1).setStatus(null);
+		try {
+			uinWriter.persistUins(items);
+		} catch (UinGeneratorServiceException e) {
+			// not null violations are not skipped as duplicates
+			assertNull(uinRepository.findByUin("6029384756"));
+			Mockito.verify(uinPoolCounter, Mockito.never()).added(Mockito.anyLong());
+			return;
+		}
+		throw new AssertionError("expected UinGeneratorServiceException");
+	}
+
+	private List<UinEntity> uins(String... uins) {
+		UinEntity[] entities = new UinEntity[uins.length];
+		for (int i = 0; i < uins.length; i++) {
+			entities[i] = new UinEntity(uins[i], UinGeneratorConstant.UNUSED);
+			entities[i].setCreatedBy("test");
+			entities[i].setCreatedtimes(LocalDateTime.now());
+			entities[i].setIsDeleted(false);
+		}
+		return Arrays.asList(entities);
+	}
+}
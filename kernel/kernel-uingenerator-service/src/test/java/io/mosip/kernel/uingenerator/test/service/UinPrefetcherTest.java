@@ -0,0 +1,247 @@
+package io.mosip.kernel.uingenerator.test.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.util.PoolCounter;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
+import io.mosip.kernel.uingenerator.repository.UinRepository;
+import io.mosip.kernel.uingenerator.service.impl.UinPrefetcher;
+
+/**
+ * Runs the prefetcher against an in memory uin table, as H2 does not support
+ * <code>FOR UPDATE SKIP LOCKED</code>.
+ *
+ * @since 1.0.0
+ *
+ */
+public class UinPrefetcherTest {
+
+	private UinTable table;
+
+	private UinRepository uinRepository;
+
+	@Before
+	public void setup() {
+		table = new UinTable();
+		table.insert("1000000001", "1000000002", "1000000003", "1000000004");
+		uinRepository = table.repository();
+	}
+
+	@Test
+	public void servedUinNotRecycledAfterRestartTest() throws InterruptedException {
+		UinPrefetcher first = prefetcher();
+		first.init();
+		String served = first.next();
+		assertThat(served, is("1000000001"));
+		assertThat(table.status(served), is(UinGeneratorConstant.ISSUED));
+		assertThat(table.status("1000000002"), is(UinGeneratorConstant.RESERVED));
+
+		// crash: the reservations of the first instance are never released
+		ExecutorService refillExecutor = (ExecutorService) ReflectionTestUtils.getField(first, "refillExecutor");
+		refillExecutor.shutdownNow();
+		refillExecutor.awaitTermination(10, TimeUnit.SECONDS);
+		table.age(2);
+
+		UinPrefetcher second = prefetcher();
+		second.init();
+		assertThat(table.status(served), is(UinGeneratorConstant.ISSUED));
+		List<String> servedAfterRestart = new ArrayList<>();
+		String uin;
+		while ((uin = second.next()) != null) {
+			servedAfterRestart.add(uin);
+		}
+		assertThat(servedAfterRestart.size(), is(3));
+		assertThat(servedAfterRestart.contains(served), is(false));
+		second.destroy();
+	}
+
+	@Test
+	public void releasedReservationSkippedTest() {
+		UinPrefetcher prefetcher = prefetcher();
+		prefetcher.init();
+		String uin = prefetcher.next();
+		// the next reserved uin is released by another instance
+		table.release("1000000002");
+		String next = prefetcher.next();
+		assertThat(next, is(not("1000000002")));
+		assertThat(next, is(not(uin)));
+		assertThat(table.status("1000000002"), is(UinGeneratorConstant.UNUSED));
+		prefetcher.destroy();
+	}
+
+	@Test
+	public void destroyReleasesUnservedUinsTest() {
+		UinPrefetcher prefetcher = prefetcher();
+		prefetcher.init();
+		String uin = prefetcher.next();
+		prefetcher.destroy();
+		assertThat(table.status(uin), is(UinGeneratorConstant.ISSUED));
+		assertThat(table.status("1000000002"), is(UinGeneratorConstant.UNUSED));
+		assertThat(table.status("1000000003"), is(UinGeneratorConstant.UNUSED));
+	}
+
+	@Test
+	public void exhaustedPoolTest() {
+		table = new UinTable();
+		uinRepository = table.repository();
+		UinPrefetcher prefetcher = prefetcher();
+		prefetcher.init();
+		assertThat(prefetcher.next(), is(nullValue()));
+		prefetcher.destroy();
+	}
+
+	private UinPrefetcher prefetcher() {
+		UinPrefetcher prefetcher = new UinPrefetcher();
+		ReflectionTestUtils.setField(prefetcher, "uinRepository", uinRepository);
+		ReflectionTestUtils.setField(prefetcher, "uinPoolCounter", Mockito.mock(PoolCounter.class));
+		ReflectionTestUtils.setField(prefetcher, "enabled", true);
+		ReflectionTestUtils.setField(prefetcher, "blockSize", 3);
+		ReflectionTestUtils.setField(prefetcher, "lowWaterMark", 0);
+		ReflectionTestUtils.setField(prefetcher, "recoveryAgeMinutes", 60L);
+		return prefetcher;
+	}
+
+	/**
+	 * The uin table, with the reservation queries of {@link UinRepository}
+	 */
+	private static final class UinTable {
+
+		private final Map<String, Row> rows = new TreeMap<>();
+
+		private static final class Row {
+
+			private String status = UinGeneratorConstant.UNUSED;
+
+			private String updBy;
+
+			private LocalDateTime updTimes;
+		}
+
+		synchronized void insert(String... uins) {
+			for (String uin : uins) {
+				rows.put(uin, new Row());
+			}
+		}
+
+		synchronized String status(String uin) {
+			return rows.get(uin).status;
+		}
+
+		synchronized void release(String uin) {
+			rows.get(uin).status = UinGeneratorConstant.UNUSED;
+			rows.get(uin).updBy = "other";
+		}
+
+		synchronized void age(long days) {
+			rows.values().stream().filter(row -> row.updTimes != null)
+					.forEach(row -> row.updTimes = row.updTimes.minusDays(days));
+		}
+
+		synchronized int reserve(String fromStatus, String toStatus, String claim, LocalDateTime uptimes,
+				int blockSize) {
+			int reserved = 0;
+			for (Row row : rows.values()) {
+				if (reserved < blockSize && row.status.equals(fromStatus)) {
+					update(row, toStatus, claim, uptimes);
+					reserved++;
+				}
+			}
+			return reserved;
+		}
+
+		synchronized List<String> claimed(String status, String claim) {
+			List<String> claimed = new ArrayList<>();
+			rows.forEach((uin, row) -> {
+				if (row.status.equals(status) && claim.equals(row.updBy)) {
+					claimed.add(uin);
+				}
+			});
+			return claimed;
+		}
+
+		synchronized int issue(String fromStatus, String toStatus, String owner, String contextUser,
+				LocalDateTime uptimes, String uin) {
+			Row row = rows.get(uin);
+			if (row.status.equals(fromStatus) && row.updBy != null && row.updBy.startsWith(owner)) {
+				update(row, toStatus, contextUser, uptimes);
+				return 1;
+			}
+			return 0;
+		}
+
+		synchronized int release(String fromStatus, String toStatus, String owner, String contextUser,
+				LocalDateTime uptimes, List<String> uins) {
+			int released = 0;
+			for (String uin : uins) {
+				released += issue(fromStatus, toStatus, owner, contextUser, uptimes, uin);
+			}
+			return released;
+		}
+
+		synchronized int releaseStale(String fromStatus, String toStatus, String ownerPrefix, String contextUser,
+				LocalDateTime uptimes, LocalDateTime reservedBefore) {
+			int released = 0;
+			for (Row row : rows.values()) {
+				if (row.status.equals(fromStatus) && row.updBy != null && row.updBy.startsWith(ownerPrefix)
+						&& row.updTimes.isBefore(reservedBefore)) {
+					update(row, toStatus, contextUser, uptimes);
+					released++;
+				}
+			}
+			return released;
+		}
+
+		private void update(Row row, String status, String updBy, LocalDateTime updTimes) {
+			row.status = status;
+			row.updBy = updBy;
+			row.updTimes = updTimes;
+		}
+
+		@SuppressWarnings("unchecked")
+		UinRepository repository() {
+			UinRepository repository = Mockito.mock(UinRepository.class);
+			Mockito.when(repository.reserveUins(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(),
+					ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.anyInt()))
+					.thenAnswer(invocation -> reserve(invocation.getArgument(0), invocation.getArgument(1),
+							invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4)));
+			Mockito.when(repository.findClaimedUins(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+					.thenAnswer(invocation -> claimed(invocation.getArgument(0), invocation.getArgument(1)));
+			Mockito.when(repository.issueReservedUin(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(),
+					ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.any(),
+					ArgumentMatchers.anyString()))
+					.thenAnswer(invocation -> issue(invocation.getArgument(0), invocation.getArgument(1),
+							invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4),
+							invocation.getArgument(5)));
+			Mockito.when(repository.releaseUins(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(),
+					ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.any(),
+					ArgumentMatchers.anyList()))
+					.thenAnswer(invocation -> release(invocation.getArgument(0), invocation.getArgument(1),
+							invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4),
+							(List<String>) invocation.getArgument(5)));
+			Mockito.when(repository.releaseStaleReservations(ArgumentMatchers.anyString(),
+					ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString(),
+					ArgumentMatchers.any(), ArgumentMatchers.any()))
+					.thenAnswer(invocation -> releaseStale(invocation.getArgument(0), invocation.getArgument(1),
+							invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4),
+							invocation.getArgument(5)));
+			return repository;
+		}
+	}
+}
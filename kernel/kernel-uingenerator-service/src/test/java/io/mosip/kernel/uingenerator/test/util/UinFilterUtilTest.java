@@ -1,11 +1,8 @@
 package io.mosip.kernel.uingenerator.test.util;
 
 import static org.hamcrest.CoreMatchers.is;
-import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
-import java.lang.reflect.Method;
-
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -157,11 +154,9 @@ public class UinFilterUtilTest {
 	}
 
 	@Test
-	public void restrictedCyclicNumFilterTest() throws Exception {
-		UinFilterUtil myclass3 = new UinFilterUtil();
-		Method method = UinFilterUtil.class.getDeclaredMethod("restrictedCyclicNumFilter", String.class);
-		method.setAccessible(true);
-		assertEquals(true, method.invoke(myclass3, invalidrestrictedCyclicNumFilter));
+	public void restrictedCyclicNumFilterTest() {
+		boolean res = uinFilterUtils.isValidId(invalidrestrictedCyclicNumFilter);
+		assertThat(res, is(false));
 	}
 
 }
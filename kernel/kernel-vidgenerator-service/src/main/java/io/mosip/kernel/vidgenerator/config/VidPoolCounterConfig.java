@@ -0,0 +1,44 @@
+package io.mosip.kernel.vidgenerator.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.kernel.core.util.PoolCounter;
+import io.mosip.kernel.vidgenerator.constant.VidLifecycleStatus;
+import io.mosip.kernel.vidgenerator.repository.VidRepository;
+
+/**
+ * Configuration of the in-memory count of the available vids.
+ *
+ * @since 1.0.0
+ *
+ */
+@Configuration
+public class VidPoolCounterConfig {
+
+	/**
+	 * Seconds between two recounts of the pool
+	 */
+	@Value("${mosip.kernel.vid.pool.reconcile-interval-seconds:60}")
+	private long reconcileIntervalSeconds;
+
+	/**
+	 * Counter of the available vids, exported as the <code>mosip.kernel.vid.pool</code>
+	 * gauge and recounted every <code>reconcileIntervalSeconds</code>
+	 *
+	 * @param vidRepository the repository counting the pool
+	 * @return the counter
+	 */
+	@Bean(destroyMethod = "close")
+	public PoolCounter vidPoolCounter(VidRepository vidRepository) {
+		PoolCounter poolCounter = new PoolCounter("vid",
+				() -> vidRepository.countByStatusAndIsDeletedFalse(VidLifecycleStatus.AVAILABLE));
+		Gauge.builder("mosip.kernel.vid.pool", poolCounter, PoolCounter::getCount)
+				.tag("status", VidLifecycleStatus.AVAILABLE).description("Available vids in the pool").register(Metrics.globalRegistry);
+		poolCounter.start(reconcileIntervalSeconds);
+		return poolCounter;
+	}
+}
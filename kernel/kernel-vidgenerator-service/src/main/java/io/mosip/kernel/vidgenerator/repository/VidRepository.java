@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.vidgenerator.entity.VidEntity;
 
@@ -17,7 +18,92 @@ public interface VidRepository extends JpaRepository<VidEntity, String> {
 
 	long countByStatusAndIsDeletedFalse(String status);
 
-	List<VidEntity> findByStatusAndIsDeletedFalse(String status);
+	/**
+	 * Fetches the next batch of vids with the status and an expiry up to the given
+	 * time, in (expiry, vid) order after the given cursor.
+	 * 
+	 * @param status     the vid status
+	 * @param expiry     the latest expiry to fetch
+	 * @param lastExpiry expiry of the last vid of the previous batch
+	 * @param lastVid    last vid of the previous batch
+	 * @param limit      the batch size
+	 * @return the vid and expiry of each row
+	 */
+	@Query(value = "select v.vid, v.expiry_dtimes from kernel.vid v where v.vid_status=:status and v.is_deleted=false and v.expiry_dtimes<=:expiry and (v.expiry_dtimes>:lastExpiry or (v.expiry_dtimes=:lastExpiry and v.vid>:lastVid)) order by v.expiry_dtimes, v.vid limit :limit", nativeQuery = true)
+	List<Object[]> findBatchByStatusAndExpiry(@Param("status") String status, @Param("expiry") LocalDateTime expiry,
+			@Param("lastExpiry") LocalDateTime lastExpiry, @Param("lastVid") String lastVid, @Param("limit") int limit);
+
+	/**
+	 * Marks the assigned vids as expired.
+	 * 
+	 * @return the number of vids expired
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.vid SET vid_status='EXPIRED', upd_by=:contextUser, upd_dtimes=:uptimes where vid in (:vids) and vid_status='ASSIGNED'", nativeQuery = true)
+	int expireVids(@Param("vids") List<String> vids, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes);
+
+	/**
+	 * Makes the expired vids available again, without expiry.
+	 * 
+	 * @return the number of vids renewed
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.vid SET vid_status='AVAILABLE', expiry_dtimes=NULL, upd_by=:contextUser, upd_dtimes=:uptimes where vid in (:vids) and vid_status='EXPIRED'", nativeQuery = true)
+	int renewVids(@Param("vids") List<String> vids, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes);
+
+	/**
+	 * Claims up to the given number of available vids by marking them reserved.
+	 * Rows locked by a concurrent claim are skipped rather than waited for, so
+	 * concurrent fetchers never block each other or claim the same vid.
+	 * 
+	 * @param count       the number of vids to claim
+	 * @param contextUser the user claiming the vids
+	 * @param uptimes     the claim time
+	 * @return the vids claimed
+	 */
+	@Transactional
+	@Query(value = "UPDATE kernel.vid SET vid_status='RESERVED', upd_by=:contextUser, upd_dtimes=:uptimes where vid in (select v.vid from kernel.vid v where v.vid_status='AVAILABLE' and v.is_deleted=false limit :count for update skip locked) returning vid", nativeQuery = true)
+	List<String> claimVids(@Param("count") int count, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes);
+
+	/**
+	 * Makes claimed vids that were never handed out available again.
+	 * 
+	 * @return the number of vids released
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.vid SET vid_status='AVAILABLE', upd_by=:contextUser, upd_dtimes=:uptimes where vid in (:vids) and vid_status='RESERVED'", nativeQuery = true)
+	int releaseVids(@Param("vids") List<String> vids, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes);
+
+	/**
+	 * Makes the vids reserved before the given time, by an instance which died or
+	 * lost them, available again.
+	 * 
+	 * @return the number of vids released
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.vid SET vid_status='AVAILABLE', upd_by=:contextUser, upd_dtimes=:uptimes where vid_status='RESERVED' and upd_dtimes<:reservedBefore", nativeQuery = true)
+	int releaseStaleReservations(@Param("reservedBefore") LocalDateTime reservedBefore,
+			@Param("contextUser") String contextUser, @Param("uptimes") LocalDateTime uptimes);
+
+	/**
+	 * Assigns a reserved vid and sets its expiry in one statement, so a vid is
+	 * never assigned without the expiry it was requested with.
+	 * 
+	 * @return 1 if the vid was still reserved, else 0
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.vid SET vid_status='ASSIGNED', expiry_dtimes=:expiry, upd_by=:contextUser, upd_dtimes=:uptimes where vid=:vid and vid_status='RESERVED'", nativeQuery = true)
+	int assignReservedVid(@Param("vid") String vid, @Param("expiry") LocalDateTime expiry,
+			@Param("contextUser") String contextUser, @Param("uptimes") LocalDateTime uptimes);
 
 	@Modifying
 	@Query(value = "UPDATE kernel.vid SET vid_status=:status, upd_by=:contextUser, upd_dtimes=:uptimes where vid=:vid", nativeQuery = true)
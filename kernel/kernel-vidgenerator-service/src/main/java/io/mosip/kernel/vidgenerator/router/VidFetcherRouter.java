@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Collections;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,6 +25,7 @@ import io.mosip.kernel.vidgenerator.constant.VIDGeneratorErrorCode;
 import io.mosip.kernel.vidgenerator.dto.VidFetchResponseDto;
 import io.mosip.kernel.vidgenerator.exception.VidGeneratorServiceException;
 import io.mosip.kernel.vidgenerator.service.VidService;
+import io.mosip.kernel.vidgenerator.verticle.VidReservationQueue;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
@@ -58,10 +60,12 @@ public class VidFetcherRouter {
 	/**
 	 * Creates router for vertx server
 	 * 
-	 * @param vertx vertx
+	 * @param vertx            vertx
+	 * @param reservationQueue the vids reserved for the verticle, null to fetch a
+	 *                         vid from the database per request
 	 * @return Router
 	 */
-	public Router createRouter(Vertx vertx) {
+	public Router createRouter(Vertx vertx, VidReservationQueue reservationQueue) {
 		LOGGER.info("worker executor pool {}",workerExecutorPool);
 		Router router = Router.router(vertx);
 		router.get().handler(routingContext -> {
@@ -69,6 +73,10 @@ public class VidFetcherRouter {
 			// send a publish event to vid pool checker
 			vertx.eventBus().publish(EventType.CHECKPOOL, EventType.CHECKPOOL);
 			routingContext.response().headers().add("Content-Type","application/json");
+			if (reservationQueue != null) {
+				fetchReservedVid(vertx, routingContext, reservationQueue);
+				return;
+			}
 			ResponseWrapper<VidFetchResponseDto> reswrp = new ResponseWrapper<>();
 			WorkerExecutor executor=vertx.createSharedWorkerExecutor("get-vid", workerExecutorPool);
 			executor.executeBlocking(blockingCodeHandler -> {
@@ -125,6 +133,91 @@ public class VidFetcherRouter {
 		return router;
 	}
 
+	/**
+	 * Hands out a vid from the reservation queue. The vid is assigned with its
+	 * expiry in one statement on a worker thread; a vid which could not be
+	 * assigned is released, and one whose reservation was recovered meanwhile is
+	 * skipped.
+	 */
+	private void fetchReservedVid(Vertx vertx, RoutingContext routingContext, VidReservationQueue reservationQueue) {
+		String expiryDateString = routingContext.request().getParam(VIDGeneratorConstant.VIDEXPIRY);
+		LocalDateTime expiryTime = null;
+		if (expiryDateString != null) {
+			VIDGeneratorErrorCode errorCode = null;
+			if (expiryDateString.trim().isEmpty()) {
+				errorCode = VIDGeneratorErrorCode.VID_EXPIRY_DATE_EMPTY;
+			} else {
+				try {
+					expiryTime = LocalDateTime.parse(expiryDateString,
+							DateTimeFormatter.ofPattern(UTC_DATETIME_PATTERN));
+					if (expiryTime.isBefore(DateUtils.getUTCCurrentDateTime())) {
+						errorCode = VIDGeneratorErrorCode.VID_EXPIRY_DATE_INVALID;
+					}
+				} catch (DateTimeParseException exception) {
+					errorCode = VIDGeneratorErrorCode.VID_EXPIRY_DATE_PATTERN_INVALID;
+				}
+			}
+			if (errorCode != null) {
+				setError(routingContext, new ServiceError(errorCode.getErrorCode(), errorCode.getErrorMessage()), null);
+				return;
+			}
+		}
+		assignReservedVid(vertx, routingContext, reservationQueue, expiryTime);
+	}
+
+	private void assignReservedVid(Vertx vertx, RoutingContext routingContext, VidReservationQueue reservationQueue,
+			LocalDateTime vidExpiry) {
+		reservationQueue.take(result -> {
+			if (result.failed()) {
+				setError(routingContext, toServiceError(result.cause()), null);
+				return;
+			}
+			String vid = result.result();
+			vertx.<Boolean>executeBlocking(
+					blockingCodeHandler -> blockingCodeHandler.complete(vidService.assignReservedVid(vid, vidExpiry)),
+					false, resultHandler -> {
+						if (resultHandler.failed()) {
+							vertx.executeBlocking(future -> {
+								vidService.releaseVids(Collections.singletonList(vid));
+								future.complete();
+							}, false, null);
+							setError(routingContext, toServiceError(resultHandler.cause()), null);
+						} else if (resultHandler.result()) {
+							sendVid(routingContext, vid);
+						} else {
+							LOGGER.warn("reservation of vid was recovered, taking the next one");
+							assignReservedVid(vertx, routingContext, reservationQueue, vidExpiry);
+						}
+					});
+		});
+	}
+
+	private void sendVid(RoutingContext routingContext, String vid) {
+		VidFetchResponseDto vidFetchResponseDto = new VidFetchResponseDto();
+		vidFetchResponseDto.setVid(vid);
+		ResponseWrapper<VidFetchResponseDto> reswrp = new ResponseWrapper<>();
+		String timestamp = DateUtils.getUTCCurrentDateTimeString();
+		reswrp.setResponsetime(DateUtils.convertUTCToLocalDateTime(timestamp));
+		reswrp.setResponse(vidFetchResponseDto);
+		reswrp.setErrors(null);
+		try {
+			routingContext.response().end(objectMapper.writeValueAsString(reswrp));
+		} catch (JsonProcessingException exception) {
+			ExceptionUtils.logRootCause(exception);
+			ServiceError error = new ServiceError(VIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					exception.getMessage());
+			setError(routingContext, error, null);
+		}
+	}
+
+	private ServiceError toServiceError(Throwable cause) {
+		if (cause instanceof VidGeneratorServiceException) {
+			VidGeneratorServiceException exception = (VidGeneratorServiceException) cause;
+			return new ServiceError(exception.getErrorCode(), exception.getMessage());
+		}
+		return new ServiceError(VIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(), cause.getMessage());
+	}
+
 	private void setError(RoutingContext routingContext, ServiceError error, Future<Object> blockingCodeHandler) {
 		ResponseWrapper<ServiceError> errorResponse = new ResponseWrapper<>();
 		errorResponse.getErrors().add(error);
@@ -1,6 +1,7 @@
 package io.mosip.kernel.vidgenerator.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import io.mosip.kernel.vidgenerator.dto.VidFetchResponseDto;
 import io.mosip.kernel.vidgenerator.entity.VidEntity;
@@ -11,6 +12,14 @@ public interface VidService {
 	
 	long fetchVidCount(String status);
 
+	List<String> reserveVids(int count);
+
+	void releaseVids(List<String> vids);
+
+	boolean assignReservedVid(String vid, LocalDateTime expiry);
+
+	void releaseStaleReservations();
+
 	void expireAndRenew();
 
 	boolean saveVID(VidEntity vid);
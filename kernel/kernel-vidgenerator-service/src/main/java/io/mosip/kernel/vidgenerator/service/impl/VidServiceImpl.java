@@ -1,7 +1,12 @@
 package io.mosip.kernel.vidgenerator.service.impl;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,7 +14,11 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.core.util.PoolCounter;
 import io.mosip.kernel.vidgenerator.constant.VIDGeneratorConstant;
 import io.mosip.kernel.vidgenerator.constant.VIDGeneratorErrorCode;
 import io.mosip.kernel.vidgenerator.constant.VidLifecycleStatus;
@@ -19,7 +28,6 @@ import io.mosip.kernel.vidgenerator.exception.VidGeneratorServiceException;
 import io.mosip.kernel.vidgenerator.repository.VidRepository;
 import io.mosip.kernel.vidgenerator.service.VidService;
 import io.mosip.kernel.vidgenerator.utils.ExceptionUtils;
-import io.mosip.kernel.vidgenerator.utils.MetaDataUtil;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -31,11 +39,30 @@ public class VidServiceImpl implements VidService {
 	@Value("${mosip.kernel.vid.time-to-renew-after-expiry}")
 	private long timeToRenewAfterExpiry;
 
+	/**
+	 * Number of vids expired or renewed per transaction
+	 */
+	@Value("${mosip.kernel.vid.expiry.batch-size:1000}")
+	private int expiryBatchSize;
+
+	/**
+	 * Age in minutes after which reserved vids never handed out are made available
+	 * again on startup, zero or negative to disable
+	 */
+	@Value("${mosip.kernel.vid.reservation.recovery-age-minutes:1440}")
+	private long recoveryAgeMinutes;
+
 	@Autowired
 	private VidRepository vidRepository;
 
 	@Autowired
-	private MetaDataUtil metaDataUtil;
+	private PoolCounter vidPoolCounter;
+
+	private final Counter expiredCounter = Metrics.counter("mosip.kernel.vid.lifecycle", "transition", "expired");
+
+	private final Counter renewedCounter = Metrics.counter("mosip.kernel.vid.lifecycle", "transition", "renewed");
+
+	private final Timer claimTimer = Metrics.timer("mosip.kernel.vid.reservation.claim");
 
 	@Override
 	@Transactional
@@ -62,6 +89,7 @@ public class VidServiceImpl implements VidService {
 			vidFetchResponseDto.setVid(vidEntity.getVid());
 			try {
 				vidRepository.updateVid(VidLifecycleStatus.ASSIGNED,VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO,DateUtils.getUTCCurrentDateTime(),vidEntity.getVid());
+				vidPoolCounter.removed(1);
 			} catch (DataAccessException exception) {
 				LOGGER.error(ExceptionUtils.parseException(exception));
 				throw new VidGeneratorServiceException(VIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
@@ -94,52 +122,147 @@ public class VidServiceImpl implements VidService {
 	}
 
 	@Override
-	public void expireAndRenew() {
+	public List<String> reserveVids(int count) {
+		long start = System.nanoTime();
 		try {
-			List<VidEntity> vidAssignedEntities = vidRepository
-					.findByStatusAndIsDeletedFalse(VidLifecycleStatus.ASSIGNED);
-			vidAssignedEntities.forEach(this::expireIfEligible);
-			vidRepository.saveAll(vidAssignedEntities);
-			List<VidEntity> vidExpiredEntities = vidRepository
-					.findByStatusAndIsDeletedFalse(VidLifecycleStatus.EXPIRED);
-			vidExpiredEntities.forEach(this::renewIfEligible);
-			vidRepository.saveAll(vidExpiredEntities);
+			List<String> vids = vidRepository.claimVids(count, VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO,
+					DateUtils.getUTCCurrentDateTime());
+			vidPoolCounter.removed(vids.size());
+			LOGGER.debug("reserved {} of {} vids", vids.size(), count);
+			return vids;
 		} catch (DataAccessException exception) {
 			LOGGER.error(ExceptionUtils.parseException(exception));
+			throw new VidGeneratorServiceException(VIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					exception.getMessage(), exception.getCause());
 		} catch (Exception exception) {
 			LOGGER.error(ExceptionUtils.parseException(exception));
+			throw new VidGeneratorServiceException(VIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					exception.getMessage(), exception.getCause());
+		} finally {
+			claimTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 		}
+	}
 
+	@Override
+	public void releaseVids(List<String> vids) {
+		try {
+			int released = vidRepository.releaseVids(vids, VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO,
+					DateUtils.getUTCCurrentDateTime());
+			vidPoolCounter.added(released);
+			LOGGER.info("released {} reserved vids", released);
+		} catch (DataAccessException exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
+		} catch (Exception exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
+		}
 	}
 
-	private void expireIfEligible(VidEntity entity) {
-		LocalDateTime currentTime = DateUtils.getUTCCurrentDateTime();
-		LOGGER.debug("currenttime {} for checking entity with expiry time {}", currentTime, entity.getVidExpiry());
-		if ((entity.getVidExpiry().isBefore(currentTime) || entity.getVidExpiry().isEqual(currentTime))
-				&& entity.getStatus().equals(VidLifecycleStatus.ASSIGNED)) {
-			metaDataUtil.setUpdateMetaData(entity);
-			entity.setStatus(VidLifecycleStatus.EXPIRED);
+	@Override
+	public boolean assignReservedVid(String vid, LocalDateTime expiry) {
+		try {
+			return vidRepository.assignReservedVid(vid, expiry, VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO,
+					DateUtils.getUTCCurrentDateTime()) == 1;
+		} catch (DataAccessException exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
+			throw new VidGeneratorServiceException(VIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					exception.getMessage(), exception.getCause());
+		} catch (Exception exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
+			throw new VidGeneratorServiceException(VIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					exception.getMessage(), exception.getCause());
+		}
+	}
+
+	@Override
+	@PostConstruct
+	public void releaseStaleReservations() {
+		if (recoveryAgeMinutes <= 0) {
+			return;
+		}
+		try {
+			LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+			int released = vidRepository.releaseStaleReservations(now.minusMinutes(recoveryAgeMinutes),
+					VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO, now);
+			vidPoolCounter.added(released);
+			LOGGER.info("released {} stale vid reservations", released);
+		} catch (DataAccessException exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
+		} catch (Exception exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
 		}
 	}
 
-	private void renewIfEligible(VidEntity entity) {
+	@Override
+	public void expireAndRenew() {
 		LocalDateTime currentTime = DateUtils.getUTCCurrentDateTime();
-		LocalDateTime renewElegibleTime = entity.getVidExpiry().plusDays(timeToRenewAfterExpiry);
-		LOGGER.debug("currenttime {} for checking entity with renew elegible time {}", currentTime, renewElegibleTime);
-		if ((renewElegibleTime.isBefore(currentTime) || renewElegibleTime.isEqual(currentTime))
-				&& entity.getStatus().equals(VidLifecycleStatus.EXPIRED)) {
-			entity.setVidExpiry(null);
-			metaDataUtil.setUpdateMetaData(entity);
-			entity.setStatus(VidLifecycleStatus.AVAILABLE);
+		try {
+			transitionInBatches(VidLifecycleStatus.ASSIGNED, currentTime, vidRepository::expireVids, expiredCounter);
+			long renewed = transitionInBatches(VidLifecycleStatus.EXPIRED,
+					currentTime.minusDays(timeToRenewAfterExpiry), vidRepository::renewVids, renewedCounter);
+			vidPoolCounter.added(renewed);
+		} catch (DataAccessException exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
+		} catch (Exception exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
 		}
 	}
 
+	/**
+	 * Moves the vids with the status and an expiry up to the given time to their
+	 * next status, one batch per transaction. The batches are read with a keyset
+	 * cursor on (expiry, vid), so a batch never rescans the rows before it.
+	 * 
+	 * @param status     the status of the vids to move
+	 * @param expiry     the latest expiry of the vids to move
+	 * @param transition the update of a batch, returning the number of vids moved
+	 * @param counter    the counter of the vids moved
+	 * @return the number of vids moved
+	 */
+	private long transitionInBatches(String status, LocalDateTime expiry, VidTransition transition, Counter counter) {
+		long start = System.nanoTime();
+		LocalDateTime lastExpiry = LocalDateTime.of(1970, 1, 1, 0, 0);
+		String lastVid = "";
+		long moved = 0;
+		int batches = 0;
+		List<Object[]> batch;
+		do {
+			batch = vidRepository.findBatchByStatusAndExpiry(status, expiry, lastExpiry, lastVid, expiryBatchSize);
+			if (batch.isEmpty()) {
+				break;
+			}
+			List<String> vids = batch.stream().map(row -> (String) row[0]).collect(Collectors.toList());
+			int updated = transition.apply(vids, VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO,
+					DateUtils.getUTCCurrentDateTime());
+			Object[] last = batch.get(batch.size() - 1);
+			lastVid = (String) last[0];
+			lastExpiry = ((Timestamp) last[1]).toLocalDateTime();
+			moved += updated;
+			batches++;
+			counter.increment(updated);
+			LOGGER.debug("{} vids: batch {} moved {}, {} so far", status, batches, updated, moved);
+		} while (batch.size() == expiryBatchSize);
+		long took = System.nanoTime() - start;
+		Metrics.timer("mosip.kernel.vid.lifecycle.run", "status", status).record(took, TimeUnit.NANOSECONDS);
+		LOGGER.info("{} vids: moved {} with expiry up to {} in {} batches and {} ms", status, moved, expiry, batches,
+				TimeUnit.NANOSECONDS.toMillis(took));
+		return moved;
+	}
+
+	/**
+	 * Update of a batch of vids to their next status
+	 */
+	@FunctionalInterface
+	private interface VidTransition {
+		int apply(List<String> vids, String contextUser, LocalDateTime uptimes);
+	}
+
 	@Override
 	public boolean saveVID(VidEntity vid) {
 
 		if (!this.vidRepository.existsById(vid.getVid())) {
 			try {
 				this.vidRepository.saveAndFlush(vid);
+				vidPoolCounter.added(1);
 			} catch (DataAccessException exception) {
 				LOGGER.error(ExceptionUtils.parseException(exception));
 				return false;
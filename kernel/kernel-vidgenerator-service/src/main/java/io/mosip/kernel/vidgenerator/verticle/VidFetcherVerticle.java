@@ -3,9 +3,11 @@ package io.mosip.kernel.vidgenerator.verticle;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 
+import io.micrometer.core.instrument.Metrics;
 import io.mosip.kernel.vidgenerator.constant.EventType;
 import io.mosip.kernel.vidgenerator.constant.VIDGeneratorConstant;
 import io.mosip.kernel.vidgenerator.router.VidFetcherRouter;
+import io.mosip.kernel.vidgenerator.service.VidService;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
 import io.vertx.core.http.HttpServer;
@@ -32,6 +34,13 @@ public class VidFetcherVerticle extends AbstractVerticle {
 	 */
 	private VidFetcherRouter vidFetcherRouter;
 
+	private VidService vidService;
+
+	/**
+	 * Vids reserved for this verticle, null when vids are fetched per request
+	 */
+	private VidReservationQueue reservationQueue;
+
 	//private AuthHandler authHandler;
 
 	/**
@@ -42,6 +51,7 @@ public class VidFetcherVerticle extends AbstractVerticle {
 	public VidFetcherVerticle(final ApplicationContext context) {
 		//authHandler = (AuthHandler) context.getBean("authHandler");
 		vidFetcherRouter = (VidFetcherRouter) context.getBean("vidFetcherRouter");
+		vidService = context.getBean(VidService.class);
 		environment = context.getEnvironment();
 	}
 
@@ -52,6 +62,15 @@ public class VidFetcherVerticle extends AbstractVerticle {
 	 */
 	@Override
 	public void start(Future<Void> future) {
+		int reservationBatchSize = environment.getProperty("mosip.kernel.vid.reservation.batch-size", Integer.class,
+				0);
+		if (reservationBatchSize > 0) {
+			int lowWatermark = environment.getProperty("mosip.kernel.vid.reservation.low-watermark", Integer.class,
+					reservationBatchSize / 4);
+			reservationQueue = new VidReservationQueue(vertx, vidService, reservationBatchSize, lowWatermark);
+			reservationQueue.bindTo(Metrics.globalRegistry, deploymentID());
+			LOGGER.info("reserving vids {} at a time", reservationBatchSize);
+		}
 		HttpServer httpServer = vertx.createHttpServer();
 
 		// Parent router so that global options can be applied to it in future
@@ -63,7 +82,7 @@ public class VidFetcherVerticle extends AbstractVerticle {
 		// mount all the routers to parent router
 		parentRouter.mountSubRouter(
 				environment.getProperty(VIDGeneratorConstant.SERVER_SERVLET_PATH) + VIDGeneratorConstant.VVID,
-				vidFetcherRouter.createRouter(vertx));
+				vidFetcherRouter.createRouter(vertx, reservationQueue));
 
 		httpServer.requestHandler(parentRouter);
 		httpServer.listen(Integer.parseInt(environment.getProperty(VIDGeneratorConstant.SERVER_PORT)), result -> {
@@ -77,4 +96,18 @@ public class VidFetcherVerticle extends AbstractVerticle {
 			}
 		});
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.vertx.core.AbstractVerticle#stop(io.vertx.core.Future)
+	 */
+	@Override
+	public void stop(Future<Void> stopFuture) {
+		if (reservationQueue != null) {
+			reservationQueue.close(stopFuture);
+		} else {
+			stopFuture.complete();
+		}
+	}
 }
@@ -5,9 +5,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 
+import io.mosip.kernel.core.util.PoolCounter;
 import io.mosip.kernel.vidgenerator.constant.EventType;
-import io.mosip.kernel.vidgenerator.constant.VidLifecycleStatus;
-import io.mosip.kernel.vidgenerator.service.VidService;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
@@ -22,7 +21,7 @@ public class VidPoolCheckerVerticle extends AbstractVerticle {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(VidPoolCheckerVerticle.class);
 
-	private VidService vidService;
+	private PoolCounter vidPoolCounter;
 
 	private Environment environment;
 
@@ -32,7 +31,7 @@ public class VidPoolCheckerVerticle extends AbstractVerticle {
 
 	public VidPoolCheckerVerticle(final ApplicationContext context) {
 		this.context = context;
-		this.vidService = this.context.getBean(VidService.class);
+		this.vidPoolCounter = this.context.getBean(PoolCounter.class);
 		this.environment = this.context.getBean(Environment.class);
 		this.threshold = environment.getProperty("mosip.kernel.vid.min-unused-threshold", Long.class);
 	}
@@ -46,7 +45,7 @@ public class VidPoolCheckerVerticle extends AbstractVerticle {
 		DeliveryOptions deliveryOptions = new DeliveryOptions();
 		deliveryOptions.setSendTimeout(environment.getProperty("mosip.kernel.vid.pool-population-timeout", Long.class));
 		checkPoolConsumer.handler(handler -> {
-			long noOfFreeVids = vidService.fetchVidCount(VidLifecycleStatus.AVAILABLE);
+			long noOfFreeVids = vidPoolCounter.getCount();
 			LOGGER.info("no of vid free present are {}", noOfFreeVids);
 			if (noOfFreeVids < threshold && !locked.get()) {
 				locked.set(true);
@@ -68,7 +67,7 @@ public class VidPoolCheckerVerticle extends AbstractVerticle {
 		MessageConsumer<String> initPoolConsumer = eventBus.consumer(EventType.INITPOOL);
 		initPoolConsumer.handler(initPoolHandler -> {
 			long start =System.currentTimeMillis();
-			long noOfFreeVids = vidService.fetchVidCount(VidLifecycleStatus.AVAILABLE);
+			long noOfFreeVids = vidPoolCounter.getCount();
 			LOGGER.info("no of vid free present are {}", noOfFreeVids);
 			LOGGER.info("value of threshold is {} and lock is {}", threshold, locked.get());
 			boolean isEligibleForPool = noOfFreeVids < threshold && !locked.get();
@@ -0,0 +1,191 @@
+package io.mosip.kernel.vidgenerator.verticle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.mosip.kernel.vidgenerator.constant.VIDGeneratorErrorCode;
+import io.mosip.kernel.vidgenerator.exception.VidGeneratorServiceException;
+import io.mosip.kernel.vidgenerator.service.VidService;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Vids reserved in blocks for a fetcher verticle.
+ * <p>
+ * Vids are claimed from the pool <code>batchSize</code> at a time and handed
+ * out from memory, so a fetch does not go to the database. The queue is refilled
+ * on a worker thread once it holds <code>lowWatermark</code> vids or less;
+ * requests arriving while it is empty wait for the refill instead of blocking.
+ * Apart from the gauges, the queue must only be used from the context of its
+ * verticle.
+ *
+ * @since 1.0.0
+ *
+ */
+public class VidReservationQueue {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VidReservationQueue.class);
+
+	private final Vertx vertx;
+
+	private final VidService vidService;
+
+	private final int batchSize;
+
+	private final int lowWatermark;
+
+	private final Deque<String> vids = new ArrayDeque<>();
+
+	private final Deque<Handler<AsyncResult<String>>> waiters = new ArrayDeque<>();
+
+	/**
+	 * Sizes of the queues, for the gauges
+	 */
+	private final AtomicInteger depth = new AtomicInteger();
+
+	private final AtomicInteger waiting = new AtomicInteger();
+
+	private boolean refilling;
+
+	private boolean closed;
+
+	/**
+	 * @param vertx        vertx
+	 * @param vidService   the service claiming the vids
+	 * @param batchSize    the number of vids claimed at a time
+	 * @param lowWatermark the number of vids left at which the queue is refilled
+	 */
+	public VidReservationQueue(Vertx vertx, VidService vidService, int batchSize, int lowWatermark) {
+		if (batchSize <= 0 || lowWatermark < 0) {
+			throw new IllegalArgumentException("batch size must be positive and low watermark not negative");
+		}
+		this.vertx = vertx;
+		this.vidService = vidService;
+		this.batchSize = batchSize;
+		this.lowWatermark = lowWatermark;
+	}
+
+	/**
+	 * Registers the queue depth and the number of waiting requests.
+	 *
+	 * @param registry the registry
+	 * @param id       the id of the queue, to tell the verticles apart
+	 */
+	public void bindTo(MeterRegistry registry, String id) {
+		Gauge.builder("mosip.kernel.vid.reservation.queue", depth, AtomicInteger::get).tag("queue", id)
+				.description("Reserved vids not handed out yet").register(registry);
+		Gauge.builder("mosip.kernel.vid.reservation.waiting", waiting, AtomicInteger::get).tag("queue", id)
+				.description("Requests waiting for the queue to be refilled").register(registry);
+	}
+
+	/**
+	 * Hands out a reserved vid, at once if the queue holds one, else after the
+	 * next refill.
+	 *
+	 * @param handler the handler of the vid; it fails with
+	 *                {@link VIDGeneratorErrorCode#VID_NOT_AVAILABLE} when the pool
+	 *                is empty
+	 */
+	public void take(Handler<AsyncResult<String>> handler) {
+		if (closed) {
+			handler.handle(Future.failedFuture(new IllegalStateException("vid reservation queue is closed")));
+			return;
+		}
+		String vid = vids.pollFirst();
+		if (vid != null) {
+			depth.decrementAndGet();
+			handler.handle(Future.succeededFuture(vid));
+		} else {
+			waiters.addLast(handler);
+			waiting.incrementAndGet();
+		}
+		refillIfNeeded();
+	}
+
+	/**
+	 * Closes the queue, failing the waiting requests and making the vids not
+	 * handed out available again.
+	 *
+	 * @param closeFuture completed once the vids are released
+	 */
+	public void close(Future<Void> closeFuture) {
+		closed = true;
+		failWaiters(new IllegalStateException("vid reservation queue is closed"));
+		List<String> unused = drain();
+		if (unused.isEmpty()) {
+			closeFuture.complete();
+			return;
+		}
+		vertx.<Void>executeBlocking(future -> {
+			vidService.releaseVids(unused);
+			future.complete();
+		}, false, closeFuture);
+	}
+
+	private void refillIfNeeded() {
+		if (!refilling && !closed && vids.size() <= lowWatermark) {
+			refill();
+		}
+	}
+
+	private void refill() {
+		refilling = true;
+		vertx.<List<String>>executeBlocking(future -> future.complete(vidService.reserveVids(batchSize)), false,
+				result -> {
+					refilling = false;
+					if (result.failed()) {
+						LOGGER.error("vid reservation failed with cause ", result.cause());
+						failWaiters(result.cause());
+						return;
+					}
+					List<String> claimed = result.result();
+					if (closed) {
+						if (!claimed.isEmpty()) {
+							vertx.executeBlocking(future -> {
+								vidService.releaseVids(claimed);
+								future.complete();
+							}, false, null);
+						}
+						return;
+					}
+					vids.addAll(claimed);
+					depth.addAndGet(claimed.size());
+					while (!waiters.isEmpty() && !vids.isEmpty()) {
+						waiting.decrementAndGet();
+						depth.decrementAndGet();
+						waiters.pollFirst().handle(Future.succeededFuture(vids.pollFirst()));
+					}
+					if (claimed.isEmpty()) {
+						LOGGER.info("vid not available");
+						failWaiters(new VidGeneratorServiceException(VIDGeneratorErrorCode.VID_NOT_AVAILABLE.getErrorCode(),
+								VIDGeneratorErrorCode.VID_NOT_AVAILABLE.getErrorMessage()));
+					} else {
+						refillIfNeeded();
+					}
+				});
+	}
+
+	private void failWaiters(Throwable cause) {
+		Handler<AsyncResult<String>> waiter;
+		while ((waiter = waiters.pollFirst()) != null) {
+			waiting.decrementAndGet();
+			waiter.handle(Future.failedFuture(cause));
+		}
+	}
+
+	private List<String> drain() {
+		List<String> drained = new ArrayList<>(vids);
+		vids.clear();
+		depth.set(0);
+		return drained;
+	}
+}
@@ -1,16 +1,20 @@
 package io.mosip.kernel.vidgenerator.test.service;
 
 import static org.hamcrest.CoreMatchers.is;
-import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -115,6 +119,54 @@ public class VidGeneratorServiceTest {
 		Mockito.when(vidRepository.save(Mockito.any())).thenReturn(availableEntityWithExpiry);
 		vidService.fetchVid(DateUtils.getUTCCurrentDateTime().plusMonths(20));
 	}
+
+	@Test
+	public void reserveVidsTest() {
+		Mockito.when(vidRepository.claimVids(Mockito.eq(2), Mockito.anyString(), Mockito.any()))
+				.thenReturn(Arrays.asList("3650694284580734", "3690694284580734"));
+		assertThat(vidService.reserveVids(2), is(Arrays.asList("3650694284580734", "3690694284580734")));
+	}
+
+	@Test(expected = VidGeneratorServiceException.class)
+	public void reserveVidsDataAccessExceptionTest() {
+		Mockito.when(vidRepository.claimVids(Mockito.anyInt(), Mockito.anyString(), Mockito.any()))
+				.thenThrow(new DataRetrievalFailureException("DataBase error occur"));
+		vidService.reserveVids(2);
+	}
+
+	@Test
+	public void releaseVidsExceptionTest() {
+		Mockito.when(vidRepository.releaseVids(Mockito.anyList(), Mockito.anyString(), Mockito.any()))
+				.thenThrow(new DataRetrievalFailureException("DataBase error occur"));
+		vidService.releaseVids(Arrays.asList("3650694284580734"));
+	}
+
+	@Test(expected = VidGeneratorServiceException.class)
+	public void assignReservedVidDataAccessExceptionTest() {
+		Mockito.when(vidRepository.assignReservedVid(Mockito.anyString(), Mockito.any(), Mockito.anyString(),
+				Mockito.any())).thenThrow(new DataRetrievalFailureException("DataBase error occur"));
+		vidService.assignReservedVid("3650694284580734", DateUtils.getUTCCurrentDateTime().plusMonths(20));
+	}
+
+	@Test
+	public void assignReservedVidTest() {
+		LocalDateTime expiry = DateUtils.getUTCCurrentDateTime().plusMonths(20);
+		Mockito.when(vidRepository.assignReservedVid(Mockito.eq("3650694284580734"), Mockito.eq(expiry),
+				Mockito.anyString(), Mockito.any())).thenReturn(1);
+		assertThat(vidService.assignReservedVid("3650694284580734", expiry), is(true));
+		// the reservation was recovered and the vid may have been claimed again
+		assertThat(vidService.assignReservedVid("3690694284580734", expiry), is(false));
+	}
+
+	@Test
+	public void releaseStaleReservationsTest() {
+		Mockito.when(vidRepository.releaseStaleReservations(Mockito.any(), Mockito.anyString(), Mockito.any()))
+				.thenReturn(2);
+		vidService.releaseStaleReservations();
+		Mockito.verify(vidRepository, Mockito.atLeastOnce()).releaseStaleReservations(
+				Mockito.argThat(reservedBefore -> reservedBefore.isBefore(DateUtils.getUTCCurrentDateTime())),
+				Mockito.anyString(), Mockito.any());
+	}
 	
 	@Test
 	public void fetchVidCountDataAccessExceptionTest() {
@@ -137,30 +189,49 @@ public class VidGeneratorServiceTest {
 	
 	@Test
 	public void expireOrRenewDataAccessExceptionTest() {
-		Mockito.when(vidRepository.findByStatusAndIsDeletedFalse(VidLifecycleStatus.ASSIGNED)).thenThrow(new DataRetrievalFailureException("DataBase error occur"));
+		Mockito.when(vidRepository.findBatchByStatusAndExpiry(Mockito.eq(VidLifecycleStatus.ASSIGNED), Mockito.any(),
+				Mockito.any(), Mockito.any(), Mockito.anyInt()))
+				.thenThrow(new DataRetrievalFailureException("DataBase error occur"));
 		vidService.expireAndRenew();
 	}
 	
 	@Test
 	public void expireOrRenewExceptionTest() {
-		Mockito.when(vidRepository.findByStatusAndIsDeletedFalse(VidLifecycleStatus.ASSIGNED)).thenThrow(new RuntimeException("DataBase error occur"));
+		Mockito.when(vidRepository.findBatchByStatusAndExpiry(Mockito.eq(VidLifecycleStatus.ASSIGNED), Mockito.any(),
+				Mockito.any(), Mockito.any(), Mockito.anyInt())).thenThrow(new RuntimeException("DataBase error occur"));
 		vidService.expireAndRenew();
 	}
 
 	@Test
 	public void expireOrRenewTest() {
-		Mockito.when(vidRepository.findByStatusAndIsDeletedFalse(VidLifecycleStatus.ASSIGNED)).thenReturn(assignedEntities);
-		Mockito.when(vidRepository.saveAll(assignedEntities)).thenReturn(assignedEntities);
-		Mockito.when(vidRepository.findByStatusAndIsDeletedFalse(VidLifecycleStatus.EXPIRED)).thenReturn(expiredEntities);
-		Mockito.when(vidRepository.saveAll(expiredEntities)).thenReturn(expiredEntities);
+		Mockito.when(vidRepository.findBatchByStatusAndExpiry(Mockito.eq(VidLifecycleStatus.ASSIGNED), Mockito.any(),
+				Mockito.any(), Mockito.any(), Mockito.anyInt())).thenReturn(rows(assignedEntities), new ArrayList<>());
+		Mockito.when(vidRepository.expireVids(Mockito.anyList(), Mockito.anyString(), Mockito.any())).thenReturn(1);
+		Mockito.when(vidRepository.findBatchByStatusAndExpiry(Mockito.eq(VidLifecycleStatus.EXPIRED), Mockito.any(),
+				Mockito.any(), Mockito.any(), Mockito.anyInt())).thenReturn(rows(expiredEntities), new ArrayList<>());
+		Mockito.when(vidRepository.renewVids(Mockito.anyList(), Mockito.anyString(), Mockito.any())).thenReturn(1);
 		vidService.expireAndRenew();
-		for (VidEntity vidEntity : assignedEntities) {
-			assertThat(vidEntity.getStatus(), is(VidLifecycleStatus.EXPIRED));
-		}
-		for (VidEntity vidEntity : expiredEntities) {
-			assertThat(vidEntity.getStatus(), is(VidLifecycleStatus.AVAILABLE));
-			assertNull(vidEntity.getVidExpiry());
-		}
+
+		Mockito.verify(vidRepository).expireVids(Mockito.eq(Arrays.asList(assignedEntity.getVid())),
+				Mockito.anyString(), Mockito.any());
+		Mockito.verify(vidRepository).renewVids(Mockito.eq(Arrays.asList(expiredEntity.getVid())),
+				Mockito.anyString(), Mockito.any());
+		// the batch size is 1 in the tests, the next batch starts after the last vid
+		Mockito.verify(vidRepository).findBatchByStatusAndExpiry(Mockito.eq(VidLifecycleStatus.ASSIGNED),
+				Mockito.any(), Mockito.eq(assignedEntity.getVidExpiry()), Mockito.eq(assignedEntity.getVid()),
+				Mockito.eq(1));
+		ArgumentCaptor<LocalDateTime> renewExpiry = ArgumentCaptor.forClass(LocalDateTime.class);
+		Mockito.verify(vidRepository, Mockito.times(2)).findBatchByStatusAndExpiry(
+				Mockito.eq(VidLifecycleStatus.EXPIRED), renewExpiry.capture(), Mockito.any(), Mockito.any(),
+				Mockito.anyInt());
+		assertTrue(renewExpiry.getValue().isBefore(DateUtils.getUTCCurrentDateTime().minusDays(4)));
+	}
+
+	private static List<Object[]> rows(List<VidEntity> entities) {
+		List<Object[]> rows = new ArrayList<>();
+		entities.forEach(
+				entity -> rows.add(new Object[] { entity.getVid(), Timestamp.valueOf(entity.getVidExpiry()) }));
+		return rows;
 	}
 	
 	@Test
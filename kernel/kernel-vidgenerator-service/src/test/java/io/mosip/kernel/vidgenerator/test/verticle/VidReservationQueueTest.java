@@ -0,0 +1,84 @@
+package io.mosip.kernel.vidgenerator.test.verticle;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.kernel.vidgenerator.constant.VIDGeneratorErrorCode;
+import io.mosip.kernel.vidgenerator.exception.VidGeneratorServiceException;
+import io.mosip.kernel.vidgenerator.service.VidService;
+import io.mosip.kernel.vidgenerator.verticle.VidReservationQueue;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+
+@RunWith(VertxUnitRunner.class)
+public class VidReservationQueueTest {
+
+	private Vertx vertx;
+
+	private VidService vidService;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		vidService = Mockito.mock(VidService.class);
+	}
+
+	@After
+	public void cleanup(TestContext context) {
+		vertx.close(context.asyncAssertSuccess());
+	}
+
+	@Test
+	public void takeFromReservedBlockTest(TestContext context) {
+		Mockito.when(vidService.reserveVids(3)).thenReturn(Arrays.asList("1111", "2222", "3333"),
+				Collections.emptyList());
+		VidReservationQueue queue = new VidReservationQueue(vertx, vidService, 3, 0);
+		Async async = context.async();
+		vertx.runOnContext(v -> queue.take(first -> {
+			context.assertEquals("1111", first.result());
+			queue.take(second -> {
+				context.assertEquals("2222", second.result());
+				Mockito.verify(vidService, Mockito.times(1)).reserveVids(3);
+				async.complete();
+			});
+		}));
+	}
+
+	@Test
+	public void poolEmptyTest(TestContext context) {
+		Mockito.when(vidService.reserveVids(Mockito.anyInt())).thenReturn(Collections.emptyList());
+		VidReservationQueue queue = new VidReservationQueue(vertx, vidService, 3, 0);
+		vertx.runOnContext(v -> queue.take(context.asyncAssertFailure(cause -> context.assertEquals(
+				VIDGeneratorErrorCode.VID_NOT_AVAILABLE.getErrorCode(),
+				((VidGeneratorServiceException) cause).getErrorCode()))));
+	}
+
+	@Test
+	public void closeReleasesUnusedVidsTest(TestContext context) {
+		Mockito.when(vidService.reserveVids(3)).thenReturn(Arrays.asList("1111", "2222", "3333"));
+		VidReservationQueue queue = new VidReservationQueue(vertx, vidService, 3, 0);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		queue.bindTo(registry, "test");
+		Async async = context.async();
+		vertx.runOnContext(v -> queue.take(taken -> {
+			context.assertEquals(2.0, registry.get("mosip.kernel.vid.reservation.queue").gauge().value());
+			Future<Void> closed = Future.future();
+			closed.setHandler(context.asyncAssertSuccess(done -> {
+				Mockito.verify(vidService).releaseVids(Arrays.asList("2222", "3333"));
+				context.assertEquals(0.0, registry.get("mosip.kernel.vid.reservation.queue").gauge().value());
+				async.complete();
+			}));
+			queue.close(closed);
+		}));
+	}
+}